@@ -9,6 +9,7 @@ import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
@@ -18,12 +19,13 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class GlobalExecutorService {
 
 	@Bean(name = "globalExecutor")
-	public Executor globalExecutor() {
+	public Executor globalExecutor(TaskDecorator taskDecorator) {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
 		executor.setCorePoolSize(2);
 		executor.setMaxPoolSize(5);
 		executor.setQueueCapacity(500);
+		executor.setTaskDecorator(taskDecorator);
 		executor.setThreadNamePrefix("EasyBase-File-Executor");
 		executor.setWaitForTasksToCompleteOnShutdown(true);
 		executor.initialize();
@@ -0,0 +1,26 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.common.exception;
+
+import com.easybase.common.exception.base.BaseApiException;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * @author Akhash R
+ */
+public class TooManyRequestsException extends BaseApiException {
+
+	public TooManyRequestsException(String message) {
+		super(message, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS");
+	}
+
+	public TooManyRequestsException(String message, Throwable cause) {
+		super(
+			message, cause, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS");
+	}
+
+}
@@ -7,6 +7,9 @@ package com.easybase.context.api.port;
 
 import com.easybase.context.api.constants.ServiceContextConstants;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import java.util.Optional;
@@ -96,31 +99,33 @@ public abstract class AbstractDefaultResolver<K, V, E> {
 
 	/**
 	 * Checks if an entity is active (not deleted).
-	 * Default implementation checks for Boolean.TRUE.equals(entity.getDeleted()).
+	 * Default implementation checks for Boolean.TRUE.equals(entity.getDeleted()),
+	 * treating entities without a public getDeleted method as active. The
+	 * accessor is looked up once per entity class and cached.
 	 * Subclasses can override this if they have different active/deleted logic.
 	 *
 	 * @param entity the entity to check
 	 * @return true if entity is active
 	 */
 	protected boolean isEntityActive(E entity) {
-		try {
-
-			// Use reflection to check for getDeleted method
-
-			Class<?> clazz = entity.getClass();
+		MethodHandle methodHandle = _deletedMethodHandles.get(
+			entity.getClass());
 
-			Method method = clazz.getMethod("getDeleted");
+		Object deleted;
 
-			Boolean deleted = (Boolean)method.invoke(entity);
-
-			return !Boolean.TRUE.equals(deleted);
+		try {
+			deleted = (Object)methodHandle.invokeExact((Object)entity);
 		}
-		catch (Exception exception) {
-
-			// If no getDeleted method or reflection fails, assume active
-
-			return true;
+		catch (Error | RuntimeException exception) {
+			throw exception;
 		}
+		catch (Throwable throwable) {
+			throw new IllegalStateException(
+				"Unable to read deleted flag of " + getEntityType(),
+				throwable);
+		}
+
+		return !Boolean.TRUE.equals(deleted);
 	}
 
 	/**
@@ -160,4 +165,33 @@ public abstract class AbstractDefaultResolver<K, V, E> {
 		}
 	}
 
-}
\ No newline at end of file
+	private static final ClassValue<MethodHandle> _deletedMethodHandles =
+		new ClassValue<>() {
+
+			@Override
+			protected MethodHandle computeValue(Class<?> clazz) {
+				try {
+					Method method = clazz.getMethod("getDeleted");
+
+					MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+					MethodHandle methodHandle = lookup.unreflect(method);
+
+					return methodHandle.asType(
+						MethodType.methodType(Object.class, Object.class));
+				}
+				catch (ReflectiveOperationException
+							reflectiveOperationException) {
+
+					// No accessible getDeleted method, the entity is always
+					// active
+
+					return MethodHandles.dropArguments(
+						MethodHandles.constant(Object.class, null), 0,
+						Object.class);
+				}
+			}
+
+		};
+
+}
@@ -0,0 +1,178 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.api.util;
+
+import java.time.Duration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe, size-bounded cache that evicts the least recently used entry
+ * once full and treats entries older than a fixed time-to-live as absent.
+ *
+ * <p>Values are loaded outside the cache lock, so a slow loader never blocks
+ * lookups of other keys. A value loaded while an invalidation was in progress
+ * is returned to the caller but not stored, so invalidations are never lost
+ * to a concurrent load.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Akhash R
+ */
+public final class ExpiringLruCache<K, V> {
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maxSize the maximum number of entries, caching is disabled if
+	 *        zero or negative
+	 * @param ttl how long an entry stays valid after it was loaded
+	 */
+	public ExpiringLruCache(int maxSize, Duration ttl) {
+		_maxSize = maxSize;
+		_ttlNanos = ttl.toNanos();
+
+		_entries = new LinkedHashMap<>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				if (size() > _maxSize) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+	}
+
+	/**
+	 * Gets the cached value for the given key, loading and caching it on a
+	 * miss. Null values are returned but never cached.
+	 *
+	 * @param key the key
+	 * @param loader computes the value on a miss
+	 * @return the cached or freshly loaded value
+	 */
+	public V get(K key, Function<K, V> loader) {
+		if (_maxSize <= 0) {
+			return loader.apply(key);
+		}
+
+		long now = System.nanoTime();
+
+		synchronized (_entries) {
+			Entry<V> entry = _entries.get(key);
+
+			if (entry != null) {
+				if ((entry._expiresAtNanos - now) > 0) {
+					_hitCount.increment();
+
+					return entry._value;
+				}
+
+				_entries.remove(key);
+			}
+		}
+
+		_missCount.increment();
+
+		long generation = _generation.get();
+
+		V value = loader.apply(key);
+
+		if (value == null) {
+			return null;
+		}
+
+		synchronized (_entries) {
+			if (generation == _generation.get()) {
+				_entries.put(key, new Entry<>(value, now + _ttlNanos));
+			}
+		}
+
+		return value;
+	}
+
+	public long getHitCount() {
+		return _hitCount.sum();
+	}
+
+	/**
+	 * Gets the ratio of hits to total lookups since creation.
+	 *
+	 * @return the hit rate between 0 and 1
+	 */
+	public double getHitRate() {
+		long hits = _hitCount.sum();
+
+		long total = hits + _missCount.sum();
+
+		if (total == 0) {
+			return 0;
+		}
+
+		return (double)hits / total;
+	}
+
+	public long getMissCount() {
+		return _missCount.sum();
+	}
+
+	/**
+	 * Removes the entry for the given key.
+	 *
+	 * @param key the key
+	 */
+	public void invalidate(K key) {
+		synchronized (_entries) {
+			_generation.incrementAndGet();
+
+			_entries.remove(key);
+		}
+	}
+
+	/**
+	 * Removes every entry.
+	 */
+	public void invalidateAll() {
+		synchronized (_entries) {
+			_generation.incrementAndGet();
+
+			_entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (_entries) {
+			return _entries.size();
+		}
+	}
+
+	private final Map<K, Entry<V>> _entries;
+	private final AtomicLong _generation = new AtomicLong();
+	private final LongAdder _hitCount = new LongAdder();
+	private final int _maxSize;
+	private final LongAdder _missCount = new LongAdder();
+	private final long _ttlNanos;
+
+	private static final class Entry<V> {
+
+		private Entry(V value, long expiresAtNanos) {
+			_value = value;
+			_expiresAtNanos = expiresAtNanos;
+		}
+
+		private final long _expiresAtNanos;
+		private final V _value;
+
+	}
+
+}
@@ -5,11 +5,15 @@
 
 package com.easybase.context.api.util;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
  * Thread-safe lazy value holder that computes its value only once when first accessed.
  * Uses double-checked locking pattern to ensure thread safety with minimal performance overhead.
+ * The lock is a {@link ReentrantLock} rather than a monitor, so a supplier
+ * that blocks on I/O does not pin the carrier thread of a virtual thread.
  *
  * @param <T> the type of the lazily computed value
  * @author Akhash R
@@ -40,7 +44,9 @@ public final class LazyValue<T> {
 		T result = _value;
 
 		if (result == null) {
-			synchronized (this) {
+			_lock.lock();
+
+			try {
 				result = _value;
 
 				if (result == null) {
@@ -49,6 +55,9 @@ public final class LazyValue<T> {
 					_value = result;
 				}
 			}
+			finally {
+				_lock.unlock();
+			}
 		}
 
 		return result;
@@ -67,6 +76,7 @@ public final class LazyValue<T> {
 		return false;
 	}
 
+	private final Lock _lock = new ReentrantLock();
 	private final Supplier<T> _supplier;
 	private volatile T _value;
 
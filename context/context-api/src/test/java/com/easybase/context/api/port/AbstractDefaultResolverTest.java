@@ -0,0 +1,69 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.api.port;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * @author Akhash R
+ */
+class AbstractDefaultResolverTest {
+
+	@Test
+	public void testIsEntityActive() {
+		TestResolver testResolver = new TestResolver();
+
+		Assertions.assertTrue(testResolver.isEntityActive(new Entity(null)));
+		Assertions.assertTrue(
+			testResolver.isEntityActive(new Entity(Boolean.FALSE)));
+		Assertions.assertFalse(
+			testResolver.isEntityActive(new Entity(Boolean.TRUE)));
+		Assertions.assertTrue(testResolver.isEntityActive(new Object()));
+	}
+
+	public static class Entity {
+
+		public Entity(Boolean deleted) {
+			_deleted = deleted;
+		}
+
+		public Boolean getDeleted() {
+			return _deleted;
+		}
+
+		private final Boolean _deleted;
+
+	}
+
+	private static class TestResolver
+		extends AbstractDefaultResolver<String, String, Object> {
+
+		@Override
+		protected String createAnonymousInstance() {
+			return null;
+		}
+
+		@Override
+		protected String getEntityType() {
+			return "Entity";
+		}
+
+		@Override
+		protected CrudRepository<Object, String> getRepository() {
+			return null;
+		}
+
+		@Override
+		protected String toInfo(Object entity) {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.api.util;
+
+import java.time.Duration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Akhash R
+ */
+class ExpiringLruCacheTest {
+
+	@Test
+	public void testExpiredEntriesAreReloaded() {
+		ExpiringLruCache<String, String> expiringLruCache =
+			new ExpiringLruCache<>(10, Duration.ZERO);
+
+		AtomicInteger loads = new AtomicInteger();
+
+		expiringLruCache.get("a", key -> key + loads.incrementAndGet());
+
+		Assertions.assertEquals(
+			"a2",
+			expiringLruCache.get("a", key -> key + loads.incrementAndGet()));
+	}
+
+	@Test
+	public void testInvalidateDuringLoadIsNotLost() {
+		ExpiringLruCache<String, String> expiringLruCache =
+			new ExpiringLruCache<>(10, Duration.ofMinutes(1));
+
+		expiringLruCache.get(
+			"a",
+			key -> {
+				expiringLruCache.invalidate(key);
+
+				return "stale";
+			});
+
+		Assertions.assertEquals(0, expiringLruCache.size());
+		Assertions.assertEquals(
+			"fresh", expiringLruCache.get("a", key -> "fresh"));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntryIsEvicted() {
+		ExpiringLruCache<String, String> expiringLruCache =
+			new ExpiringLruCache<>(2, Duration.ofMinutes(1));
+
+		expiringLruCache.get("a", key -> key);
+		expiringLruCache.get("b", key -> key);
+		expiringLruCache.get("a", key -> key);
+		expiringLruCache.get("c", key -> key);
+
+		Assertions.assertEquals(2, expiringLruCache.size());
+		Assertions.assertEquals(
+			"a", expiringLruCache.get("a", key -> "reloaded"));
+		Assertions.assertEquals(
+			"reloaded", expiringLruCache.get("b", key -> "reloaded"));
+		Assertions.assertEquals(2, expiringLruCache.getHitCount());
+		Assertions.assertEquals(4, expiringLruCache.getMissCount());
+	}
+
+}
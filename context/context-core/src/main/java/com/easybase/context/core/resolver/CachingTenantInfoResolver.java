@@ -34,10 +34,11 @@ public class CachingTenantInfoResolver implements TenantInfoResolver {
 	/**
 	 * Constructor that creates the caching resolver with the delegate.
 	 *
-	 * @param delegate the underlying resolver to delegate cache misses to
+	 * @param delegate the application-wide resolver to delegate cache misses
+	 *        to
 	 */
 	public CachingTenantInfoResolver(
-		@Qualifier("defaultTenantInfoResolver") TenantInfoResolver delegate) {
+		@Qualifier("sharedCachingTenantInfoResolver") TenantInfoResolver delegate) {
 
 		_cachingResolver = new CachingResolver<>(delegate::resolve);
 	}
@@ -31,10 +31,11 @@ public class CachingUserInfoResolver implements UserInfoResolver {
 	/**
 	 * Constructor that creates the caching resolver with the delegate.
 	 *
-	 * @param delegate the underlying resolver to delegate cache misses to
+	 * @param delegate the application-wide resolver to delegate cache misses
+	 *        to
 	 */
 	public CachingUserInfoResolver(
-		@Qualifier("defaultUserInfoResolver") UserInfoResolver delegate) {
+		@Qualifier("sharedCachingUserInfoResolver") UserInfoResolver delegate) {
 
 		_cachingResolver = new CachingResolver<>(delegate::resolve);
 	}
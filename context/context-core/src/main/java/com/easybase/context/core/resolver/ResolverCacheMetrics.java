@@ -0,0 +1,73 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.core.resolver;
+
+import com.easybase.context.api.util.ExpiringLruCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the meters shared by the application-wide resolver caches.
+ *
+ * @author Akhash R
+ */
+final class ResolverCacheMetrics {
+
+	public static void bind(
+		MeterRegistry meterRegistry, String cacheName,
+		ExpiringLruCache<?, ?> expiringLruCache) {
+
+		Gauge.builder(
+			"easybase.context.resolver.cache.size", expiringLruCache,
+			ExpiringLruCache::size
+		).description(
+			"Number of entries held in the resolver cache"
+		).tag(
+			"cache", cacheName
+		).register(
+			meterRegistry
+		);
+
+		Gauge.builder(
+			"easybase.context.resolver.cache.hit.ratio", expiringLruCache,
+			ExpiringLruCache::getHitRate
+		).description(
+			"Ratio of resolver cache lookups served from the cache"
+		).tag(
+			"cache", cacheName
+		).register(
+			meterRegistry
+		);
+
+		FunctionCounter.builder(
+			"easybase.context.resolver.cache.requests", expiringLruCache,
+			ExpiringLruCache::getHitCount
+		).tag(
+			"cache", cacheName
+		).tag(
+			"result", "hit"
+		).register(
+			meterRegistry
+		);
+
+		FunctionCounter.builder(
+			"easybase.context.resolver.cache.requests", expiringLruCache,
+			ExpiringLruCache::getMissCount
+		).tag(
+			"cache", cacheName
+		).tag(
+			"result", "miss"
+		).register(
+			meterRegistry
+		);
+	}
+
+	private ResolverCacheMetrics() {
+	}
+
+}
@@ -0,0 +1,81 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.core.resolver;
+
+import com.easybase.context.api.constants.ServiceContextConstants;
+import com.easybase.context.api.domain.TenantInfo;
+import com.easybase.context.api.port.TenantInfoResolver;
+import com.easybase.context.api.util.ExpiringLruCache;
+import com.easybase.core.tenant.event.TenantChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Application-wide caching wrapper for {@link TenantInfoResolver}, sitting
+ * between the request-scoped {@link CachingTenantInfoResolver} and the
+ * database backed {@link DefaultTenantInfoResolver}.
+ *
+ * <p>Entries are bounded in number and age and are invalidated once a
+ * {@link TenantChangedEvent} commits.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+public class SharedCachingTenantInfoResolver
+	implements MeterBinder, TenantInfoResolver {
+
+	public SharedCachingTenantInfoResolver(
+		@Qualifier("defaultTenantInfoResolver") TenantInfoResolver delegate) {
+
+		_delegate = delegate;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		ResolverCacheMetrics.bind(meterRegistry, "tenant", _cache);
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_cache = new ExpiringLruCache<>(_maxSize, _ttl);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTenantChanged(TenantChangedEvent tenantChangedEvent) {
+		_cache.invalidate(tenantChangedEvent.getTenantId());
+
+		// The anonymous key resolves to the default tenant
+
+		_cache.invalidate(ServiceContextConstants.ANONYMOUS_ID);
+	}
+
+	@Override
+	public TenantInfo resolve(UUID tenantId) {
+		return _cache.get(tenantId, _delegate::resolve);
+	}
+
+	private ExpiringLruCache<UUID, TenantInfo> _cache;
+	private final TenantInfoResolver _delegate;
+
+	@Value("${easy-base.context.tenant-info-cache.max-size:1000}")
+	private int _maxSize;
+
+	@Value("${easy-base.context.tenant-info-cache.ttl:PT30M}")
+	private Duration _ttl;
+
+}
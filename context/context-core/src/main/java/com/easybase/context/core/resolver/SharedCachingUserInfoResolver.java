@@ -0,0 +1,89 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.context.core.resolver;
+
+import com.easybase.context.api.constants.ServiceContextConstants;
+import com.easybase.context.api.domain.UserInfo;
+import com.easybase.context.api.port.UserInfoResolver;
+import com.easybase.context.api.util.ExpiringLruCache;
+import com.easybase.core.user.event.UserChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Application-wide caching wrapper for {@link UserInfoResolver}, sitting
+ * between the request-scoped {@link CachingUserInfoResolver} and the database
+ * backed {@link DefaultUserInfoResolver}.
+ *
+ * <p>Entries are bounded in number and age and are invalidated once a
+ * {@link UserChangedEvent} commits. The time-to-live bounds staleness for
+ * changes made on other nodes.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+public class SharedCachingUserInfoResolver
+	implements MeterBinder, UserInfoResolver {
+
+	public SharedCachingUserInfoResolver(
+		@Qualifier("defaultUserInfoResolver") UserInfoResolver delegate) {
+
+		_delegate = delegate;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		ResolverCacheMetrics.bind(meterRegistry, "user", _cache);
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_cache = new ExpiringLruCache<>(_maxSize, _ttl);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent userChangedEvent) {
+		if (userChangedEvent.isAllUsers()) {
+			_cache.invalidateAll();
+
+			return;
+		}
+
+		_cache.invalidate(userChangedEvent.getUserId());
+
+		// The anonymous key resolves to the guest user, which may be the
+		// user that changed
+
+		_cache.invalidate(ServiceContextConstants.ANONYMOUS_ID);
+	}
+
+	@Override
+	public UserInfo resolve(UUID userId) {
+		return _cache.get(userId, _delegate::resolve);
+	}
+
+	private ExpiringLruCache<UUID, UserInfo> _cache;
+	private final UserInfoResolver _delegate;
+
+	@Value("${easy-base.context.user-info-cache.max-size:10000}")
+	private int _maxSize;
+
+	@Value("${easy-base.context.user-info-cache.ttl:PT5M}")
+	private Duration _ttl;
+
+}
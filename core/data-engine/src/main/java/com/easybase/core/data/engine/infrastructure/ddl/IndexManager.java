@@ -5,9 +5,10 @@
 
 package com.easybase.core.data.engine.infrastructure.ddl;
 
-import lombok.RequiredArgsConstructor;
+import com.easybase.core.data.engine.service.util.NamingUtils;
 
 import org.jooq.DSLContext;
+import org.jooq.Name;
 import org.jooq.impl.DSL;
 
 import org.springframework.stereotype.Component;
@@ -16,42 +17,46 @@ import org.springframework.stereotype.Component;
  * @author Akhash R
  */
 @Component
-@RequiredArgsConstructor
 public class IndexManager {
 
 	public void createAttributeIndexIfNotExists(
-		String table, String attributeName, String postgresType) {
+		DSLContext dslContext, Name table, String attributeName,
+		String postgresType) {
 
-		String indexName = String.format("%s_%s_idx", table, attributeName);
+		String indexName = String.format(
+			"%s_%s_idx", table.last(), attributeName);
 
-		_dslContext.execute(
+		dslContext.execute(
 			"CREATE INDEX IF NOT EXISTS {0} ON {1} (((data->>'{2}')::{3}))",
-			DSL.name(indexName), DSL.name(table), DSL.inline(attributeName),
+			DSL.name(indexName), DSL.table(table), DSL.inline(attributeName),
 			DSL.keyword(postgresType));
 	}
 
-	public void createGinIndexIfNotExists(String table) {
-		String indexName = table + "_data_gin_idx";
+	public void createGinIndexIfNotExists(DSLContext dslContext, Name table) {
+		String indexName = table.last() + "_data_gin_idx";
 
-		_dslContext.execute(
+		dslContext.execute(
 			"CREATE INDEX IF NOT EXISTS {0} ON {1} USING GIN (data)",
-			DSL.name(indexName), DSL.table(DSL.name(table)));
+			DSL.name(indexName), DSL.table(table));
 	}
 
-	public void createSearchVectorGinIndex(String table) {
-		String indexName = table + "_search_vector_gin_idx";
+	public void createSearchVectorGinIndex(DSLContext dslContext, Name table) {
+		String indexName = table.last() + "_search_vector_gin_idx";
 
-		_dslContext.execute(
+		dslContext.execute(
 			"CREATE INDEX IF NOT EXISTS {0} ON {1} USING GIN (search_vector)",
-			DSL.name(indexName), DSL.table(DSL.name(table)));
+			DSL.name(indexName), DSL.table(table));
 	}
 
-	public void dropAttributeIndexIfExists(String table, String attributeName) {
-		String indexName = String.format("%s_%s_idx", table, attributeName);
+	public void dropAttributeIndexIfExists(
+		DSLContext dslContext, Name table, String attributeName) {
 
-		_dslContext.execute("DROP INDEX IF EXISTS {0}", DSL.name(indexName));
-	}
+		String indexName = String.format(
+			"%s_%s_idx", table.last(), attributeName);
 
-	private final DSLContext _dslContext;
+		dslContext.execute(
+			"DROP INDEX IF EXISTS {0}",
+			NamingUtils.getSchemaObjectName(table, indexName));
+	}
 
 }
\ No newline at end of file
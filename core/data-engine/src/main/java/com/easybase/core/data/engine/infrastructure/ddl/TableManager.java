@@ -6,7 +6,12 @@
 package com.easybase.core.data.engine.infrastructure.ddl;
 
 import com.easybase.common.util.ListUtil;
+import com.easybase.core.data.engine.domain.entity.Attribute;
+import com.easybase.core.data.engine.domain.enums.AttributeType;
+import com.easybase.core.data.engine.domain.type.AttributeTypeDefinition;
+import com.easybase.core.data.engine.domain.type.AttributeTypeDefinitionRegistry;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
@@ -15,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.jooq.DSLContext;
 import org.jooq.DropTableStep;
+import org.jooq.Name;
 import org.jooq.impl.DSL;
 import org.jooq.impl.SQLDataType;
 
@@ -28,30 +34,76 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class TableManager {
 
-	public void addSearchVector(String table, List<String> textAttributeNames) {
+	public void addSearchVector(
+		DSLContext dslContext, Name table, List<String> textAttributeNames) {
+
 		if (ListUtil.isEmpty(textAttributeNames)) {
 			return;
 		}
 
-		_dslContext.execute(
+		dslContext.execute(
 			"ALTER TABLE {0} ADD COLUMN IF NOT EXISTS search_vector tsvector",
-			DSL.table(DSL.name(table)));
+			DSL.table(table));
 
-		_triggerManager.createSearchVectorTrigger(table, textAttributeNames);
+		_triggerManager.createSearchVectorTrigger(
+			dslContext, table, textAttributeNames);
 
-		_indexManager.createSearchVectorGinIndex(table);
+		_indexManager.createSearchVectorGinIndex(dslContext, table);
 
-		_dslContext.execute(
-			"UPDATE {0} SET search_vector = search_vector",
-			DSL.table(DSL.name(table)));
+		dslContext.execute(
+			"UPDATE {0} SET search_vector = search_vector", DSL.table(table));
 
 		log.info(
 			"Added FTS search_vector to table {} for attributes: {}", table,
 			textAttributeNames);
 	}
 
-	public void createTableIfNotExists(String table) {
-		var tableBuilder = _dslContext.createTableIfNotExists(DSL.name(table));
+	/**
+	 * Creates the table of a collection together with its indexes and
+	 * triggers. Every statement is idempotent, so this can also complete a
+	 * table that was only partially created.
+	 *
+	 * @param dslContext the context of the shard to create the table on
+	 * @param table the table name
+	 * @param attributes the attributes of the collection, may be null
+	 */
+	public void createCollectionTable(
+		DSLContext dslContext, Name table, List<Attribute> attributes) {
+
+		createTableIfNotExists(dslContext, table);
+
+		_indexManager.createGinIndexIfNotExists(dslContext, table);
+
+		if (attributes == null) {
+			return;
+		}
+
+		for (Attribute attribute : attributes) {
+			if (Boolean.TRUE.equals(attribute.getIndexed())) {
+				AttributeTypeDefinition attributeTypeDefinition =
+					_attributeTypeDefinitionRegistry.getDescriptor(
+						attribute.getDataType());
+
+				_indexManager.createAttributeIndexIfNotExists(
+					dslContext, table, attribute.getName(),
+					attributeTypeDefinition.resolvePostgresType(
+						attribute.getConfig()));
+			}
+		}
+
+		setupSearchVector(dslContext, table, attributes);
+	}
+
+	public void createSchemaIfNotExists(
+		DSLContext dslContext, String schemaName) {
+
+		dslContext.createSchemaIfNotExists(
+			DSL.name(schemaName)
+		).execute();
+	}
+
+	public void createTableIfNotExists(DSLContext dslContext, Name table) {
+		var tableBuilder = dslContext.createTableIfNotExists(table);
 
 		var idColumn = SQLDataType.UUID;
 		idColumn = idColumn.nullable(false);
@@ -74,18 +126,51 @@ public class TableManager {
 
 		tableBuilder.execute();
 
-		_triggerManager.createUpdatedAtTrigger(table);
+		_triggerManager.createUpdatedAtTrigger(dslContext, table);
+	}
+
+	/**
+	 * Drops a schema. Fails if the schema still contains objects, so tables
+	 * that are not tracked as collections are never dropped with it.
+	 *
+	 * @param dslContext the context of the shard holding the schema
+	 * @param schemaName the schema name
+	 */
+	public void dropSchemaIfExists(DSLContext dslContext, String schemaName) {
+		dslContext.dropSchemaIfExists(
+			DSL.name(schemaName)
+		).restrict(
+		).execute();
 	}
 
-	public void dropTableIfExists(String table) {
-		var dropBuilder = _dslContext.dropTableIfExists(DSL.name(table));
+	public void dropTableIfExists(DSLContext dslContext, Name table) {
+		var dropBuilder = dslContext.dropTableIfExists(table);
 
 		dropBuilder = (DropTableStep)dropBuilder.cascade();
 
 		dropBuilder.execute();
 	}
 
-	private final DSLContext _dslContext;
+	public void setupSearchVector(
+		DSLContext dslContext, Name table, List<Attribute> attributes) {
+
+		if (attributes == null) {
+			return;
+		}
+
+		List<String> textAttributeNames = new ArrayList<>();
+
+		for (Attribute attribute : attributes) {
+			if (attribute.getDataType() == AttributeType.STRING) {
+				textAttributeNames.add(attribute.getName());
+			}
+		}
+
+		addSearchVector(dslContext, table, textAttributeNames);
+	}
+
+	private final AttributeTypeDefinitionRegistry
+		_attributeTypeDefinitionRegistry;
 	private final IndexManager _indexManager;
 	private final TriggerManager _triggerManager;
 
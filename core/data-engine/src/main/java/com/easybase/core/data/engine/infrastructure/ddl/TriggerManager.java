@@ -5,81 +5,96 @@
 
 package com.easybase.core.data.engine.infrastructure.ddl;
 
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import com.easybase.core.data.engine.service.util.NamingUtils;
 
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.jooq.DSLContext;
+import org.jooq.Name;
+import org.jooq.QueryPart;
 import org.jooq.impl.DSL;
 
 import org.springframework.stereotype.Component;
 
 /**
+ * Creates the triggers of collection tables.
+ *
+ * <p>The trigger functions are created once in the {@code public} schema and
+ * shared by the tables of every tenant. The search vector function reads the
+ * attributes to index from its trigger arguments, so tables do not need a
+ * function of their own.</p>
+ *
  * @author Akhash R
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TriggerManager {
 
 	public void createSearchVectorTrigger(
-		String table, List<String> textAttributeNames) {
+		DSLContext dslContext, Name table, List<String> textAttributeNames) {
 
-		String functionName = table + "_search_vector_update";
+		dslContext.execute(_SEARCH_VECTOR_FUNCTION_SQL);
 
-		String quotedFunctionName = "\"" + functionName + "\"";
+		String triggerName = "trg_" + table.last() + "_search_vector";
 
-		Stream<String> nameStream = textAttributeNames.stream();
+		dslContext.execute(
+			"DROP TRIGGER IF EXISTS {0} ON {1}", DSL.name(triggerName),
+			DSL.table(table));
 
-		String functionSql = String.format(
-			"CREATE OR REPLACE FUNCTION %s() RETURNS TRIGGER AS $$ BEGIN NEW.search_vector := %s; RETURN NEW; END; $$ LANGUAGE 'plpgsql';",
-			quotedFunctionName,
-			nameStream.map(
-				attr ->
-					"to_tsvector('simple', coalesce(NEW.data->>'" + attr +
-						"',''))"
-			).collect(
-				Collectors.joining(" || ")
-			));
+		List<QueryPart> arguments = new ArrayList<>();
 
-		_dslContext.execute(functionSql);
+		for (String textAttributeName : textAttributeNames) {
+			arguments.add(DSL.inline(textAttributeName));
+		}
 
-		String triggerName = "trg_" + table + "_search_vector";
+		dslContext.execute(
+			"CREATE TRIGGER {0} BEFORE INSERT OR UPDATE ON {1} FOR EACH ROW EXECUTE FUNCTION {2}({3})",
+			DSL.name(triggerName), DSL.table(table),
+			_SEARCH_VECTOR_FUNCTION_NAME, DSL.list(arguments));
 
-		_dslContext.execute(
-			"DROP TRIGGER IF EXISTS {0} ON {1}", DSL.name(triggerName),
-			DSL.table(DSL.name(table)));
+		// Tables created before the function was shared had their own
 
-		_dslContext.execute(
-			"CREATE TRIGGER {0} BEFORE INSERT OR UPDATE ON {1} FOR EACH ROW EXECUTE FUNCTION " +
-				quotedFunctionName + "()",
-			DSL.name(triggerName), DSL.table(DSL.name(table)));
+		dslContext.execute(
+			"DROP FUNCTION IF EXISTS {0}()",
+			NamingUtils.getSchemaObjectName(
+				table, table.last() + "_search_vector_update"));
 
 		log.debug(
 			"Created search vector trigger {} on table {}", triggerName, table);
 	}
 
-	public void createUpdatedAtTrigger(String table) {
-		String functionSql =
-			"CREATE OR REPLACE FUNCTION update_updated_at_column() RETURNS TRIGGER AS $$ BEGIN NEW.updated_at = now(); RETURN NEW; END; $$ LANGUAGE 'plpgsql';";
-
-		_dslContext.execute(functionSql);
+	public void createUpdatedAtTrigger(DSLContext dslContext, Name table) {
+		dslContext.execute(_UPDATED_AT_FUNCTION_SQL);
 
-		String triggerName = "update_" + table + "_updated_at";
+		String triggerName = getUpdatedAtTriggerName(table);
 
-		_dslContext.execute(
+		dslContext.execute(
 			"DROP TRIGGER IF EXISTS {0} ON {1}", DSL.name(triggerName),
-			DSL.table(DSL.name(table)));
+			DSL.table(table));
 
-		_dslContext.execute(
-			"CREATE TRIGGER {0} BEFORE UPDATE ON {1} FOR EACH ROW EXECUTE FUNCTION update_updated_at_column()",
-			DSL.name(triggerName), DSL.table(DSL.name(table)));
+		dslContext.execute(
+			"CREATE TRIGGER {0} BEFORE UPDATE ON {1} FOR EACH ROW EXECUTE FUNCTION {2}()",
+			DSL.name(triggerName), DSL.table(table),
+			_UPDATED_AT_FUNCTION_NAME);
 	}
 
-	private final DSLContext _dslContext;
+	public String getUpdatedAtTriggerName(Name table) {
+		return "update_" + table.last() + "_updated_at";
+	}
+
+	private static final Name _SEARCH_VECTOR_FUNCTION_NAME = DSL.name(
+		"public", "collection_search_vector_update");
+
+	private static final String _SEARCH_VECTOR_FUNCTION_SQL =
+		"CREATE OR REPLACE FUNCTION public.collection_search_vector_update() RETURNS TRIGGER AS $$ DECLARE vector tsvector := ''::tsvector; BEGIN FOR i IN 0 .. TG_NARGS - 1 LOOP vector := vector || to_tsvector('simple', coalesce(NEW.data->>TG_ARGV[i], '')); END LOOP; NEW.search_vector := vector; RETURN NEW; END; $$ LANGUAGE 'plpgsql';";
+
+	private static final Name _UPDATED_AT_FUNCTION_NAME = DSL.name(
+		"public", "update_updated_at_column");
+
+	private static final String _UPDATED_AT_FUNCTION_SQL =
+		"CREATE OR REPLACE FUNCTION public.update_updated_at_column() RETURNS TRIGGER AS $$ BEGIN NEW.updated_at = now(); RETURN NEW; END; $$ LANGUAGE 'plpgsql';";
 
-}
\ No newline at end of file
+}
@@ -7,7 +7,7 @@ package com.easybase.core.data.engine.infrastructure.persistence;
 
 import com.easybase.common.exception.ResourceNotFoundException;
 import com.easybase.core.data.engine.domain.entity.DataRecord;
-import com.easybase.core.data.engine.service.util.NamingUtils;
+import com.easybase.core.data.engine.infrastructure.shard.TenantShardRouter;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -58,10 +58,13 @@ import org.springframework.stereotype.Repository;
 public class DataRecordRepository {
 
 	public void delete(UUID tenantId, String table, UUID id) {
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		DeleteUsingStep<?> deleteUsingStep = _dslContext.deleteFrom(
+		DeleteUsingStep<?> deleteUsingStep = dslContext.deleteFrom(
 			dynamicTable);
 
 		Field<Object> idField = DSL.field("id");
@@ -75,10 +78,12 @@ public class DataRecordRepository {
 	}
 
 	public boolean exists(UUID tenantId, String table, UUID id) {
+		DSLContext dslContext = _tenantShardRouter.getDSLContext(tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		SelectWhereStep<?> selectFromStep = _dslContext.selectFrom(
+		SelectWhereStep<?> selectFromStep = dslContext.selectFrom(
 			dynamicTable);
 
 		Field<Object> idField = DSL.field("id");
@@ -88,14 +93,16 @@ public class DataRecordRepository {
 		SelectConditionStep<?> selectConditionStep = selectFromStep.where(
 			condition);
 
-		return _dslContext.fetchExists(selectConditionStep);
+		return dslContext.fetchExists(selectConditionStep);
 	}
 
 	public List<DataRecord> findAll(UUID tenantId, String table) {
+		DSLContext dslContext = _tenantShardRouter.getDSLContext(tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		SelectWhereStep<?> selectFromStep = _dslContext.selectFrom(
+		SelectWhereStep<?> selectFromStep = dslContext.selectFrom(
 			dynamicTable);
 
 		Field<Object> createdAtField = DSL.field("created_at");
@@ -108,10 +115,12 @@ public class DataRecordRepository {
 	}
 
 	public Optional<DataRecord> findById(UUID tenantId, String table, UUID id) {
+		DSLContext dslContext = _tenantShardRouter.getDSLContext(tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		SelectWhereStep<?> selectFromStep = _dslContext.selectFrom(
+		SelectWhereStep<?> selectFromStep = dslContext.selectFrom(
 			dynamicTable);
 
 		Field<Object> idField = DSL.field("id");
@@ -127,10 +136,13 @@ public class DataRecordRepository {
 	public DataRecord insert(
 		UUID tenantId, String table, UUID id, Object data) {
 
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		InsertSetStep<?> insertSetStep = _dslContext.insertInto(dynamicTable);
+		InsertSetStep<?> insertSetStep = dslContext.insertInto(dynamicTable);
 
 		Field<Object> idField = DSL.field("id");
 
@@ -153,10 +165,13 @@ public class DataRecordRepository {
 	public DataRecord update(
 		UUID tenantId, String table, UUID id, Map<String, Object> data) {
 
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenantId);
+
 		Table<?> dynamicTable = DSL.table(
-			DSL.name(NamingUtils.getTableName(tenantId, table)));
+			_tenantShardRouter.getTableName(tenantId, table));
 
-		UpdateSetStep<?> updateSetStep = _dslContext.update(dynamicTable);
+		UpdateSetStep<?> updateSetStep = dslContext.update(dynamicTable);
 
 		Field<Object> dataField = DSL.field("data");
 
@@ -230,7 +245,7 @@ public class DataRecordRepository {
 		return new DataRecord(createdAt, data, id, updatedAt);
 	}
 
-	private final DSLContext _dslContext;
 	private final ObjectMapper _objectMapper;
+	private final TenantShardRouter _tenantShardRouter;
 
 }
\ No newline at end of file
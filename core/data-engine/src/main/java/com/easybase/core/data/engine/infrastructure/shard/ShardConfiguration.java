@@ -0,0 +1,17 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Akhash R
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardConfiguration {
+}
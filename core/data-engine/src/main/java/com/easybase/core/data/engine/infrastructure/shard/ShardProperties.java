@@ -0,0 +1,53 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+import java.time.Duration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Databases that tenant collection data can be placed on, in addition to the
+ * primary database.
+ *
+ * @author Akhash R
+ */
+@ConfigurationProperties(prefix = "easy-base.data-engine.sharding")
+@Data
+public class ShardProperties {
+
+	@SuppressWarnings("unused")
+	private int moveBatchSize = 1000;
+
+	@SuppressWarnings("unused")
+	private Duration placementCacheTtl = Duration.ofSeconds(10);
+
+	@SuppressWarnings("unused")
+	private Map<String, Shard> shards = new LinkedHashMap<>();
+
+	@Data
+	public static class Shard {
+
+		@SuppressWarnings("unused")
+		private int maximumPoolSize = 10;
+
+		@SuppressWarnings("unused")
+		private String password;
+
+		@SuppressWarnings("unused")
+		private String url;
+
+		@SuppressWarnings("unused")
+		private String username;
+
+	}
+
+}
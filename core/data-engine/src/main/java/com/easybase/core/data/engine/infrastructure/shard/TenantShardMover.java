@@ -0,0 +1,632 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.core.data.engine.domain.entity.Attribute;
+import com.easybase.core.data.engine.domain.entity.Collection;
+import com.easybase.core.data.engine.infrastructure.ddl.TableManager;
+import com.easybase.core.data.engine.infrastructure.ddl.TriggerManager;
+import com.easybase.core.data.engine.infrastructure.persistence.CollectionRepository;
+import com.easybase.core.tenant.service.TenantLocalService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep4;
+import org.jooq.JSONB;
+import org.jooq.Name;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the collection data of a tenant to another shard while the tenant
+ * stays online.
+ *
+ * <p>The tables are created on the target shard and the rows are copied in
+ * keyset batches while the tenant keeps reading and writing on the source
+ * shard. The tenant is then flagged as moving, which makes every node refuse
+ * writes to its collection data once their cached placement expires. After
+ * waiting out the placement cache, the rows changed or deleted since the
+ * copy started are reconciled, the tenant is switched to the target shard
+ * and the flag is cleared. Reads keep working throughout, writes are only
+ * refused for the duration of the final reconciliation. The tables on the
+ * source shard are only dropped once the placement cache expired again, as
+ * other nodes keep reading from them until then.</p>
+ *
+ * <p>Collections can still be created, changed and deleted during the copy.
+ * Their definitions are read again once the flag blocks collection changes.
+ * Tables of collections created or changed during the copy are then rebuilt
+ * on the target shard and copied in full, tables of collections deleted
+ * during the copy are dropped from it.</p>
+ *
+ * <p>The updated-at trigger of the target tables is disabled while copying so
+ * the timestamps of the copied rows are preserved.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class TenantShardMover implements DisposableBean {
+
+	public TenantShardMover(
+		CollectionRepository collectionRepository,
+		PlatformTransactionManager platformTransactionManager,
+		ShardProperties shardProperties, TableManager tableManager,
+		TenantLocalService tenantLocalService,
+		TenantShardRouter tenantShardRouter, TriggerManager triggerManager) {
+
+		_collectionRepository = collectionRepository;
+		_shardProperties = shardProperties;
+		_tableManager = tableManager;
+		_tenantLocalService = tenantLocalService;
+		_tenantShardRouter = tenantShardRouter;
+		_triggerManager = triggerManager;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+
+		_transactionTemplate.setReadOnly(true);
+	}
+
+	@Override
+	public void destroy() {
+		_scheduledExecutorService.shutdownNow();
+	}
+
+	/**
+	 * Moves the collection data of a tenant to the given shard, blocking until
+	 * the move completed.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param targetShardKey the shard to move to
+	 * @param dropSource whether to drop the tables on the source shard once
+	 *        no node routes to them anymore, which happens in the background
+	 *        after this method returned
+	 */
+	public void moveTenant(
+		UUID tenantId, String targetShardKey, boolean dropSource) {
+
+		if (!_movingTenantIds.add(tenantId)) {
+			throw new ConflictException(
+				"Tenant " + tenantId + " is already being moved");
+		}
+
+		try {
+			_moveTenant(tenantId, targetShardKey, dropSource);
+		}
+		finally {
+			_movingTenantIds.remove(tenantId);
+		}
+	}
+
+	/**
+	 * Starts moving the collection data of a tenant to the given shard in the
+	 * background. Moves and the deferred drops of source tables run one at a
+	 * time.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param targetShardKey the shard to move to
+	 * @param dropSource whether to drop the tables on the source shard once
+	 *        no node routes to them anymore
+	 */
+	public void moveTenantAsync(
+		UUID tenantId, String targetShardKey, boolean dropSource) {
+
+		_validate(tenantId, targetShardKey);
+
+		_scheduledExecutorService.execute(
+			() -> {
+				try {
+					moveTenant(tenantId, targetShardKey, dropSource);
+				}
+				catch (RuntimeException runtimeException) {
+					log.error(
+						"Unable to move tenant {} to shard {}", tenantId,
+						targetShardKey, runtimeException);
+				}
+			});
+	}
+
+	private static String _toStoredShardKey(String shardKey) {
+		if (TenantShardRouter.DEFAULT_SHARD_KEY.equals(shardKey)) {
+			return null;
+		}
+
+		return shardKey;
+	}
+
+	private void _copyRows(
+		DSLContext sourceDSLContext, DSLContext targetDSLContext, Name table,
+		LocalDateTime changedSince) {
+
+		Table<?> dynamicTable = DSL.table(table);
+
+		Condition condition = DSL.trueCondition();
+
+		if (changedSince != null) {
+			condition = _UPDATED_AT_FIELD.ge(changedSince);
+		}
+
+		UUID lastId = null;
+		long count = 0;
+
+		while (true) {
+			Condition batchCondition = condition;
+
+			if (lastId != null) {
+				batchCondition = batchCondition.and(_ID_FIELD.gt(lastId));
+			}
+
+			Result<Record4<UUID, LocalDateTime, LocalDateTime, JSONB>> result =
+				sourceDSLContext.select(
+					_ID_FIELD, _CREATED_AT_FIELD, _UPDATED_AT_FIELD,
+					_DATA_FIELD
+				).from(
+					dynamicTable
+				).where(
+					batchCondition
+				).orderBy(
+					_ID_FIELD
+				).limit(
+					_shardProperties.getMoveBatchSize()
+				).fetch();
+
+			if (result.isEmpty()) {
+				break;
+			}
+
+			InsertValuesStep4<?, UUID, LocalDateTime, LocalDateTime, JSONB>
+				insertValuesStep = targetDSLContext.insertInto(
+					dynamicTable, _ID_FIELD, _CREATED_AT_FIELD,
+					_UPDATED_AT_FIELD, _DATA_FIELD);
+
+			for (Record4<UUID, LocalDateTime, LocalDateTime, JSONB> record :
+					result) {
+
+				insertValuesStep = insertValuesStep.values(
+					record.value1(), record.value2(), record.value3(),
+					record.value4());
+			}
+
+			insertValuesStep.onConflict(
+				_ID_FIELD
+			).doUpdate(
+			).set(
+				_CREATED_AT_FIELD, DSL.excluded(_CREATED_AT_FIELD)
+			).set(
+				_DATA_FIELD, DSL.excluded(_DATA_FIELD)
+			).set(
+				_UPDATED_AT_FIELD, DSL.excluded(_UPDATED_AT_FIELD)
+			).execute();
+
+			count += result.size();
+
+			lastId = result.get(
+				result.size() - 1
+			).value1();
+		}
+
+		log.debug("Copied {} rows of table {}", count, table);
+	}
+
+	private void _copyTable(
+		DSLContext sourceDSLContext, DSLContext targetDSLContext,
+		CollectionTable collectionTable) {
+
+		_tableManager.createCollectionTable(
+			targetDSLContext, collectionTable._table,
+			collectionTable._attributes);
+
+		_setUpdatedAtTriggerEnabled(
+			targetDSLContext, collectionTable._table, false);
+
+		_copyRows(
+			sourceDSLContext, targetDSLContext, collectionTable._table, null);
+	}
+
+	private void _dropSource(
+		UUID tenantId, String sourceShardKey, String schemaName,
+		List<CollectionTable> collectionTables) {
+
+		if (!_movingTenantIds.add(tenantId)) {
+			log.warn(
+				"Not dropping tables of tenant {} on shard {} because it is " +
+					"being moved",
+				tenantId, sourceShardKey);
+
+			return;
+		}
+
+		try {
+			_tenantShardRouter.invalidate(tenantId);
+
+			if (_tenantShardRouter.isMoving(tenantId) ||
+				sourceShardKey.equals(
+					_tenantShardRouter.getShardKey(tenantId))) {
+
+				log.warn(
+					"Not dropping tables of tenant {} on shard {} because it " +
+						"was moved again",
+					tenantId, sourceShardKey);
+
+				return;
+			}
+
+			DSLContext sourceDSLContext = _tenantShardRouter.getShardDSLContext(
+				sourceShardKey);
+
+			for (CollectionTable collectionTable : collectionTables) {
+				_tableManager.dropTableIfExists(
+					sourceDSLContext, collectionTable._table);
+			}
+
+			if (schemaName != null) {
+				_tableManager.dropSchemaIfExists(sourceDSLContext, schemaName);
+			}
+
+			log.info(
+				"Dropped tables of tenant {} on shard {}", tenantId,
+				sourceShardKey);
+		}
+		catch (RuntimeException runtimeException) {
+			log.error(
+				"Unable to drop tables of tenant {} on shard {}", tenantId,
+				sourceShardKey, runtimeException);
+		}
+		finally {
+			_movingTenantIds.remove(tenantId);
+		}
+	}
+
+	private void _deleteMissingRows(
+		DSLContext sourceDSLContext, DSLContext targetDSLContext, Name table) {
+
+		Table<?> dynamicTable = DSL.table(table);
+
+		UUID lastId = null;
+
+		while (true) {
+			Condition condition = DSL.trueCondition();
+
+			if (lastId != null) {
+				condition = _ID_FIELD.gt(lastId);
+			}
+
+			List<UUID> targetIds = targetDSLContext.select(
+				_ID_FIELD
+			).from(
+				dynamicTable
+			).where(
+				condition
+			).orderBy(
+				_ID_FIELD
+			).limit(
+				_shardProperties.getMoveBatchSize()
+			).fetch(
+				_ID_FIELD
+			);
+
+			if (targetIds.isEmpty()) {
+				return;
+			}
+
+			Set<UUID> missingIds = new HashSet<>(targetIds);
+
+			List<UUID> sourceIds = sourceDSLContext.select(
+				_ID_FIELD
+			).from(
+				dynamicTable
+			).where(
+				_ID_FIELD.in(targetIds)
+			).fetch(
+				_ID_FIELD
+			);
+
+			sourceIds.forEach(missingIds::remove);
+
+			if (!missingIds.isEmpty()) {
+				targetDSLContext.deleteFrom(
+					dynamicTable
+				).where(
+					_ID_FIELD.in(missingIds)
+				).execute();
+			}
+
+			lastId = targetIds.get(targetIds.size() - 1);
+		}
+	}
+
+	private List<CollectionTable> _getCollectionTables(UUID tenantId) {
+		return _transactionTemplate.execute(
+			transactionStatus -> {
+				List<CollectionTable> collectionTables = new ArrayList<>();
+
+				Page<Collection> page = _collectionRepository.findByTenantId(
+					tenantId, Pageable.unpaged());
+
+				for (Collection collection : page.getContent()) {
+					collectionTables.add(
+						new CollectionTable(
+							_tenantShardRouter.getTableName(
+								tenantId, collection.getName()),
+							new ArrayList<>(collection.getAttributes())));
+				}
+
+				return collectionTables;
+			});
+	}
+
+	private void _moveTenant(
+		UUID tenantId, String targetShardKey, boolean dropSource) {
+
+		String sourceShardKey = _validate(tenantId, targetShardKey);
+
+		DSLContext sourceDSLContext = _tenantShardRouter.getShardDSLContext(
+			sourceShardKey);
+		DSLContext targetDSLContext = _tenantShardRouter.getShardDSLContext(
+			targetShardKey);
+
+		String schemaName = _tenantShardRouter.getSchemaName(tenantId);
+
+		List<CollectionTable> collectionTables = _getCollectionTables(
+			tenantId);
+
+		log.info(
+			"Moving {} collections of tenant {} from shard {} to {}",
+			collectionTables.size(), tenantId, sourceShardKey, targetShardKey);
+
+		LocalDateTime copyStartedAt = sourceDSLContext.fetchValue(
+			DSL.currentLocalDateTime());
+
+		if (schemaName != null) {
+			_tableManager.createSchemaIfNotExists(targetDSLContext, schemaName);
+		}
+
+		for (CollectionTable collectionTable : collectionTables) {
+			_copyTable(sourceDSLContext, targetDSLContext, collectionTable);
+		}
+
+		_tenantLocalService.updateTenantShard(
+			tenantId, _toStoredShardKey(sourceShardKey), true);
+
+		_tenantShardRouter.invalidate(tenantId);
+
+		try {
+
+			// Wait until every node refreshed its cached placement and
+			// refuses writes and collection changes, then reconcile what
+			// changed during the copy
+
+			Duration placementCacheTtl =
+				_shardProperties.getPlacementCacheTtl();
+
+			Thread.sleep(placementCacheTtl.toMillis() + _WRITE_GRACE_MILLIS);
+
+			Map<Name, CollectionTable> copiedCollectionTables =
+				new HashMap<>();
+
+			for (CollectionTable collectionTable : collectionTables) {
+				copiedCollectionTables.put(
+					collectionTable._table, collectionTable);
+			}
+
+			collectionTables = _getCollectionTables(tenantId);
+
+			for (CollectionTable collectionTable : collectionTables) {
+				CollectionTable copiedCollectionTable =
+					copiedCollectionTables.remove(collectionTable._table);
+
+				if ((copiedCollectionTable == null) ||
+					!copiedCollectionTable._hasSameDefinition(
+						collectionTable)) {
+
+					// Created or changed during the copy
+
+					_tableManager.dropTableIfExists(
+						targetDSLContext, collectionTable._table);
+
+					_copyTable(
+						sourceDSLContext, targetDSLContext, collectionTable);
+				}
+				else {
+					_copyRows(
+						sourceDSLContext, targetDSLContext,
+						collectionTable._table,
+						copyStartedAt.minus(_CLOCK_SKEW));
+
+					_deleteMissingRows(
+						sourceDSLContext, targetDSLContext,
+						collectionTable._table);
+				}
+
+				_setUpdatedAtTriggerEnabled(
+					targetDSLContext, collectionTable._table, true);
+			}
+
+			// Deleted during the copy
+
+			for (Name table : copiedCollectionTables.keySet()) {
+				_tableManager.dropTableIfExists(targetDSLContext, table);
+			}
+
+			_tenantLocalService.updateTenantShard(
+				tenantId, _toStoredShardKey(targetShardKey), false);
+		}
+		catch (InterruptedException interruptedException) {
+			_tenantLocalService.updateTenantShard(
+				tenantId, _toStoredShardKey(sourceShardKey), false);
+
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new IllegalStateException(
+				"Interrupted while moving tenant " + tenantId,
+				interruptedException);
+		}
+		catch (RuntimeException runtimeException) {
+			_tenantLocalService.updateTenantShard(
+				tenantId, _toStoredShardKey(sourceShardKey), false);
+
+			throw runtimeException;
+		}
+		finally {
+			_tenantShardRouter.invalidate(tenantId);
+		}
+
+		log.info("Moved tenant {} to shard {}", tenantId, targetShardKey);
+
+		if (dropSource) {
+
+			// Other nodes keep reading from the source shard until their
+			// cached placement expires
+
+			Duration placementCacheTtl =
+				_shardProperties.getPlacementCacheTtl();
+
+			List<CollectionTable> droppedCollectionTables = collectionTables;
+
+			_scheduledExecutorService.schedule(
+				() -> _dropSource(
+					tenantId, sourceShardKey, schemaName,
+					droppedCollectionTables),
+				placementCacheTtl.toMillis() + _WRITE_GRACE_MILLIS,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void _setUpdatedAtTriggerEnabled(
+		DSLContext dslContext, Name table, boolean enabled) {
+
+		String sql = "ALTER TABLE {0} DISABLE TRIGGER {1}";
+
+		if (enabled) {
+			sql = "ALTER TABLE {0} ENABLE TRIGGER {1}";
+		}
+
+		dslContext.execute(
+			sql, DSL.table(table),
+			DSL.name(_triggerManager.getUpdatedAtTriggerName(table)));
+	}
+
+	private String _validate(UUID tenantId, String targetShardKey) {
+		Set<String> shardKeys = _tenantShardRouter.getShardKeys();
+
+		if (!shardKeys.contains(targetShardKey)) {
+			throw new InvalidRequestException(
+				"Unknown shard: " + targetShardKey);
+		}
+
+		_tenantShardRouter.invalidate(tenantId);
+
+		if (_tenantShardRouter.isMoving(tenantId)) {
+			throw new ConflictException(
+				"Tenant " + tenantId + " is already being moved");
+		}
+
+		String sourceShardKey = _tenantShardRouter.getShardKey(tenantId);
+
+		if (sourceShardKey.equals(targetShardKey)) {
+			throw new InvalidRequestException(
+				"Tenant " + tenantId + " is already on shard " +
+					targetShardKey);
+		}
+
+		return sourceShardKey;
+	}
+
+	private static final Duration _CLOCK_SKEW = Duration.ofMinutes(1);
+
+	private static final Field<LocalDateTime> _CREATED_AT_FIELD = DSL.field(
+		DSL.name("created_at"), SQLDataType.LOCALDATETIME);
+
+	private static final Field<JSONB> _DATA_FIELD = DSL.field(
+		DSL.name("data"), SQLDataType.JSONB);
+
+	private static final Field<UUID> _ID_FIELD = DSL.field(
+		DSL.name("id"), SQLDataType.UUID);
+
+	private static final Field<LocalDateTime> _UPDATED_AT_FIELD = DSL.field(
+		DSL.name("updated_at"), SQLDataType.LOCALDATETIME);
+
+	private static final long _WRITE_GRACE_MILLIS = 2000;
+
+	private final CollectionRepository _collectionRepository;
+	private final Set<UUID> _movingTenantIds = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService _scheduledExecutorService =
+		Executors.newSingleThreadScheduledExecutor(
+			new CustomizableThreadFactory("tenant-shard-move-"));
+	private final ShardProperties _shardProperties;
+	private final TableManager _tableManager;
+	private final TenantLocalService _tenantLocalService;
+	private final TenantShardRouter _tenantShardRouter;
+	private final TransactionTemplate _transactionTemplate;
+	private final TriggerManager _triggerManager;
+
+	private static final class CollectionTable {
+
+		private CollectionTable(Name table, List<Attribute> attributes) {
+			_table = table;
+			_attributes = attributes;
+		}
+
+		private Map<String, List<Object>> _getDefinition() {
+			Map<String, List<Object>> definition = new HashMap<>();
+
+			for (Attribute attribute : _attributes) {
+				definition.put(
+					attribute.getName(),
+					Arrays.asList(
+						attribute.getDataType(), attribute.getIndexed(),
+						attribute.getConfig()));
+			}
+
+			return definition;
+		}
+
+		private boolean _hasSameDefinition(CollectionTable collectionTable) {
+			Map<String, List<Object>> definition = _getDefinition();
+
+			return definition.equals(collectionTable._getDefinition());
+		}
+
+		private final List<Attribute> _attributes;
+		private final Name _table;
+
+	}
+
+}
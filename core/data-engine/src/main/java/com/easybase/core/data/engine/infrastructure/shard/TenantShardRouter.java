@@ -0,0 +1,344 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ServiceUnavailableException;
+import com.easybase.context.api.util.ExpiringLruCache;
+import com.easybase.core.data.engine.service.util.NamingUtils;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.event.TenantChangedEvent;
+import com.easybase.core.tenant.repository.TenantRepository;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jooq.DSLContext;
+import org.jooq.Name;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Resolves the database holding the collection data of a tenant.
+ *
+ * <p>The shard of a tenant is stored on {@link Tenant#getShardKey()}, tenants
+ * without one live on the primary database. Shards other than the primary
+ * are configured under {@code easy-base.data-engine.sharding.shards} and get
+ * their own connection pool, created on first use. Placements are cached for
+ * {@code placement-cache-ttl}, which bounds how long another node keeps
+ * routing to the old shard after a tenant was moved.</p>
+ *
+ * <p>Only collection tables are sharded. Tenants, users, collection
+ * definitions and the other JPA entities stay on the primary database, so
+ * requests can be authenticated and routed before the shard is known.</p>
+ *
+ * <p>Within a shard, the tables of a tenant are separated according to
+ * {@code easy-base.data-engine.tenant-table-layout}, see
+ * {@link TenantTableLayout}. Callers resolve table names through
+ * {@link #getTableName(UUID, String)}, which qualifies them with the schema
+ * of the tenant where needed, so the contexts of this router are the plain
+ * contexts of the shards and statements on the primary database join the
+ * current Spring transaction.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class TenantShardRouter implements DisposableBean {
+
+	public static final String DEFAULT_SHARD_KEY = "default";
+
+	public TenantShardRouter(
+		DataSource dataSource, DSLContext dslContext,
+		ShardProperties shardProperties, TenantRepository tenantRepository) {
+
+		_shardProperties = shardProperties;
+		_tenantRepository = tenantRepository;
+
+		_shards.put(DEFAULT_SHARD_KEY, new Shard(dataSource, dslContext, null));
+	}
+
+	@Override
+	public void destroy() {
+		for (Shard shard : _shards.values()) {
+			if (shard._hikariDataSource != null) {
+				shard._hikariDataSource.close();
+			}
+		}
+	}
+
+	public DataSource getDataSource(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		return placement._dataSource;
+	}
+
+	/**
+	 * Returns the jOOQ context for reading the collection data of a tenant.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return the context of the shard of the tenant
+	 */
+	public DSLContext getDSLContext(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		return placement._dslContext;
+	}
+
+	/**
+	 * Returns the schema holding the collection tables of a tenant.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return the schema name, or {@code null} if tenants share the default
+	 *         schema
+	 */
+	public String getSchemaName(UUID tenantId) {
+		if (_tenantTableLayout == TenantTableLayout.SCHEMA) {
+			return NamingUtils.getSchemaName(tenantId);
+		}
+
+		return null;
+	}
+
+	public DSLContext getShardDSLContext(String shardKey) {
+		Shard shard = _getShard(shardKey);
+
+		return shard._dslContext;
+	}
+
+	public String getShardKey(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		return placement._shardKey;
+	}
+
+	public Set<String> getShardKeys() {
+		Set<String> shardKeys = new LinkedHashSet<>();
+
+		shardKeys.add(DEFAULT_SHARD_KEY);
+
+		Map<String, ShardProperties.Shard> shards =
+			_shardProperties.getShards();
+
+		shardKeys.addAll(shards.keySet());
+
+		return shardKeys;
+	}
+
+	/**
+	 * Returns the name of the table holding the records of a collection.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param collectionName the collection name
+	 * @return the table name, qualified with the schema of the tenant if
+	 *         tenants have their own schema
+	 */
+	public Name getTableName(UUID tenantId, String collectionName) {
+		if (_tenantTableLayout == TenantTableLayout.SCHEMA) {
+			return DSL.name(
+				NamingUtils.getSchemaName(tenantId),
+				NamingUtils.sanitizeCollectionName(collectionName));
+		}
+
+		return DSL.name(NamingUtils.getTableName(tenantId, collectionName));
+	}
+
+	/**
+	 * Returns the jOOQ context for writing the collection data or the
+	 * collection tables of a tenant.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return the context of the shard of the tenant
+	 * @throws ServiceUnavailableException if the tenant is being moved to
+	 *         another shard
+	 */
+	public DSLContext getWritableDSLContext(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		if (placement._moving) {
+			throw new ServiceUnavailableException(
+				"Tenant data is being moved, retry later");
+		}
+
+		return placement._dslContext;
+	}
+
+	@PostConstruct
+	public void initialize() {
+		Map<String, ShardProperties.Shard> shards =
+			_shardProperties.getShards();
+
+		for (Map.Entry<String, ShardProperties.Shard> entry :
+				shards.entrySet()) {
+
+			ShardProperties.Shard shard = entry.getValue();
+
+			if (DEFAULT_SHARD_KEY.equals(entry.getKey()) ||
+				(shard.getUrl() == null)) {
+
+				throw new IllegalStateException(
+					"Invalid shard configuration: " + entry.getKey());
+			}
+		}
+
+		_placements = new ExpiringLruCache<>(
+			_PLACEMENT_CACHE_SIZE, _shardProperties.getPlacementCacheTtl());
+	}
+
+	public void invalidate(UUID tenantId) {
+		_placements.invalidate(tenantId);
+	}
+
+	public boolean isMoving(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		return placement._moving;
+	}
+
+	/**
+	 * Returns whether statements on the contexts of this router for a tenant
+	 * join the current Spring transaction. Only the primary database is
+	 * transactional, the pools of other shards commit every statement on its
+	 * own, so callers have to compensate their changes if the transaction
+	 * rolls back.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return {@code true} if the shard of the tenant is transactional
+	 */
+	public boolean isTransactional(UUID tenantId) {
+		Placement placement = _getPlacement(tenantId);
+
+		return DEFAULT_SHARD_KEY.equals(placement._shardKey);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTenantChanged(TenantChangedEvent tenantChangedEvent) {
+		invalidate(tenantChangedEvent.getTenantId());
+	}
+
+	private Placement _createPlacement(String shardKey, boolean moving) {
+		Shard shard = _getShard(shardKey);
+
+		return new Placement(
+			shardKey, moving, shard._dataSource, shard._dslContext);
+	}
+
+	private Shard _createShard(String shardKey) {
+		Map<String, ShardProperties.Shard> shards =
+			_shardProperties.getShards();
+
+		ShardProperties.Shard shard = shards.get(shardKey);
+
+		if (shard == null) {
+			throw new InvalidRequestException("Unknown shard: " + shardKey);
+		}
+
+		HikariDataSource hikariDataSource = new HikariDataSource();
+
+		hikariDataSource.setJdbcUrl(shard.getUrl());
+		hikariDataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+		hikariDataSource.setPassword(shard.getPassword());
+		hikariDataSource.setPoolName("shard-" + shardKey);
+		hikariDataSource.setUsername(shard.getUsername());
+
+		log.info("Created connection pool for shard {}", shardKey);
+
+		return new Shard(
+			hikariDataSource, DSL.using(hikariDataSource, SQLDialect.POSTGRES),
+			hikariDataSource);
+	}
+
+	private Placement _getPlacement(UUID tenantId) {
+		return _placements.get(tenantId, this::_loadPlacement);
+	}
+
+	private Shard _getShard(String shardKey) {
+		return _shards.computeIfAbsent(shardKey, this::_createShard);
+	}
+
+	private Placement _loadPlacement(UUID tenantId) {
+		Optional<Tenant> tenantOptional = _tenantRepository.findById(tenantId);
+
+		if (tenantOptional.isEmpty()) {
+			return _createPlacement(DEFAULT_SHARD_KEY, false);
+		}
+
+		Tenant tenant = tenantOptional.get();
+
+		String shardKey = tenant.getShardKey();
+
+		if (shardKey == null) {
+			shardKey = DEFAULT_SHARD_KEY;
+		}
+
+		return _createPlacement(
+			shardKey, Boolean.TRUE.equals(tenant.getShardMoving()));
+	}
+
+	private static final int _PLACEMENT_CACHE_SIZE = 10000;
+
+	private ExpiringLruCache<UUID, Placement> _placements;
+	private final ShardProperties _shardProperties;
+	private final Map<String, Shard> _shards = new ConcurrentHashMap<>();
+	private final TenantRepository _tenantRepository;
+
+	@Value("${easy-base.data-engine.tenant-table-layout:TABLE_PREFIX}")
+	private TenantTableLayout _tenantTableLayout;
+
+	private static final class Placement {
+
+		private Placement(
+			String shardKey, boolean moving, DataSource dataSource,
+			DSLContext dslContext) {
+
+			_shardKey = shardKey;
+			_moving = moving;
+			_dataSource = dataSource;
+			_dslContext = dslContext;
+		}
+
+		private final DataSource _dataSource;
+		private final DSLContext _dslContext;
+		private final boolean _moving;
+		private final String _shardKey;
+
+	}
+
+	private static final class Shard {
+
+		private Shard(
+			DataSource dataSource, DSLContext dslContext,
+			HikariDataSource hikariDataSource) {
+
+			_dataSource = dataSource;
+			_dslContext = dslContext;
+			_hikariDataSource = hikariDataSource;
+		}
+
+		private final DataSource _dataSource;
+		private final DSLContext _dslContext;
+		private final HikariDataSource _hikariDataSource;
+
+	}
+
+}
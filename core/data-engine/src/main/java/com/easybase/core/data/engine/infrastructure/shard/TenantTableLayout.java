@@ -0,0 +1,32 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+/**
+ * How {@link TenantShardRouter} separates the collection tables of tenants
+ * sharing a shard.
+ *
+ * <p>Switching an existing deployment between layouts does not migrate the
+ * tables already created, they stay where the previous layout put them.</p>
+ *
+ * @author Akhash R
+ */
+public enum TenantTableLayout {
+
+	/**
+	 * Creates the tables of every tenant in its own schema, named after the
+	 * tenant ID, and names them after their collection. Table names are
+	 * qualified with the schema of the tenant.
+	 */
+	SCHEMA,
+
+	/**
+	 * Creates the tables of every tenant in the default schema and prefixes
+	 * their names with the tenant ID.
+	 */
+	TABLE_PREFIX
+
+}
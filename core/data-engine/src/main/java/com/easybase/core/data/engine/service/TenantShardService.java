@@ -0,0 +1,64 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * External-facing service interface for the shard placement of tenant
+ * collection data. Performs permission checks before delegating to the
+ * shard router and mover.
+ *
+ * @author Akhash R
+ */
+public interface TenantShardService {
+
+	/**
+	 * Gets the shard holding the collection data of a tenant.
+	 * Requires TENANT:VIEW permission.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return the shard key
+	 * @throws com.easybase.common.exception.ForbiddenException if permission denied
+	 */
+	public String getShardKey(UUID tenantId);
+
+	/**
+	 * Gets the keys of every configured shard, including the primary
+	 * database.
+	 * Requires TENANT:VIEW permission.
+	 *
+	 * @return the shard keys
+	 * @throws com.easybase.common.exception.ForbiddenException if permission denied
+	 */
+	public Set<String> getShardKeys();
+
+	/**
+	 * Returns whether the collection data of a tenant is being moved.
+	 * Requires TENANT:VIEW permission.
+	 *
+	 * @param tenantId the tenant ID
+	 * @return true if a move is in progress
+	 * @throws com.easybase.common.exception.ForbiddenException if permission denied
+	 */
+	public boolean isMoving(UUID tenantId);
+
+	/**
+	 * Starts moving the collection data of a tenant to another shard in the
+	 * background.
+	 * Requires TENANT:UPDATE permission.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param shardKey the target shard
+	 * @param dropSource whether to drop the source tables after the move
+	 * @throws com.easybase.common.exception.ConflictException if a move is already in progress
+	 * @throws com.easybase.common.exception.ForbiddenException if permission denied
+	 * @throws com.easybase.common.exception.InvalidRequestException if the shard is unknown or already holds the tenant
+	 */
+	public void moveTenant(UUID tenantId, String shardKey, boolean dropSource);
+
+}
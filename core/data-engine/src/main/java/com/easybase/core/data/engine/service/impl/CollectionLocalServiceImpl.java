@@ -13,18 +13,17 @@ import com.easybase.core.auth.service.constants.ResourceActionConstants;
 import com.easybase.core.auth.service.util.ActionKeyUtil;
 import com.easybase.core.data.engine.domain.entity.Attribute;
 import com.easybase.core.data.engine.domain.entity.Collection;
-import com.easybase.core.data.engine.domain.enums.AttributeType;
 import com.easybase.core.data.engine.domain.type.AttributeTypeDefinition;
 import com.easybase.core.data.engine.domain.type.AttributeTypeDefinitionRegistry;
 import com.easybase.core.data.engine.infrastructure.ddl.IndexManager;
 import com.easybase.core.data.engine.infrastructure.ddl.TableManager;
 import com.easybase.core.data.engine.infrastructure.persistence.CollectionRepository;
+import com.easybase.core.data.engine.infrastructure.shard.TenantShardRouter;
 import com.easybase.core.data.engine.service.CollectionLocalService;
 import com.easybase.core.data.engine.service.util.NamingUtils;
 import com.easybase.core.tenant.entity.Tenant;
 import com.easybase.core.tenant.repository.TenantRepository;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -38,15 +37,25 @@ import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.jooq.DSLContext;
+import org.jooq.Name;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Implementation of {@link CollectionLocalService}.
  * Contains all business logic, repository calls, and transaction management.
  *
+ * <p>Collection tables on shards outside of the Spring transaction are
+ * created and dropped in step with the transaction: a created table is
+ * dropped again if the transaction rolls back, and a table is only dropped
+ * once the deletion of its collection committed.</p>
+ *
  * @author Akhash R
  */
 @RequiredArgsConstructor
@@ -80,27 +89,38 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 
 		collection = _collectionRepository.save(collection);
 
-		String tableName = NamingUtils.getTableName(tenantId, collectionName);
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenantId);
 
-		_tableManager.createTableIfNotExists(tableName);
-		_indexManager.createGinIndexIfNotExists(tableName);
+		String schemaName = _tenantShardRouter.getSchemaName(tenantId);
 
-		if (attributes != null) {
-			for (Attribute attr : attributes) {
-				if (Boolean.TRUE.equals(attr.getIndexed())) {
-					AttributeTypeDefinition attributeTypeDefinition =
-						_attributeTypeDefinitionRegistry.getDescriptor(
-							attr.getDataType());
+		if (schemaName != null) {
+			_tableManager.createSchemaIfNotExists(dslContext, schemaName);
+		}
 
-					_indexManager.createAttributeIndexIfNotExists(
-						tableName, attr.getName(),
-						attributeTypeDefinition.resolvePostgresType(
-							attr.getConfig()));
-				}
-			}
+		Name tableName = _tenantShardRouter.getTableName(
+			tenantId, collectionName);
+
+		if (!_tenantShardRouter.isTransactional(tenantId)) {
+
+			// The table is created outside of the transaction, drop it again
+			// if the collection is not stored
+
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+
+					@Override
+					public void afterCompletion(int status) {
+						if (status != STATUS_COMMITTED) {
+							_tableManager.dropTableIfExists(
+								dslContext, tableName);
+						}
+					}
+
+				});
 		}
 
-		_setupSearchVector(tableName, attributes);
+		_tableManager.createCollectionTable(dslContext, tableName, attributes);
 
 		_createResourceActions(collectionName);
 
@@ -118,8 +138,30 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 
 		_deleteResourceActions(collection.getName());
 
-		_tableManager.dropTableIfExists(
-			NamingUtils.getTableName(tenant.getId(), collection.getName()));
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenant.getId());
+
+		Name tableName = _tenantShardRouter.getTableName(
+			tenant.getId(), collection.getName());
+
+		if (_tenantShardRouter.isTransactional(tenant.getId())) {
+			_tableManager.dropTableIfExists(dslContext, tableName);
+		}
+		else {
+
+			// The table is dropped outside of the transaction, so only drop it
+			// once the collection is deleted
+
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+
+					@Override
+					public void afterCommit() {
+						_tableManager.dropTableIfExists(dslContext, tableName);
+					}
+
+				});
+		}
 
 		_collectionRepository.delete(collection);
 
@@ -172,7 +214,14 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 
 		Tenant tenant = collection.getTenant();
 
-		String tableName = NamingUtils.getTableName(
+		// On shards outside of the transaction, index changes are not rolled
+		// back with the collection. They only affect query performance and
+		// are corrected by the next update of the collection.
+
+		DSLContext dslContext = _tenantShardRouter.getWritableDSLContext(
+			tenant.getId());
+
+		Name tableName = _tenantShardRouter.getTableName(
 			tenant.getId(), collection.getName());
 
 		List<Attribute> currentAttributes = collection.getAttributes();
@@ -201,7 +250,8 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 			Attribute oldAttr = currentAttributeMap.get(attrName);
 
 			if (Boolean.TRUE.equals(oldAttr.getIndexed())) {
-				_indexManager.dropAttributeIndexIfExists(tableName, attrName);
+				_indexManager.dropAttributeIndexIfExists(
+					dslContext, tableName, attrName);
 			}
 
 			collection.removeAttribute(oldAttr);
@@ -218,7 +268,7 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 						newAttr.getDataType());
 
 				_indexManager.createAttributeIndexIfNotExists(
-					tableName, attrName,
+					dslContext, tableName, attrName,
 					attributeTypeDefinition.resolvePostgresType(
 						newAttr.getConfig()));
 			}
@@ -236,7 +286,7 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 			if (indexChanged || typeChanged) {
 				if (Boolean.TRUE.equals(currentAttr.getIndexed())) {
 					_indexManager.dropAttributeIndexIfExists(
-						tableName, attrName);
+						dslContext, tableName, attrName);
 				}
 
 				currentAttr.setDataType(newAttr.getDataType());
@@ -248,7 +298,7 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 							newAttr.getDataType());
 
 					_indexManager.createAttributeIndexIfNotExists(
-						tableName, attrName,
+						dslContext, tableName, attrName,
 						attributeTypeDefinition.resolvePostgresType(
 							newAttr.getConfig()));
 				}
@@ -259,7 +309,8 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 
 		collection = _collectionRepository.save(collection);
 
-		_setupSearchVector(tableName, collection.getAttributes());
+		_tableManager.setupSearchVector(
+			dslContext, tableName, collection.getAttributes());
 
 		log.info(
 			"Updated collection name={} tenant={}", collection.getName(),
@@ -329,26 +380,6 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 		return tenantOptional.get();
 	}
 
-	private void _setupSearchVector(
-		String tableName, List<Attribute> attributes) {
-
-		if (attributes == null) {
-			return;
-		}
-
-		List<String> textAttributes = new ArrayList<>();
-
-		for (Attribute attr : attributes) {
-			if (attr.getDataType() == AttributeType.STRING) {
-				textAttributes.add(attr.getName());
-			}
-		}
-
-		if (!textAttributes.isEmpty()) {
-			_tableManager.addSearchVector(tableName, textAttributes);
-		}
-	}
-
 	private Map<String, Attribute> _toAttributeMap(
 		List<Attribute> attributes, boolean overwriteDuplicates) {
 
@@ -372,5 +403,6 @@ public class CollectionLocalServiceImpl implements CollectionLocalService {
 	private final ResourceActionLocalService _resourceActionLocalService;
 	private final TableManager _tableManager;
 	private final TenantRepository _tenantRepository;
+	private final TenantShardRouter _tenantShardRouter;
 
 }
\ No newline at end of file
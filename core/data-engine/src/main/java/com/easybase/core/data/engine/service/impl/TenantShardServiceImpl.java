@@ -0,0 +1,64 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.service.impl;
+
+import com.easybase.context.api.util.PermissionChecker;
+import com.easybase.core.data.engine.infrastructure.shard.TenantShardMover;
+import com.easybase.core.data.engine.infrastructure.shard.TenantShardRouter;
+import com.easybase.core.data.engine.service.TenantShardService;
+import com.easybase.core.tenant.action.TenantActions;
+
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link TenantShardService}.
+ * ALWAYS performs permission checks before delegating to the shard router
+ * and mover.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class TenantShardServiceImpl implements TenantShardService {
+
+	@Override
+	public String getShardKey(UUID tenantId) {
+		_permissionChecker.check(TenantActions.VIEW);
+
+		return _tenantShardRouter.getShardKey(tenantId);
+	}
+
+	@Override
+	public Set<String> getShardKeys() {
+		_permissionChecker.check(TenantActions.VIEW);
+
+		return _tenantShardRouter.getShardKeys();
+	}
+
+	@Override
+	public boolean isMoving(UUID tenantId) {
+		_permissionChecker.check(TenantActions.VIEW);
+
+		return _tenantShardRouter.isMoving(tenantId);
+	}
+
+	@Override
+	public void moveTenant(UUID tenantId, String shardKey, boolean dropSource) {
+		_permissionChecker.check(TenantActions.UPDATE);
+
+		_tenantShardMover.moveTenantAsync(tenantId, shardKey, dropSource);
+	}
+
+	private final PermissionChecker _permissionChecker;
+	private final TenantShardMover _tenantShardMover;
+	private final TenantShardRouter _tenantShardRouter;
+
+}
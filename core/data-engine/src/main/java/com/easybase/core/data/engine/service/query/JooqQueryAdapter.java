@@ -10,22 +10,53 @@ import com.easybase.core.search.adapter.QueryAdapter;
 import com.easybase.infrastructure.search.QueryResult;
 import com.easybase.infrastructure.search.SearchContext;
 
-import lombok.RequiredArgsConstructor;
-
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
+ * Runs record searches in a read-only transaction. In
+ * {@link QueryExecutionMode#PARALLEL_SNAPSHOT} mode the transaction is
+ * repeatable read, so the count and the page of a search are read from the
+ * same snapshot. Other modes use the default isolation.
+ *
  * @author Akhash R
  */
 @Component
-@RequiredArgsConstructor
 public class JooqQueryAdapter implements QueryAdapter<DataRecord> {
 
+	public JooqQueryAdapter(
+		JooqQueryEngine jooqQueryEngine,
+		PlatformTransactionManager platformTransactionManager) {
+
+		_jooqQueryEngine = jooqQueryEngine;
+
+		_snapshotTransactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+
+		_snapshotTransactionTemplate.setIsolationLevel(
+			TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		_snapshotTransactionTemplate.setReadOnly(true);
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+
+		_transactionTemplate.setReadOnly(true);
+	}
+
 	@Override
-	@Transactional(readOnly = true)
 	public QueryResult<DataRecord> execute(SearchContext context) {
-		return _jooqQueryEngine.execute(context);
+		TransactionTemplate transactionTemplate = _transactionTemplate;
+
+		if (_jooqQueryEngine.getExecutionMode() ==
+				QueryExecutionMode.PARALLEL_SNAPSHOT) {
+
+			transactionTemplate = _snapshotTransactionTemplate;
+		}
+
+		return transactionTemplate.execute(
+			transactionStatus -> _jooqQueryEngine.execute(context));
 	}
 
 	@Override
@@ -34,5 +65,7 @@ public class JooqQueryAdapter implements QueryAdapter<DataRecord> {
 	}
 
 	private final JooqQueryEngine _jooqQueryEngine;
+	private final TransactionTemplate _snapshotTransactionTemplate;
+	private final TransactionTemplate _transactionTemplate;
 
-}
\ No newline at end of file
+}
@@ -10,7 +10,7 @@ import com.easybase.core.data.engine.domain.entity.Attribute;
 import com.easybase.core.data.engine.domain.entity.Collection;
 import com.easybase.core.data.engine.domain.entity.DataRecord;
 import com.easybase.core.data.engine.domain.enums.AttributeType;
-import com.easybase.core.data.engine.service.util.NamingUtils;
+import com.easybase.core.data.engine.infrastructure.shard.TenantShardRouter;
 import com.easybase.infrastructure.search.FilterCondition;
 import com.easybase.infrastructure.search.FilterNode;
 import com.easybase.infrastructure.search.FilterOperator;
@@ -22,6 +22,8 @@ import com.easybase.infrastructure.search.SortField;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 
 import java.time.LocalDateTime;
@@ -33,21 +35,32 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
 
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.jooq.Condition;
+import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Name;
 import org.jooq.Record;
 import org.jooq.Record1;
+import org.jooq.RecordMapper;
+import org.jooq.Result;
+import org.jooq.Select;
 import org.jooq.SelectConditionStep;
 import org.jooq.SelectJoinStep;
 import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -61,10 +74,10 @@ public class JooqQueryEngine {
 	public QueryResult<DataRecord> execute(SearchContext context) {
 		Collection collection = context.getAttribute("collection");
 
-		String tableName = NamingUtils.getTableName(
+		Name tableName = _tenantShardRouter.getTableName(
 			context.getTenantId(), collection.getName());
 
-		Table<?> table = DSL.table(DSL.name(tableName));
+		Table<?> table = DSL.table(tableName);
 
 		Condition condition = DSL.trueCondition();
 
@@ -87,15 +100,12 @@ public class JooqQueryEngine {
 			}
 		}
 
-		SelectConditionStep<Record1<Integer>> countStep =
-			_dslContext.selectCount(
-			).from(
-				table
-			).where(
-				condition
-			);
-
-		long totalElements = countStep.fetchOne(0, long.class);
+		Select<Record1<Integer>> countQuery = DSL.selectCount(
+		).from(
+			table
+		).where(
+			condition
+		);
 
 		List<String> fields = context.getAttribute("fields");
 
@@ -107,14 +117,14 @@ public class JooqQueryEngine {
 
 			List<Field<?>> selectFields = _buildSelectFields(fields);
 
-			selectStep = _dslContext.select(
+			selectStep = DSL.select(
 				selectFields
 			).from(
 				table
 			);
 		}
 		else {
-			selectStep = _dslContext.select(
+			selectStep = DSL.select(
 			).from(
 				table
 			);
@@ -143,33 +153,61 @@ public class JooqQueryEngine {
 
 		int offset = context.getPage() * pageSize;
 
-		List<DataRecord> records;
+		Select<Record> pageQuery = whereStep.orderBy(
+			jooqSortFields
+		).limit(
+			pageSize
+		).offset(
+			offset
+		);
+
+		RecordMapper<Record, DataRecord> recordMapper;
 
 		if ((fields != null) && !fields.isEmpty()) {
-			records = whereStep.orderBy(
-				jooqSortFields
-			).limit(
-				pageSize
-			).offset(
-				offset
-			).fetch(
-				record -> _toPartialDataRecord(record, fields)
-			);
+			recordMapper = record -> _toPartialDataRecord(record, fields);
 		}
 		else {
-			records = whereStep.orderBy(
-				jooqSortFields
-			).limit(
-				pageSize
-			).offset(
-				offset
-			).fetch(
-				this::_toDataRecord
-			);
+			recordMapper = this::_toDataRecord;
+		}
+
+		if (_executionMode == QueryExecutionMode.PARALLEL) {
+			return _executeParallel(
+				_tenantShardRouter.getDSLContext(context.getTenantId()),
+				countQuery, pageQuery, recordMapper, context.getPage(),
+				pageSize);
 		}
 
+		if (_executionMode == QueryExecutionMode.PARALLEL_SNAPSHOT) {
+			return _executeInSharedSnapshot(
+				_tenantShardRouter.getDataSource(context.getTenantId()),
+				_tenantShardRouter.getDSLContext(context.getTenantId()),
+				countQuery, pageQuery, recordMapper, context.getPage(),
+				pageSize);
+		}
+
+		DSLContext dslContext = _tenantShardRouter.getDSLContext(
+			context.getTenantId());
+
+		long totalElements = _fetchCount(dslContext, countQuery);
+
+		Result<Record> result = dslContext.fetch(pageQuery);
+
 		return new QueryResult<>(
-			records, context.getPage(), pageSize, totalElements);
+			result.map(recordMapper), context.getPage(), pageSize,
+			totalElements);
+	}
+
+	public QueryExecutionMode getExecutionMode() {
+		return _executionMode;
+	}
+
+	private void _beginRepeatableRead(Connection connection)
+		throws SQLException {
+
+		connection.setAutoCommit(false);
+		connection.setReadOnly(true);
+		connection.setTransactionIsolation(
+			Connection.TRANSACTION_REPEATABLE_READ);
 	}
 
 	private Condition _buildComparisonCondition(
@@ -368,6 +406,146 @@ public class JooqQueryEngine {
 		}
 	}
 
+	/**
+	 * Runs the page query on the connection of the current transaction, or a
+	 * connection of its own outside of one, and exports its snapshot to the
+	 * count query, so the search takes at most one extra connection, and only
+	 * through {@link ParallelQueryExecutor}.
+	 *
+	 * <p>The snapshot can only be shared from a repeatable read transaction.
+	 * Searches joining a read committed transaction run as
+	 * {@link QueryExecutionMode#PARALLEL} instead.</p>
+	 */
+	private QueryResult<DataRecord> _executeInSharedSnapshot(
+		DataSource dataSource, DSLContext shardDSLContext,
+		Select<Record1<Integer>> countQuery, Select<Record> pageQuery,
+		RecordMapper<Record, DataRecord> recordMapper, int page,
+		int pageSize) {
+
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+
+		try {
+			boolean transactional = DataSourceUtils.isConnectionTransactional(
+				connection, dataSource);
+
+			if (!transactional) {
+				_beginRepeatableRead(connection);
+			}
+			else if (connection.getTransactionIsolation() <
+						Connection.TRANSACTION_REPEATABLE_READ) {
+
+				return _executeParallel(
+					shardDSLContext, countQuery, pageQuery, recordMapper, page,
+					pageSize);
+			}
+
+			try {
+				DSLContext dslContext = _getDSLContext(connection);
+
+				String snapshotId = dslContext.fetchValue(
+					DSL.field("pg_export_snapshot()", String.class));
+
+				Future<Long> countFuture = _parallelQueryExecutor.trySubmit(
+					() -> _fetchCountInSnapshot(
+						dataSource, countQuery, snapshotId));
+
+				Result<Record> result = dslContext.fetch(pageQuery);
+
+				long totalElements;
+
+				// The exported snapshot stays importable only while this
+				// transaction is open, so wait for the count before ending it
+
+				if (countFuture != null) {
+					totalElements = _parallelQueryExecutor.await(countFuture);
+				}
+				else {
+					totalElements = _fetchCount(dslContext, countQuery);
+				}
+
+				return new QueryResult<>(
+					result.map(recordMapper), page, pageSize, totalElements);
+			}
+			finally {
+				if (!transactional) {
+					connection.rollback();
+				}
+			}
+		}
+		catch (SQLException sqlException) {
+			throw new DataAccessException(
+				"Unable to run search in a shared snapshot", sqlException);
+		}
+		finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	private QueryResult<DataRecord> _executeParallel(
+		DSLContext dslContext, Select<Record1<Integer>> countQuery,
+		Select<Record> pageQuery, RecordMapper<Record, DataRecord> recordMapper,
+		int page, int pageSize) {
+
+		Future<Long> countFuture = _parallelQueryExecutor.trySubmit(
+			() -> _fetchCount(dslContext, countQuery));
+
+		Result<Record> result = dslContext.fetch(pageQuery);
+
+		long totalElements;
+
+		if (countFuture != null) {
+			totalElements = _parallelQueryExecutor.await(countFuture);
+		}
+		else {
+			totalElements = _fetchCount(dslContext, countQuery);
+		}
+
+		return new QueryResult<>(
+			result.map(recordMapper), page, pageSize, totalElements);
+	}
+
+	private long _fetchCount(
+		DSLContext dslContext, Select<Record1<Integer>> countQuery) {
+
+		Integer count = dslContext.fetchValue(countQuery);
+
+		if (count == null) {
+			return 0;
+		}
+
+		return count;
+	}
+
+	private long _fetchCountInSnapshot(
+			DataSource dataSource, Select<Record1<Integer>> countQuery,
+			String snapshotId)
+		throws SQLException {
+
+		try (Connection connection = dataSource.getConnection()) {
+			_beginRepeatableRead(connection);
+
+			try {
+				DSLContext dslContext = _getDSLContext(connection);
+
+				dslContext.execute(
+					"SET TRANSACTION SNAPSHOT {0}", DSL.inline(snapshotId));
+
+				return _fetchCount(dslContext, countQuery);
+			}
+			finally {
+				connection.rollback();
+			}
+		}
+	}
+
+	private DSLContext _getDSLContext(Connection connection) {
+		Configuration configuration = _dslContext.configuration();
+
+		Configuration derivedConfiguration = configuration.derive(connection);
+
+		return derivedConfiguration.dsl();
+	}
+
 	private Field<String> _getFieldReference(String fieldName) {
 		if (_queryFieldResolver.isSystemColumn(fieldName)) {
 			String dbColumn = _queryFieldResolver.toDbColumnName(fieldName);
@@ -488,8 +666,13 @@ public class JooqQueryEngine {
 		_queryFieldResolver.validateFields(collection, Set.of(fieldName));
 	}
 
+	@Value("${easy-base.data-engine.query.execution-mode:SEQUENTIAL}")
+	private QueryExecutionMode _executionMode;
+
 	private final DSLContext _dslContext;
 	private final ObjectMapper _objectMapper;
+	private final ParallelQueryExecutor _parallelQueryExecutor;
 	private final QueryFieldResolver _queryFieldResolver;
+	private final TenantShardRouter _tenantShardRouter;
 
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.service.query;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.annotation.PostConstruct;
+
+import java.sql.SQLException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs secondary queries of a search on their own pooled connection while
+ * the calling thread runs the primary one.
+ *
+ * <p>Each parallel query holds an extra connection, so submissions are
+ * limited by a semaphore sized to a fraction of the connection pool and are
+ * refused while the pool has no spare idle connection or other threads are
+ * already waiting for one. Callers run the query themselves when a
+ * submission is refused, so under load searches degrade to sequential
+ * execution instead of exhausting the pool.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class ParallelQueryExecutor implements DisposableBean {
+
+	public ParallelQueryExecutor(DataSource dataSource) {
+		_dataSource = dataSource;
+	}
+
+	/**
+	 * Waits for a query submitted through {@link #trySubmit(Callable)}.
+	 *
+	 * @param future the future returned by {@link #trySubmit(Callable)}
+	 * @return the query result
+	 */
+	public <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException executionException) {
+			Throwable cause = executionException.getCause();
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+		catch (InterruptedException interruptedException) {
+			future.cancel(true);
+
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new IllegalStateException(
+				"Interrupted while waiting for parallel query",
+				interruptedException);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		_threadPoolExecutor.shutdown();
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_hikariDataSource = _getHikariDataSource();
+
+		int permits = _maxParallelQueries;
+
+		if (_hikariDataSource != null) {
+			int maximumPoolSize = _hikariDataSource.getMaximumPoolSize();
+
+			permits = Math.min(permits, Math.max(1, maximumPoolSize / 4));
+		}
+
+		_semaphore = new Semaphore(permits);
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			permits, permits, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			new CustomizableThreadFactory("parallel-query-"));
+
+		_threadPoolExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submits the given query if a connection can be spared for it.
+	 *
+	 * @param callable the query to run
+	 * @return the pending result, or null if the caller should run the query
+	 *         itself
+	 */
+	public <T> Future<T> trySubmit(Callable<T> callable) {
+		if (!_hasSpareConnection() || !_semaphore.tryAcquire()) {
+			log.debug("No connection to spare, running query sequentially");
+
+			return null;
+		}
+
+		try {
+			return _threadPoolExecutor.submit(
+				() -> {
+					try {
+						return callable.call();
+					}
+					finally {
+						_semaphore.release();
+					}
+				});
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			_semaphore.release();
+
+			return null;
+		}
+	}
+
+	private HikariDataSource _getHikariDataSource() {
+		try {
+			if (_dataSource.isWrapperFor(HikariDataSource.class)) {
+				return _dataSource.unwrap(HikariDataSource.class);
+			}
+		}
+		catch (SQLException sqlException) {
+			log.debug("Unable to unwrap data source", sqlException);
+		}
+
+		return null;
+	}
+
+	private boolean _hasSpareConnection() {
+		if (_hikariDataSource == null) {
+			return true;
+		}
+
+		HikariPoolMXBean hikariPoolMXBean =
+			_hikariDataSource.getHikariPoolMXBean();
+
+		if (hikariPoolMXBean == null) {
+			return true;
+		}
+
+		if ((hikariPoolMXBean.getIdleConnections() > 1) &&
+			(hikariPoolMXBean.getThreadsAwaitingConnection() == 0)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private final DataSource _dataSource;
+	private HikariDataSource _hikariDataSource;
+
+	@Value("${easy-base.data-engine.query.max-parallel-queries:4}")
+	private int _maxParallelQueries;
+
+	private Semaphore _semaphore;
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+}
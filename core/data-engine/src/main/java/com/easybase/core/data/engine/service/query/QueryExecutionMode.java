@@ -0,0 +1,35 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.service.query;
+
+/**
+ * How {@link JooqQueryEngine} runs the count and page queries of a search.
+ *
+ * @author Akhash R
+ */
+public enum QueryExecutionMode {
+
+	/**
+	 * Runs both queries concurrently on separate connections, each in its own
+	 * read committed statement. Rows committed between the two statements may
+	 * make the total differ slightly from the page contents.
+	 */
+	PARALLEL,
+
+	/**
+	 * Runs the page query on the connection of the current transaction and
+	 * the count query concurrently on a second connection importing the
+	 * repeatable read snapshot of the former, so the total always matches
+	 * the page contents.
+	 */
+	PARALLEL_SNAPSHOT,
+
+	/**
+	 * Runs the count query and then the page query.
+	 */
+	SEQUENTIAL
+
+}
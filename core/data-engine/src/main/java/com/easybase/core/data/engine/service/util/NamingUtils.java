@@ -7,6 +7,9 @@ package com.easybase.core.data.engine.service.util;
 
 import java.util.UUID;
 
+import org.jooq.Name;
+import org.jooq.impl.DSL;
+
 /**
  * Utility class for naming conventions and sanitization
  *
@@ -14,6 +17,28 @@ import java.util.UUID;
  */
 public class NamingUtils {
 
+	/**
+	 * Generate name of an object living in the schema of the given table
+	 */
+	public static Name getSchemaObjectName(Name table, String name) {
+		Name schemaName = table.qualifier();
+
+		if (schemaName == null) {
+			return DSL.name(name);
+		}
+
+		return schemaName.append(name);
+	}
+
+	/**
+	 * Generate schema name holding the tables of a tenant
+	 */
+	public static String getSchemaName(UUID tenantId) {
+		String tenantIdString = tenantId.toString();
+
+		return "tenant_" + tenantIdString.replace("-", "_");
+	}
+
 	/**
 	 * Generate table name with tenant prefix
 	 */
@@ -0,0 +1,157 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.data.engine.infrastructure.shard;
+
+import com.easybase.core.data.engine.infrastructure.ddl.TableManager;
+import com.easybase.core.data.engine.infrastructure.ddl.TriggerManager;
+import com.easybase.core.data.engine.infrastructure.persistence.CollectionRepository;
+import com.easybase.core.tenant.service.TenantLocalService;
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jooq.DSLContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * @author Akhash R
+ */
+class TenantShardMoverTest {
+
+	@BeforeEach
+	public void setUp() {
+		CollectionRepository collectionRepository = Mockito.mock(
+			CollectionRepository.class);
+
+		Mockito.when(
+			collectionRepository.findByTenantId(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.any())
+		).thenReturn(
+			new PageImpl<>(List.of())
+		);
+
+		ShardProperties shardProperties = new ShardProperties();
+
+		shardProperties.setPlacementCacheTtl(_PLACEMENT_CACHE_TTL);
+
+		Mockito.when(
+			_tenantShardRouter.getSchemaName(_TENANT_ID)
+		).thenReturn(
+			_SCHEMA_NAME
+		);
+		Mockito.when(
+			_tenantShardRouter.getShardDSLContext(_SOURCE_SHARD_KEY)
+		).thenReturn(
+			_sourceDSLContext
+		);
+		Mockito.when(
+			_tenantShardRouter.getShardDSLContext(_TARGET_SHARD_KEY)
+		).thenReturn(
+			Mockito.mock(DSLContext.class)
+		);
+		Mockito.when(
+			_tenantShardRouter.getShardKeys()
+		).thenReturn(
+			Set.of(_SOURCE_SHARD_KEY, _TARGET_SHARD_KEY)
+		);
+
+		_tenantShardMover = new TenantShardMover(
+			collectionRepository,
+			Mockito.mock(PlatformTransactionManager.class), shardProperties,
+			_tableManager, Mockito.mock(TenantLocalService.class),
+			_tenantShardRouter, Mockito.mock(TriggerManager.class));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		_tenantShardMover.destroy();
+	}
+
+	@Test
+	public void testMoveTenantDefersDroppingSource() {
+		Mockito.when(
+			_tenantShardRouter.getShardKey(_TENANT_ID)
+		).thenReturn(
+			_SOURCE_SHARD_KEY, _TARGET_SHARD_KEY
+		);
+
+		_tenantShardMover.moveTenant(_TENANT_ID, _TARGET_SHARD_KEY, true);
+
+		// Other nodes may still read from the source shard until the
+		// placement cache expired
+
+		Mockito.verify(
+			_tableManager,
+			Mockito.after(
+				_PLACEMENT_CACHE_TTL.toMillis()
+			).never()
+		).dropSchemaIfExists(
+			_sourceDSLContext, _SCHEMA_NAME
+		);
+
+		Mockito.verify(
+			_tableManager, Mockito.timeout(5000)
+		).dropSchemaIfExists(
+			_sourceDSLContext, _SCHEMA_NAME
+		);
+	}
+
+	@Test
+	public void testMoveTenantKeepsSourceOfTenantMovedBack() {
+		Mockito.when(
+			_tenantShardRouter.getShardKey(_TENANT_ID)
+		).thenReturn(
+			_SOURCE_SHARD_KEY
+		);
+
+		_tenantShardMover.moveTenant(_TENANT_ID, _TARGET_SHARD_KEY, true);
+
+		Mockito.verify(
+			_tenantShardRouter, Mockito.timeout(5000).times(2)
+		).isMoving(
+			_TENANT_ID
+		);
+
+		Mockito.verify(
+			_tableManager, Mockito.after(500).never()
+		).dropSchemaIfExists(
+			_sourceDSLContext, _SCHEMA_NAME
+		);
+	}
+
+	private static final Duration _PLACEMENT_CACHE_TTL = Duration.ofMillis(
+		100);
+
+	private static final String _SCHEMA_NAME = "tenant_schema";
+
+	private static final String _SOURCE_SHARD_KEY =
+		TenantShardRouter.DEFAULT_SHARD_KEY;
+
+	private static final UUID _TENANT_ID = UUID.randomUUID();
+
+	private static final String _TARGET_SHARD_KEY = "shard1";
+
+	private final DSLContext _sourceDSLContext = Mockito.mock(
+		DSLContext.class);
+	private final TableManager _tableManager = Mockito.mock(
+		TableManager.class);
+	private final TenantShardRouter _tenantShardRouter = Mockito.mock(
+		TenantShardRouter.class);
+	private TenantShardMover _tenantShardMover;
+
+}
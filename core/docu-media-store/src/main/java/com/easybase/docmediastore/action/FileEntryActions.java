@@ -0,0 +1,30 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.action;
+
+import com.easybase.infrastructure.auth.annotation.ActionDefinition;
+
+/**
+ * Action constants for document and media file permissions.
+ *
+ * @author Akhash R
+ */
+@ActionDefinition(resourceType = "FILE")
+public final class FileEntryActions {
+
+	public static final String CREATE = "FILE:CREATE";
+
+	public static final String DELETE = "FILE:DELETE";
+
+	public static final String UPDATE = "FILE:UPDATE";
+
+	public static final String VIEW = "FILE:VIEW";
+
+	private FileEntryActions() {
+		throw new UnsupportedOperationException("Constants class");
+	}
+
+}
@@ -0,0 +1,61 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * A stored blob, shared by every {@link FileEntry} with the same content.
+ *
+ * <p>Blobs are not tenant scoped, identical content uploaded by different
+ * tenants is stored once. {@code referenceCount} counts the file entries
+ * pointing at the blob; blobs without references are removed by the blob
+ * garbage collector once they have been unreferenced for a grace
+ * period.</p>
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@NoArgsConstructor
+@Table(name = "eb_blob")
+public class BlobEntry {
+
+	@Column(length = 64, name = "content_hash", nullable = false)
+	@Id
+	private String contentHash;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	@CreationTimestamp
+	private Instant createdAt;
+
+	@Column(name = "mime_type")
+	private String mimeType;
+
+	@Column(name = "reference_count", nullable = false)
+	private int referenceCount;
+
+	@Column(name = "size", nullable = false)
+	private long size;
+
+	@Column(name = "updated_at", nullable = false)
+	@UpdateTimestamp
+	private Instant updatedAt;
+
+}
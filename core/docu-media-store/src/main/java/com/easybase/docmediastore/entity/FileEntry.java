@@ -11,12 +11,12 @@ import com.easybase.infrastructure.data.entity.SingleKeyBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
-import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import lombok.AllArgsConstructor;
@@ -33,11 +33,23 @@ import lombok.NoArgsConstructor;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @Table(
+	indexes = {
+		@Index(columnList = "content_hash", name = "idx_eb_file_content_hash"),
+		@Index(
+			columnList = "tenant_id, folder_id, file_name, id",
+			name = "idx_eb_file_folder_listing"
+		)
+	},
 	name = "eb_file",
-	uniqueConstraints = {@UniqueConstraint(columnNames = {"name", "tenant_id"})}
+	uniqueConstraints = {
+		@UniqueConstraint(columnNames = {"folder_id", "file_name"})
+	}
 )
 public class FileEntry extends SingleKeyBaseEntity {
 
+	@Column(length = 64, name = "content_hash")
+	private String contentHash;
+
 	@Column(name = "extension")
 	@Size(max = 255)
 	private String extension;
@@ -46,9 +58,8 @@ public class FileEntry extends SingleKeyBaseEntity {
 	@Size(max = 255)
 	private String fileName;
 
-	@JoinColumn(name = "folder_id", nullable = false)
+	@JoinColumn(name = "folder_id")
 	@ManyToOne(fetch = FetchType.LAZY)
-	@NotNull
 	private FolderEntry folderEntry;
 
 	@Column(name = "mime_type")
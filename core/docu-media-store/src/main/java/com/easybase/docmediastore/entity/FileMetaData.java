@@ -5,14 +5,10 @@
 
 package com.easybase.docmediastore.entity;
 
-import com.easybase.core.tenant.entity.Tenant;
 import com.easybase.infrastructure.data.entity.SingleKeyBaseEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
@@ -27,6 +23,14 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 /**
+ * The metadata and text content extracted from a blob, shared by every
+ * {@link FileEntry} with the same content.
+ *
+ * <p>{@code metadata} is indexed with GIN for containment queries, and the
+ * table has a generated {@code search_vector} column over {@code content} for
+ * full-text search, see {@code V4__eb_file_metadata.sql}. {@code content}
+ * holds at most the configured maximum content length.</p>
+ *
  * @author Saura
  */
 @AllArgsConstructor
@@ -36,19 +40,26 @@ import org.hibernate.type.SqlTypes;
 @NoArgsConstructor
 @Table(
 	name = "eb_file_metadata",
-	uniqueConstraints = {@UniqueConstraint(columnNames = {"name", "tenant_id"})}
+	uniqueConstraints = {
+		@UniqueConstraint(
+			columnNames = "content_hash",
+			name = "uk_eb_file_metadata_content_hash"
+		)
+	}
 )
 public class FileMetaData extends SingleKeyBaseEntity {
 
-	@Column(name = "file_id")
-	private long fileId;
+	@Column(columnDefinition = "text", name = "content")
+	private String content;
+
+	@Column(length = 64, name = "content_hash", nullable = false)
+	private String contentHash;
+
+	@Column(name = "content_truncated", nullable = false)
+	private boolean contentTruncated;
 
 	@Column(columnDefinition = "jsonb", name = "metadata")
 	@JdbcTypeCode(SqlTypes.JSON)
 	private Map<String, Object> metadata;
 
-	@JoinColumn(name = "tenant_id")
-	@ManyToOne(fetch = FetchType.LAZY)
-	private Tenant tenant;
-
-}
\ No newline at end of file
+}
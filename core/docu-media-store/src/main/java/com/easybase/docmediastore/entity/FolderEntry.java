@@ -8,26 +8,37 @@ package com.easybase.docmediastore.entity;
 import com.easybase.core.tenant.entity.Tenant;
 import com.easybase.infrastructure.data.entity.SingleKeyBaseEntity;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 
 import jakarta.validation.constraints.Size;
 
-import java.util.List;
+import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.ColumnTransformer;
+
 /**
+ * A folder in the folder tree of a tenant.
+ *
+ * <p>{@code pathTree} is a PostgreSQL {@code ltree} of the IDs of the
+ * folder's ancestors and the folder itself, so subtrees are selected with
+ * {@code <@} on a GiST index and renaming a folder never rewrites paths. The
+ * table and its indexes are created by the {@code V5__eb_folder_tree}
+ * migration.</p>
+ *
+ * <p>{@code fileCount}, {@code folderCount} and {@code size} cover the whole
+ * subtree below the folder. They are maintained incrementally by the
+ * services adding, moving and deleting files and folders.</p>
+ *
  * @author Saura
  */
 @AllArgsConstructor
@@ -35,35 +46,35 @@ import lombok.NoArgsConstructor;
 @Entity
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
-@Table(
-	name = "eb_folder",
-	uniqueConstraints = {@UniqueConstraint(columnNames = {"name", "tenant_id"})}
-)
+@Table(name = "eb_folder")
 public class FolderEntry extends SingleKeyBaseEntity {
 
 	@Column(name = "description")
 	@Size(max = 100)
 	private String description;
 
-	@OneToMany(
-		cascade = CascadeType.ALL, fetch = FetchType.LAZY,
-		mappedBy = "folderEntry"
-	)
-	private List<FileEntry> fileEntries;
+	@Column(name = "file_count", nullable = false)
+	private long fileCount;
 
-	@Column(name = "name")
-	@Size(max = 100)
+	@Column(name = "folder_count", nullable = false)
+	private long folderCount;
+
+	@Column(name = "name", nullable = false)
+	@Size(max = 255)
 	private String name;
 
 	@Column(name = "parent_folder_id")
-	private long parentFolderId;
+	private UUID parentFolderId;
 
-	@Column(name = "path_tree")
-	@Size(max = 255)
+	@Column(columnDefinition = "ltree", name = "path_tree", nullable = false)
+	@ColumnTransformer(write = "cast(? as ltree)")
 	private String pathTree;
 
+	@Column(name = "size", nullable = false)
+	private long size;
+
 	@JoinColumn(name = "tenant_id")
 	@ManyToOne(fetch = FetchType.LAZY)
 	private Tenant tenant;
 
-}
\ No newline at end of file
+}
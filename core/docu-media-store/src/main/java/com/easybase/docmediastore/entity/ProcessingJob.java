@@ -0,0 +1,105 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.entity;
+
+import com.easybase.infrastructure.data.entity.SingleKeyBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A queued unit of processing of a blob, such as creating its thumbnails.
+ *
+ * <p>Jobs are claimed by workers with {@code FOR UPDATE SKIP LOCKED}, so
+ * several nodes can work the queue at once. Pending jobs run in order of
+ * descending {@code priority}, then {@code runAt}. A failed job is retried
+ * at {@code runAt} until it has made {@code maxAttempts} attempts.</p>
+ *
+ * <p>Like blobs, jobs are not tenant scoped. The file name is the one of the
+ * file entry that first referenced the blob.</p>
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@Table(
+	indexes = {
+		@Index(
+			columnList = "type, status, priority, run_at",
+			name = "idx_eb_processing_job_queue"
+		),
+		@Index(
+			columnList = "status, started_at",
+			name = "idx_eb_processing_job_status"
+		)
+	},
+	name = "eb_processing_job",
+	uniqueConstraints = {
+		@UniqueConstraint(
+			columnNames = {"content_hash", "type"},
+			name = "uk_eb_processing_job_content_hash_type"
+		)
+	}
+)
+public class ProcessingJob extends SingleKeyBaseEntity {
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "completed_at")
+	private Instant completedAt;
+
+	@Column(length = 64, name = "content_hash", nullable = false)
+	private String contentHash;
+
+	@Column(name = "file_name", nullable = false)
+	private String fileName;
+
+	@Column(length = 1000, name = "last_error")
+	private String lastError;
+
+	@Column(name = "max_attempts", nullable = false)
+	private int maxAttempts;
+
+	@Column(name = "mime_type")
+	private String mimeType;
+
+	@Column(name = "priority", nullable = false)
+	private int priority;
+
+	@Column(name = "run_at", nullable = false)
+	private Instant runAt;
+
+	@Column(name = "size", nullable = false)
+	private long size;
+
+	@Column(name = "started_at")
+	private Instant startedAt;
+
+	@Column(length = 16, name = "status", nullable = false)
+	@Enumerated(EnumType.STRING)
+	private ProcessingJobStatus status;
+
+	@Column(length = 16, name = "type", nullable = false)
+	@Enumerated(EnumType.STRING)
+	private ProcessingJobType type;
+
+}
@@ -0,0 +1,15 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.entity;
+
+/**
+ * @author Akhash R
+ */
+public enum ProcessingJobStatus {
+
+	COMPLETED, FAILED, PENDING, RUNNING
+
+}
@@ -0,0 +1,18 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.entity;
+
+/**
+ * The kinds of processing a blob goes through. Every type is run by its own
+ * worker pool, so slow metadata extraction never holds up thumbnails.
+ *
+ * @author Akhash R
+ */
+public enum ProcessingJobType {
+
+	ASSET, METADATA
+
+}
@@ -0,0 +1,101 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.entity;
+
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.infrastructure.data.entity.SingleKeyBaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A resumable upload in progress.
+ *
+ * <p>The upload is split into chunks of {@code chunkSize} bytes, only the last
+ * one may be shorter. {@code receivedChunks} is a bit set of the chunks
+ * written so far, and {@code offset} the number of bytes received without a
+ * gap from the start of the file, which is where a client uploading
+ * sequentially resumes.</p>
+ *
+ * <p>{@code activeWriters} counts chunks being written. A session is only
+ * completed when none are, since completing moves the file into the blob
+ * store, where a late write would corrupt content shared with other
+ * files. Writers hold a lease and stop writing when it ends, and
+ * {@code writersExpireAt} is when the last lease ends. Writers still counted
+ * after that time are dead, for example because their node crashed, and no
+ * longer hold up completion.</p>
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@Table(
+	indexes = {
+		@Index(
+			columnList = "expires_at", name = "idx_eb_upload_session_expires_at"
+		)
+	},
+	name = "eb_upload_session"
+)
+public class UploadSession extends SingleKeyBaseEntity {
+
+	@Column(name = "active_writers", nullable = false)
+	private int activeWriters;
+
+	@Column(name = "chunk_size", nullable = false)
+	private long chunkSize;
+
+	@Column(name = "completing", nullable = false)
+	private boolean completing;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	@Column(name = "file_name", nullable = false)
+	@Size(max = 255)
+	private String fileName;
+
+	@JoinColumn(name = "folder_id")
+	@ManyToOne(fetch = FetchType.LAZY)
+	private FolderEntry folderEntry;
+
+	@Column(name = "upload_offset", nullable = false)
+	private long offset;
+
+	@Column(name = "received_chunks", nullable = false)
+	private byte[] receivedChunks;
+
+	@Column(name = "received_size", nullable = false)
+	private long receivedSize;
+
+	@Column(name = "size", nullable = false)
+	private long size;
+
+	@JoinColumn(name = "tenant_id", nullable = false)
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Tenant tenant;
+
+	@Column(name = "writers_expire_at")
+	private Instant writersExpireAt;
+
+}
@@ -0,0 +1,29 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.event;
+
+import com.easybase.store.ingest.IngestedFile;
+
+/**
+ * Published when a blob without derivatives was referenced for the first
+ * time and its processing jobs were queued, so workers pick them up as soon
+ * as the transaction commits.
+ *
+ * @author Akhash R
+ */
+public class BlobStoredEvent {
+
+	public BlobStoredEvent(IngestedFile ingestedFile) {
+		_ingestedFile = ingestedFile;
+	}
+
+	public IngestedFile getIngestedFile() {
+		return _ingestedFile;
+	}
+
+	private final IngestedFile _ingestedFile;
+
+}
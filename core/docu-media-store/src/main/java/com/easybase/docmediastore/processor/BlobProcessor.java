@@ -0,0 +1,91 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.processor;
+
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+import com.easybase.docmediastore.repository.FileMetaDataRepository;
+import com.easybase.store.blob.BlobStore;
+import com.easybase.store.ingest.IngestedFile;
+import com.easybase.store.processor.base.BaseAssetCreator;
+import com.easybase.store.processor.base.BaseDataExtractor;
+import com.easybase.store.processor.factory.FileProcessorFactory;
+import com.easybase.store.processor.stategy.data.ExtractedData;
+
+import java.io.InputStream;
+
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a processing job: creates the derivatives or extracts the metadata of
+ * a stored blob. Extracted metadata is stored per blob, so a retried job
+ * replaces the result of an earlier attempt.
+ *
+ * @author Akhash R
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobProcessor {
+
+	public void process(ProcessingJob processingJob) throws Exception {
+		String contentHash = processingJob.getContentHash();
+
+		IngestedFile ingestedFile = new IngestedFile(
+			_blobStore.getBlobPath(contentHash), processingJob.getFileName(),
+			processingJob.getMimeType(), processingJob.getSize(), contentHash);
+
+		if (processingJob.getType() == ProcessingJobType.ASSET) {
+			BaseAssetCreator assetCreator =
+				_fileProcessorFactory.getAssetCreator(
+					ingestedFile.getMimeType());
+
+			if (assetCreator != null) {
+				assetCreator.createAsset(
+					ingestedFile,
+					_blobStore.getDerivativeDirectory(contentHash));
+			}
+		}
+		else if (processingJob.getType() == ProcessingJobType.METADATA) {
+			BaseDataExtractor dataExtractor =
+				_fileProcessorFactory.getDataExtractor();
+
+			ExtractedData extractedData;
+
+			try (InputStream inputStream = ingestedFile.newInputStream()) {
+				extractedData = dataExtractor.extract(inputStream);
+			}
+
+			_updateFileMetaData(contentHash, extractedData);
+		}
+	}
+
+	private void _updateFileMetaData(
+		String contentHash, ExtractedData extractedData) {
+
+		Optional<FileMetaData> fileMetaDataOptional =
+			_fileMetaDataRepository.findByContentHash(contentHash);
+
+		FileMetaData fileMetaData = fileMetaDataOptional.orElseGet(
+			FileMetaData::new);
+
+		fileMetaData.setContent(extractedData.getContent());
+		fileMetaData.setContentHash(contentHash);
+		fileMetaData.setContentTruncated(extractedData.isContentTruncated());
+		fileMetaData.setMetadata(extractedData.getMetadata());
+
+		_fileMetaDataRepository.save(fileMetaData);
+	}
+
+	private final BlobStore _blobStore;
+	private final FileMetaDataRepository _fileMetaDataRepository;
+	private final FileProcessorFactory _fileProcessorFactory;
+
+}
@@ -0,0 +1,331 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.processor;
+
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+import com.easybase.docmediastore.event.BlobStoredEvent;
+import com.easybase.docmediastore.service.ProcessingJobLocalService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Works the processing queue of blobs.
+ *
+ * <p>Every {@link ProcessingJobType} has its own pool of
+ * {@code easy-base.docmediastore.jobs.<type>-concurrency} threads, one per
+ * CPU by default. A single dispatcher thread claims jobs, and only as
+ * many as a pool has idle threads, so jobs wait in the database rather than
+ * in memory and survive a restart. The dispatcher polls every
+ * {@code easy-base.docmediastore.jobs.poll-interval}, and immediately after a
+ * blob was stored or a job finished.</p>
+ *
+ * <p>Queue depth and running jobs are published per type, together with the
+ * time jobs waited to be picked up and the time they ran, by outcome.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class ProcessingJobWorker implements DisposableBean, MeterBinder {
+
+	public ProcessingJobWorker(
+		BlobProcessor blobProcessor,
+		ProcessingJobLocalService processingJobLocalService) {
+
+		_blobProcessor = blobProcessor;
+		_processingJobLocalService = processingJobLocalService;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		for (Map.Entry<ProcessingJobType, Pool> entry : _pools.entrySet()) {
+			String type = _getTag(entry.getKey());
+			Pool pool = entry.getValue();
+
+			Gauge.builder(
+				"easybase.docmediastore.jobs.queued", pool._queued,
+				AtomicLong::get
+			).description(
+				"Number of processing jobs waiting to run"
+			).tag(
+				"type", type
+			).register(
+				meterRegistry
+			);
+
+			Gauge.builder(
+				"easybase.docmediastore.jobs.running", pool._running,
+				AtomicInteger::get
+			).description(
+				"Number of processing jobs running on this node"
+			).tag(
+				"type", type
+			).register(
+				meterRegistry
+			);
+		}
+
+		_meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		_dispatcher.shutdownNow();
+
+		for (Pool pool : _pools.values()) {
+			pool._threadPoolExecutor.shutdown();
+		}
+
+		for (Pool pool : _pools.values()) {
+			pool._threadPoolExecutor.awaitTermination(
+				_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_pools.put(
+			ProcessingJobType.ASSET,
+			new Pool(ProcessingJobType.ASSET, _assetConcurrency));
+		_pools.put(
+			ProcessingJobType.METADATA,
+			new Pool(ProcessingJobType.METADATA, _metadataConcurrency));
+
+		_dispatcher = Executors.newSingleThreadScheduledExecutor(
+			new CustomizableThreadFactory("processing-job-dispatcher-"));
+
+		_dispatcher.scheduleWithFixedDelay(
+			this::_poll, 0, _pollInterval.toMillis(),
+			TimeUnit.MILLISECONDS);
+	}
+
+	@TransactionalEventListener
+	public void onBlobStored(BlobStoredEvent blobStoredEvent) {
+		_wakeUp();
+	}
+
+	private static String _getTag(ProcessingJobType type) {
+		String name = type.name();
+
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	private void _dispatch() {
+		try {
+			for (Map.Entry<ProcessingJobType, Pool> entry :
+					_pools.entrySet()) {
+
+				_dispatch(entry.getKey(), entry.getValue());
+			}
+		}
+		catch (RuntimeException runtimeException) {
+			log.warn("Unable to dispatch processing jobs", runtimeException);
+		}
+	}
+
+	private void _dispatch(ProcessingJobType type, Pool pool) {
+		int idle = pool._concurrency - pool._running.get();
+
+		if (idle <= 0) {
+			return;
+		}
+
+		List<ProcessingJob> processingJobs =
+			_processingJobLocalService.claimProcessingJobs(type, idle);
+
+		for (ProcessingJob processingJob : processingJobs) {
+			pool._running.incrementAndGet();
+
+			pool._threadPoolExecutor.execute(
+				() -> _run(type, pool, processingJob));
+		}
+	}
+
+	private void _poll() {
+		_dispatch();
+
+		try {
+			Map<ProcessingJobType, Long> counts =
+				_processingJobLocalService.getPendingProcessingJobCounts();
+
+			for (Map.Entry<ProcessingJobType, Long> entry :
+					counts.entrySet()) {
+
+				Pool pool = _pools.get(entry.getKey());
+
+				pool._queued.set(entry.getValue());
+			}
+		}
+		catch (RuntimeException runtimeException) {
+			log.warn("Unable to count processing jobs", runtimeException);
+		}
+	}
+
+	private void _record(
+		String name, String description, ProcessingJobType type,
+		String outcome, long durationNanos) {
+
+		MeterRegistry meterRegistry = _meterRegistry;
+
+		if (meterRegistry == null) {
+			return;
+		}
+
+		Timer.Builder builder = Timer.builder(
+			name
+		).description(
+			description
+		).tag(
+			"type", _getTag(type)
+		);
+
+		if (outcome != null) {
+			builder.tag("outcome", outcome);
+		}
+
+		Timer timer = builder.register(meterRegistry);
+
+		timer.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private void _run(
+		ProcessingJobType type, Pool pool, ProcessingJob processingJob) {
+
+		Duration wait = Duration.between(
+			processingJob.getRunAt(), Instant.now());
+
+		_record(
+			"easybase.docmediastore.jobs.wait",
+			"Time processing jobs waited to be picked up once due", type,
+			null, Math.max(wait.toNanos(), 0));
+
+		long start = System.nanoTime();
+
+		String outcome = "success";
+
+		try {
+			_blobProcessor.process(processingJob);
+
+			_processingJobLocalService.completeProcessingJob(
+				processingJob.getId());
+		}
+		catch (Exception exception) {
+			outcome = "failure";
+
+			try {
+				if (_processingJobLocalService.failProcessingJob(
+						processingJob.getId(), exception)) {
+
+					outcome = "retry";
+				}
+			}
+			catch (RuntimeException runtimeException) {
+				exception.addSuppressed(runtimeException);
+			}
+
+			log.warn(
+				"Processing job {} of blob {} failed on attempt {}",
+				processingJob.getType(), processingJob.getContentHash(),
+				processingJob.getAttempts(), exception);
+		}
+		finally {
+			_record(
+				"easybase.docmediastore.jobs.duration",
+				"Time spent running processing jobs", type, outcome,
+				System.nanoTime() - start);
+
+			pool._running.decrementAndGet();
+
+			_wakeUp();
+		}
+	}
+
+	private void _wakeUp() {
+		try {
+			_dispatcher.execute(this::_dispatch);
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			log.debug(
+				"Processing job dispatcher is shut down",
+				rejectedExecutionException);
+		}
+	}
+
+	private static final long _SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	@Value("${easy-base.docmediastore.jobs.asset-concurrency:0}")
+	private int _assetConcurrency;
+
+	private final BlobProcessor _blobProcessor;
+	private ScheduledExecutorService _dispatcher;
+	private volatile MeterRegistry _meterRegistry;
+
+	@Value("${easy-base.docmediastore.jobs.metadata-concurrency:0}")
+	private int _metadataConcurrency;
+
+	@Value("${easy-base.docmediastore.jobs.poll-interval:PT2S}")
+	private Duration _pollInterval;
+
+	private final Map<ProcessingJobType, Pool> _pools = new EnumMap<>(
+		ProcessingJobType.class);
+	private final ProcessingJobLocalService _processingJobLocalService;
+
+	private static final class Pool {
+
+		private Pool(ProcessingJobType type, int concurrency) {
+			if (concurrency <= 0) {
+				Runtime runtime = Runtime.getRuntime();
+
+				concurrency = runtime.availableProcessors();
+			}
+
+			_concurrency = concurrency;
+
+			_threadPoolExecutor = new ThreadPoolExecutor(
+				concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(),
+				new CustomizableThreadFactory(
+					"processing-job-" + _getTag(type) + "-"));
+		}
+
+		private final int _concurrency;
+		private final AtomicLong _queued = new AtomicLong();
+		private final AtomicInteger _running = new AtomicInteger();
+		private final ThreadPoolExecutor _threadPoolExecutor;
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.BlobEntry;
+
+import java.time.Instant;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface BlobEntryRepository extends JpaRepository<BlobEntry, String> {
+
+	/**
+	 * Adds a reference to a blob, creating the blob row if needed. Not marked
+	 * {@code @Modifying} because the statement returns the new reference
+	 * count as a result set.
+	 *
+	 * @param contentHash the SHA-256 digest of the blob
+	 * @param mimeType the MIME type of the blob
+	 * @param size the size of the blob in bytes
+	 * @return the reference count after adding the reference
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "INSERT INTO eb_blob (content_hash, created_at, mime_type, reference_count, size, updated_at) VALUES (:contentHash, now(), :mimeType, 1, :size, now()) ON CONFLICT (content_hash) DO UPDATE SET reference_count = eb_blob.reference_count + 1, updated_at = now() RETURNING reference_count"
+	)
+	public int addReference(
+		@Param("contentHash") String contentHash,
+		@Param("mimeType") String mimeType, @Param("size") long size);
+
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "DELETE FROM eb_blob WHERE content_hash = :contentHash AND reference_count <= 0 AND updated_at < :unreferencedBefore"
+	)
+	public int deleteUnreferenced(
+		@Param("contentHash") String contentHash,
+		@Param("unreferencedBefore") Instant unreferencedBefore);
+
+	@Query(
+		"SELECT b.contentHash FROM BlobEntry b WHERE b.contentHash IN :contentHashes"
+	)
+	public List<String> findContentHashes(
+		@Param("contentHashes") Collection<String> contentHashes);
+
+	@Query(
+		nativeQuery = true,
+		value = "SELECT content_hash FROM eb_blob WHERE reference_count <= 0 AND updated_at < :unreferencedBefore ORDER BY updated_at LIMIT :limit"
+	)
+	public List<String> findUnreferencedContentHashes(
+		@Param("unreferencedBefore") Instant unreferencedBefore,
+		@Param("limit") int limit);
+
+	/**
+	 * Locks a blob for the rest of the current transaction. Taken before a
+	 * reference is added or the blob is deleted, so the blob file is never
+	 * deleted while it is referenced again.
+	 *
+	 * @param contentHash the SHA-256 digest of the blob
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(:contentHash, 0))"
+	)
+	public int lock(@Param("contentHash") String contentHash);
+
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "UPDATE eb_blob SET reference_count = reference_count - 1, updated_at = now() WHERE content_hash = :contentHash"
+	)
+	public void removeReference(@Param("contentHash") String contentHash);
+
+}
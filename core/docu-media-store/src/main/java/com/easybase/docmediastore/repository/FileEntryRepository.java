@@ -0,0 +1,83 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FolderEntry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface FileEntryRepository extends JpaRepository<FileEntry, UUID> {
+
+	public long countByTenantIdAndFolderEntry(
+		UUID tenantId, FolderEntry folderEntry);
+
+	public boolean existsByTenantIdAndFolderEntryAndFileName(
+		UUID tenantId, FolderEntry folderEntry, String fileName);
+
+	public Optional<FileEntry> findByIdAndTenantId(UUID id, UUID tenantId);
+
+	/**
+	 * Finds the file entries of a folder ordered by file name, after the
+	 * given keyset position.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID
+	 * @param fileName the file name of the last file entry of the previous
+	 *        page, or an empty string
+	 * @param id the ID of the last file entry of the previous page, or the nil
+	 *        UUID
+	 * @param limit the maximum number of file entries
+	 * @param offset the number of file entries to skip after the position
+	 * @return the file entries
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_file WHERE tenant_id = :tenantId AND folder_id = :folderId AND (file_name, id) > (:fileName, :id) ORDER BY file_name, id LIMIT :limit OFFSET :offset"
+	)
+	public List<FileEntry> findByFolder(
+		@Param("tenantId") UUID tenantId, @Param("folderId") UUID folderId,
+		@Param("fileName") String fileName, @Param("id") UUID id,
+		@Param("limit") int limit, @Param("offset") int offset);
+
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_file WHERE tenant_id = :tenantId AND folder_id IS NULL AND (file_name, id) > (:fileName, :id) ORDER BY file_name, id LIMIT :limit OFFSET :offset"
+	)
+	public List<FileEntry> findByRootFolder(
+		@Param("tenantId") UUID tenantId, @Param("fileName") String fileName,
+		@Param("id") UUID id, @Param("limit") int limit,
+		@Param("offset") int offset);
+
+	/**
+	 * Finds the file entries of a tenant whose extracted text matches a
+	 * full-text query, best match first.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param search the query, words are matched in any order
+	 * @param limit the maximum number of file entries
+	 * @return the matching file entries
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT f.* FROM eb_file f JOIN eb_file_metadata m ON m.content_hash = f.content_hash CROSS JOIN plainto_tsquery('simple', :search) q WHERE f.tenant_id = :tenantId AND m.search_vector @@ q ORDER BY ts_rank(m.search_vector, q) DESC, f.id LIMIT :limit"
+	)
+	public List<FileEntry> search(
+		@Param("tenantId") UUID tenantId, @Param("search") String search,
+		@Param("limit") int limit);
+
+}
@@ -0,0 +1,35 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.FileMetaData;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface FileMetaDataRepository
+	extends JpaRepository<FileMetaData, UUID> {
+
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "DELETE FROM eb_file_metadata WHERE content_hash = :contentHash"
+	)
+	public int deleteByContentHash(@Param("contentHash") String contentHash);
+
+	public Optional<FileMetaData> findByContentHash(String contentHash);
+
+}
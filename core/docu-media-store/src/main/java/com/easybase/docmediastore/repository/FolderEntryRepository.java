@@ -0,0 +1,178 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.FolderEntry;
+
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface FolderEntryRepository
+	extends JpaRepository<FolderEntry, UUID> {
+
+	public long countByTenantIdAndParentFolderId(
+		UUID tenantId, UUID parentFolderId);
+
+	public boolean existsByTenantIdAndParentFolderIdAndName(
+		UUID tenantId, UUID parentFolderId, String name);
+
+	public Optional<FolderEntry> findByIdAndTenantId(UUID id, UUID tenantId);
+
+	/**
+	 * Finds the subfolders of a folder ordered by name, after the given
+	 * keyset position.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param parentFolderId the folder ID
+	 * @param name the name of the last folder of the previous page, or an
+	 *        empty string
+	 * @param id the ID of the last folder of the previous page, or the nil
+	 *        UUID
+	 * @param limit the maximum number of folders
+	 * @param offset the number of folders to skip after the position
+	 * @return the subfolders
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_folder WHERE tenant_id = :tenantId AND parent_folder_id = :parentFolderId AND (name, id) > (:name, :id) ORDER BY name, id LIMIT :limit OFFSET :offset"
+	)
+	public List<FolderEntry> findChildren(
+		@Param("tenantId") UUID tenantId,
+		@Param("parentFolderId") UUID parentFolderId,
+		@Param("name") String name, @Param("id") UUID id,
+		@Param("limit") int limit, @Param("offset") int offset);
+
+	/**
+	 * Finds the folders below a folder in depth-first order, after the given
+	 * path.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param pathTree the path of the folder
+	 * @param afterPathTree the path of the last folder of the previous page,
+	 *        or the path of the folder
+	 * @param limit the maximum number of folders
+	 * @return the folders
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_folder WHERE tenant_id = :tenantId AND path_tree <@ CAST(:pathTree AS ltree) AND path_tree > CAST(:afterPathTree AS ltree) ORDER BY path_tree LIMIT :limit"
+	)
+	public List<FolderEntry> findDescendants(
+		@Param("tenantId") UUID tenantId, @Param("pathTree") String pathTree,
+		@Param("afterPathTree") String afterPathTree,
+		@Param("limit") int limit);
+
+	/**
+	 * Finds folders and locks them for the rest of the current transaction,
+	 * ancestors before descendants.
+	 *
+	 * @param ids the folder IDs
+	 * @param tenantId the tenant ID
+	 * @return the folders found
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(
+		"SELECT f FROM FolderEntry f WHERE f.id IN :ids AND f.tenant.id = :tenantId ORDER BY f.pathTree"
+	)
+	public List<FolderEntry> findForUpdate(
+		@Param("ids") Collection<UUID> ids, @Param("tenantId") UUID tenantId);
+
+	@Query(
+		"SELECT f.pathTree FROM FolderEntry f WHERE f.id IN :ids AND f.tenant.id = :tenantId"
+	)
+	public List<String> findPathTrees(
+		@Param("ids") Collection<UUID> ids, @Param("tenantId") UUID tenantId);
+
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_folder WHERE tenant_id = :tenantId AND parent_folder_id IS NULL AND (name, id) > (:name, :id) ORDER BY name, id LIMIT :limit OFFSET :offset"
+	)
+	public List<FolderEntry> findRootChildren(
+		@Param("tenantId") UUID tenantId, @Param("name") String name,
+		@Param("id") UUID id, @Param("limit") int limit,
+		@Param("offset") int offset);
+
+	/**
+	 * Locks folders for the rest of the current transaction in one statement,
+	 * root first like {@link #updateAggregates}, so it cannot deadlock with
+	 * concurrent updates of the same paths.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param pathTrees the comma separated paths of the folders to lock
+	 *        together with their ancestors
+	 * @param subtreePathTrees the comma separated paths of the folders to
+	 *        lock together with their descendants, or an empty string
+	 * @return the IDs of the locked folders
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT id FROM eb_folder WHERE tenant_id = :tenantId AND (path_tree @> ANY (CAST(string_to_array(:pathTrees, ',') AS ltree[])) OR path_tree <@ ANY (CAST(string_to_array(:subtreePathTrees, ',') AS ltree[]))) ORDER BY path_tree FOR UPDATE"
+	)
+	public List<UUID> lockPathTrees(
+		@Param("tenantId") UUID tenantId, @Param("pathTrees") String pathTrees,
+		@Param("subtreePathTrees") String subtreePathTrees);
+
+	/**
+	 * Moves folders with their subtrees under a new parent, rewriting the
+	 * paths of every folder below them in one statement. The folders must not
+	 * contain each other.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param ids the IDs of the folders to move
+	 * @param parentFolderId the ID of the new parent, or null for the root
+	 * @param parentPathTree the path of the new parent, or an empty string
+	 *        for the root
+	 * @return the number of folders whose path was rewritten
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(
+		nativeQuery = true,
+		value = "UPDATE eb_folder f SET parent_folder_id = CASE WHEN f.id = m.id THEN CAST(:parentFolderId AS uuid) ELSE f.parent_folder_id END, path_tree = CAST(:parentPathTree AS ltree) || subpath(f.path_tree, nlevel(m.path_tree) - 1), updated_at = now() FROM eb_folder m WHERE m.tenant_id = :tenantId AND m.id IN (:ids) AND f.tenant_id = :tenantId AND f.path_tree <@ m.path_tree"
+	)
+	public int move(
+		@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids,
+		@Param("parentFolderId") UUID parentFolderId,
+		@Param("parentPathTree") String parentPathTree);
+
+	/**
+	 * Adds to the subtree aggregates of a folder and all of its ancestors.
+	 * The rows are locked root first, so concurrent updates of overlapping
+	 * paths cannot deadlock each other.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param pathTree the path of the folder
+	 * @param fileCount the number of files to add, negative to subtract
+	 * @param folderCount the number of folders to add, negative to subtract
+	 * @param size the number of bytes to add, negative to subtract
+	 * @return the number of folders updated, the depth of the path unless a
+	 *         folder on it was moved concurrently
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(
+		nativeQuery = true,
+		value = "UPDATE eb_folder SET file_count = file_count + :fileCount, folder_count = folder_count + :folderCount, size = size + :size WHERE id IN (SELECT id FROM eb_folder WHERE tenant_id = :tenantId AND path_tree @> CAST(:pathTree AS ltree) ORDER BY path_tree FOR UPDATE)"
+	)
+	public int updateAggregates(
+		@Param("tenantId") UUID tenantId, @Param("pathTree") String pathTree,
+		@Param("fileCount") long fileCount,
+		@Param("folderCount") long folderCount, @Param("size") long size);
+
+}
@@ -0,0 +1,92 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+
+import java.time.Instant;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface ProcessingJobRepository
+	extends JpaRepository<ProcessingJob, UUID> {
+
+	@Query(
+		nativeQuery = true,
+		value = "SELECT type, count(*) FROM eb_processing_job WHERE status = 'PENDING' GROUP BY type"
+	)
+	public List<Object[]> countPendingByType();
+
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "DELETE FROM eb_processing_job WHERE content_hash = :contentHash"
+	)
+	public int deleteByContentHash(@Param("contentHash") String contentHash);
+
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "DELETE FROM eb_processing_job WHERE id IN (SELECT id FROM eb_processing_job WHERE status IN ('COMPLETED', 'FAILED') AND completed_at < :completedBefore LIMIT :limit)"
+	)
+	public int deleteFinished(
+		@Param("completedBefore") Instant completedBefore,
+		@Param("limit") int limit);
+
+	public boolean existsByContentHashAndType(
+		String contentHash, ProcessingJobType type);
+
+	public List<ProcessingJob> findByContentHashOrderByType(String contentHash);
+
+	/**
+	 * Finds pending jobs that are due and locks their rows for the rest of the
+	 * current transaction. Rows locked by another worker are skipped rather
+	 * than waited for.
+	 *
+	 * @param type the job type
+	 * @param now the current time
+	 * @param limit the maximum number of jobs
+	 * @return the jobs, highest priority first
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_processing_job WHERE type = :type AND status = 'PENDING' AND run_at <= :now ORDER BY priority DESC, run_at LIMIT :limit FOR UPDATE SKIP LOCKED"
+	)
+	public List<ProcessingJob> findDueForUpdate(
+		@Param("type") String type, @Param("now") Instant now,
+		@Param("limit") int limit);
+
+	/**
+	 * Returns jobs that have been running since before the given time to the
+	 * queue, or fails them if they have no attempts left. Jobs are only
+	 * running that long if the node running them died.
+	 *
+	 * @param startedBefore the start time before which a job is stale
+	 * @param now the current time
+	 * @return the number of jobs requeued or failed
+	 */
+	@Modifying
+	@Query(
+		nativeQuery = true,
+		value = "UPDATE eb_processing_job SET status = CASE WHEN attempts >= max_attempts THEN 'FAILED' ELSE 'PENDING' END, completed_at = CASE WHEN attempts >= max_attempts THEN :now END, last_error = 'Timed out', run_at = :now, updated_at = :now WHERE status = 'RUNNING' AND started_at < :startedBefore"
+	)
+	public int requeueStale(
+		@Param("startedBefore") Instant startedBefore,
+		@Param("now") Instant now);
+
+}
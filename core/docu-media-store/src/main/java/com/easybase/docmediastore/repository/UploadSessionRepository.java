@@ -0,0 +1,52 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.repository;
+
+import com.easybase.docmediastore.entity.UploadSession;
+
+import java.time.Instant;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author Akhash R
+ */
+@Repository
+public interface UploadSessionRepository
+	extends JpaRepository<UploadSession, UUID> {
+
+	public Optional<UploadSession> findByIdAndTenantIdAndCreatedBy(
+		UUID id, UUID tenantId, UUID createdBy);
+
+	@Query(
+		nativeQuery = true,
+		value = "SELECT id FROM eb_upload_session WHERE expires_at < :expiresBefore ORDER BY expires_at LIMIT :limit"
+	)
+	public List<UUID> findExpiredIds(
+		@Param("expiresBefore") Instant expiresBefore,
+		@Param("limit") int limit);
+
+	/**
+	 * Finds an upload session and locks its row for the rest of the current
+	 * transaction, so concurrent chunks update it one after the other.
+	 *
+	 * @param id the upload session ID
+	 * @return the upload session
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "SELECT * FROM eb_upload_session WHERE id = :id FOR UPDATE"
+	)
+	public Optional<UploadSession> findForUpdate(@Param("id") UUID id);
+
+}
@@ -0,0 +1,140 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.infrastructure.search.QueryResult;
+import com.easybase.store.ingest.IngestedFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Local service for document and media files. Does NOT perform permission
+ * checks - that's the responsibility of FileEntryService.
+ *
+ * @author Akhash R
+ */
+public interface FileEntryLocalService {
+
+	/**
+	 * Stores uploaded content and adds a file entry pointing at it. The
+	 * content is streamed to disk before a transaction is started, so slow
+	 * uploads do not hold a database connection.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param fileName the client file name
+	 * @param inputStream the content, read to its end but not closed
+	 * @return the file entry
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         already contains a file with that name
+	 * @throws com.easybase.common.exception.FileValidationException if the
+	 *         file type is not allowed or the content is too large
+	 * @throws IOException if the content cannot be read or stored
+	 */
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, String fileName,
+			InputStream inputStream)
+		throws IOException;
+
+	/**
+	 * Adds a file entry for content already written to a temporary file of
+	 * the blob store, such as a completed resumable upload. The temporary file
+	 * is moved into the store or discarded.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param ingestedFile the temporary file
+	 * @return the file entry
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         already contains a file with that name
+	 * @throws IOException if the content cannot be stored
+	 */
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, IngestedFile ingestedFile)
+		throws IOException;
+
+	/**
+	 * Deletes a file entry. The blob is removed by the blob garbage collector
+	 * once no file entry references it anymore.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param fileEntryId the file entry ID
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if not
+	 *         found
+	 */
+	public void deleteFileEntry(UUID tenantId, UUID fileEntryId);
+
+	/**
+	 * Returns the file entries of a folder ordered by file name, by offset
+	 * or, when a cursor is given, by keyset.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param cursor the cursor of the page, or null to page by offset
+	 * @param page the page number, ignored if a cursor is given
+	 * @param size the page size
+	 * @return the page of file entries
+	 */
+	public QueryResult<FileEntry> getFileEntries(
+		UUID tenantId, UUID folderId, String cursor, int page, int size);
+
+	/**
+	 * Gets a file entry.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param fileEntryId the file entry ID
+	 * @return the file entry
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if not
+	 *         found
+	 */
+	public FileEntry getFileEntry(UUID tenantId, UUID fileEntryId);
+
+	/**
+	 * Gets the metadata extracted from the content of a file entry.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param fileEntryId the file entry ID
+	 * @return the metadata
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if the
+	 *         file entry was not found or its content was not processed yet
+	 */
+	public FileMetaData getFileMetaData(UUID tenantId, UUID fileEntryId);
+
+	/**
+	 * Searches the text extracted from the files of a tenant.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param search the full-text query
+	 * @param size the maximum number of results
+	 * @return the matching file entries, best match first
+	 */
+	public List<FileEntry> searchFileEntries(
+		UUID tenantId, String search, int size);
+
+	/**
+	 * Checks that a file could be added, before its content is received.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param fileName the client file name
+	 * @return the file name as it will be stored
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         already contains a file with that name
+	 * @throws com.easybase.common.exception.FileValidationException if the
+	 *         file type is not allowed
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if the
+	 *         folder does not exist
+	 */
+	public String validateFileEntry(
+		UUID tenantId, UUID folderId, String fileName);
+
+}
@@ -0,0 +1,43 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for document and media files with permission checks. Delegates to
+ * FileEntryLocalService.
+ *
+ * @author Akhash R
+ */
+public interface FileEntryService {
+
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, String fileName,
+			InputStream inputStream)
+		throws IOException;
+
+	public void deleteFileEntry(UUID tenantId, UUID fileEntryId);
+
+	public QueryResult<FileEntry> getFileEntries(
+		UUID tenantId, UUID folderId, String cursor, int page, int size);
+
+	public FileEntry getFileEntry(UUID tenantId, UUID fileEntryId);
+
+	public FileMetaData getFileMetaData(UUID tenantId, UUID fileEntryId);
+
+	public List<FileEntry> searchFileEntries(
+		UUID tenantId, String search, int size);
+
+}
@@ -0,0 +1,123 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Local service for the folder tree. Does NOT perform permission checks -
+ * that's the responsibility of FolderEntryService.
+ *
+ * @author Akhash R
+ */
+public interface FolderEntryLocalService {
+
+	/**
+	 * Adds a folder.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param parentFolderId the parent folder ID, or null for the root folder
+	 * @param name the folder name
+	 * @param description the description, may be null
+	 * @return the folder
+	 * @throws com.easybase.common.exception.ConflictException if the parent
+	 *         already contains a folder with that name
+	 */
+	public FolderEntry addFolderEntry(
+		UUID tenantId, UUID parentFolderId, String name, String description);
+
+	/**
+	 * Deletes an empty folder.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         contains files or folders
+	 */
+	public void deleteFolderEntry(UUID tenantId, UUID folderId);
+
+	/**
+	 * Returns the folders below a folder at any depth, parents before their
+	 * children. Pass the {@code nextCursor} of a result to get the page after
+	 * it.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID
+	 * @param cursor the cursor of the page, or null for the first page
+	 * @param size the page size
+	 * @return the page of folders
+	 */
+	public QueryResult<FolderEntry> getDescendantFolderEntries(
+		UUID tenantId, UUID folderId, String cursor, int size);
+
+	/**
+	 * Returns the subfolders of a folder ordered by name, by offset or, when
+	 * a cursor is given, by keyset.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param parentFolderId the folder ID, or null for the root folder
+	 * @param cursor the cursor of the page, or null to page by offset
+	 * @param page the page number, ignored if a cursor is given
+	 * @param size the page size
+	 * @return the page of folders
+	 */
+	public QueryResult<FolderEntry> getFolderEntries(
+		UUID tenantId, UUID parentFolderId, String cursor, int page, int size);
+
+	public FolderEntry getFolderEntry(UUID tenantId, UUID folderId);
+
+	/**
+	 * Moves folders with everything below them into another folder. The
+	 * paths of the whole subtrees are rewritten in one statement.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderIds the IDs of the folders to move
+	 * @param parentFolderId the new parent folder ID, or null for the root
+	 *        folder
+	 * @return the moved folders
+	 * @throws com.easybase.common.exception.ConflictException if the new
+	 *         parent already contains a folder with the name of a moved one
+	 * @throws com.easybase.common.exception.InvalidRequestException if a
+	 *         folder would be moved into itself, or the folders contain each
+	 *         other
+	 */
+	public List<FolderEntry> moveFolderEntries(
+		UUID tenantId, List<UUID> folderIds, UUID parentFolderId);
+
+	/**
+	 * Adds to the file count and size of a folder and its ancestors, in the
+	 * transaction adding or deleting a file entry of the folder.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderEntry the folder of the file entry
+	 * @param fileCount the number of files to add, negative to subtract
+	 * @param size the number of bytes to add, negative to subtract
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         was moved concurrently
+	 */
+	public void updateFileAggregates(
+		UUID tenantId, FolderEntry folderEntry, long fileCount, long size);
+
+	/**
+	 * Renames a folder and updates its description. Paths are made of folder
+	 * IDs, so renaming does not touch the subtree.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param folderId the folder ID
+	 * @param name the new name
+	 * @param description the new description, may be null
+	 * @return the folder
+	 * @throws com.easybase.common.exception.ConflictException if the parent
+	 *         already contains another folder with that name
+	 */
+	public FolderEntry updateFolderEntry(
+		UUID tenantId, UUID folderId, String name, String description);
+
+}
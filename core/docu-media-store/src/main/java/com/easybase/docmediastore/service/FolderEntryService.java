@@ -0,0 +1,41 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for the folder tree with permission checks. Delegates to
+ * FolderEntryLocalService.
+ *
+ * @author Akhash R
+ */
+public interface FolderEntryService {
+
+	public FolderEntry addFolderEntry(
+		UUID tenantId, UUID parentFolderId, String name, String description);
+
+	public void deleteFolderEntry(UUID tenantId, UUID folderId);
+
+	public QueryResult<FolderEntry> getDescendantFolderEntries(
+		UUID tenantId, UUID folderId, String cursor, int size);
+
+	public QueryResult<FolderEntry> getFolderEntries(
+		UUID tenantId, UUID parentFolderId, String cursor, int page, int size);
+
+	public FolderEntry getFolderEntry(UUID tenantId, UUID folderId);
+
+	public List<FolderEntry> moveFolderEntries(
+		UUID tenantId, List<UUID> folderIds, UUID parentFolderId);
+
+	public FolderEntry updateFolderEntry(
+		UUID tenantId, UUID folderId, String name, String description);
+
+}
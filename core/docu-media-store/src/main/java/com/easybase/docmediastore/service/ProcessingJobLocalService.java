@@ -0,0 +1,60 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+import com.easybase.store.ingest.IngestedFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Local service for the processing queue of blobs. Does NOT perform
+ * permission checks - that's the responsibility of ProcessingJobService.
+ *
+ * @author Akhash R
+ */
+public interface ProcessingJobLocalService {
+
+	/**
+	 * Queues the processing of a newly stored blob, in the current
+	 * transaction. Callers hold the lock of the blob, so jobs are queued at
+	 * most once per blob and type.
+	 *
+	 * @param ingestedFile the stored blob
+	 */
+	public void addProcessingJobs(IngestedFile ingestedFile);
+
+	/**
+	 * Claims due jobs of a type and marks them running.
+	 *
+	 * @param type the job type
+	 * @param limit the maximum number of jobs
+	 * @return the claimed jobs, highest priority first
+	 */
+	public List<ProcessingJob> claimProcessingJobs(
+		ProcessingJobType type, int limit);
+
+	public void completeProcessingJob(UUID processingJobId);
+
+	/**
+	 * Records a failed attempt of a job. The job is retried with exponential
+	 * backoff until it has no attempts left. Failures that would recur, such
+	 * as a document whose parsing timed out, are not retried.
+	 *
+	 * @param processingJobId the job ID
+	 * @param throwable the cause of the failure
+	 * @return {@code true} if the job will be retried
+	 */
+	public boolean failProcessingJob(UUID processingJobId, Throwable throwable);
+
+	public Map<ProcessingJobType, Long> getPendingProcessingJobCounts();
+
+	public List<ProcessingJob> getProcessingJobs(String contentHash);
+
+}
@@ -0,0 +1,32 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.ProcessingJob;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for the processing status of files with permission checks.
+ * Delegates to ProcessingJobLocalService.
+ *
+ * @author Akhash R
+ */
+public interface ProcessingJobService {
+
+	/**
+	 * Returns the processing jobs of the content of a file entry.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param fileEntryId the file entry ID
+	 * @return the jobs, empty if the content was processed before jobs were
+	 *         queued or its jobs were cleaned up
+	 */
+	public List<ProcessingJob> getProcessingJobs(
+		UUID tenantId, UUID fileEntryId);
+
+}
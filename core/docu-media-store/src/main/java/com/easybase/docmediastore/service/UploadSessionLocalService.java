@@ -0,0 +1,112 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.UUID;
+
+/**
+ * Local service for resumable uploads. Does NOT perform permission checks -
+ * that's the responsibility of UploadSessionService.
+ *
+ * <p>Upload sessions are private to the user who created them.</p>
+ *
+ * @author Akhash R
+ */
+public interface UploadSessionLocalService {
+
+	/**
+	 * Starts a resumable upload. The file name and folder are validated
+	 * before any content is received.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param userId the ID of the uploading user
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param fileName the client file name
+	 * @param size the size of the file in bytes
+	 * @return the upload session
+	 * @throws com.easybase.common.exception.ConflictException if the folder
+	 *         already contains a file with that name
+	 * @throws com.easybase.common.exception.FileValidationException if the
+	 *         file type is not allowed or the file is too large
+	 * @throws IOException if the upload file cannot be created
+	 */
+	public UploadSession addUploadSession(
+			UUID tenantId, UUID userId, UUID folderId, String fileName,
+			long size)
+		throws IOException;
+
+	/**
+	 * Completes a resumable upload once every chunk was received and adds
+	 * the file entry. If the content does not match the file name or the
+	 * folder no longer exists, the upload session is deleted. Other failures,
+	 * such as a file with the same name added in the meantime, leave the
+	 * session in place so completing can be retried.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param userId the ID of the uploading user
+	 * @param uploadSessionId the upload session ID
+	 * @return the file entry
+	 * @throws com.easybase.common.exception.ConflictException if chunks are
+	 *         missing or still being written
+	 * @throws IOException if the upload cannot be stored
+	 */
+	public FileEntry completeUploadSession(
+			UUID tenantId, UUID userId, UUID uploadSessionId)
+		throws IOException;
+
+	/**
+	 * Aborts a resumable upload.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param userId the ID of the uploading user
+	 * @param uploadSessionId the upload session ID
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if not
+	 *         found
+	 */
+	public void deleteUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId);
+
+	/**
+	 * Gets an upload session, including the offset to resume from.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param userId the ID of the uploading user
+	 * @param uploadSessionId the upload session ID
+	 * @return the upload session
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if not
+	 *         found
+	 */
+	public UploadSession getUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId);
+
+	/**
+	 * Writes a chunk of a resumable upload. Chunks start at a multiple of the
+	 * chunk size of the session and may be written in any order, also
+	 * concurrently. Writing a chunk again replaces it.
+	 *
+	 * @param tenantId the tenant ID
+	 * @param userId the ID of the uploading user
+	 * @param uploadSessionId the upload session ID
+	 * @param offset the position of the chunk in the file
+	 * @param length the length of the chunk in bytes
+	 * @param inputStream the chunk, read to its end but not closed
+	 * @return the upload session after the chunk was written
+	 * @throws com.easybase.common.exception.InvalidRequestException if the
+	 *         chunk is not aligned to the chunk size or has the wrong length
+	 * @throws IOException if the chunk cannot be read or written
+	 */
+	public UploadSession writeChunk(
+			UUID tenantId, UUID userId, UUID uploadSessionId, long offset,
+			long length, InputStream inputStream)
+		throws IOException;
+
+}
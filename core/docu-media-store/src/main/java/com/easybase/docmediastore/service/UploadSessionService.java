@@ -0,0 +1,44 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service;
+
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.UUID;
+
+/**
+ * Service for resumable uploads with permission checks. Delegates to
+ * UploadSessionLocalService.
+ *
+ * @author Akhash R
+ */
+public interface UploadSessionService {
+
+	public UploadSession addUploadSession(
+			UUID tenantId, UUID userId, UUID folderId, String fileName,
+			long size)
+		throws IOException;
+
+	public FileEntry completeUploadSession(
+			UUID tenantId, UUID userId, UUID uploadSessionId)
+		throws IOException;
+
+	public void deleteUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId);
+
+	public UploadSession getUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId);
+
+	public UploadSession writeChunk(
+			UUID tenantId, UUID userId, UUID uploadSessionId, long offset,
+			long length, InputStream inputStream)
+		throws IOException;
+
+}
@@ -0,0 +1,382 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ResourceNotFoundException;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.repository.TenantRepository;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.event.BlobStoredEvent;
+import com.easybase.docmediastore.repository.BlobEntryRepository;
+import com.easybase.docmediastore.repository.FileEntryRepository;
+import com.easybase.docmediastore.repository.FileMetaDataRepository;
+import com.easybase.docmediastore.repository.FolderEntryRepository;
+import com.easybase.docmediastore.service.FileEntryLocalService;
+import com.easybase.docmediastore.service.FolderEntryLocalService;
+import com.easybase.docmediastore.service.ProcessingJobLocalService;
+import com.easybase.infrastructure.search.QueryResult;
+import com.easybase.store.StoreUtil;
+import com.easybase.store.blob.BlobStore;
+import com.easybase.store.ingest.IngestedFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of {@link FileEntryLocalService}.
+ *
+ * <p>Content is stored in the {@link BlobStore} under its digest and
+ * referenced from the file entry, so identical uploads share one blob and
+ * its derivatives. Derivatives are only created the first time a blob is
+ * referenced, by processing jobs queued in the transaction adding the file
+ * entry.</p>
+ *
+ * @author Akhash R
+ */
+@Service
+@Slf4j
+public class FileEntryLocalServiceImpl implements FileEntryLocalService {
+
+	public FileEntryLocalServiceImpl(
+		ApplicationEventPublisher applicationEventPublisher,
+		BlobEntryRepository blobEntryRepository, BlobStore blobStore,
+		FileEntryRepository fileEntryRepository,
+		FileMetaDataRepository fileMetaDataRepository,
+		FolderEntryLocalService folderEntryLocalService,
+		FolderEntryRepository folderEntryRepository,
+		PlatformTransactionManager platformTransactionManager,
+		ProcessingJobLocalService processingJobLocalService,
+		StoreUtil storeUtil, TenantRepository tenantRepository) {
+
+		_applicationEventPublisher = applicationEventPublisher;
+		_blobEntryRepository = blobEntryRepository;
+		_blobStore = blobStore;
+		_fileEntryRepository = fileEntryRepository;
+		_fileMetaDataRepository = fileMetaDataRepository;
+		_folderEntryLocalService = folderEntryLocalService;
+		_folderEntryRepository = folderEntryRepository;
+		_processingJobLocalService = processingJobLocalService;
+		_storeUtil = storeUtil;
+		_tenantRepository = tenantRepository;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+	}
+
+	@Override
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, String fileName,
+			InputStream inputStream)
+		throws IOException {
+
+		String safeFileName = validateFileEntry(tenantId, folderId, fileName);
+
+		IngestedFile ingestedFile = _blobStore.ingest(
+			inputStream, safeFileName, _maxFileSize);
+
+		return addFileEntry(tenantId, folderId, ingestedFile);
+	}
+
+	@Override
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, IngestedFile ingestedFile)
+		throws IOException {
+
+		try {
+			return _transactionTemplate.execute(
+				transactionStatus -> _addFileEntry(
+					tenantId, folderId, ingestedFile));
+		}
+		catch (UncheckedIOException uncheckedIOException) {
+			throw uncheckedIOException.getCause();
+		}
+		finally {
+			_blobStore.discard(ingestedFile);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void deleteFileEntry(UUID tenantId, UUID fileEntryId) {
+		FileEntry fileEntry = _getFileEntry(tenantId, fileEntryId);
+
+		String contentHash = fileEntry.getContentHash();
+
+		if (contentHash != null) {
+			_blobEntryRepository.lock(contentHash);
+			_blobEntryRepository.removeReference(contentHash);
+		}
+
+		_fileEntryRepository.delete(fileEntry);
+
+		FolderEntry folderEntry = fileEntry.getFolderEntry();
+
+		if (folderEntry != null) {
+			_folderEntryLocalService.updateFileAggregates(
+				tenantId, folderEntry, -1, -fileEntry.getSize());
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public QueryResult<FileEntry> getFileEntries(
+		UUID tenantId, UUID folderId, String cursor, int page, int size) {
+
+		if ((size < 1) || (size > _MAX_PAGE_SIZE)) {
+			throw new InvalidRequestException(
+				"Size must be between 1 and " + _MAX_PAGE_SIZE);
+		}
+
+		if ((page < 0) || (page > (Integer.MAX_VALUE / size))) {
+			throw new InvalidRequestException("Invalid page: " + page);
+		}
+
+		FolderEntry folderEntry = _getFolderEntry(tenantId, folderId);
+
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+		int offset = 0;
+
+		if (cursor == null) {
+			offset = page * size;
+		}
+
+		List<FileEntry> fileEntries;
+
+		if (folderEntry == null) {
+			fileEntries = _fileEntryRepository.findByRootFolder(
+				tenantId, keysetCursor.getName(), keysetCursor.getId(), size,
+				offset);
+		}
+		else {
+			fileEntries = _fileEntryRepository.findByFolder(
+				tenantId, folderId, keysetCursor.getName(),
+				keysetCursor.getId(), size, offset);
+		}
+
+		String nextCursor = null;
+
+		if (fileEntries.size() == size) {
+			FileEntry lastFileEntry = fileEntries.get(size - 1);
+
+			nextCursor = KeysetCursor.encode(
+				lastFileEntry.getFileName(), lastFileEntry.getId());
+		}
+
+		return new QueryResult<>(
+			fileEntries, page, size,
+			_fileEntryRepository.countByTenantIdAndFolderEntry(
+				tenantId, folderEntry),
+			nextCursor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public FileEntry getFileEntry(UUID tenantId, UUID fileEntryId) {
+		return _getFileEntry(tenantId, fileEntryId);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public FileMetaData getFileMetaData(UUID tenantId, UUID fileEntryId) {
+		FileEntry fileEntry = _getFileEntry(tenantId, fileEntryId);
+
+		Optional<FileMetaData> fileMetaDataOptional = Optional.empty();
+
+		if (fileEntry.getContentHash() != null) {
+			fileMetaDataOptional = _fileMetaDataRepository.findByContentHash(
+				fileEntry.getContentHash());
+		}
+
+		if (fileMetaDataOptional.isEmpty()) {
+			throw new ResourceNotFoundException(
+				"File metadata is not available: " + fileEntryId);
+		}
+
+		return fileMetaDataOptional.get();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<FileEntry> searchFileEntries(
+		UUID tenantId, String search, int size) {
+
+		if ((search == null) || search.isBlank()) {
+			throw new InvalidRequestException("Search is required");
+		}
+
+		if ((size < 1) || (size > _MAX_SEARCH_SIZE)) {
+			throw new InvalidRequestException(
+				"Size must be between 1 and " + _MAX_SEARCH_SIZE);
+		}
+
+		return _fileEntryRepository.search(tenantId, search, size);
+	}
+
+	@Override
+	public String validateFileEntry(
+		UUID tenantId, UUID folderId, String fileName) {
+
+		String safeFileName = _storeUtil.getSafeFileName(fileName);
+
+		_storeUtil.checkExtension(_allowedExtensions, safeFileName);
+
+		_transactionTemplate.executeWithoutResult(
+			transactionStatus -> _validateFileName(
+				tenantId, _getFolderEntry(tenantId, folderId), safeFileName));
+
+		return safeFileName;
+	}
+
+	private FileEntry _addFileEntry(
+		UUID tenantId, UUID folderId, IngestedFile ingestedFile) {
+
+		FolderEntry folderEntry = _getFolderEntry(tenantId, folderId);
+
+		_validateFileName(tenantId, folderEntry, ingestedFile.getFileName());
+
+		String contentHash = ingestedFile.getContentHash();
+
+		_blobEntryRepository.lock(contentHash);
+
+		int referenceCount = _blobEntryRepository.addReference(
+			contentHash, ingestedFile.getMimeType(), ingestedFile.getSize());
+
+		FileEntry fileEntry = new FileEntry();
+
+		fileEntry.setContentHash(contentHash);
+		fileEntry.setExtension(
+			_storeUtil.extractExtension(ingestedFile.getFileName()));
+		fileEntry.setFileName(ingestedFile.getFileName());
+		fileEntry.setFolderEntry(folderEntry);
+		fileEntry.setMimeType(ingestedFile.getMimeType());
+		fileEntry.setSize(ingestedFile.getSize());
+		fileEntry.setTenant(_getTenant(tenantId));
+		fileEntry.setTitle(ingestedFile.getFileName());
+
+		fileEntry = _fileEntryRepository.saveAndFlush(fileEntry);
+
+		if (folderEntry != null) {
+			_folderEntryLocalService.updateFileAggregates(
+				tenantId, folderEntry, 1, fileEntry.getSize());
+		}
+
+		// Move the blob into place last, while the blob is still locked, so a
+		// committed row never points to a missing file. If the transaction is
+		// rolled back afterwards, BlobGarbageCollector deletes the file
+
+		try {
+			IngestedFile blob = _blobStore.store(ingestedFile);
+
+			if ((referenceCount == 1) &&
+				!_blobStore.hasDerivatives(contentHash)) {
+
+				_processingJobLocalService.addProcessingJobs(blob);
+
+				_applicationEventPublisher.publishEvent(
+					new BlobStoredEvent(blob));
+			}
+			else {
+				log.debug(
+					"Reusing blob {} with {} references", contentHash,
+					referenceCount);
+			}
+		}
+		catch (IOException ioException) {
+			throw new UncheckedIOException(ioException);
+		}
+
+		return fileEntry;
+	}
+
+	private FileEntry _getFileEntry(UUID tenantId, UUID fileEntryId) {
+		Optional<FileEntry> fileEntryOptional =
+			_fileEntryRepository.findByIdAndTenantId(fileEntryId, tenantId);
+
+		if (fileEntryOptional.isEmpty()) {
+			throw new ResourceNotFoundException("File", "id", fileEntryId);
+		}
+
+		return fileEntryOptional.get();
+	}
+
+	private FolderEntry _getFolderEntry(UUID tenantId, UUID folderId) {
+		if (folderId == null) {
+			return null;
+		}
+
+		Optional<FolderEntry> folderEntryOptional =
+			_folderEntryRepository.findByIdAndTenantId(folderId, tenantId);
+
+		if (folderEntryOptional.isEmpty()) {
+			throw new ResourceNotFoundException("Folder", "id", folderId);
+		}
+
+		return folderEntryOptional.get();
+	}
+
+	private Tenant _getTenant(UUID tenantId) {
+		Optional<Tenant> tenantOptional = _tenantRepository.findById(tenantId);
+
+		if (tenantOptional.isEmpty()) {
+			throw new ResourceNotFoundException("Tenant", "id", tenantId);
+		}
+
+		return tenantOptional.get();
+	}
+
+	private void _validateFileName(
+		UUID tenantId, FolderEntry folderEntry, String fileName) {
+
+		if (_fileEntryRepository.existsByTenantIdAndFolderEntryAndFileName(
+				tenantId, folderEntry, fileName)) {
+
+			throw new ConflictException("File", "fileName", fileName);
+		}
+	}
+
+	private static final int _MAX_PAGE_SIZE = 100;
+
+	private static final int _MAX_SEARCH_SIZE = 100;
+
+	@Value("${easy-base.docmediastore.file.included}")
+	private String _allowedExtensions;
+
+	private final ApplicationEventPublisher _applicationEventPublisher;
+	private final BlobEntryRepository _blobEntryRepository;
+	private final BlobStore _blobStore;
+	private final FileEntryRepository _fileEntryRepository;
+	private final FileMetaDataRepository _fileMetaDataRepository;
+	private final FolderEntryLocalService _folderEntryLocalService;
+	private final FolderEntryRepository _folderEntryRepository;
+
+	@Value("${easy-base.docmediastore.file.size}")
+	private long _maxFileSize;
+
+	private final ProcessingJobLocalService _processingJobLocalService;
+	private final StoreUtil _storeUtil;
+	private final TenantRepository _tenantRepository;
+	private final TransactionTemplate _transactionTemplate;
+
+}
@@ -0,0 +1,92 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.context.api.util.PermissionChecker;
+import com.easybase.docmediastore.action.FileEntryActions;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.docmediastore.service.FileEntryLocalService;
+import com.easybase.docmediastore.service.FileEntryService;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link FileEntryService}. Performs permission checks
+ * before delegating to FileEntryLocalService.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class FileEntryServiceImpl implements FileEntryService {
+
+	@Override
+	public FileEntry addFileEntry(
+			UUID tenantId, UUID folderId, String fileName,
+			InputStream inputStream)
+		throws IOException {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _fileEntryLocalService.addFileEntry(
+			tenantId, folderId, fileName, inputStream);
+	}
+
+	@Override
+	public void deleteFileEntry(UUID tenantId, UUID fileEntryId) {
+		_permissionChecker.check(FileEntryActions.DELETE);
+
+		_fileEntryLocalService.deleteFileEntry(tenantId, fileEntryId);
+	}
+
+	@Override
+	public QueryResult<FileEntry> getFileEntries(
+		UUID tenantId, UUID folderId, String cursor, int page, int size) {
+
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _fileEntryLocalService.getFileEntries(
+			tenantId, folderId, cursor, page, size);
+	}
+
+	@Override
+	public FileEntry getFileEntry(UUID tenantId, UUID fileEntryId) {
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _fileEntryLocalService.getFileEntry(tenantId, fileEntryId);
+	}
+
+	@Override
+	public FileMetaData getFileMetaData(UUID tenantId, UUID fileEntryId) {
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _fileEntryLocalService.getFileMetaData(tenantId, fileEntryId);
+	}
+
+	@Override
+	public List<FileEntry> searchFileEntries(
+		UUID tenantId, String search, int size) {
+
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _fileEntryLocalService.searchFileEntries(
+			tenantId, search, size);
+	}
+
+	private final FileEntryLocalService _fileEntryLocalService;
+	private final PermissionChecker _permissionChecker;
+
+}
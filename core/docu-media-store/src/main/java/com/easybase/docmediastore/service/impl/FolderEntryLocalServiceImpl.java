@@ -0,0 +1,618 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ResourceNotFoundException;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.repository.TenantRepository;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.repository.FolderEntryRepository;
+import com.easybase.docmediastore.service.FolderEntryLocalService;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link FolderEntryLocalService}.
+ *
+ * <p>The path of a folder is the {@code ltree} of the IDs of its ancestors and
+ * itself, with the dashes removed since they are not valid in labels.
+ * Subtree aggregates are adjusted along the path of the changed folder in the
+ * same transaction. If a folder on the path was moved concurrently, fewer
+ * rows than the depth of the path are adjusted and the transaction is rolled
+ * back with a {@link ConflictException} the client can retry.</p>
+ *
+ * <p>Every change locks the folders it touches root first, the order the
+ * aggregates are adjusted in, so concurrent changes of overlapping paths wait
+ * for each other instead of deadlocking. Adding or renaming a folder locks
+ * the path of its parent before checking the name. Deleting a folder locks
+ * its path, and moving folders locks the paths of the moved folders and the
+ * new parent together with the subtrees of the moved folders, before the
+ * folders are loaded. A folder whose path changed before it was locked is
+ * rejected with a {@link ConflictException}.</p>
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class FolderEntryLocalServiceImpl implements FolderEntryLocalService {
+
+	@Override
+	@Transactional
+	public FolderEntry addFolderEntry(
+		UUID tenantId, UUID parentFolderId, String name, String description) {
+
+		name = _getName(name);
+
+		FolderEntry parentFolderEntry = null;
+
+		if (parentFolderId != null) {
+			parentFolderEntry = _getFolderEntry(tenantId, parentFolderId);
+		}
+
+		// Lock the path of the parent before the name is checked and the path
+		// of the new folder is derived from it, so a concurrent move of an
+		// ancestor is detected
+
+		if (parentFolderEntry != null) {
+			_updateAggregates(
+				tenantId, parentFolderEntry.getPathTree(), 0, 1, 0);
+		}
+
+		_validateName(tenantId, parentFolderId, name);
+
+		FolderEntry folderEntry = new FolderEntry();
+
+		folderEntry.setDescription(description);
+		folderEntry.setName(name);
+		folderEntry.setParentFolderId(parentFolderId);
+		folderEntry.setPathTree(
+			_getPathTree(parentFolderEntry, folderEntry.getId()));
+		folderEntry.setTenant(_getTenant(tenantId));
+
+		return _saveFolderEntry(folderEntry);
+	}
+
+	@Override
+	@Transactional
+	public void deleteFolderEntry(UUID tenantId, UUID folderId) {
+		FolderEntry folderEntry = _lockFolderEntry(tenantId, folderId);
+
+		if ((folderEntry.getFileCount() > 0) ||
+			(folderEntry.getFolderCount() > 0)) {
+
+			throw new ConflictException("Folder " + folderId + " is not empty");
+		}
+
+		_folderEntryRepository.delete(folderEntry);
+
+		if (folderEntry.getParentFolderId() != null) {
+			_updateAggregates(
+				tenantId, _getParentPathTree(folderEntry.getPathTree()), 0, -1,
+				0);
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public QueryResult<FolderEntry> getDescendantFolderEntries(
+		UUID tenantId, UUID folderId, String cursor, int size) {
+
+		_validatePage(0, size);
+
+		FolderEntry folderEntry = _getFolderEntry(tenantId, folderId);
+
+		String pathTree = folderEntry.getPathTree();
+
+		String afterPathTree = pathTree;
+
+		if (cursor != null) {
+			afterPathTree = _decodePathTree(cursor);
+
+			if (!afterPathTree.startsWith(pathTree + ".")) {
+				throw new InvalidRequestException(
+					"Cursor does not match the folder");
+			}
+		}
+
+		List<FolderEntry> folderEntries =
+			_folderEntryRepository.findDescendants(
+				tenantId, pathTree, afterPathTree, size);
+
+		String nextCursor = null;
+
+		if (folderEntries.size() == size) {
+			FolderEntry lastFolderEntry = folderEntries.get(size - 1);
+
+			nextCursor = _encoder.encodeToString(
+				lastFolderEntry.getPathTree(
+				).getBytes(
+					StandardCharsets.UTF_8
+				));
+		}
+
+		return new QueryResult<>(
+			folderEntries, 0, size, folderEntry.getFolderCount(), nextCursor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public QueryResult<FolderEntry> getFolderEntries(
+		UUID tenantId, UUID parentFolderId, String cursor, int page,
+		int size) {
+
+		_validatePage(page, size);
+
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+		int offset = 0;
+
+		if (cursor == null) {
+			offset = page * size;
+		}
+
+		List<FolderEntry> folderEntries;
+
+		if (parentFolderId == null) {
+			folderEntries = _folderEntryRepository.findRootChildren(
+				tenantId, keysetCursor.getName(), keysetCursor.getId(), size,
+				offset);
+		}
+		else {
+			_getFolderEntry(tenantId, parentFolderId);
+
+			folderEntries = _folderEntryRepository.findChildren(
+				tenantId, parentFolderId, keysetCursor.getName(),
+				keysetCursor.getId(), size, offset);
+		}
+
+		String nextCursor = null;
+
+		if (folderEntries.size() == size) {
+			FolderEntry lastFolderEntry = folderEntries.get(size - 1);
+
+			nextCursor = KeysetCursor.encode(
+				lastFolderEntry.getName(), lastFolderEntry.getId());
+		}
+
+		return new QueryResult<>(
+			folderEntries, page, size,
+			_folderEntryRepository.countByTenantIdAndParentFolderId(
+				tenantId, parentFolderId),
+			nextCursor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public FolderEntry getFolderEntry(UUID tenantId, UUID folderId) {
+		return _getFolderEntry(tenantId, folderId);
+	}
+
+	@Override
+	@Transactional
+	public List<FolderEntry> moveFolderEntries(
+		UUID tenantId, List<UUID> folderIds, UUID parentFolderId) {
+
+		if ((folderIds == null) || folderIds.isEmpty() ||
+			(folderIds.size() > _MAX_MOVE_SIZE)) {
+
+			throw new InvalidRequestException(
+				"Between 1 and " + _MAX_MOVE_SIZE +
+					" folders can be moved at once");
+		}
+
+		Set<UUID> ids = new LinkedHashSet<>(folderIds);
+
+		Map<UUID, FolderEntry> folderEntries = _lockFolderEntries(
+			tenantId, ids, parentFolderId, true);
+
+		String parentPathTree = "";
+
+		if (parentFolderId != null) {
+			FolderEntry parentFolderEntry = folderEntries.get(parentFolderId);
+
+			parentPathTree = parentFolderEntry.getPathTree();
+		}
+
+		List<FolderEntry> movedFolderEntries = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+
+		for (UUID id : ids) {
+			FolderEntry folderEntry = folderEntries.get(id);
+
+			String pathTree = folderEntry.getPathTree();
+
+			if (parentPathTree.equals(pathTree) ||
+				parentPathTree.startsWith(pathTree + ".")) {
+
+				throw new InvalidRequestException(
+					"Folder " + id + " cannot be moved into itself");
+			}
+
+			if (Objects.equals(
+					folderEntry.getParentFolderId(), parentFolderId)) {
+
+				continue;
+			}
+
+			if (!names.add(folderEntry.getName())) {
+				throw new ConflictException(
+					"Folder", "name", folderEntry.getName());
+			}
+
+			_validateName(tenantId, parentFolderId, folderEntry.getName());
+
+			movedFolderEntries.add(folderEntry);
+		}
+
+		for (FolderEntry folderEntry : movedFolderEntries) {
+			for (FolderEntry ancestorFolderEntry : movedFolderEntries) {
+				String pathTree = folderEntry.getPathTree();
+
+				if (pathTree.startsWith(
+						ancestorFolderEntry.getPathTree() + ".")) {
+
+					throw new InvalidRequestException(
+						"Folder " + folderEntry.getId() + " is inside folder " +
+							ancestorFolderEntry.getId() +
+								", move only the outer folder");
+				}
+			}
+		}
+
+		if (movedFolderEntries.isEmpty()) {
+			return _getFolderEntries(ids, folderEntries);
+		}
+
+		long fileCount = 0;
+		long folderCount = 0;
+		long size = 0;
+
+		List<UUID> movedIds = new ArrayList<>();
+
+		for (FolderEntry folderEntry : movedFolderEntries) {
+			if (folderEntry.getParentFolderId() != null) {
+				_updateAggregates(
+					tenantId, _getParentPathTree(folderEntry.getPathTree()),
+					-folderEntry.getFileCount(),
+					-(folderEntry.getFolderCount() + 1),
+					-folderEntry.getSize());
+			}
+
+			fileCount += folderEntry.getFileCount();
+			folderCount += folderEntry.getFolderCount() + 1;
+			size += folderEntry.getSize();
+
+			movedIds.add(folderEntry.getId());
+		}
+
+		_folderEntryRepository.move(
+			tenantId, movedIds, parentFolderId, parentPathTree);
+
+		if (parentFolderId != null) {
+			_updateAggregates(
+				tenantId, parentPathTree, fileCount, folderCount, size);
+		}
+
+		List<FolderEntry> reloadedFolderEntries =
+			_folderEntryRepository.findAllById(ids);
+
+		Map<UUID, FolderEntry> reloadedFolderEntriesMap = new HashMap<>();
+
+		for (FolderEntry folderEntry : reloadedFolderEntries) {
+			reloadedFolderEntriesMap.put(folderEntry.getId(), folderEntry);
+		}
+
+		return _getFolderEntries(ids, reloadedFolderEntriesMap);
+	}
+
+	@Override
+	@Transactional
+	public void updateFileAggregates(
+		UUID tenantId, FolderEntry folderEntry, long fileCount, long size) {
+
+		_updateAggregates(
+			tenantId, folderEntry.getPathTree(), fileCount, 0, size);
+	}
+
+	@Override
+	@Transactional
+	public FolderEntry updateFolderEntry(
+		UUID tenantId, UUID folderId, String name, String description) {
+
+		FolderEntry folderEntry = _getFolderEntry(tenantId, folderId);
+
+		name = _getName(name);
+
+		if (!name.equals(folderEntry.getName())) {
+			if (folderEntry.getParentFolderId() != null) {
+				_lockPathTree(
+					tenantId, _getParentPathTree(folderEntry.getPathTree()));
+			}
+
+			_validateName(tenantId, folderEntry.getParentFolderId(), name);
+		}
+
+		folderEntry.setDescription(description);
+		folderEntry.setName(name);
+
+		return _saveFolderEntry(folderEntry);
+	}
+
+	private String _decodePathTree(String cursor) {
+		String pathTree;
+
+		try {
+			byte[] bytes = _decoder.decode(cursor);
+
+			pathTree = new String(bytes, StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException illegalArgumentException) {
+			throw new InvalidRequestException(
+				"Invalid cursor", illegalArgumentException);
+		}
+
+		if (!_PATH_TREE_PATTERN.matcher(
+				pathTree
+			).matches()) {
+
+			throw new InvalidRequestException("Invalid cursor");
+		}
+
+		return pathTree;
+	}
+
+	private List<FolderEntry> _getFolderEntries(
+		Set<UUID> ids, Map<UUID, FolderEntry> folderEntries) {
+
+		List<FolderEntry> orderedFolderEntries = new ArrayList<>();
+
+		for (UUID id : ids) {
+			orderedFolderEntries.add(folderEntries.get(id));
+		}
+
+		return orderedFolderEntries;
+	}
+
+	private FolderEntry _getFolderEntry(UUID tenantId, UUID folderId) {
+		Optional<FolderEntry> folderEntryOptional =
+			_folderEntryRepository.findByIdAndTenantId(folderId, tenantId);
+
+		if (folderEntryOptional.isEmpty()) {
+			throw new ResourceNotFoundException("Folder", "id", folderId);
+		}
+
+		return folderEntryOptional.get();
+	}
+
+	private String _getName(String name) {
+		if ((name == null) || name.isBlank()) {
+			throw new InvalidRequestException("Folder name is required");
+		}
+
+		name = name.strip();
+
+		if (name.equals(".") || name.equals("..") ||
+			(name.indexOf('/') != -1) || (name.indexOf('\\') != -1)) {
+
+			throw new InvalidRequestException("Folder name is not allowed");
+		}
+
+		if (name.length() > _MAX_NAME_LENGTH) {
+			throw new InvalidRequestException(
+				"Folder name must be at most " + _MAX_NAME_LENGTH +
+					" characters");
+		}
+
+		return name;
+	}
+
+	private String _getParentPathTree(String pathTree) {
+		return pathTree.substring(0, pathTree.lastIndexOf('.'));
+	}
+
+	private String _getLabel(UUID id) {
+		return id.toString(
+		).replace(
+			"-", ""
+		);
+	}
+
+	private String _getPathTree(FolderEntry parentFolderEntry, UUID id) {
+		String label = _getLabel(id);
+
+		if (parentFolderEntry == null) {
+			return label;
+		}
+
+		return parentFolderEntry.getPathTree() + "." + label;
+	}
+
+	private Tenant _getTenant(UUID tenantId) {
+		Optional<Tenant> tenantOptional = _tenantRepository.findById(tenantId);
+
+		if (tenantOptional.isEmpty()) {
+			throw new ResourceNotFoundException("Tenant", "id", tenantId);
+		}
+
+		return tenantOptional.get();
+	}
+
+	/**
+	 * Locks folders with their ancestors root first and loads them. The paths
+	 * are read without a lock first, so a folder moved before it was locked
+	 * is rejected.
+	 */
+	private Map<UUID, FolderEntry> _lockFolderEntries(
+		UUID tenantId, Set<UUID> folderIds, UUID parentFolderId,
+		boolean subtrees) {
+
+		Set<UUID> ids = new HashSet<>(folderIds);
+
+		if (parentFolderId != null) {
+			ids.add(parentFolderId);
+		}
+
+		List<String> pathTrees = _folderEntryRepository.findPathTrees(
+			ids, tenantId);
+
+		List<String> subtreePathTrees = new ArrayList<>();
+
+		if (subtrees) {
+			for (UUID folderId : folderIds) {
+				String label = _getLabel(folderId);
+
+				for (String pathTree : pathTrees) {
+					if (pathTree.endsWith(label)) {
+						subtreePathTrees.add(pathTree);
+					}
+				}
+			}
+		}
+
+		if (!pathTrees.isEmpty()) {
+			_folderEntryRepository.lockPathTrees(
+				tenantId, String.join(",", pathTrees),
+				String.join(",", subtreePathTrees));
+		}
+
+		Map<UUID, FolderEntry> folderEntries = new HashMap<>();
+
+		for (FolderEntry folderEntry :
+				_folderEntryRepository.findForUpdate(ids, tenantId)) {
+
+			folderEntries.put(folderEntry.getId(), folderEntry);
+		}
+
+		for (UUID id : ids) {
+			FolderEntry folderEntry = folderEntries.get(id);
+
+			if (folderEntry == null) {
+				throw new ResourceNotFoundException("Folder", "id", id);
+			}
+
+			if (!pathTrees.contains(folderEntry.getPathTree())) {
+				throw new ConflictException(
+					"Folder was moved concurrently, retry the request");
+			}
+		}
+
+		return folderEntries;
+	}
+
+	private FolderEntry _lockFolderEntry(UUID tenantId, UUID folderId) {
+		Map<UUID, FolderEntry> folderEntries = _lockFolderEntries(
+			tenantId, Set.of(folderId), null, false);
+
+		return folderEntries.get(folderId);
+	}
+
+	private void _lockPathTree(UUID tenantId, String pathTree) {
+		List<UUID> ids = _folderEntryRepository.lockPathTrees(
+			tenantId, pathTree, "");
+
+		String[] labels = pathTree.split("\\.");
+
+		if (ids.size() != labels.length) {
+			throw new ConflictException(
+				"Folder was moved concurrently, retry the request");
+		}
+	}
+
+	/**
+	 * Saves a folder. Folders in the root have no parent to lock, so a
+	 * concurrent folder with the same name is only caught by the unique
+	 * index.
+	 */
+	private FolderEntry _saveFolderEntry(FolderEntry folderEntry) {
+		try {
+			return _folderEntryRepository.saveAndFlush(folderEntry);
+		}
+		catch (DataIntegrityViolationException
+					dataIntegrityViolationException) {
+
+			throw new ConflictException(
+				"Folder with name '" + folderEntry.getName() +
+					"' already exists",
+				dataIntegrityViolationException);
+		}
+	}
+
+	private void _updateAggregates(
+		UUID tenantId, String pathTree, long fileCount, long folderCount,
+		long size) {
+
+		int count = _folderEntryRepository.updateAggregates(
+			tenantId, pathTree, fileCount, folderCount, size);
+
+		String[] labels = pathTree.split("\\.");
+
+		if (count != labels.length) {
+			throw new ConflictException(
+				"Folder was moved concurrently, retry the request");
+		}
+	}
+
+	private void _validateName(
+		UUID tenantId, UUID parentFolderId, String name) {
+
+		if (_folderEntryRepository.existsByTenantIdAndParentFolderIdAndName(
+				tenantId, parentFolderId, name)) {
+
+			throw new ConflictException("Folder", "name", name);
+		}
+	}
+
+	private void _validatePage(int page, int size) {
+		if ((size < 1) || (size > _MAX_PAGE_SIZE)) {
+			throw new InvalidRequestException(
+				"Size must be between 1 and " + _MAX_PAGE_SIZE);
+		}
+
+		if ((page < 0) || (page > (Integer.MAX_VALUE / size))) {
+			throw new InvalidRequestException("Invalid page: " + page);
+		}
+	}
+
+	private static final int _MAX_MOVE_SIZE = 100;
+
+	private static final int _MAX_NAME_LENGTH = 255;
+
+	private static final int _MAX_PAGE_SIZE = 100;
+
+	private static final Pattern _PATH_TREE_PATTERN = Pattern.compile(
+		"[0-9a-f]{32}(\\.[0-9a-f]{32})*");
+
+	private static final Base64.Decoder _decoder = Base64.getUrlDecoder();
+	private static final Base64.Encoder _encoder =
+		Base64.getUrlEncoder(
+		).withoutPadding();
+
+	private final FolderEntryRepository _folderEntryRepository;
+	private final TenantRepository _tenantRepository;
+
+}
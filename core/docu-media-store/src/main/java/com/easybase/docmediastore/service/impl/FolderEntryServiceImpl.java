@@ -0,0 +1,100 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.context.api.util.PermissionChecker;
+import com.easybase.docmediastore.action.FileEntryActions;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.service.FolderEntryLocalService;
+import com.easybase.docmediastore.service.FolderEntryService;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link FolderEntryService}. Performs permission checks
+ * before delegating to FolderEntryLocalService.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class FolderEntryServiceImpl implements FolderEntryService {
+
+	@Override
+	public FolderEntry addFolderEntry(
+		UUID tenantId, UUID parentFolderId, String name, String description) {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _folderEntryLocalService.addFolderEntry(
+			tenantId, parentFolderId, name, description);
+	}
+
+	@Override
+	public void deleteFolderEntry(UUID tenantId, UUID folderId) {
+		_permissionChecker.check(FileEntryActions.DELETE);
+
+		_folderEntryLocalService.deleteFolderEntry(tenantId, folderId);
+	}
+
+	@Override
+	public QueryResult<FolderEntry> getDescendantFolderEntries(
+		UUID tenantId, UUID folderId, String cursor, int size) {
+
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _folderEntryLocalService.getDescendantFolderEntries(
+			tenantId, folderId, cursor, size);
+	}
+
+	@Override
+	public QueryResult<FolderEntry> getFolderEntries(
+		UUID tenantId, UUID parentFolderId, String cursor, int page,
+		int size) {
+
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _folderEntryLocalService.getFolderEntries(
+			tenantId, parentFolderId, cursor, page, size);
+	}
+
+	@Override
+	public FolderEntry getFolderEntry(UUID tenantId, UUID folderId) {
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		return _folderEntryLocalService.getFolderEntry(tenantId, folderId);
+	}
+
+	@Override
+	public List<FolderEntry> moveFolderEntries(
+		UUID tenantId, List<UUID> folderIds, UUID parentFolderId) {
+
+		_permissionChecker.check(FileEntryActions.UPDATE);
+
+		return _folderEntryLocalService.moveFolderEntries(
+			tenantId, folderIds, parentFolderId);
+	}
+
+	@Override
+	public FolderEntry updateFolderEntry(
+		UUID tenantId, UUID folderId, String name, String description) {
+
+		_permissionChecker.check(FileEntryActions.UPDATE);
+
+		return _folderEntryLocalService.updateFolderEntry(
+			tenantId, folderId, name, description);
+	}
+
+	private final FolderEntryLocalService _folderEntryLocalService;
+	private final PermissionChecker _permissionChecker;
+
+}
@@ -0,0 +1,71 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * The position of a page of a folder listing ordered by name and ID, encoded
+ * as an opaque cursor.
+ *
+ * @author Akhash R
+ */
+final class KeysetCursor {
+
+	public static final KeysetCursor FIRST = new KeysetCursor(
+		"", new UUID(0, 0));
+
+	public static KeysetCursor decode(String cursor) {
+		if (cursor == null) {
+			return FIRST;
+		}
+
+		int index = cursor.indexOf('.');
+
+		try {
+			byte[] bytes = _decoder.decode(cursor.substring(0, index));
+
+			return new KeysetCursor(
+				new String(bytes, StandardCharsets.UTF_8),
+				UUID.fromString(cursor.substring(index + 1)));
+		}
+		catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+			throw new InvalidRequestException("Invalid cursor", exception);
+		}
+	}
+
+	public static String encode(String name, UUID id) {
+		return _encoder.encodeToString(name.getBytes(StandardCharsets.UTF_8)) +
+			"." + id;
+	}
+
+	public UUID getId() {
+		return _id;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	private KeysetCursor(String name, UUID id) {
+		_name = name;
+		_id = id;
+	}
+
+	private static final Base64.Decoder _decoder = Base64.getUrlDecoder();
+	private static final Base64.Encoder _encoder =
+		Base64.getUrlEncoder(
+		).withoutPadding();
+
+	private final UUID _id;
+	private final String _name;
+
+}
@@ -0,0 +1,242 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobStatus;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+import com.easybase.docmediastore.repository.ProcessingJobRepository;
+import com.easybase.docmediastore.service.ProcessingJobLocalService;
+import com.easybase.store.ingest.IngestedFile;
+import com.easybase.store.processor.factory.FileProcessorFactory;
+import com.easybase.store.processor.stategy.data.DataExtractionTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Implementation of {@link ProcessingJobLocalService}.
+ *
+ * <p>Jobs of files up to {@code easy-base.docmediastore.jobs.small-file-size}
+ * are queued with a higher priority, so a batch of large files does not hold
+ * up the thumbnails of the small files uploaded after it.</p>
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class ProcessingJobLocalServiceImpl
+	implements ProcessingJobLocalService {
+
+	@Override
+	@Transactional
+	public void addProcessingJobs(IngestedFile ingestedFile) {
+		if (_fileProcessorFactory.getAssetCreator(
+				ingestedFile.getMimeType()) != null) {
+
+			_addProcessingJob(ingestedFile, ProcessingJobType.ASSET);
+		}
+
+		_addProcessingJob(ingestedFile, ProcessingJobType.METADATA);
+	}
+
+	@Override
+	@Transactional
+	public List<ProcessingJob> claimProcessingJobs(
+		ProcessingJobType type, int limit) {
+
+		Instant now = Instant.now();
+
+		List<ProcessingJob> processingJobs =
+			_processingJobRepository.findDueForUpdate(type.name(), now, limit);
+
+		for (ProcessingJob processingJob : processingJobs) {
+			processingJob.setAttempts(processingJob.getAttempts() + 1);
+			processingJob.setStartedAt(now);
+			processingJob.setStatus(ProcessingJobStatus.RUNNING);
+		}
+
+		return _processingJobRepository.saveAll(processingJobs);
+	}
+
+	@Override
+	@Transactional
+	public void completeProcessingJob(UUID processingJobId) {
+		Optional<ProcessingJob> processingJobOptional =
+			_processingJobRepository.findById(processingJobId);
+
+		if (processingJobOptional.isEmpty()) {
+			return;
+		}
+
+		ProcessingJob processingJob = processingJobOptional.get();
+
+		processingJob.setCompletedAt(Instant.now());
+		processingJob.setLastError(null);
+		processingJob.setStatus(ProcessingJobStatus.COMPLETED);
+	}
+
+	@Override
+	@Transactional
+	public boolean failProcessingJob(
+		UUID processingJobId, Throwable throwable) {
+
+		Optional<ProcessingJob> processingJobOptional =
+			_processingJobRepository.findById(processingJobId);
+
+		if (processingJobOptional.isEmpty()) {
+			return false;
+		}
+
+		ProcessingJob processingJob = processingJobOptional.get();
+
+		Instant now = Instant.now();
+
+		processingJob.setLastError(_getMessage(throwable));
+
+		if ((processingJob.getAttempts() >= processingJob.getMaxAttempts()) ||
+			!_isRetryable(throwable)) {
+
+			processingJob.setCompletedAt(now);
+			processingJob.setStatus(ProcessingJobStatus.FAILED);
+
+			return false;
+		}
+
+		processingJob.setRunAt(
+			now.plus(_getRetryDelay(processingJob.getAttempts())));
+		processingJob.setStatus(ProcessingJobStatus.PENDING);
+
+		return true;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<ProcessingJobType, Long> getPendingProcessingJobCounts() {
+		Map<ProcessingJobType, Long> counts = new EnumMap<>(
+			ProcessingJobType.class);
+
+		for (ProcessingJobType type : ProcessingJobType.values()) {
+			counts.put(type, 0L);
+		}
+
+		for (Object[] row : _processingJobRepository.countPendingByType()) {
+			Number count = (Number)row[1];
+
+			counts.put(
+				ProcessingJobType.valueOf((String)row[0]), count.longValue());
+		}
+
+		return counts;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProcessingJob> getProcessingJobs(String contentHash) {
+		return _processingJobRepository.findByContentHashOrderByType(
+			contentHash);
+	}
+
+	private void _addProcessingJob(
+		IngestedFile ingestedFile, ProcessingJobType type) {
+
+		if (_processingJobRepository.existsByContentHashAndType(
+				ingestedFile.getContentHash(), type)) {
+
+			return;
+		}
+
+		ProcessingJob processingJob = new ProcessingJob();
+
+		processingJob.setContentHash(ingestedFile.getContentHash());
+		processingJob.setFileName(ingestedFile.getFileName());
+		processingJob.setMaxAttempts(_maxAttempts);
+		processingJob.setMimeType(ingestedFile.getMimeType());
+
+		if (ingestedFile.getSize() <= _smallFileSize.toBytes()) {
+			processingJob.setPriority(_PRIORITY_HIGH);
+		}
+		else {
+			processingJob.setPriority(_PRIORITY_NORMAL);
+		}
+
+		processingJob.setRunAt(Instant.now());
+		processingJob.setSize(ingestedFile.getSize());
+		processingJob.setStatus(ProcessingJobStatus.PENDING);
+		processingJob.setType(type);
+
+		_processingJobRepository.save(processingJob);
+	}
+
+	private String _getMessage(Throwable throwable) {
+		String message = throwable.toString();
+
+		if (message.length() > _MAX_ERROR_LENGTH) {
+			return message.substring(0, _MAX_ERROR_LENGTH);
+		}
+
+		return message;
+	}
+
+	private Duration _getRetryDelay(int attempts) {
+		Duration retryDelay = _retryDelay.multipliedBy(
+			1L << Math.min(attempts - 1, 20));
+
+		if (retryDelay.compareTo(_maxRetryDelay) > 0) {
+			return _maxRetryDelay;
+		}
+
+		return retryDelay;
+	}
+
+	private boolean _isRetryable(Throwable throwable) {
+
+		// A document that timed out would time out again, and every attempt
+		// may leave another parser thread behind
+
+		if (throwable instanceof DataExtractionTimeoutException) {
+			return false;
+		}
+
+		return true;
+	}
+
+	private static final int _MAX_ERROR_LENGTH = 1000;
+
+	private static final int _PRIORITY_HIGH = 10;
+
+	private static final int _PRIORITY_NORMAL = 0;
+
+	private final FileProcessorFactory _fileProcessorFactory;
+
+	@Value("${easy-base.docmediastore.jobs.max-attempts:5}")
+	private int _maxAttempts;
+
+	@Value("${easy-base.docmediastore.jobs.max-retry-delay:PT1H}")
+	private Duration _maxRetryDelay;
+
+	private final ProcessingJobRepository _processingJobRepository;
+
+	@Value("${easy-base.docmediastore.jobs.retry-delay:PT30S}")
+	private Duration _retryDelay;
+
+	@Value("${easy-base.docmediastore.jobs.small-file-size:10MB}")
+	private DataSize _smallFileSize;
+
+}
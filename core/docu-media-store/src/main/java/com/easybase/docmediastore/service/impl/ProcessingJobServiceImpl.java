@@ -0,0 +1,54 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.context.api.util.PermissionChecker;
+import com.easybase.docmediastore.action.FileEntryActions;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.service.FileEntryLocalService;
+import com.easybase.docmediastore.service.ProcessingJobLocalService;
+import com.easybase.docmediastore.service.ProcessingJobService;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link ProcessingJobService}. Performs permission checks
+ * before delegating to ProcessingJobLocalService.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class ProcessingJobServiceImpl implements ProcessingJobService {
+
+	@Override
+	public List<ProcessingJob> getProcessingJobs(
+		UUID tenantId, UUID fileEntryId) {
+
+		_permissionChecker.check(FileEntryActions.VIEW);
+
+		FileEntry fileEntry = _fileEntryLocalService.getFileEntry(
+			tenantId, fileEntryId);
+
+		if (fileEntry.getContentHash() == null) {
+			return List.of();
+		}
+
+		return _processingJobLocalService.getProcessingJobs(
+			fileEntry.getContentHash());
+	}
+
+	private final FileEntryLocalService _fileEntryLocalService;
+	private final PermissionChecker _permissionChecker;
+	private final ProcessingJobLocalService _processingJobLocalService;
+
+}
@@ -0,0 +1,489 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.common.exception.FileValidationException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ResourceNotFoundException;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.repository.TenantRepository;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.docmediastore.repository.FolderEntryRepository;
+import com.easybase.docmediastore.repository.UploadSessionRepository;
+import com.easybase.docmediastore.service.FileEntryLocalService;
+import com.easybase.docmediastore.service.UploadSessionLocalService;
+import com.easybase.store.blob.BlobStore;
+import com.easybase.store.ingest.IngestedFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Implementation of {@link UploadSessionLocalService}.
+ *
+ * <p>Chunks are written to the upload file without holding a transaction, so
+ * slow clients do not tie up database connections. The session row is only
+ * locked briefly before and after each chunk, to register the writer and to
+ * record the chunk as received. Sessions expire after
+ * {@code easy-base.docmediastore.upload.expiration} without activity.</p>
+ *
+ * <p>A writer may write for
+ * {@code easy-base.docmediastore.upload.writer-lease} before it gives up.
+ * Writers that did not unregister a grace period after their lease ended are
+ * considered dead, so a node that crashed while writing a chunk does not
+ * block completion forever.</p>
+ *
+ * <p>Completing keeps the upload file until the file entry was added. Only
+ * failures that would recur, such as content that does not match its file
+ * name or a deleted folder, discard the session. Others, such as a file
+ * with the same name added in the meantime, leave it to be completed
+ * again.</p>
+ *
+ * @author Akhash R
+ */
+@Service
+@Slf4j
+public class UploadSessionLocalServiceImpl
+	implements UploadSessionLocalService {
+
+	public UploadSessionLocalServiceImpl(
+		BlobStore blobStore, FileEntryLocalService fileEntryLocalService,
+		FolderEntryRepository folderEntryRepository,
+		PlatformTransactionManager platformTransactionManager,
+		TenantRepository tenantRepository,
+		UploadSessionRepository uploadSessionRepository) {
+
+		_blobStore = blobStore;
+		_fileEntryLocalService = fileEntryLocalService;
+		_folderEntryRepository = folderEntryRepository;
+		_tenantRepository = tenantRepository;
+		_uploadSessionRepository = uploadSessionRepository;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+	}
+
+	@Override
+	public UploadSession addUploadSession(
+			UUID tenantId, UUID userId, UUID folderId, String fileName,
+			long size)
+		throws IOException {
+
+		if (size < 0) {
+			throw new InvalidRequestException("File size must not be negative");
+		}
+
+		if (size > _maxFileSize) {
+			throw new FileValidationException(
+				"File size exceeded the allowed size");
+		}
+
+		String safeFileName = _fileEntryLocalService.validateFileEntry(
+			tenantId, folderId, fileName);
+
+		UploadSession uploadSession = new UploadSession();
+
+		uploadSession.setChunkSize(_chunkSize.toBytes());
+		uploadSession.setCreatedBy(userId);
+		uploadSession.setExpiresAt(_getExpiresAt());
+		uploadSession.setFileName(safeFileName);
+		uploadSession.setReceivedChunks(new byte[0]);
+		uploadSession.setSize(size);
+
+		_blobStore.createUpload(uploadSession.getId(), size);
+
+		try {
+			return _transactionTemplate.execute(
+				transactionStatus -> {
+					if (folderId != null) {
+						uploadSession.setFolderEntry(
+							_folderEntryRepository.getReferenceById(folderId));
+					}
+
+					uploadSession.setTenant(_getTenant(tenantId));
+
+					return _uploadSessionRepository.save(uploadSession);
+				});
+		}
+		catch (RuntimeException runtimeException) {
+			_deleteUpload(uploadSession.getId());
+
+			throw runtimeException;
+		}
+	}
+
+	@Override
+	public FileEntry completeUploadSession(
+			UUID tenantId, UUID userId, UUID uploadSessionId)
+		throws IOException {
+
+		UploadSession uploadSession = _transactionTemplate.execute(
+			transactionStatus -> {
+				UploadSession lockedUploadSession = _lockUploadSession(
+					tenantId, userId, uploadSessionId);
+
+				_validateComplete(lockedUploadSession);
+
+				lockedUploadSession.setCompleting(true);
+				lockedUploadSession.setExpiresAt(_getExpiresAt());
+
+				return lockedUploadSession;
+			});
+
+		UUID folderId = null;
+
+		FolderEntry folderEntry = uploadSession.getFolderEntry();
+
+		if (folderEntry != null) {
+			folderId = folderEntry.getId();
+		}
+
+		FileEntry fileEntry;
+
+		try {
+			IngestedFile ingestedFile = _blobStore.ingestUpload(
+				uploadSessionId, uploadSession.getFileName());
+
+			fileEntry = _fileEntryLocalService.addFileEntry(
+				tenantId, folderId, ingestedFile);
+		}
+		catch (FileValidationException | ResourceNotFoundException exception) {
+			_deleteUploadSession(uploadSessionId);
+
+			throw exception;
+		}
+		catch (IOException | RuntimeException exception) {
+			try {
+				_transactionTemplate.executeWithoutResult(
+					transactionStatus -> _cancelComplete(uploadSessionId));
+			}
+			catch (RuntimeException runtimeException) {
+				exception.addSuppressed(runtimeException);
+			}
+
+			throw exception;
+		}
+
+		_deleteUploadSession(uploadSessionId);
+
+		return fileEntry;
+	}
+
+	@Override
+	public void deleteUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId) {
+
+		_transactionTemplate.executeWithoutResult(
+			transactionStatus -> {
+				UploadSession uploadSession = _lockUploadSession(
+					tenantId, userId, uploadSessionId);
+
+				if (uploadSession.isCompleting()) {
+					throw new ConflictException(
+						"Upload is being completed: " + uploadSessionId);
+				}
+
+				_uploadSessionRepository.delete(uploadSession);
+			});
+
+		_deleteUpload(uploadSessionId);
+	}
+
+	@Override
+	public UploadSession getUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId) {
+
+		Optional<UploadSession> uploadSessionOptional =
+			_uploadSessionRepository.findByIdAndTenantIdAndCreatedBy(
+				uploadSessionId, tenantId, userId);
+
+		if (uploadSessionOptional.isEmpty()) {
+			throw new ResourceNotFoundException(
+				"Upload session", "id", uploadSessionId);
+		}
+
+		return uploadSessionOptional.get();
+	}
+
+	@Override
+	public UploadSession writeChunk(
+			UUID tenantId, UUID userId, UUID uploadSessionId, long offset,
+			long length, InputStream inputStream)
+		throws IOException {
+
+		Instant now = Instant.now();
+
+		Instant deadline = now.plus(_writerLease);
+
+		_transactionTemplate.executeWithoutResult(
+			transactionStatus -> {
+				UploadSession uploadSession = _lockUploadSession(
+					tenantId, userId, uploadSessionId);
+
+				if (uploadSession.isCompleting()) {
+					throw new ConflictException(
+						"Upload is being completed: " + uploadSessionId);
+				}
+
+				_validateChunk(uploadSession, offset, length);
+
+				if (!_hasActiveWriters(uploadSession, now)) {
+					uploadSession.setActiveWriters(0);
+				}
+
+				uploadSession.setActiveWriters(
+					uploadSession.getActiveWriters() + 1);
+				uploadSession.setExpiresAt(_getExpiresAt());
+				uploadSession.setWritersExpireAt(
+					deadline.plus(_WRITER_GRACE_PERIOD));
+			});
+
+		try {
+			_blobStore.writeUpload(
+				uploadSessionId, offset, length, inputStream, deadline);
+		}
+		catch (IOException | RuntimeException exception) {
+			_transactionTemplate.executeWithoutResult(
+				transactionStatus -> _releaseWriter(
+					uploadSessionId, offset, length, deadline, false));
+
+			throw exception;
+		}
+
+		return _transactionTemplate.execute(
+			transactionStatus -> _releaseWriter(
+				uploadSessionId, offset, length, deadline, true));
+	}
+
+	private void _cancelComplete(UUID uploadSessionId) {
+		Optional<UploadSession> uploadSessionOptional =
+			_uploadSessionRepository.findForUpdate(uploadSessionId);
+
+		if (uploadSessionOptional.isEmpty()) {
+			return;
+		}
+
+		UploadSession uploadSession = uploadSessionOptional.get();
+
+		uploadSession.setCompleting(false);
+		uploadSession.setExpiresAt(_getExpiresAt());
+	}
+
+	private void _deleteUpload(UUID uploadSessionId) {
+		try {
+			_blobStore.deleteUpload(uploadSessionId);
+		}
+		catch (IOException ioException) {
+			log.warn(
+				"Unable to delete upload file of session {}", uploadSessionId,
+				ioException);
+		}
+	}
+
+	private void _deleteUploadSession(UUID uploadSessionId) {
+		_transactionTemplate.executeWithoutResult(
+			transactionStatus -> _uploadSessionRepository.deleteById(
+				uploadSessionId));
+
+		_deleteUpload(uploadSessionId);
+	}
+
+	private Instant _getExpiresAt() {
+		return Instant.now(
+		).plus(
+			_expiration
+		);
+	}
+
+	private Tenant _getTenant(UUID tenantId) {
+		Optional<Tenant> tenantOptional = _tenantRepository.findById(tenantId);
+
+		if (tenantOptional.isEmpty()) {
+			throw new ResourceNotFoundException("Tenant", "id", tenantId);
+		}
+
+		return tenantOptional.get();
+	}
+
+	private boolean _hasActiveWriters(
+		UploadSession uploadSession, Instant now) {
+
+		Instant writersExpireAt = uploadSession.getWritersExpireAt();
+
+		if ((uploadSession.getActiveWriters() == 0) ||
+			(writersExpireAt == null)) {
+
+			return false;
+		}
+
+		return writersExpireAt.isAfter(now);
+	}
+
+	private UploadSession _lockUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId) {
+
+		Optional<UploadSession> uploadSessionOptional =
+			_uploadSessionRepository.findForUpdate(uploadSessionId);
+
+		if (uploadSessionOptional.isPresent()) {
+			UploadSession uploadSession = uploadSessionOptional.get();
+
+			Tenant tenant = uploadSession.getTenant();
+
+			if (tenantId.equals(tenant.getId()) &&
+				userId.equals(uploadSession.getCreatedBy())) {
+
+				return uploadSession;
+			}
+		}
+
+		throw new ResourceNotFoundException(
+			"Upload session", "id", uploadSessionId);
+	}
+
+	/**
+	 * Unregisters the writer of a chunk. A chunk that failed to write is no
+	 * longer counted as received, since it may have partially replaced an
+	 * earlier copy. A writer released after its grace period was already
+	 * considered dead, so it is no longer counted either.
+	 */
+	private UploadSession _releaseWriter(
+		UUID uploadSessionId, long offset, long length, Instant deadline,
+		boolean written) {
+
+		Optional<UploadSession> uploadSessionOptional =
+			_uploadSessionRepository.findForUpdate(uploadSessionId);
+
+		if (uploadSessionOptional.isEmpty()) {
+			throw new ResourceNotFoundException(
+				"Upload session", "id", uploadSessionId);
+		}
+
+		UploadSession uploadSession = uploadSessionOptional.get();
+
+		Instant now = Instant.now();
+
+		if (now.isBefore(deadline.plus(_WRITER_GRACE_PERIOD))) {
+			uploadSession.setActiveWriters(
+				Math.max(uploadSession.getActiveWriters() - 1, 0));
+		}
+
+		BitSet receivedChunks = BitSet.valueOf(
+			uploadSession.getReceivedChunks());
+
+		int index = (int)(offset / uploadSession.getChunkSize());
+
+		if (receivedChunks.get(index) == written) {
+			return uploadSession;
+		}
+
+		if (written) {
+			receivedChunks.set(index);
+
+			uploadSession.setReceivedSize(
+				uploadSession.getReceivedSize() + length);
+		}
+		else {
+			receivedChunks.clear(index);
+
+			uploadSession.setReceivedSize(
+				uploadSession.getReceivedSize() - length);
+		}
+
+		uploadSession.setOffset(
+			Math.min(
+				receivedChunks.nextClearBit(0) * uploadSession.getChunkSize(),
+				uploadSession.getSize()));
+		uploadSession.setReceivedChunks(receivedChunks.toByteArray());
+
+		return uploadSession;
+	}
+
+	private void _validateChunk(
+		UploadSession uploadSession, long offset, long length) {
+
+		long chunkSize = uploadSession.getChunkSize();
+
+		if ((offset < 0) || (offset >= uploadSession.getSize()) ||
+			((offset % chunkSize) != 0)) {
+
+			throw new InvalidRequestException(
+				"Chunk offset must be a multiple of " + chunkSize +
+					" below " + uploadSession.getSize());
+		}
+
+		long chunkLength = Math.min(
+			chunkSize, uploadSession.getSize() - offset);
+
+		if (length != chunkLength) {
+			throw new InvalidRequestException(
+				"Chunk at offset " + offset + " must be " + chunkLength +
+					" bytes");
+		}
+	}
+
+	private void _validateComplete(UploadSession uploadSession) {
+		if (uploadSession.isCompleting()) {
+			throw new ConflictException(
+				"Upload is being completed: " + uploadSession.getId());
+		}
+
+		if (_hasActiveWriters(uploadSession, Instant.now())) {
+			throw new ConflictException(
+				"Chunks of the upload are still being written");
+		}
+
+		long missingSize =
+			uploadSession.getSize() - uploadSession.getReceivedSize();
+
+		if (missingSize > 0) {
+			throw new ConflictException(
+				"Upload is missing " + missingSize + " bytes");
+		}
+	}
+
+	private static final Duration _WRITER_GRACE_PERIOD = Duration.ofMinutes(1);
+
+	private final BlobStore _blobStore;
+
+	@Value("${easy-base.docmediastore.upload.chunk-size:8MB}")
+	private DataSize _chunkSize;
+
+	@Value("${easy-base.docmediastore.upload.expiration:PT24H}")
+	private Duration _expiration;
+
+	private final FileEntryLocalService _fileEntryLocalService;
+	private final FolderEntryRepository _folderEntryRepository;
+
+	@Value("${easy-base.docmediastore.file.size}")
+	private long _maxFileSize;
+
+	private final TenantRepository _tenantRepository;
+	private final TransactionTemplate _transactionTemplate;
+	private final UploadSessionRepository _uploadSessionRepository;
+
+	@Value("${easy-base.docmediastore.upload.writer-lease:PT30M}")
+	private Duration _writerLease;
+
+}
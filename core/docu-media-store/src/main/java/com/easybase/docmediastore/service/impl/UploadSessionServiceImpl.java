@@ -0,0 +1,92 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.context.api.util.PermissionChecker;
+import com.easybase.docmediastore.action.FileEntryActions;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.docmediastore.service.UploadSessionLocalService;
+import com.easybase.docmediastore.service.UploadSessionService;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of {@link UploadSessionService}. Resumable uploads create
+ * files, so every operation requires the permission to create files.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+	@Override
+	public UploadSession addUploadSession(
+			UUID tenantId, UUID userId, UUID folderId, String fileName,
+			long size)
+		throws IOException {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _uploadSessionLocalService.addUploadSession(
+			tenantId, userId, folderId, fileName, size);
+	}
+
+	@Override
+	public FileEntry completeUploadSession(
+			UUID tenantId, UUID userId, UUID uploadSessionId)
+		throws IOException {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _uploadSessionLocalService.completeUploadSession(
+			tenantId, userId, uploadSessionId);
+	}
+
+	@Override
+	public void deleteUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId) {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		_uploadSessionLocalService.deleteUploadSession(
+			tenantId, userId, uploadSessionId);
+	}
+
+	@Override
+	public UploadSession getUploadSession(
+		UUID tenantId, UUID userId, UUID uploadSessionId) {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _uploadSessionLocalService.getUploadSession(
+			tenantId, userId, uploadSessionId);
+	}
+
+	@Override
+	public UploadSession writeChunk(
+			UUID tenantId, UUID userId, UUID uploadSessionId, long offset,
+			long length, InputStream inputStream)
+		throws IOException {
+
+		_permissionChecker.check(FileEntryActions.CREATE);
+
+		return _uploadSessionLocalService.writeChunk(
+			tenantId, userId, uploadSessionId, offset, length, inputStream);
+	}
+
+	private final PermissionChecker _permissionChecker;
+	private final UploadSessionLocalService _uploadSessionLocalService;
+
+}
@@ -0,0 +1,235 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.task;
+
+import com.easybase.docmediastore.repository.BlobEntryRepository;
+import com.easybase.docmediastore.repository.FileMetaDataRepository;
+import com.easybase.docmediastore.repository.ProcessingJobRepository;
+import com.easybase.store.blob.BlobStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes blobs that no file entry has referenced for a grace period.
+ *
+ * <p>Every blob is deleted in its own transaction holding the lock of the
+ * blob, the same lock uploads take before referencing it, and only if it is
+ * still unreferenced at that point. Its metadata and processing jobs are
+ * deleted with it. If the file cannot be deleted the row is kept, so the
+ * blob is retried on the next run. Several nodes can run the collector at
+ * once.</p>
+ *
+ * <p>Uploads move the blob into place before their transaction commits, so a
+ * rolled back upload can leave a blob file without a row. Such files are
+ * found by listing the store less often, and deleted under the same lock once
+ * they are older than the grace period and still have no row.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class BlobGarbageCollector {
+
+	public BlobGarbageCollector(
+		BlobEntryRepository blobEntryRepository, BlobStore blobStore,
+		FileMetaDataRepository fileMetaDataRepository,
+		PlatformTransactionManager platformTransactionManager,
+		ProcessingJobRepository processingJobRepository) {
+
+		_blobEntryRepository = blobEntryRepository;
+		_blobStore = blobStore;
+		_fileMetaDataRepository = fileMetaDataRepository;
+		_processingJobRepository = processingJobRepository;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+	}
+
+	@Scheduled(
+		fixedDelayString = "${easy-base.docmediastore.blob.gc-interval:PT1H}"
+	)
+	public void collectGarbage() {
+		Instant unreferencedBefore = Instant.now(
+		).minus(
+			_gracePeriod
+		);
+
+		int count = 0;
+
+		while (true) {
+			List<String> contentHashes =
+				_blobEntryRepository.findUnreferencedContentHashes(
+					unreferencedBefore, _BATCH_SIZE);
+
+			int batchCount = 0;
+
+			for (String contentHash : contentHashes) {
+				if (_delete(contentHash, unreferencedBefore)) {
+					batchCount++;
+				}
+			}
+
+			count += batchCount;
+
+			if ((batchCount == 0) || (contentHashes.size() < _BATCH_SIZE)) {
+				break;
+			}
+		}
+
+		if (count > 0) {
+			log.info("Deleted {} unreferenced blobs", count);
+		}
+	}
+
+	@Scheduled(
+		fixedDelayString = "${easy-base.docmediastore.blob.orphan-gc-interval:PT24H}"
+	)
+	public void collectOrphans() {
+		Instant modifiedBefore = Instant.now(
+		).minus(
+			_gracePeriod
+		);
+
+		int count = 0;
+
+		try (Stream<String> stream = _blobStore.getContentHashes(
+				modifiedBefore)) {
+
+			Iterator<String> iterator = stream.iterator();
+
+			List<String> contentHashes = new ArrayList<>();
+
+			while (iterator.hasNext()) {
+				contentHashes.add(iterator.next());
+
+				if ((contentHashes.size() == _BATCH_SIZE) ||
+					!iterator.hasNext()) {
+
+					count += _deleteOrphans(contentHashes);
+
+					contentHashes.clear();
+				}
+			}
+		}
+		catch (IOException | UncheckedIOException exception) {
+			log.warn("Unable to list blobs", exception);
+		}
+
+		if (count > 0) {
+			log.info("Deleted {} blobs without a row", count);
+		}
+	}
+
+	private boolean _delete(String contentHash, Instant unreferencedBefore) {
+		try {
+			return _transactionTemplate.execute(
+				transactionStatus -> {
+					_blobEntryRepository.lock(contentHash);
+
+					if (_blobEntryRepository.deleteUnreferenced(
+							contentHash, unreferencedBefore) == 0) {
+
+						return false;
+					}
+
+					_fileMetaDataRepository.deleteByContentHash(contentHash);
+					_processingJobRepository.deleteByContentHash(contentHash);
+
+					try {
+						_blobStore.delete(contentHash);
+					}
+					catch (IOException ioException) {
+						throw new UncheckedIOException(ioException);
+					}
+
+					return true;
+				});
+		}
+		catch (RuntimeException runtimeException) {
+			log.warn(
+				"Unable to delete blob {}", contentHash, runtimeException);
+
+			return false;
+		}
+	}
+
+	private boolean _deleteOrphan(String contentHash) {
+		try {
+			return _transactionTemplate.execute(
+				transactionStatus -> {
+					_blobEntryRepository.lock(contentHash);
+
+					if (_blobEntryRepository.existsById(contentHash)) {
+						return false;
+					}
+
+					try {
+						_blobStore.delete(contentHash);
+					}
+					catch (IOException ioException) {
+						throw new UncheckedIOException(ioException);
+					}
+
+					return true;
+				});
+		}
+		catch (RuntimeException runtimeException) {
+			log.warn(
+				"Unable to delete blob {}", contentHash, runtimeException);
+
+			return false;
+		}
+	}
+
+	private int _deleteOrphans(List<String> contentHashes) {
+		Set<String> rowContentHashes = new HashSet<>(
+			_blobEntryRepository.findContentHashes(contentHashes));
+
+		int count = 0;
+
+		for (String contentHash : contentHashes) {
+			if (!rowContentHashes.contains(contentHash) &&
+				_deleteOrphan(contentHash)) {
+
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	private static final int _BATCH_SIZE = 100;
+
+	private final BlobEntryRepository _blobEntryRepository;
+	private final BlobStore _blobStore;
+	private final FileMetaDataRepository _fileMetaDataRepository;
+
+	@Value("${easy-base.docmediastore.blob.gc-grace-period:PT1H}")
+	private Duration _gracePeriod;
+
+	private final ProcessingJobRepository _processingJobRepository;
+	private final TransactionTemplate _transactionTemplate;
+
+}
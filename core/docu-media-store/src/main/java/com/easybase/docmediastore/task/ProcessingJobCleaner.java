@@ -0,0 +1,94 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.task;
+
+import com.easybase.docmediastore.repository.ProcessingJobRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the processing queue.
+ *
+ * <p>Jobs still running after {@code easy-base.docmediastore.jobs.timeout}
+ * were left behind by a node that died or was stopped mid-job. They are
+ * returned to the queue, or failed if they have no attempts left. Completed
+ * and failed jobs are kept for
+ * {@code easy-base.docmediastore.jobs.retention}, so clients can look up how
+ * the processing of a file went.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class ProcessingJobCleaner {
+
+	public ProcessingJobCleaner(
+		PlatformTransactionManager platformTransactionManager,
+		ProcessingJobRepository processingJobRepository) {
+
+		_processingJobRepository = processingJobRepository;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+	}
+
+	@Scheduled(
+		fixedDelayString = "${easy-base.docmediastore.jobs.cleanup-interval:PT5M}"
+	)
+	public void cleanUp() {
+		Instant now = Instant.now();
+
+		int requeuedCount = _transactionTemplate.execute(
+			transactionStatus -> _processingJobRepository.requeueStale(
+				now.minus(_timeout), now));
+
+		if (requeuedCount > 0) {
+			log.warn("Requeued {} stale processing jobs", requeuedCount);
+		}
+
+		Instant completedBefore = now.minus(_retention);
+
+		int count = 0;
+
+		while (true) {
+			int batchCount = _transactionTemplate.execute(
+				transactionStatus -> _processingJobRepository.deleteFinished(
+					completedBefore, _BATCH_SIZE));
+
+			count += batchCount;
+
+			if (batchCount < _BATCH_SIZE) {
+				break;
+			}
+		}
+
+		if (count > 0) {
+			log.info("Deleted {} finished processing jobs", count);
+		}
+	}
+
+	private static final int _BATCH_SIZE = 1000;
+
+	private final ProcessingJobRepository _processingJobRepository;
+
+	@Value("${easy-base.docmediastore.jobs.retention:P7D}")
+	private Duration _retention;
+
+	@Value("${easy-base.docmediastore.jobs.timeout:PT30M}")
+	private Duration _timeout;
+
+	private final TransactionTemplate _transactionTemplate;
+
+}
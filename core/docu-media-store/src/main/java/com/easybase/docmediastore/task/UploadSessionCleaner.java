@@ -0,0 +1,132 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.task;
+
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.docmediastore.repository.UploadSessionRepository;
+import com.easybase.store.blob.BlobStore;
+
+import java.io.IOException;
+
+import java.time.Instant;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes resumable uploads that were neither completed nor aborted before
+ * they expired.
+ *
+ * <p>Every session is deleted in its own transaction holding the lock of its
+ * row, and only if it is still expired at that point, since a chunk written
+ * in the meantime extends the expiration. The upload file is deleted after
+ * the row.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class UploadSessionCleaner {
+
+	public UploadSessionCleaner(
+		BlobStore blobStore,
+		PlatformTransactionManager platformTransactionManager,
+		UploadSessionRepository uploadSessionRepository) {
+
+		_blobStore = blobStore;
+		_uploadSessionRepository = uploadSessionRepository;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+	}
+
+	@Scheduled(
+		fixedDelayString = "${easy-base.docmediastore.upload.cleanup-interval:PT15M}"
+	)
+	public void deleteExpiredUploadSessions() {
+		Instant now = Instant.now();
+
+		int count = 0;
+
+		while (true) {
+			List<UUID> uploadSessionIds =
+				_uploadSessionRepository.findExpiredIds(now, _BATCH_SIZE);
+
+			int batchCount = 0;
+
+			for (UUID uploadSessionId : uploadSessionIds) {
+				if (_delete(uploadSessionId, now)) {
+					batchCount++;
+				}
+			}
+
+			count += batchCount;
+
+			if ((batchCount == 0) || (uploadSessionIds.size() < _BATCH_SIZE)) {
+				break;
+			}
+		}
+
+		if (count > 0) {
+			log.info("Deleted {} expired upload sessions", count);
+		}
+	}
+
+	private boolean _delete(UUID uploadSessionId, Instant now) {
+		try {
+			boolean deleted = _transactionTemplate.execute(
+				transactionStatus -> {
+					Optional<UploadSession> uploadSessionOptional =
+						_uploadSessionRepository.findForUpdate(
+							uploadSessionId);
+
+					if (uploadSessionOptional.isEmpty()) {
+						return false;
+					}
+
+					UploadSession uploadSession = uploadSessionOptional.get();
+
+					Instant expiresAt = uploadSession.getExpiresAt();
+
+					if (!expiresAt.isBefore(now)) {
+						return false;
+					}
+
+					_uploadSessionRepository.delete(uploadSession);
+
+					return true;
+				});
+
+			if (deleted) {
+				_blobStore.deleteUpload(uploadSessionId);
+			}
+
+			return deleted;
+		}
+		catch (IOException | RuntimeException exception) {
+			log.warn(
+				"Unable to delete upload session {}", uploadSessionId,
+				exception);
+
+			return false;
+		}
+	}
+
+	private static final int _BATCH_SIZE = 100;
+
+	private final BlobStore _blobStore;
+	private final TransactionTemplate _transactionTemplate;
+	private final UploadSessionRepository _uploadSessionRepository;
+
+}
@@ -0,0 +1,23 @@
+DROP TABLE IF EXISTS eb_file_metadata;
+
+CREATE TABLE eb_file_metadata (
+  id uuid NOT NULL PRIMARY KEY,
+  content text,
+  content_hash varchar(64) NOT NULL,
+  content_truncated boolean NOT NULL DEFAULT false,
+  created_at timestamp(6) with time zone NOT NULL,
+  created_by uuid,
+  is_deleted boolean NOT NULL DEFAULT false,
+  metadata jsonb,
+  updated_at timestamp(6) with time zone NOT NULL,
+  updated_by uuid,
+  search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED,
+  CONSTRAINT uk_eb_file_metadata_content_hash UNIQUE (content_hash)
+);
+
+CREATE INDEX IF NOT EXISTS eb_file_metadata_metadata_gin_idx
+  ON eb_file_metadata USING GIN (metadata jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS eb_file_metadata_search_vector_gin_idx
+  ON eb_file_metadata USING GIN (search_vector);
@@ -0,0 +1,37 @@
+CREATE EXTENSION IF NOT EXISTS ltree;
+
+-- Folders could not be created before, the old table holds no rows
+
+DROP TABLE IF EXISTS eb_folder CASCADE;
+
+CREATE TABLE eb_folder (
+  id uuid NOT NULL PRIMARY KEY,
+  created_at timestamp(6) with time zone NOT NULL,
+  created_by uuid,
+  description varchar(100),
+  file_count bigint NOT NULL DEFAULT 0,
+  folder_count bigint NOT NULL DEFAULT 0,
+  is_deleted boolean NOT NULL DEFAULT false,
+  name varchar(255) NOT NULL,
+  parent_folder_id uuid REFERENCES eb_folder (id),
+  path_tree ltree NOT NULL,
+  size bigint NOT NULL DEFAULT 0,
+  tenant_id uuid NOT NULL,
+  updated_at timestamp(6) with time zone NOT NULL,
+  updated_by uuid
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS eb_folder_name_idx
+  ON eb_folder (
+    tenant_id,
+    coalesce(parent_folder_id, '00000000-0000-0000-0000-000000000000'),
+    name);
+
+CREATE INDEX IF NOT EXISTS eb_folder_parent_folder_id_idx
+  ON eb_folder (tenant_id, parent_folder_id, name, id);
+
+CREATE INDEX IF NOT EXISTS eb_folder_path_tree_gist_idx
+  ON eb_folder USING GIST (path_tree);
+
+CREATE INDEX IF NOT EXISTS eb_folder_path_tree_idx
+  ON eb_folder (tenant_id, path_tree);
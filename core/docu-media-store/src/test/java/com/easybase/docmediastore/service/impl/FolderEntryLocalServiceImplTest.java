@@ -0,0 +1,989 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.repository.TenantRepository;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.repository.FolderEntryRepository;
+import com.easybase.infrastructure.search.QueryResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * @author Akhash R
+ */
+class FolderEntryLocalServiceImplTest {
+
+	@BeforeEach
+	public void setUp() {
+		_folderEntryRepository = Mockito.mock(FolderEntryRepository.class);
+		_tenantRepository = Mockito.mock(TenantRepository.class);
+
+		_folderEntryLocalServiceImpl = new FolderEntryLocalServiceImpl(
+			_folderEntryRepository, _tenantRepository);
+
+		Mockito.when(
+			_folderEntryRepository.saveAndFlush(
+				ArgumentMatchers.any(FolderEntry.class))
+		).thenAnswer(
+			invocation -> invocation.getArgument(0)
+		);
+		Mockito.when(
+			_folderEntryRepository.updateAggregates(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(),
+				ArgumentMatchers.anyLong())
+		).thenAnswer(
+			invocation -> {
+				String pathTree = invocation.getArgument(1);
+
+				return pathTree.split(
+					"\\."
+				).length;
+			}
+		);
+		Mockito.when(
+			_tenantRepository.findById(_TENANT_ID)
+		).thenReturn(
+			Optional.of(new Tenant())
+		);
+	}
+
+	@Test
+	public void testAddFolderEntry() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 0, 0);
+		FolderEntry parentFolderEntry = _addFolderEntry(
+			rootFolderEntry, "parent", 0, 0, 0);
+
+		FolderEntry folderEntry = _folderEntryLocalServiceImpl.addFolderEntry(
+			_TENANT_ID, parentFolderEntry.getId(), " child ", null);
+
+		Assertions.assertEquals("child", folderEntry.getName());
+		Assertions.assertEquals(
+			parentFolderEntry.getId(), folderEntry.getParentFolderId());
+		Assertions.assertEquals(
+			parentFolderEntry.getPathTree() + "." +
+				_getLabel(folderEntry.getId()),
+			folderEntry.getPathTree());
+
+		InOrder inOrder = Mockito.inOrder(_folderEntryRepository);
+
+		inOrder.verify(
+			_folderEntryRepository
+		).updateAggregates(
+			_TENANT_ID, parentFolderEntry.getPathTree(), 0, 1, 0
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).saveAndFlush(
+			folderEntry
+		);
+	}
+
+	@Test
+	public void testAddFolderEntryToMovedParent() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 0, 0);
+		FolderEntry parentFolderEntry = _addFolderEntry(
+			rootFolderEntry, "parent", 0, 0, 0);
+
+		Mockito.when(
+			_folderEntryRepository.updateAggregates(
+				_TENANT_ID, parentFolderEntry.getPathTree(), 0, 1, 0)
+		).thenReturn(
+			1
+		);
+
+		Assertions.assertThrows(
+			ConflictException.class,
+			() -> _folderEntryLocalServiceImpl.addFolderEntry(
+				_TENANT_ID, parentFolderEntry.getId(), "child", null));
+
+		Mockito.verify(
+			_folderEntryRepository, Mockito.never()
+		).saveAndFlush(
+			ArgumentMatchers.any()
+		);
+	}
+
+	@Test
+	public void testAddRootFolderEntry() {
+		FolderEntry folderEntry = _folderEntryLocalServiceImpl.addFolderEntry(
+			_TENANT_ID, null, "root", null);
+
+		Assertions.assertNull(folderEntry.getParentFolderId());
+		Assertions.assertEquals(
+			_getLabel(folderEntry.getId()), folderEntry.getPathTree());
+
+		Mockito.verify(
+			_folderEntryRepository, Mockito.never()
+		).updateAggregates(
+			ArgumentMatchers.any(), ArgumentMatchers.anyString(),
+			ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(),
+			ArgumentMatchers.anyLong()
+		);
+	}
+
+	@Test
+	public void testDeleteFolderEntry() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 1, 0);
+		FolderEntry folderEntry = _addFolderEntry(
+			rootFolderEntry, "child", 0, 0, 0);
+
+		_mockLockFolderEntries(folderEntry);
+
+		_folderEntryLocalServiceImpl.deleteFolderEntry(
+			_TENANT_ID, folderEntry.getId());
+
+		Mockito.verify(
+			_folderEntryRepository
+		).delete(
+			folderEntry
+		);
+		Mockito.verify(
+			_folderEntryRepository
+		).updateAggregates(
+			_TENANT_ID, rootFolderEntry.getPathTree(), 0, -1, 0
+		);
+	}
+
+	@Test
+	public void testDeleteFolderEntryWhileAddingFile() throws Exception {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 2, 0);
+		FolderEntry parentFolderEntry = _addFolderEntry(
+			rootFolderEntry, "parent", 0, 1, 0);
+		FolderEntry folderEntry = _addFolderEntry(
+			parentFolderEntry, "folder", 0, 0, 0);
+
+		_mockRowLocks();
+
+		List<Throwable> throwables = _runConcurrently(
+			() -> _folderEntryLocalServiceImpl.deleteFolderEntry(
+				_TENANT_ID, folderEntry.getId()),
+			() -> _folderEntryLocalServiceImpl.updateFileAggregates(
+				_TENANT_ID, folderEntry, 1, 10));
+
+		_assertConflicts(throwables, 1);
+	}
+
+	@Test
+	public void testDeleteNonemptyFolderEntry() {
+		FolderEntry folderEntry = _addFolderEntry(null, "root", 1, 0, 10);
+
+		_mockLockFolderEntries(folderEntry);
+
+		Assertions.assertThrows(
+			ConflictException.class,
+			() -> _folderEntryLocalServiceImpl.deleteFolderEntry(
+				_TENANT_ID, folderEntry.getId()));
+
+		Mockito.verify(
+			_folderEntryRepository, Mockito.never()
+		).delete(
+			ArgumentMatchers.any()
+		);
+	}
+
+	@Test
+	public void testGetDescendantFolderEntries() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 3, 0);
+		FolderEntry folderEntry1 = _addFolderEntry(
+			rootFolderEntry, "a", 0, 1, 0);
+		FolderEntry folderEntry2 = _addFolderEntry(folderEntry1, "b", 0, 0, 0);
+		FolderEntry folderEntry3 = _addFolderEntry(
+			rootFolderEntry, "c", 0, 0, 0);
+
+		String pathTree = rootFolderEntry.getPathTree();
+
+		Mockito.when(
+			_folderEntryRepository.findDescendants(
+				_TENANT_ID, pathTree, pathTree, 2)
+		).thenReturn(
+			List.of(folderEntry1, folderEntry2)
+		);
+		Mockito.when(
+			_folderEntryRepository.findDescendants(
+				_TENANT_ID, pathTree, folderEntry2.getPathTree(), 2)
+		).thenReturn(
+			List.of(folderEntry3)
+		);
+
+		QueryResult<FolderEntry> queryResult =
+			_folderEntryLocalServiceImpl.getDescendantFolderEntries(
+				_TENANT_ID, rootFolderEntry.getId(), null, 2);
+
+		Assertions.assertEquals(
+			List.of(folderEntry1, folderEntry2), queryResult.getContent());
+		Assertions.assertEquals(3, queryResult.getTotalElements());
+		Assertions.assertNotNull(queryResult.getNextCursor());
+
+		queryResult = _folderEntryLocalServiceImpl.getDescendantFolderEntries(
+			_TENANT_ID, rootFolderEntry.getId(), queryResult.getNextCursor(),
+			2);
+
+		Assertions.assertEquals(
+			List.of(folderEntry3), queryResult.getContent());
+		Assertions.assertNull(queryResult.getNextCursor());
+	}
+
+	@Test
+	public void testGetDescendantFolderEntriesWithInvalidCursor() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 1, 0);
+		FolderEntry otherFolderEntry = _addFolderEntry(
+			null, "other", 0, 1, 0);
+		FolderEntry folderEntry = _addFolderEntry(
+			otherFolderEntry, "child", 0, 0, 0);
+
+		Mockito.when(
+			_folderEntryRepository.findDescendants(
+				_TENANT_ID, otherFolderEntry.getPathTree(),
+				otherFolderEntry.getPathTree(), 1)
+		).thenReturn(
+			List.of(folderEntry)
+		);
+
+		QueryResult<FolderEntry> queryResult =
+			_folderEntryLocalServiceImpl.getDescendantFolderEntries(
+				_TENANT_ID, otherFolderEntry.getId(), null, 1);
+
+		String nextCursor = queryResult.getNextCursor();
+
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.getDescendantFolderEntries(
+				_TENANT_ID, rootFolderEntry.getId(), nextCursor, 1));
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.getDescendantFolderEntries(
+				_TENANT_ID, rootFolderEntry.getId(), "!", 1));
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.getDescendantFolderEntries(
+				_TENANT_ID, rootFolderEntry.getId(), "YScpOw", 1));
+	}
+
+	@Test
+	public void testGetFolderEntries() {
+		FolderEntry folderEntry1 = _addFolderEntry(null, "a", 0, 0, 0);
+		FolderEntry folderEntry2 = _addFolderEntry(null, "b", 0, 0, 0);
+		FolderEntry folderEntry3 = _addFolderEntry(null, "c", 0, 0, 0);
+
+		Mockito.when(
+			_folderEntryRepository.countByTenantIdAndParentFolderId(
+				_TENANT_ID, null)
+		).thenReturn(
+			3L
+		);
+		Mockito.when(
+			_folderEntryRepository.findRootChildren(
+				_TENANT_ID, "", new UUID(0, 0), 2, 0)
+		).thenReturn(
+			List.of(folderEntry1, folderEntry2)
+		);
+		Mockito.when(
+			_folderEntryRepository.findRootChildren(
+				_TENANT_ID, "b", folderEntry2.getId(), 2, 0)
+		).thenReturn(
+			List.of(folderEntry3)
+		);
+
+		QueryResult<FolderEntry> queryResult =
+			_folderEntryLocalServiceImpl.getFolderEntries(
+				_TENANT_ID, null, null, 0, 2);
+
+		Assertions.assertEquals(
+			List.of(folderEntry1, folderEntry2), queryResult.getContent());
+		Assertions.assertEquals(3, queryResult.getTotalElements());
+		Assertions.assertNotNull(queryResult.getNextCursor());
+
+		// The page is ignored once a cursor is given
+
+		queryResult = _folderEntryLocalServiceImpl.getFolderEntries(
+			_TENANT_ID, null, queryResult.getNextCursor(), 5, 2);
+
+		Assertions.assertEquals(
+			List.of(folderEntry3), queryResult.getContent());
+		Assertions.assertNull(queryResult.getNextCursor());
+	}
+
+	@Test
+	public void testGetFolderEntriesByPage() {
+		FolderEntry parentFolderEntry = _addFolderEntry(
+			null, "parent", 0, 3, 0);
+
+		_folderEntryLocalServiceImpl.getFolderEntries(
+			_TENANT_ID, parentFolderEntry.getId(), null, 2, 10);
+
+		Mockito.verify(
+			_folderEntryRepository
+		).findChildren(
+			_TENANT_ID, parentFolderEntry.getId(), "", new UUID(0, 0), 10, 20
+		);
+
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.getFolderEntries(
+				_TENANT_ID, null, "invalid", 0, 10));
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.getFolderEntries(
+				_TENANT_ID, null, null, 0, 101));
+	}
+
+	@Test
+	public void testMoveFolderEntries() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 3, 4, 30);
+		FolderEntry folderEntry = _addFolderEntry(
+			rootFolderEntry, "folder", 2, 1, 20);
+		FolderEntry targetFolderEntry = _addFolderEntry(
+			rootFolderEntry, "target", 1, 1, 10);
+
+		_mockLockFolderEntries(folderEntry, targetFolderEntry);
+
+		Mockito.when(
+			_folderEntryRepository.findAllById(
+				ArgumentMatchers.anyIterable())
+		).thenReturn(
+			List.of(folderEntry)
+		);
+
+		List<FolderEntry> folderEntries =
+			_folderEntryLocalServiceImpl.moveFolderEntries(
+				_TENANT_ID, List.of(folderEntry.getId()),
+				targetFolderEntry.getId());
+
+		Assertions.assertEquals(List.of(folderEntry), folderEntries);
+
+		InOrder inOrder = Mockito.inOrder(_folderEntryRepository);
+
+		inOrder.verify(
+			_folderEntryRepository
+		).lockPathTrees(
+			_TENANT_ID,
+			folderEntry.getPathTree() + "," + targetFolderEntry.getPathTree(),
+			folderEntry.getPathTree()
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).findForUpdate(
+			ArgumentMatchers.anyCollection(), ArgumentMatchers.eq(_TENANT_ID)
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).updateAggregates(
+			_TENANT_ID, rootFolderEntry.getPathTree(), -2, -2, -20
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).move(
+			_TENANT_ID, List.of(folderEntry.getId()), targetFolderEntry.getId(),
+			targetFolderEntry.getPathTree()
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).updateAggregates(
+			_TENANT_ID, targetFolderEntry.getPathTree(), 2, 2, 20
+		);
+	}
+
+	@Test
+	public void testMoveFolderEntriesWhileAddingFolder() throws Exception {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 3, 0);
+		FolderEntry parentFolderEntry = _addFolderEntry(
+			rootFolderEntry, "parent", 0, 1, 0);
+		FolderEntry folderEntry = _addFolderEntry(
+			parentFolderEntry, "folder", 0, 0, 0);
+		FolderEntry targetFolderEntry = _addFolderEntry(
+			rootFolderEntry, "target", 0, 0, 0);
+
+		_mockRowLocks();
+
+		List<Throwable> throwables = _runConcurrently(
+			() -> _folderEntryLocalServiceImpl.moveFolderEntries(
+				_TENANT_ID, List.of(folderEntry.getId()),
+				targetFolderEntry.getId()),
+			() -> _folderEntryLocalServiceImpl.addFolderEntry(
+				_TENANT_ID, folderEntry.getId(), "child", null));
+
+		_assertConflicts(throwables, 1);
+
+		Assertions.assertEquals(
+			targetFolderEntry.getId(), folderEntry.getParentFolderId());
+		Assertions.assertEquals(0, parentFolderEntry.getFolderCount());
+		Assertions.assertEquals(
+			3 + folderEntry.getFolderCount(), rootFolderEntry.getFolderCount());
+		Assertions.assertEquals(
+			1 + folderEntry.getFolderCount(),
+			targetFolderEntry.getFolderCount());
+	}
+
+	@Test
+	public void testMoveFolderEntriesIntoThemselves() {
+		FolderEntry folderEntry = _addFolderEntry(null, "folder", 0, 1, 0);
+		FolderEntry childFolderEntry = _addFolderEntry(
+			folderEntry, "child", 0, 0, 0);
+
+		_mockLockFolderEntries(folderEntry, childFolderEntry);
+
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> _folderEntryLocalServiceImpl.moveFolderEntries(
+				_TENANT_ID, List.of(folderEntry.getId()),
+				childFolderEntry.getId()));
+
+		Mockito.verify(
+			_folderEntryRepository, Mockito.never()
+		).move(
+			ArgumentMatchers.any(), ArgumentMatchers.any(),
+			ArgumentMatchers.any(), ArgumentMatchers.any()
+		);
+	}
+
+	@Test
+	public void testMoveFolderEntriesToRoot() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 1, 5);
+		FolderEntry folderEntry = _addFolderEntry(
+			rootFolderEntry, "folder", 0, 0, 5);
+
+		_mockLockFolderEntries(folderEntry);
+
+		_folderEntryLocalServiceImpl.moveFolderEntries(
+			_TENANT_ID, List.of(folderEntry.getId()), null);
+
+		ArgumentCaptor<String> pathTreeArgumentCaptor = ArgumentCaptor.forClass(
+			String.class);
+
+		Mockito.verify(
+			_folderEntryRepository
+		).updateAggregates(
+			ArgumentMatchers.eq(_TENANT_ID), pathTreeArgumentCaptor.capture(),
+			ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(),
+			ArgumentMatchers.anyLong()
+		);
+
+		Assertions.assertEquals(
+			rootFolderEntry.getPathTree(), pathTreeArgumentCaptor.getValue());
+
+		Mockito.verify(
+			_folderEntryRepository
+		).move(
+			_TENANT_ID, List.of(folderEntry.getId()), null, ""
+		);
+	}
+
+	@Test
+	public void testUpdateFolderEntry() {
+		FolderEntry rootFolderEntry = _addFolderEntry(null, "root", 0, 1, 0);
+		FolderEntry folderEntry = _addFolderEntry(
+			rootFolderEntry, "folder", 0, 0, 0);
+
+		Mockito.when(
+			_folderEntryRepository.lockPathTrees(
+				_TENANT_ID, rootFolderEntry.getPathTree(), "")
+		).thenReturn(
+			List.of(rootFolderEntry.getId())
+		);
+
+		folderEntry = _folderEntryLocalServiceImpl.updateFolderEntry(
+			_TENANT_ID, folderEntry.getId(), "renamed", null);
+
+		Assertions.assertEquals("renamed", folderEntry.getName());
+
+		InOrder inOrder = Mockito.inOrder(_folderEntryRepository);
+
+		inOrder.verify(
+			_folderEntryRepository
+		).lockPathTrees(
+			_TENANT_ID, rootFolderEntry.getPathTree(), ""
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).existsByTenantIdAndParentFolderIdAndName(
+			_TENANT_ID, rootFolderEntry.getId(), "renamed"
+		);
+		inOrder.verify(
+			_folderEntryRepository
+		).saveAndFlush(
+			folderEntry
+		);
+	}
+
+	@Test
+	public void testUpdateRootFolderEntryWithDuplicateName() {
+		FolderEntry folderEntry = _addFolderEntry(null, "folder", 0, 0, 0);
+
+		Mockito.when(
+			_folderEntryRepository.saveAndFlush(folderEntry)
+		).thenThrow(
+			new DataIntegrityViolationException("eb_folder_name_idx")
+		);
+
+		Assertions.assertThrows(
+			ConflictException.class,
+			() -> _folderEntryLocalServiceImpl.updateFolderEntry(
+				_TENANT_ID, folderEntry.getId(), "renamed", null));
+	}
+
+	private FolderEntry _addFolderEntry(
+		FolderEntry parentFolderEntry, String name, long fileCount,
+		long folderCount, long size) {
+
+		FolderEntry folderEntry = new FolderEntry();
+
+		folderEntry.setFileCount(fileCount);
+		folderEntry.setFolderCount(folderCount);
+		folderEntry.setName(name);
+		folderEntry.setSize(size);
+
+		if (parentFolderEntry == null) {
+			folderEntry.setPathTree(_getLabel(folderEntry.getId()));
+		}
+		else {
+			folderEntry.setParentFolderId(parentFolderEntry.getId());
+			folderEntry.setPathTree(
+				parentFolderEntry.getPathTree() + "." +
+					_getLabel(folderEntry.getId()));
+		}
+
+		Mockito.when(
+			_folderEntryRepository.findByIdAndTenantId(
+				folderEntry.getId(), _TENANT_ID)
+		).thenReturn(
+			Optional.of(folderEntry)
+		);
+
+		_folderEntries.add(folderEntry);
+
+		return folderEntry;
+	}
+
+	private void _assertConflicts(List<Throwable> throwables, int maxCount) {
+		for (Throwable throwable : throwables) {
+			Assertions.assertInstanceOf(
+				ConflictException.class, throwable, throwable.toString());
+		}
+
+		Assertions.assertTrue(throwables.size() <= maxCount);
+	}
+
+	private List<FolderEntry> _findFolderEntries(
+		Predicate<FolderEntry> predicate) {
+
+		List<FolderEntry> folderEntries = new ArrayList<>();
+
+		for (FolderEntry folderEntry : _folderEntries) {
+			if (predicate.test(folderEntry)) {
+				folderEntries.add(folderEntry);
+			}
+		}
+
+		folderEntries.sort(Comparator.comparing(FolderEntry::getPathTree));
+
+		return folderEntries;
+	}
+
+	private String _getLabel(UUID id) {
+		return id.toString(
+		).replace(
+			"-", ""
+		);
+	}
+
+	/**
+	 * Locks a folder like a row lock held until the end of the transaction.
+	 * Waiting for longer than any transaction in these tests takes means the
+	 * transactions deadlocked.
+	 */
+	private void _lock(FolderEntry folderEntry) throws InterruptedException {
+		ReentrantLock reentrantLock = _locks.computeIfAbsent(
+			folderEntry.getId(), id -> new ReentrantLock());
+
+		if (reentrantLock.isHeldByCurrentThread()) {
+			return;
+		}
+
+		if (!reentrantLock.tryLock(5, TimeUnit.SECONDS)) {
+			throw new IllegalStateException(
+				"Deadlock on folder " + folderEntry.getName());
+		}
+
+		List<ReentrantLock> reentrantLocks = _heldLocks.get();
+
+		reentrantLocks.add(reentrantLock);
+
+		// Give the other transaction time to lock rows in between
+
+		Thread.sleep(50);
+	}
+
+	private List<UUID> _lock(List<FolderEntry> folderEntries)
+		throws InterruptedException {
+
+		List<UUID> ids = new ArrayList<>();
+
+		for (FolderEntry folderEntry : folderEntries) {
+			_lock(folderEntry);
+
+			ids.add(folderEntry.getId());
+		}
+
+		return ids;
+	}
+
+	private void _mockLockFolderEntries(FolderEntry... folderEntries) {
+		List<String> pathTrees = new ArrayList<>();
+
+		for (FolderEntry folderEntry : folderEntries) {
+			pathTrees.add(folderEntry.getPathTree());
+		}
+
+		Mockito.when(
+			_folderEntryRepository.findPathTrees(
+				ArgumentMatchers.anyCollection(),
+				ArgumentMatchers.eq(_TENANT_ID))
+		).thenReturn(
+			pathTrees
+		);
+		Mockito.when(
+			_folderEntryRepository.findForUpdate(
+				ArgumentMatchers.anyCollection(),
+				ArgumentMatchers.eq(_TENANT_ID))
+		).thenReturn(
+			List.of(folderEntries)
+		);
+	}
+
+	/**
+	 * Backs the repository with the folders added by the test, locking rows
+	 * in the order the SQL statements lock them.
+	 */
+	private void _mockRowLocks() {
+		Mockito.when(
+			_folderEntryRepository.findAllById(ArgumentMatchers.anyIterable())
+		).thenAnswer(
+			invocation -> {
+				Collection<UUID> ids = invocation.getArgument(0);
+
+				return _findFolderEntries(
+					folderEntry -> ids.contains(folderEntry.getId()));
+			}
+		);
+		Mockito.when(
+			_folderEntryRepository.findForUpdate(
+				ArgumentMatchers.anyCollection(),
+				ArgumentMatchers.eq(_TENANT_ID))
+		).thenAnswer(
+			invocation -> {
+				Collection<UUID> ids = invocation.getArgument(0);
+
+				List<FolderEntry> folderEntries = _findFolderEntries(
+					folderEntry -> ids.contains(folderEntry.getId()));
+
+				_lock(folderEntries);
+
+				return folderEntries;
+			}
+		);
+		Mockito.when(
+			_folderEntryRepository.findPathTrees(
+				ArgumentMatchers.anyCollection(),
+				ArgumentMatchers.eq(_TENANT_ID))
+		).thenAnswer(
+			invocation -> {
+				Collection<UUID> ids = invocation.getArgument(0);
+
+				List<String> pathTrees = new ArrayList<>();
+
+				for (FolderEntry folderEntry :
+						_findFolderEntries(
+							curFolderEntry -> ids.contains(
+								curFolderEntry.getId()))) {
+
+					pathTrees.add(folderEntry.getPathTree());
+				}
+
+				return pathTrees;
+			}
+		);
+		Mockito.when(
+			_folderEntryRepository.lockPathTrees(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyString())
+		).thenAnswer(
+			invocation -> {
+				List<String> pathTrees = _split(invocation.getArgument(1));
+				List<String> subtreePathTrees = _split(
+					invocation.getArgument(2));
+
+				return _lock(
+					_findFolderEntries(
+						folderEntry -> {
+							for (String pathTree : pathTrees) {
+								if (_contains(
+										folderEntry.getPathTree(), pathTree)) {
+
+									return true;
+								}
+							}
+
+							for (String pathTree : subtreePathTrees) {
+								if (_contains(
+										pathTree, folderEntry.getPathTree())) {
+
+									return true;
+								}
+							}
+
+							return false;
+						}));
+			}
+		);
+		Mockito.when(
+			_folderEntryRepository.move(
+				ArgumentMatchers.eq(_TENANT_ID),
+				ArgumentMatchers.anyCollection(), ArgumentMatchers.any(),
+				ArgumentMatchers.anyString())
+		).thenAnswer(
+			invocation -> {
+				Collection<UUID> ids = invocation.getArgument(1);
+				UUID parentFolderId = invocation.getArgument(2);
+				String parentPathTree = invocation.getArgument(3);
+
+				int count = 0;
+
+				for (UUID id : ids) {
+					FolderEntry movedFolderEntry = _findFolderEntries(
+						folderEntry -> id.equals(folderEntry.getId())
+					).get(
+						0
+					);
+
+					String movedPathTree = movedFolderEntry.getPathTree();
+
+					int index = movedPathTree.lastIndexOf('.') + 1;
+
+					for (FolderEntry folderEntry :
+							_findFolderEntries(
+								curFolderEntry -> _contains(
+									movedPathTree,
+									curFolderEntry.getPathTree()))) {
+
+						String pathTree = folderEntry.getPathTree();
+
+						folderEntry.setPathTree(
+							parentPathTree + "." + pathTree.substring(index));
+
+						count++;
+					}
+
+					movedFolderEntry.setParentFolderId(parentFolderId);
+				}
+
+				return count;
+			}
+		);
+		Mockito.when(
+			_folderEntryRepository.updateAggregates(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyLong(), ArgumentMatchers.anyLong(),
+				ArgumentMatchers.anyLong())
+		).thenAnswer(
+			invocation -> {
+				String pathTree = invocation.getArgument(1);
+
+				_lock(
+					_findFolderEntries(
+						folderEntry -> _contains(
+							folderEntry.getPathTree(), pathTree)));
+
+				// Rows moved while waiting for their lock no longer match,
+				// as PostgreSQL rechecks the condition after the wait
+
+				List<FolderEntry> folderEntries = _findFolderEntries(
+					folderEntry -> _contains(
+						folderEntry.getPathTree(), pathTree));
+
+				long fileCount = invocation.getArgument(2);
+				long folderCount = invocation.getArgument(3);
+				long size = invocation.getArgument(4);
+
+				for (FolderEntry folderEntry : folderEntries) {
+					_updateAggregates(
+						folderEntry, fileCount, folderCount, size);
+				}
+
+				List<Runnable> rollbacks = _rollbacks.get();
+
+				rollbacks.add(
+					() -> {
+						for (FolderEntry folderEntry : folderEntries) {
+							_updateAggregates(
+								folderEntry, -fileCount, -folderCount, -size);
+						}
+					});
+
+				return folderEntries.size();
+			}
+		);
+
+		Mockito.doAnswer(
+			invocation -> _folderEntries.remove(invocation.getArgument(0))
+		).when(
+			_folderEntryRepository
+		).delete(
+			ArgumentMatchers.any(FolderEntry.class)
+		);
+	}
+
+	/**
+	 * Runs each task in its own transaction on its own thread, all starting
+	 * at once, and returns the exceptions they failed with. A failed task
+	 * rolls back the aggregates it adjusted before releasing its locks.
+	 */
+	private List<Throwable> _runConcurrently(Runnable... runnables)
+		throws Exception {
+
+		CountDownLatch countDownLatch = new CountDownLatch(runnables.length);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			runnables.length);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (Runnable runnable : runnables) {
+				futures.add(
+					executorService.submit(
+						() -> {
+							countDownLatch.countDown();
+
+							countDownLatch.await();
+
+							List<Runnable> rollbacks = _rollbacks.get();
+
+							try {
+								runnable.run();
+							}
+							catch (RuntimeException runtimeException) {
+								Collections.reverse(rollbacks);
+
+								for (Runnable rollback : rollbacks) {
+									rollback.run();
+								}
+
+								throw runtimeException;
+							}
+							finally {
+								rollbacks.clear();
+
+								_unlockAll();
+							}
+
+							return null;
+						}));
+			}
+
+			List<Throwable> throwables = new ArrayList<>();
+
+			for (Future<?> future : futures) {
+				try {
+					future.get(30, TimeUnit.SECONDS);
+				}
+				catch (ExecutionException executionException) {
+					throwables.add(executionException.getCause());
+				}
+			}
+
+			return throwables;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private List<String> _split(String pathTrees) {
+		if (pathTrees.isEmpty()) {
+			return List.of();
+		}
+
+		return List.of(pathTrees.split(","));
+	}
+
+	private void _unlockAll() {
+		List<ReentrantLock> reentrantLocks = _heldLocks.get();
+
+		for (ReentrantLock reentrantLock : reentrantLocks) {
+			reentrantLock.unlock();
+		}
+
+		reentrantLocks.clear();
+	}
+
+	private void _updateAggregates(
+		FolderEntry folderEntry, long fileCount, long folderCount, long size) {
+
+		folderEntry.setFileCount(folderEntry.getFileCount() + fileCount);
+		folderEntry.setFolderCount(folderEntry.getFolderCount() + folderCount);
+		folderEntry.setSize(folderEntry.getSize() + size);
+	}
+
+	private static boolean _contains(
+		String ancestorPathTree, String pathTree) {
+
+		if (pathTree.equals(ancestorPathTree) ||
+			pathTree.startsWith(ancestorPathTree + ".")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final UUID _TENANT_ID = UUID.randomUUID();
+
+	private final List<FolderEntry> _folderEntries =
+		new CopyOnWriteArrayList<>();
+
+	private FolderEntryLocalServiceImpl _folderEntryLocalServiceImpl;
+	private FolderEntryRepository _folderEntryRepository;
+	private final ThreadLocal<List<ReentrantLock>> _heldLocks =
+		ThreadLocal.withInitial(ArrayList::new);
+	private final Map<UUID, ReentrantLock> _locks = new ConcurrentHashMap<>();
+	private final ThreadLocal<List<Runnable>> _rollbacks =
+		ThreadLocal.withInitial(ArrayList::new);
+	private TenantRepository _tenantRepository;
+
+}
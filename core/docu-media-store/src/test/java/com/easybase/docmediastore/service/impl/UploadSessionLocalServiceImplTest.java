@@ -0,0 +1,189 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.service.impl;
+
+import com.easybase.common.exception.ConflictException;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.repository.TenantRepository;
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.docmediastore.repository.FolderEntryRepository;
+import com.easybase.docmediastore.repository.UploadSessionRepository;
+import com.easybase.docmediastore.service.FileEntryLocalService;
+import com.easybase.store.blob.BlobStore;
+import com.easybase.store.ingest.FileIngester;
+import com.easybase.store.ingest.IngestedFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.time.Duration;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * @author Akhash R
+ */
+class UploadSessionLocalServiceImplTest {
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		Path homePath = Paths.get(System.getProperty("user.home"));
+
+		_blobStore = new BlobStore(new FileIngester());
+
+		ReflectionTestUtils.setField(
+			_blobStore, "_path",
+			String.valueOf(homePath.relativize(_rootPath.toAbsolutePath())));
+
+		_blobStore.initialize();
+
+		_fileEntryLocalService = Mockito.mock(FileEntryLocalService.class);
+
+		Mockito.when(
+			_fileEntryLocalService.validateFileEntry(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.isNull(),
+				ArgumentMatchers.anyString())
+		).thenAnswer(
+			invocation -> invocation.getArgument(2)
+		);
+
+		Tenant tenant = new Tenant();
+
+		tenant.setId(_TENANT_ID);
+
+		TenantRepository tenantRepository = Mockito.mock(
+			TenantRepository.class);
+
+		Mockito.when(
+			tenantRepository.findById(_TENANT_ID)
+		).thenReturn(
+			Optional.of(tenant)
+		);
+
+		_uploadSessionRepository = Mockito.mock(UploadSessionRepository.class);
+
+		Mockito.when(
+			_uploadSessionRepository.save(
+				ArgumentMatchers.any(UploadSession.class))
+		).thenAnswer(
+			invocation -> {
+				UploadSession uploadSession = invocation.getArgument(0);
+
+				Mockito.when(
+					_uploadSessionRepository.findForUpdate(
+						uploadSession.getId())
+				).thenReturn(
+					Optional.of(uploadSession)
+				);
+
+				return uploadSession;
+			}
+		);
+
+		_uploadSessionLocalServiceImpl = new UploadSessionLocalServiceImpl(
+			_blobStore, _fileEntryLocalService,
+			Mockito.mock(FolderEntryRepository.class),
+			Mockito.mock(PlatformTransactionManager.class), tenantRepository,
+			_uploadSessionRepository);
+
+		ReflectionTestUtils.setField(
+			_uploadSessionLocalServiceImpl, "_chunkSize", DataSize.ofBytes(4));
+		ReflectionTestUtils.setField(
+			_uploadSessionLocalServiceImpl, "_expiration",
+			Duration.ofHours(1));
+		ReflectionTestUtils.setField(
+			_uploadSessionLocalServiceImpl, "_maxFileSize", 1024);
+		ReflectionTestUtils.setField(
+			_uploadSessionLocalServiceImpl, "_writerLease",
+			Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void testCompleteUploadSessionAfterStoreFailed() throws Exception {
+		UploadSession uploadSession =
+			_uploadSessionLocalServiceImpl.addUploadSession(
+				_TENANT_ID, _USER_ID, null, "file.txt", 8);
+
+		_writeChunk(uploadSession, 0, "abcd");
+		_writeChunk(uploadSession, 4, "efgh");
+
+		// The blob is stored, but adding the file entry fails in a way that
+		// leaves the session to be completed again
+
+		AtomicReference<Path> blobPathReference = new AtomicReference<>();
+
+		Mockito.when(
+			_fileEntryLocalService.addFileEntry(
+				ArgumentMatchers.eq(_TENANT_ID), ArgumentMatchers.isNull(),
+				ArgumentMatchers.any(IngestedFile.class))
+		).thenAnswer(
+			invocation -> {
+				IngestedFile ingestedFile = _blobStore.store(
+					invocation.getArgument(2));
+
+				blobPathReference.set(ingestedFile.getPath());
+
+				throw new ConflictException("File", "name", "file.txt");
+			}
+		);
+
+		Assertions.assertThrows(
+			ConflictException.class,
+			() -> _uploadSessionLocalServiceImpl.completeUploadSession(
+				_TENANT_ID, _USER_ID, uploadSession.getId()));
+
+		Assertions.assertFalse(uploadSession.isCompleting());
+
+		_writeChunk(uploadSession, 0, "wxyz");
+
+		Assertions.assertEquals(
+			"abcdefgh", Files.readString(blobPathReference.get()));
+	}
+
+	private void _writeChunk(
+			UploadSession uploadSession, long offset, String content)
+		throws IOException {
+
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+		_uploadSessionLocalServiceImpl.writeChunk(
+			_TENANT_ID, _USER_ID, uploadSession.getId(), offset, bytes.length,
+			new ByteArrayInputStream(bytes));
+	}
+
+	private static final UUID _TENANT_ID = UUID.randomUUID();
+
+	private static final UUID _USER_ID = UUID.randomUUID();
+
+	private BlobStore _blobStore;
+	private FileEntryLocalService _fileEntryLocalService;
+
+	@TempDir
+	private Path _rootPath;
+
+	private UploadSessionLocalServiceImpl _uploadSessionLocalServiceImpl;
+	private UploadSessionRepository _uploadSessionRepository;
+
+}
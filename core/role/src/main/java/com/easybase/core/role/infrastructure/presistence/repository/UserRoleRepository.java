@@ -57,6 +57,14 @@ public interface UserRoleRepository
 		@Param("userId") UUID userId, @Param("tenantId") UUID tenantId,
 		@Param("currentTime") Instant currentTime);
 
+	@Query(
+		"SELECT r.name FROM UserRole ur JOIN Role r ON r.id = ur.roleId WHERE ur.userId = :userId " +
+			"AND ur.active = true AND (ur.expiresAt IS NULL OR ur.expiresAt > :currentTime)"
+	)
+	public List<String> findActiveRoleNamesByUserId(
+		@Param("userId") UUID userId,
+		@Param("currentTime") Instant currentTime);
+
 	@Query(
 		"SELECT ur FROM UserRole ur WHERE ur.userId = :userId AND ur.active = true " +
 			"AND (ur.expiresAt IS NULL OR ur.expiresAt > :currentTime)"
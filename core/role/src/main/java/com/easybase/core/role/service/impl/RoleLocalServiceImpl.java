@@ -13,18 +13,19 @@ import com.easybase.core.role.domain.entity.UserRole;
 import com.easybase.core.role.infrastructure.presistence.repository.RoleRepository;
 import com.easybase.core.role.infrastructure.presistence.repository.UserRoleRepository;
 import com.easybase.core.role.service.RoleLocalService;
+import com.easybase.core.user.event.UserChangedEvent;
 
 import java.time.Instant;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,7 +57,12 @@ public class RoleLocalServiceImpl implements RoleLocalService {
 
 		userRole.setExpiresAt(expiresAt);
 
-		return _userRoleRepository.save(userRole);
+		userRole = _userRoleRepository.save(userRole);
+
+		_applicationEventPublisher.publishEvent(
+			UserChangedEvent.forUser(userId));
+
+		return userRole;
 	}
 
 	public Role createRole(
@@ -100,6 +106,8 @@ public class RoleLocalServiceImpl implements RoleLocalService {
 		_userRoleRepository.deleteByRoleId(roleId);
 
 		_roleRepository.delete(role);
+
+		_applicationEventPublisher.publishEvent(UserChangedEvent.forAllUsers());
 	}
 
 	@Cacheable(key = "#userId", value = "userActiveRoleIds")
@@ -174,24 +182,8 @@ public class RoleLocalServiceImpl implements RoleLocalService {
 
 	@Transactional(readOnly = true)
 	public List<String> getUserAuthorities(UUID userId) {
-		List<UserRole> userRoles = getActiveUserRoles(userId);
-
-		if (userRoles.isEmpty()) {
-			return List.of();
-		}
-
-		Stream<UserRole> userRolesStream = userRoles.stream();
-
-		List<Role> roles = getRolesByIds(
-			userRolesStream.map(
-				UserRole::getRoleId
-			).toList());
-
-		Stream<Role> rolesStream = roles.stream();
-
-		return rolesStream.map(
-			Role::getName
-		).toList();
+		return _userRoleRepository.findActiveRoleNamesByUserId(
+			userId, Instant.now());
 	}
 
 	@Transactional(readOnly = true)
@@ -210,6 +202,9 @@ public class RoleLocalServiceImpl implements RoleLocalService {
 	)
 	public void revokeRoleFromUser(UUID userId, UUID roleId) {
 		_userRoleRepository.deleteByUserIdAndRoleId(userId, roleId);
+
+		_applicationEventPublisher.publishEvent(
+			UserChangedEvent.forUser(userId));
 	}
 
 	public Role updateRole(UUID roleId, String description) {
@@ -224,6 +219,7 @@ public class RoleLocalServiceImpl implements RoleLocalService {
 		return _roleRepository.save(role);
 	}
 
+	private final ApplicationEventPublisher _applicationEventPublisher;
 	private final RolePermissionRepository _rolePermissionRepository;
 	private final RoleRepository _roleRepository;
 	private final UserRoleRepository _userRoleRepository;
@@ -0,0 +1,84 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.role.service.query;
+
+import com.easybase.core.role.domain.entity.Role;
+import com.easybase.core.search.jooq.AbstractJooqQueryEngine;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Projection-only role search. Results are detached {@link Role} instances
+ * holding the listed columns.
+ *
+ * @author Akhash R
+ */
+@Component
+public class RoleJooqQueryEngine extends AbstractJooqQueryEngine<Role> {
+
+	public RoleJooqQueryEngine(
+		RoleMetadataContributor contributor, DSLContext dslContext) {
+
+		super(contributor, dslContext);
+	}
+
+	@Override
+	protected Condition baseCondition(UUID tenantId) {
+		Field<UUID> tenantIdField = DSL.field(
+			DSL.name("tenant_id"), UUID.class);
+		Field<Boolean> deletedField = DSL.field(
+			DSL.name("is_deleted"), Boolean.class);
+
+		return DSL.or(
+			tenantIdField.isNull(), tenantIdField.eq(tenantId)
+		).and(
+			deletedField.isFalse()
+		);
+	}
+
+	@Override
+	protected Map<String, String> getColumnNames() {
+		return _columnNames;
+	}
+
+	@Override
+	protected Table<?> getTable() {
+		return _table;
+	}
+
+	@Override
+	protected Role toResult(Record record) {
+		Role role = new Role();
+
+		role.setActive(record.get("is_active", boolean.class));
+		role.setCreatedAt(getInstant(record, "created_at"));
+		role.setDescription(record.get("description", String.class));
+		role.setId(record.get("id", UUID.class));
+		role.setName(record.get("name", String.class));
+		role.setSystem(record.get("is_system", boolean.class));
+		role.setTenantId(record.get("tenant_id", UUID.class));
+		role.setUpdatedAt(getInstant(record, "updated_at"));
+
+		return role;
+	}
+
+	private static final Map<String, String> _columnNames = Map.of(
+		"active", "is_active", "createdAt", "created_at", "description",
+		"description", "id", "id", "name", "name", "system", "is_system",
+		"tenantId", "tenant_id", "updatedAt", "updated_at");
+	private static final Table<?> _table = DSL.table(DSL.name("eb_roles"));
+
+}
@@ -12,10 +12,16 @@ import com.easybase.infrastructure.search.SearchContext;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
+ * Runs role searches on the JPA engine, or on the projection-only
+ * {@link RoleJooqQueryEngine} when
+ * {@code easy-base.search.sql-engine.enabled} is set or the search pages by
+ * cursor.
+ *
  * @author Akhash R
  */
 @Component
@@ -25,6 +31,10 @@ public class RoleQueryAdapter implements QueryAdapter<Role> {
 	@Override
 	@Transactional(readOnly = true)
 	public QueryResult<Role> execute(SearchContext context) {
+		if (_sqlEngineEnabled || (context.getCursor() != null)) {
+			return _roleJooqQueryEngine.execute(context);
+		}
+
 		return _roleQueryEngine.execute(context);
 	}
 
@@ -33,6 +43,10 @@ public class RoleQueryAdapter implements QueryAdapter<Role> {
 		return "role";
 	}
 
+	private final RoleJooqQueryEngine _roleJooqQueryEngine;
 	private final RoleQueryEngine _roleQueryEngine;
 
+	@Value("${easy-base.search.sql-engine.enabled:false}")
+	private boolean _sqlEngineEnabled;
+
 }
\ No newline at end of file
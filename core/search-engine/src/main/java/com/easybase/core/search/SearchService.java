@@ -52,28 +52,14 @@ public class SearchService {
 		_permissionChecker = permissionChecker;
 	}
 
-	public <T> QueryResult<T> search(SearchContext context) {
-		QueryAdapter<?> adapter = _adapters.get(context.getEntityType());
-
-		if (adapter == null) {
-			throw new InvalidRequestException(
-				"Unknown entity type: " + context.getEntityType());
-		}
-
-		QueryMetadataContributor contributor = _contributors.get(
-			context.getEntityType());
-
-		if (contributor != null) {
-			_validateFields(context, contributor);
+	public boolean hasEntityType(String entityType) {
+		return _adapters.containsKey(entityType);
+	}
 
-			if (context.isCheckPermission()) {
-				String requiredPermission = contributor.getRequiredPermission();
+	public <T> QueryResult<T> search(SearchContext context) {
+		validate(context);
 
-				if (requiredPermission != null) {
-					_permissionChecker.check(requiredPermission);
-				}
-			}
-		}
+		QueryAdapter<?> adapter = _adapters.get(context.getEntityType());
 
 		return (QueryResult<T>)adapter.execute(context);
 	}
@@ -93,7 +79,39 @@ public class SearchService {
 
 		return new QueryResult<>(
 			mapped, result.getPage(), result.getSize(),
-			result.getTotalElements());
+			result.getTotalElements(), result.getNextCursor());
+	}
+
+	/**
+	 * Validates the entity type and fields of a search and, unless the
+	 * context disables it, checks that the current user may run it. Callers
+	 * running searches on other threads validate on the request thread and
+	 * pass a context with permission checks disabled to the worker.
+	 *
+	 * @param context the search context
+	 */
+	public void validate(SearchContext context) {
+		if (!hasEntityType(context.getEntityType())) {
+			throw new InvalidRequestException(
+				"Unknown entity type: " + context.getEntityType());
+		}
+
+		QueryMetadataContributor contributor = _contributors.get(
+			context.getEntityType());
+
+		if (contributor == null) {
+			return;
+		}
+
+		_validateFields(context, contributor);
+
+		if (context.isCheckPermission()) {
+			String requiredPermission = contributor.getRequiredPermission();
+
+			if (requiredPermission != null) {
+				_permissionChecker.check(requiredPermission);
+			}
+		}
 	}
 
 	private void _collectFilterFields(FilterNode node, Set<String> fields) {
@@ -0,0 +1,44 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+/**
+ * A single item of a federated search together with the source it came from
+ * and its normalized relevance score.
+ *
+ * @author Akhash R
+ */
+public class FederatedSearchHit {
+
+	public FederatedSearchHit(String source, Object item, double score) {
+		_source = source;
+		_item = item;
+		_score = score;
+	}
+
+	public Object getItem() {
+		return _item;
+	}
+
+	/**
+	 * Returns the relevance score of the hit, between 0 exclusive and 1
+	 * inclusive. Scores are comparable across sources.
+	 *
+	 * @return the normalized score
+	 */
+	public double getScore() {
+		return _score;
+	}
+
+	public String getSource() {
+		return _source;
+	}
+
+	private final Object _item;
+	private final double _score;
+	private final String _source;
+
+}
@@ -0,0 +1,31 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+/**
+ * Receives the results of a federated search as they arrive. Calls for the
+ * same search are never concurrent, but they happen on the search worker
+ * threads rather than on the thread that started the search.
+ *
+ * @author Akhash R
+ */
+public interface FederatedSearchListener {
+
+	/**
+	 * Called once after every source completed, failed or timed out.
+	 *
+	 * @param response the merged response
+	 */
+	public void onComplete(FederatedSearchResponse response);
+
+	/**
+	 * Called once per source, in the order the sources finish.
+	 *
+	 * @param result the result of the source
+	 */
+	public void onResult(FederatedSearchResult result);
+
+}
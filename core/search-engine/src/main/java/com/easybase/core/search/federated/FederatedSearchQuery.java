@@ -0,0 +1,89 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+import com.easybase.infrastructure.search.SearchContext;
+
+import java.time.Duration;
+
+import java.util.function.Function;
+
+/**
+ * One source of a federated search: a regular search context, a mapper
+ * turning matched entities into the items returned to the caller, and an
+ * optional deadline of its own.
+ *
+ * @author Akhash R
+ */
+public class FederatedSearchQuery {
+
+	/**
+	 * Creates a query that uses the default deadline.
+	 *
+	 * @param source the name the results are reported under, unique within
+	 *        a federated search
+	 * @param context the search context
+	 * @param mapper maps matched entities to result items
+	 * @return the query
+	 */
+	public static <E> FederatedSearchQuery of(
+		String source, SearchContext context, Function<E, ?> mapper) {
+
+		return of(source, context, mapper, null);
+	}
+
+	/**
+	 * Creates a query with its own deadline.
+	 *
+	 * @param source the name the results are reported under, unique within
+	 *        a federated search
+	 * @param context the search context
+	 * @param mapper maps matched entities to result items
+	 * @param timeout how long the source may run, or null for the default
+	 * @return the query
+	 */
+	public static <E> FederatedSearchQuery of(
+		String source, SearchContext context, Function<E, ?> mapper,
+		Duration timeout) {
+
+		@SuppressWarnings("unchecked")
+		Function<Object, ?> objectMapper = (Function<Object, ?>)mapper;
+
+		return new FederatedSearchQuery(source, context, objectMapper, timeout);
+	}
+
+	public SearchContext getContext() {
+		return _context;
+	}
+
+	public Function<Object, ?> getMapper() {
+		return _mapper;
+	}
+
+	public String getSource() {
+		return _source;
+	}
+
+	public Duration getTimeout() {
+		return _timeout;
+	}
+
+	private FederatedSearchQuery(
+		String source, SearchContext context, Function<Object, ?> mapper,
+		Duration timeout) {
+
+		_source = source;
+		_context = context;
+		_mapper = mapper;
+		_timeout = timeout;
+	}
+
+	private final SearchContext _context;
+	private final Function<Object, ?> _mapper;
+	private final String _source;
+	private final Duration _timeout;
+
+}
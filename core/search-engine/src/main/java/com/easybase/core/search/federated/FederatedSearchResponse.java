@@ -0,0 +1,62 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+import java.util.List;
+
+/**
+ * Merged outcome of a federated search.
+ *
+ * @author Akhash R
+ */
+public class FederatedSearchResponse {
+
+	public FederatedSearchResponse(
+		List<FederatedSearchHit> hits, List<FederatedSearchResult> results) {
+
+		_hits = List.copyOf(hits);
+		_results = List.copyOf(results);
+	}
+
+	/**
+	 * Returns the hits of every completed source, ordered by descending
+	 * score.
+	 *
+	 * @return the merged hits
+	 */
+	public List<FederatedSearchHit> getHits() {
+		return _hits;
+	}
+
+	/**
+	 * Returns the per-source results in the order the sources finished.
+	 *
+	 * @return the source results
+	 */
+	public List<FederatedSearchResult> getResults() {
+		return _results;
+	}
+
+	/**
+	 * Returns whether at least one source failed or timed out, so the merged
+	 * hits are incomplete.
+	 *
+	 * @return true if the response is partial
+	 */
+	public boolean isPartial() {
+		for (FederatedSearchResult result : _results) {
+			if (result.getStatus() != FederatedSearchStatus.COMPLETED) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private final List<FederatedSearchHit> _hits;
+	private final List<FederatedSearchResult> _results;
+
+}
@@ -0,0 +1,95 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+import java.util.List;
+
+/**
+ * Result of a single source of a federated search. Sources that failed or
+ * missed their deadline have no hits and carry a message instead.
+ *
+ * @author Akhash R
+ */
+public class FederatedSearchResult {
+
+	public static FederatedSearchResult completed(
+		String source, String entityType, List<FederatedSearchHit> hits,
+		long totalElements, long durationMillis) {
+
+		return new FederatedSearchResult(
+			source, entityType, FederatedSearchStatus.COMPLETED,
+			List.copyOf(hits), totalElements, durationMillis, null);
+	}
+
+	public static FederatedSearchResult failed(
+		String source, String entityType, long durationMillis,
+		String message) {
+
+		return new FederatedSearchResult(
+			source, entityType, FederatedSearchStatus.FAILED, List.of(), 0,
+			durationMillis, message);
+	}
+
+	public static FederatedSearchResult timedOut(
+		String source, String entityType, long durationMillis) {
+
+		return new FederatedSearchResult(
+			source, entityType, FederatedSearchStatus.TIMED_OUT, List.of(), 0,
+			durationMillis, "Search did not finish within " +
+				durationMillis + " ms");
+	}
+
+	public long getDurationMillis() {
+		return _durationMillis;
+	}
+
+	public String getEntityType() {
+		return _entityType;
+	}
+
+	public List<FederatedSearchHit> getHits() {
+		return _hits;
+	}
+
+	public String getMessage() {
+		return _message;
+	}
+
+	public String getSource() {
+		return _source;
+	}
+
+	public FederatedSearchStatus getStatus() {
+		return _status;
+	}
+
+	public long getTotalElements() {
+		return _totalElements;
+	}
+
+	private FederatedSearchResult(
+		String source, String entityType, FederatedSearchStatus status,
+		List<FederatedSearchHit> hits, long totalElements,
+		long durationMillis, String message) {
+
+		_source = source;
+		_entityType = entityType;
+		_status = status;
+		_hits = hits;
+		_totalElements = totalElements;
+		_durationMillis = durationMillis;
+		_message = message;
+	}
+
+	private final long _durationMillis;
+	private final String _entityType;
+	private final List<FederatedSearchHit> _hits;
+	private final String _message;
+	private final String _source;
+	private final FederatedSearchStatus _status;
+	private final long _totalElements;
+
+}
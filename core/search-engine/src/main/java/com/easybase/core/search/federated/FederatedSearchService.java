@@ -0,0 +1,374 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.core.search.SearchService;
+import com.easybase.infrastructure.search.QueryResult;
+import com.easybase.infrastructure.search.SearchContext;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs several searches concurrently and merges their results.
+ *
+ * <p>Every source runs through {@link SearchService} on a bounded worker pool,
+ * with the request context of the caller propagated, and has its own
+ * deadline. Sources may still run after the request returned, when
+ * request-scoped beans can no longer be resolved, so every source is
+ * validated and its permission checked on the calling thread before it is
+ * submitted. Results are reported to a {@link FederatedSearchListener} as
+ * each source finishes. A source that misses its deadline is reported as
+ * timed out and its worker is interrupted, a source that throws is reported
+ * as failed; neither affects the other sources.</p>
+ *
+ * <p>Sources do not expose comparable relevance values, so hits are scored by
+ * their reciprocal rank within their source. The best match of every source
+ * scores 1, which interleaves the sources in the merged list instead of
+ * letting one source with many matches push the others out.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class FederatedSearchService implements DisposableBean {
+
+	public FederatedSearchService(
+		PlatformTransactionManager platformTransactionManager,
+		SearchService searchService, TaskDecorator taskDecorator) {
+
+		_searchService = searchService;
+		_taskDecorator = taskDecorator;
+
+		_transactionTemplate = new TransactionTemplate(
+			platformTransactionManager);
+
+		_transactionTemplate.setReadOnly(true);
+	}
+
+	@Override
+	public void destroy() {
+		_scheduledThreadPoolExecutor.shutdownNow();
+		_threadPoolExecutor.shutdownNow();
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(
+			1, new CustomizableThreadFactory("federated-search-timeout-"));
+
+		_scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			_threads, _threads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(_queueCapacity),
+			new CustomizableThreadFactory("federated-search-"),
+			new ThreadPoolExecutor.AbortPolicy());
+
+		_threadPoolExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Starts a federated search without a listener.
+	 *
+	 * @param queries the sources to search
+	 * @return the merged response, completed once every source finished
+	 */
+	public CompletableFuture<FederatedSearchResponse> search(
+		List<FederatedSearchQuery> queries) {
+
+		return search(queries, null);
+	}
+
+	/**
+	 * Starts a federated search. The sources are validated and their
+	 * permissions checked before this method returns, so an invalid or
+	 * forbidden source fails the whole search instead of being reported.
+	 *
+	 * @param queries the sources to search
+	 * @param listener notified as sources finish, may be null
+	 * @return the merged response, completed once every source finished
+	 */
+	public CompletableFuture<FederatedSearchResponse> search(
+		List<FederatedSearchQuery> queries, FederatedSearchListener listener) {
+
+		FederatedSearch federatedSearch = new FederatedSearch(
+			queries, _validate(queries), listener);
+
+		if (queries.isEmpty()) {
+			federatedSearch._finish();
+		}
+
+		for (int i = 0; i < queries.size(); i++) {
+			_submit(federatedSearch, i);
+		}
+
+		return federatedSearch._completableFuture;
+	}
+
+	private static long _getDurationMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+
+	private FederatedSearchResult _execute(
+		FederatedSearchQuery query, SearchContext context, long startNanos) {
+
+		try {
+			List<FederatedSearchHit> hits = new ArrayList<>();
+
+			QueryResult<Object> queryResult = _transactionTemplate.execute(
+				transactionStatus -> {
+					QueryResult<Object> result = _searchService.search(
+						context);
+
+					Function<Object, ?> mapper = query.getMapper();
+
+					List<Object> content = result.getContent();
+
+					for (int i = 0; i < content.size(); i++) {
+						hits.add(
+							new FederatedSearchHit(
+								query.getSource(), mapper.apply(content.get(i)),
+								1.0 / (i + 1)));
+					}
+
+					return result;
+				});
+
+			return FederatedSearchResult.completed(
+				query.getSource(), context.getEntityType(), hits,
+				queryResult.getTotalElements(), _getDurationMillis(startNanos));
+		}
+		catch (RuntimeException runtimeException) {
+			log.warn(
+				"Federated search source {} failed", query.getSource(),
+				runtimeException);
+
+			return FederatedSearchResult.failed(
+				query.getSource(), context.getEntityType(),
+				_getDurationMillis(startNanos), runtimeException.getMessage());
+		}
+	}
+
+	private void _submit(FederatedSearch federatedSearch, int index) {
+		FederatedSearchQuery query = federatedSearch._queries.get(index);
+
+		SearchContext context = federatedSearch._contexts.get(index);
+
+		long startNanos = System.nanoTime();
+
+		Future<?> future;
+
+		try {
+			future = _threadPoolExecutor.submit(
+				_taskDecorator.decorate(
+					() -> federatedSearch._complete(
+						index, _execute(query, context, startNanos))));
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			federatedSearch._complete(
+				index,
+				FederatedSearchResult.failed(
+					query.getSource(), context.getEntityType(), 0,
+					"Too many concurrent searches, retry later"));
+
+			return;
+		}
+
+		Duration timeout = query.getTimeout();
+
+		if (timeout == null) {
+			timeout = _timeout;
+		}
+
+		ScheduledFuture<?> scheduledFuture =
+			_scheduledThreadPoolExecutor.schedule(
+				() -> {
+					if (federatedSearch._complete(
+							index,
+							FederatedSearchResult.timedOut(
+								query.getSource(), context.getEntityType(),
+								_getDurationMillis(startNanos)))) {
+
+						future.cancel(true);
+					}
+				},
+				timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+		federatedSearch._setTimeout(index, scheduledFuture);
+	}
+
+	private List<SearchContext> _validate(List<FederatedSearchQuery> queries) {
+		List<SearchContext> contexts = new ArrayList<>(queries.size());
+		Set<String> sources = new HashSet<>();
+
+		for (FederatedSearchQuery query : queries) {
+			if (!sources.add(query.getSource())) {
+				throw new InvalidRequestException(
+					"Duplicate search source: " + query.getSource());
+			}
+
+			SearchContext context = query.getContext();
+
+			_searchService.validate(context);
+
+			// The permission was checked above, on the request thread
+
+			contexts.add(
+				context.toBuilder(
+				).checkPermission(
+					false
+				).build());
+		}
+
+		return contexts;
+	}
+
+	@Value("${easy-base.search.federated.queue-capacity:64}")
+	private int _queueCapacity;
+
+	private ScheduledThreadPoolExecutor _scheduledThreadPoolExecutor;
+	private final SearchService _searchService;
+	private final TaskDecorator _taskDecorator;
+
+	@Value("${easy-base.search.federated.threads:8}")
+	private int _threads;
+
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	@Value("${easy-base.search.federated.timeout:PT2S}")
+	private Duration _timeout;
+
+	private final TransactionTemplate _transactionTemplate;
+
+	private static final class FederatedSearch {
+
+		private FederatedSearch(
+			List<FederatedSearchQuery> queries, List<SearchContext> contexts,
+			FederatedSearchListener listener) {
+
+			_queries = queries;
+			_contexts = contexts;
+			_listener = listener;
+
+			_remaining = queries.size();
+			_results = new FederatedSearchResult[queries.size()];
+			_timeouts = new ScheduledFuture<?>[queries.size()];
+		}
+
+		private synchronized boolean _complete(
+			int index, FederatedSearchResult result) {
+
+			if (_results[index] != null) {
+				return false;
+			}
+
+			_results[index] = result;
+
+			_finishedResults.add(result);
+
+			if (_timeouts[index] != null) {
+				_timeouts[index].cancel(false);
+			}
+
+			if (_listener != null) {
+				try {
+					_listener.onResult(result);
+				}
+				catch (RuntimeException runtimeException) {
+					log.debug(
+						"Federated search listener failed", runtimeException);
+				}
+			}
+
+			if (--_remaining == 0) {
+				_finish();
+			}
+
+			return true;
+		}
+
+		private synchronized void _finish() {
+			List<FederatedSearchHit> hits = new ArrayList<>();
+
+			for (FederatedSearchResult result : _results) {
+				hits.addAll(result.getHits());
+			}
+
+			hits.sort(
+				Comparator.comparingDouble(
+					FederatedSearchHit::getScore
+				).reversed());
+
+			FederatedSearchResponse response = new FederatedSearchResponse(
+				hits, _finishedResults);
+
+			if (_listener != null) {
+				try {
+					_listener.onComplete(response);
+				}
+				catch (RuntimeException runtimeException) {
+					log.debug(
+						"Federated search listener failed", runtimeException);
+				}
+			}
+
+			_completableFuture.complete(response);
+		}
+
+		private synchronized void _setTimeout(
+			int index, ScheduledFuture<?> scheduledFuture) {
+
+			if (_results[index] != null) {
+				scheduledFuture.cancel(false);
+
+				return;
+			}
+
+			_timeouts[index] = scheduledFuture;
+		}
+
+		private final CompletableFuture<FederatedSearchResponse>
+			_completableFuture = new CompletableFuture<>();
+		private final List<SearchContext> _contexts;
+		private final List<FederatedSearchResult> _finishedResults =
+			new ArrayList<>();
+		private final FederatedSearchListener _listener;
+		private final List<FederatedSearchQuery> _queries;
+		private int _remaining;
+		private final FederatedSearchResult[] _results;
+		private final ScheduledFuture<?>[] _timeouts;
+
+	}
+
+}
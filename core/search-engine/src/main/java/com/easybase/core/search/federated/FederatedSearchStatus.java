@@ -0,0 +1,17 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.federated;
+
+/**
+ * Outcome of a single source of a federated search.
+ *
+ * @author Akhash R
+ */
+public enum FederatedSearchStatus {
+
+	COMPLETED, FAILED, TIMED_OUT
+
+}
@@ -0,0 +1,485 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.jooq;
+
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.core.search.metadata.QueryMetadataContributor;
+import com.easybase.core.search.util.QueryValueUtil;
+import com.easybase.infrastructure.search.FilterCondition;
+import com.easybase.infrastructure.search.FilterNode;
+import com.easybase.infrastructure.search.FilterOperator;
+import com.easybase.infrastructure.search.QueryParser;
+import com.easybase.infrastructure.search.QueryResult;
+import com.easybase.infrastructure.search.SearchContext;
+import com.easybase.infrastructure.search.SortField;
+
+import java.nio.charset.StandardCharsets;
+
+import java.sql.Timestamp;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.OrderField;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.SelectSeekStepN;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * Abstract base class for jOOQ-based query engines over the tables of
+ * built-in entities. Accepts the same filter and sort syntax as
+ * {@link com.easybase.core.search.jpa.AbstractJpaQueryEngine}, but selects
+ * only the columns subclasses map to results, ranks full-text matches on the
+ * {@code search_vector} column and supports keyset pagination.
+ *
+ * <p>Every sort ends with the {@code id} column, so the order is total and
+ * keyset pages never skip or repeat rows. Text columns are sorted with
+ * {@code null} as the empty string for the same reason. When the search
+ * context carries a cursor, the page following the cursor row is fetched
+ * regardless of the page number, and each full page returns the cursor of
+ * its last row.</p>
+ *
+ * @param <E> the result type
+ * @author Akhash R
+ */
+public abstract class AbstractJooqQueryEngine<E> {
+
+	public QueryResult<E> execute(SearchContext context) {
+		Condition condition = baseCondition(context.getTenantId());
+
+		FilterNode filterNode = QueryParser.parseFilter(context.getFilter());
+
+		if (filterNode != null) {
+			condition = condition.and(_buildCondition(filterNode));
+		}
+
+		Field<Float> rankField = null;
+
+		String search = context.getSearch();
+
+		if ((search != null) && !search.isBlank()) {
+			Field<Object> tsQuery = DSL.field(
+				"plainto_tsquery('simple', {0})", DSL.val(search));
+
+			condition = condition.and(
+				DSL.condition("search_vector @@ {0}", tsQuery));
+
+			rankField = DSL.field(
+				"ts_rank(search_vector, {0})", Float.class, tsQuery);
+		}
+
+		List<SortKey> sortKeys = _buildSortKeys(context.getSort(), rankField);
+
+		List<SelectFieldOrAsterisk> selectFields = new ArrayList<>();
+
+		Map<String, String> columnNames = getColumnNames();
+
+		for (String columnName : new LinkedHashSet<>(columnNames.values())) {
+			selectFields.add(DSL.field(DSL.name(columnName)));
+		}
+
+		List<OrderField<?>> orderFields = new ArrayList<>();
+
+		for (int i = 0; i < sortKeys.size(); i++) {
+			SortKey sortKey = sortKeys.get(i);
+
+			selectFields.add(
+				DSL.cast(
+					sortKey._field, String.class
+				).as(
+					_SORT_VALUE_PREFIX + i
+				));
+
+			if (sortKey._descending) {
+				orderFields.add(sortKey._field.desc());
+			}
+			else {
+				orderFields.add(sortKey._field.asc());
+			}
+		}
+
+		SelectSeekStepN<Record> selectStep = _dslContext.select(
+			selectFields
+		).from(
+			getTable()
+		).where(
+			condition
+		).orderBy(
+			orderFields
+		);
+
+		int pageSize = context.getSize();
+
+		String cursor = context.getCursor();
+
+		Result<Record> result;
+
+		if (cursor != null) {
+			result = selectStep.seek(
+				_decodeCursor(cursor, sortKeys)
+			).limit(
+				pageSize
+			).fetch();
+		}
+		else {
+			result = selectStep.limit(
+				pageSize
+			).offset(
+				context.getPage() * pageSize
+			).fetch();
+		}
+
+		long totalElements = _dslContext.fetchCount(getTable(), condition);
+
+		String nextCursor = null;
+
+		if (result.size() == pageSize) {
+			nextCursor = _encodeCursor(result.get(pageSize - 1), sortKeys);
+		}
+
+		List<E> content = new ArrayList<>(result.size());
+
+		for (Record record : result) {
+			content.add(toResult(record));
+		}
+
+		return new QueryResult<>(
+			content, context.getPage(), pageSize, totalElements, nextCursor);
+	}
+
+	protected AbstractJooqQueryEngine(
+		QueryMetadataContributor contributor, DSLContext dslContext) {
+
+		_contributor = contributor;
+		_dslContext = dslContext;
+	}
+
+	protected abstract Condition baseCondition(UUID tenantId);
+
+	protected List<SortField> defaultSort() {
+		return List.of(new SortField(true, "updatedAt"));
+	}
+
+	/**
+	 * Returns the mapping of query field names to table columns. Every column
+	 * read by {@link #toResult(Record)} must be mapped, including
+	 * {@code id}, {@code createdAt} and {@code updatedAt}.
+	 *
+	 * @return field name to column name mapping
+	 */
+	protected abstract Map<String, String> getColumnNames();
+
+	protected Map<String, Class<?>> getFieldTypes() {
+		return _contributor.getFieldTypes();
+	}
+
+	protected Instant getInstant(Record record, String columnName) {
+		Timestamp timestamp = record.get(columnName, Timestamp.class);
+
+		if (timestamp == null) {
+			return null;
+		}
+
+		return timestamp.toInstant();
+	}
+
+	protected abstract Table<?> getTable();
+
+	/**
+	 * Maps a row holding the columns returned by {@link #getColumnNames()} to
+	 * a result object.
+	 *
+	 * @param record the row
+	 * @return the result object
+	 */
+	protected abstract E toResult(Record record);
+
+	private Condition _buildCondition(FilterNode node) {
+		if (node.isLeaf()) {
+			return _buildLeafCondition(node.getCondition());
+		}
+
+		List<Condition> childConditions = new ArrayList<>();
+
+		for (FilterNode child : node.getChildren()) {
+			childConditions.add(_buildCondition(child));
+		}
+
+		if (node.getLogic() == FilterNode.LogicOperator.AND) {
+			return DSL.and(childConditions);
+		}
+
+		return DSL.or(childConditions);
+	}
+
+	private Condition _buildLeafCondition(FilterCondition condition) {
+		String fieldName = condition.getField();
+		FilterOperator operator = condition.getOperator();
+		String value = condition.getValue();
+
+		Class<?> fieldType = _getFieldType(fieldName);
+
+		Field<Object> field = _getField(fieldName, fieldType);
+
+		switch (operator) {
+			case EQ:
+				if (value == null) {
+					return field.isNull();
+				}
+
+				return field.eq(QueryValueUtil.coerce(value, fieldType));
+
+			case NE:
+				if (value == null) {
+					return field.isNotNull();
+				}
+
+				return field.ne(QueryValueUtil.coerce(value, fieldType));
+
+			case GT:
+				return field.gt(QueryValueUtil.coerce(value, fieldType));
+
+			case GE:
+				return field.ge(QueryValueUtil.coerce(value, fieldType));
+
+			case LT:
+				return field.lt(QueryValueUtil.coerce(value, fieldType));
+
+			case LE:
+				return field.le(QueryValueUtil.coerce(value, fieldType));
+
+			case CONTAINS:
+				Field<String> stringField = field.cast(String.class);
+
+				return stringField.likeIgnoreCase("%" + value + "%");
+
+			default:
+				throw new InvalidRequestException(
+					"Unsupported operator: " + operator);
+		}
+	}
+
+	private List<SortKey> _buildSortKeys(String sort, Field<Float> rankField) {
+		List<SortKey> sortKeys = new ArrayList<>();
+
+		List<SortField> sortFields = QueryParser.parseSort(sort);
+
+		if (sortFields.isEmpty()) {
+			if (rankField != null) {
+				sortKeys.add(new SortKey(true, rankField, "_rank", "real"));
+			}
+
+			sortFields = defaultSort();
+		}
+
+		boolean sortedById = false;
+
+		for (SortField sortField : sortFields) {
+			String fieldName = sortField.getField();
+
+			if (fieldName.equals("id")) {
+				sortedById = true;
+			}
+
+			Class<?> fieldType = _getFieldType(fieldName);
+
+			Field<?> field = _getField(fieldName, fieldType);
+
+			if (fieldType == String.class) {
+				field = DSL.coalesce(field.cast(String.class), "");
+			}
+
+			sortKeys.add(
+				new SortKey(
+					sortField.isDescending(), field, fieldName,
+					_getPostgresType(fieldType)));
+		}
+
+		if (!sortedById) {
+			sortKeys.add(
+				new SortKey(
+					false, _getField("id", UUID.class), "id", "uuid"));
+		}
+
+		return sortKeys;
+	}
+
+	private Field<?>[] _decodeCursor(String cursor, List<SortKey> sortKeys) {
+		String[] parts = cursor.split("\\.", -1);
+
+		if ((parts.length != (sortKeys.size() + 1)) ||
+			!parts[0].equals(_getSortSignature(sortKeys))) {
+
+			throw new InvalidRequestException(
+				"Cursor does not match the requested sort");
+		}
+
+		Field<?>[] values = new Field<?>[sortKeys.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			SortKey sortKey = sortKeys.get(i);
+
+			String value;
+
+			try {
+				value = _decode(parts[i + 1]);
+			}
+			catch (IllegalArgumentException illegalArgumentException) {
+				throw new InvalidRequestException(
+					"Invalid cursor", illegalArgumentException);
+			}
+
+			values[i] = DSL.field(
+				"cast({0} as " + sortKey._postgresType + ")",
+				DSL.val(value));
+		}
+
+		return values;
+	}
+
+	private String _decode(String value) {
+		byte[] bytes = _decoder.decode(value);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private String _encode(String value) {
+		return _encoder.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String _encodeCursor(Record record, List<SortKey> sortKeys) {
+		StringJoiner stringJoiner = new StringJoiner(".");
+
+		stringJoiner.add(_getSortSignature(sortKeys));
+
+		for (int i = 0; i < sortKeys.size(); i++) {
+			String value = record.get(_SORT_VALUE_PREFIX + i, String.class);
+
+			if (value == null) {
+
+				// Only text columns are null-safe, keyset paging cannot
+				// continue past a null in any other sort column
+
+				return null;
+			}
+
+			stringJoiner.add(_encode(value));
+		}
+
+		return stringJoiner.toString();
+	}
+
+	private String _getColumnName(String fieldName) {
+		Map<String, String> columnNames = getColumnNames();
+
+		String columnName = columnNames.get(fieldName);
+
+		if (columnName == null) {
+			throw new InvalidRequestException("Unknown field: " + fieldName);
+		}
+
+		return columnName;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Field<Object> _getField(String fieldName, Class<?> fieldType) {
+		return (Field<Object>)DSL.field(
+			DSL.name(_getColumnName(fieldName)), fieldType);
+	}
+
+	private Class<?> _getFieldType(String fieldName) {
+		Map<String, Class<?>> fieldTypes = getFieldTypes();
+
+		return fieldTypes.getOrDefault(fieldName, String.class);
+	}
+
+	private String _getPostgresType(Class<?> fieldType) {
+		if ((fieldType == Boolean.class) || (fieldType == boolean.class)) {
+			return "boolean";
+		}
+
+		if (fieldType == Instant.class) {
+			return "timestamptz";
+		}
+
+		if ((fieldType == Integer.class) || (fieldType == int.class)) {
+			return "integer";
+		}
+
+		if (fieldType == LocalDateTime.class) {
+			return "timestamp";
+		}
+
+		if ((fieldType == Long.class) || (fieldType == long.class)) {
+			return "bigint";
+		}
+
+		if (fieldType == UUID.class) {
+			return "uuid";
+		}
+
+		return "text";
+	}
+
+	private String _getSortSignature(List<SortKey> sortKeys) {
+		StringJoiner stringJoiner = new StringJoiner(",");
+
+		for (SortKey sortKey : sortKeys) {
+			if (sortKey._descending) {
+				stringJoiner.add("-" + sortKey._name);
+			}
+			else {
+				stringJoiner.add(sortKey._name);
+			}
+		}
+
+		return _encode(stringJoiner.toString());
+	}
+
+	private static final String _SORT_VALUE_PREFIX = "eb_sort_value_";
+
+	private static final Base64.Decoder _decoder = Base64.getUrlDecoder();
+	private static final Base64.Encoder _encoder =
+		Base64.getUrlEncoder(
+		).withoutPadding();
+
+	private final QueryMetadataContributor _contributor;
+	private final DSLContext _dslContext;
+
+	private static class SortKey {
+
+		private SortKey(
+			boolean descending, Field<?> field, String name,
+			String postgresType) {
+
+			_descending = descending;
+			_field = field;
+			_name = name;
+			_postgresType = postgresType;
+		}
+
+		private final boolean _descending;
+		private final Field<?> _field;
+		private final String _name;
+		private final String _postgresType;
+
+	}
+
+}
@@ -7,6 +7,7 @@ package com.easybase.core.search.jpa;
 
 import com.easybase.common.exception.InvalidRequestException;
 import com.easybase.core.search.metadata.QueryMetadataContributor;
+import com.easybase.core.search.util.QueryValueUtil;
 import com.easybase.infrastructure.search.FilterCondition;
 import com.easybase.infrastructure.search.FilterNode;
 import com.easybase.infrastructure.search.FilterOperator;
@@ -20,11 +21,6 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
 
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeParseException;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -115,34 +111,34 @@ public abstract class AbstractJpaQueryEngine<E> {
 						return cb.isNull(path);
 					}
 
-					return cb.equal(path, _coerce(value, fieldType));
+					return cb.equal(path, QueryValueUtil.coerce(value, fieldType));
 
 				case NE:
 					if (value == null) {
 						return cb.isNotNull(path);
 					}
 
-					return cb.notEqual(path, _coerce(value, fieldType));
+					return cb.notEqual(path, QueryValueUtil.coerce(value, fieldType));
 
 				case GT:
 					return cb.greaterThan(
 						(Path<Comparable>)path,
-						(Comparable)_coerce(value, fieldType));
+						(Comparable)QueryValueUtil.coerce(value, fieldType));
 
 				case GE:
 					return cb.greaterThanOrEqualTo(
 						(Path<Comparable>)path,
-						(Comparable)_coerce(value, fieldType));
+						(Comparable)QueryValueUtil.coerce(value, fieldType));
 
 				case LT:
 					return cb.lessThan(
 						(Path<Comparable>)path,
-						(Comparable)_coerce(value, fieldType));
+						(Comparable)QueryValueUtil.coerce(value, fieldType));
 
 				case LE:
 					return cb.lessThanOrEqualTo(
 						(Path<Comparable>)path,
-						(Comparable)_coerce(value, fieldType));
+						(Comparable)QueryValueUtil.coerce(value, fieldType));
 
 				case CONTAINS:
 					return cb.like(
@@ -211,80 +207,6 @@ public abstract class AbstractJpaQueryEngine<E> {
 		return combined;
 	}
 
-	private Object _coerce(String value, Class<?> targetType) {
-		if (value == null) {
-			return null;
-		}
-
-		if (targetType == String.class) {
-			return value;
-		}
-
-		if (targetType == Instant.class) {
-			try {
-				return Instant.parse(value);
-			}
-			catch (DateTimeParseException dateTimeParseException1) {
-				try {
-					LocalDateTime localDateTime = LocalDateTime.parse(value);
-
-					return localDateTime.toInstant(ZoneOffset.UTC);
-				}
-				catch (DateTimeParseException dateTimeParseException2) {
-					throw new InvalidRequestException(
-						"Invalid datetime value: " + value,
-						dateTimeParseException2);
-				}
-			}
-		}
-
-		if (targetType == LocalDateTime.class) {
-			try {
-				return LocalDateTime.parse(value);
-			}
-			catch (DateTimeParseException dateTimeParseException) {
-				throw new InvalidRequestException(
-					"Invalid datetime value: " + value, dateTimeParseException);
-			}
-		}
-
-		if (targetType == UUID.class) {
-			try {
-				return UUID.fromString(value);
-			}
-			catch (IllegalArgumentException illegalArgumentException) {
-				throw new InvalidRequestException(
-					"Invalid UUID value: " + value, illegalArgumentException);
-			}
-		}
-
-		if ((targetType == Long.class) || (targetType == long.class)) {
-			try {
-				return Long.parseLong(value);
-			}
-			catch (NumberFormatException numberFormatException) {
-				throw new InvalidRequestException(
-					"Invalid long value: " + value, numberFormatException);
-			}
-		}
-
-		if ((targetType == Integer.class) || (targetType == int.class)) {
-			try {
-				return Integer.parseInt(value);
-			}
-			catch (NumberFormatException numberFormatException) {
-				throw new InvalidRequestException(
-					"Invalid integer value: " + value, numberFormatException);
-			}
-		}
-
-		if ((targetType == Boolean.class) || (targetType == boolean.class)) {
-			return Boolean.parseBoolean(value);
-		}
-
-		return value;
-	}
-
 	private final QueryMetadataContributor _contributor;
 
 }
\ No newline at end of file
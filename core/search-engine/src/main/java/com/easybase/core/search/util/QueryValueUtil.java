@@ -0,0 +1,108 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.search.util;
+
+import com.easybase.common.exception.InvalidRequestException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+import java.util.UUID;
+
+/**
+ * @author Akhash R
+ */
+public class QueryValueUtil {
+
+	/**
+	 * Converts a filter or cursor value to the Java type of the field it
+	 * applies to.
+	 *
+	 * @param value the raw value
+	 * @param targetType the field type
+	 * @return the converted value
+	 * @throws InvalidRequestException if the value cannot be converted
+	 */
+	public static Object coerce(String value, Class<?> targetType) {
+		if (value == null) {
+			return null;
+		}
+
+		if (targetType == String.class) {
+			return value;
+		}
+
+		if (targetType == Instant.class) {
+			try {
+				return Instant.parse(value);
+			}
+			catch (DateTimeParseException dateTimeParseException1) {
+				try {
+					LocalDateTime localDateTime = LocalDateTime.parse(value);
+
+					return localDateTime.toInstant(ZoneOffset.UTC);
+				}
+				catch (DateTimeParseException dateTimeParseException2) {
+					throw new InvalidRequestException(
+						"Invalid datetime value: " + value,
+						dateTimeParseException2);
+				}
+			}
+		}
+
+		if (targetType == LocalDateTime.class) {
+			try {
+				return LocalDateTime.parse(value);
+			}
+			catch (DateTimeParseException dateTimeParseException) {
+				throw new InvalidRequestException(
+					"Invalid datetime value: " + value, dateTimeParseException);
+			}
+		}
+
+		if (targetType == UUID.class) {
+			try {
+				return UUID.fromString(value);
+			}
+			catch (IllegalArgumentException illegalArgumentException) {
+				throw new InvalidRequestException(
+					"Invalid UUID value: " + value, illegalArgumentException);
+			}
+		}
+
+		if ((targetType == Long.class) || (targetType == long.class)) {
+			try {
+				return Long.parseLong(value);
+			}
+			catch (NumberFormatException numberFormatException) {
+				throw new InvalidRequestException(
+					"Invalid long value: " + value, numberFormatException);
+			}
+		}
+
+		if ((targetType == Integer.class) || (targetType == int.class)) {
+			try {
+				return Integer.parseInt(value);
+			}
+			catch (NumberFormatException numberFormatException) {
+				throw new InvalidRequestException(
+					"Invalid integer value: " + value, numberFormatException);
+			}
+		}
+
+		if ((targetType == Boolean.class) || (targetType == boolean.class)) {
+			return Boolean.parseBoolean(value);
+		}
+
+		return value;
+	}
+
+	private QueryValueUtil() {
+	}
+
+}
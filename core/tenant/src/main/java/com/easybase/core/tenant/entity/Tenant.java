@@ -30,4 +30,18 @@ public class Tenant extends SingleKeyBaseEntity {
 	@Column(length = 255, name = "name", nullable = false)
 	private String name;
 
+	/**
+	 * Key of the shard holding the collection data of the tenant, or
+	 * {@code null} for the primary database.
+	 */
+	@Column(length = 64, name = "shard_key")
+	private String shardKey;
+
+	/**
+	 * Whether the collection data of the tenant is being moved to another
+	 * shard. Writes to collection data are refused while this is set.
+	 */
+	@Column(name = "shard_moving")
+	private Boolean shardMoving;
+
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.tenant.event;
+
+import java.util.UUID;
+
+/**
+ * Immutable event published after a tenant is updated or deleted.
+ *
+ * @author Akhash R
+ */
+public class TenantChangedEvent {
+
+	public TenantChangedEvent(UUID tenantId) {
+		_tenantId = tenantId;
+	}
+
+	public UUID getTenantId() {
+		return _tenantId;
+	}
+
+	private final UUID _tenantId;
+
+}
@@ -88,4 +88,17 @@ public interface TenantLocalService {
 	 */
 	public Tenant updateTenant(UUID id, String name);
 
+	/**
+	 * Updates the shard placement of a tenant.
+	 *
+	 * @param id the tenant ID
+	 * @param shardKey the shard holding the collection data, or null for the
+	 *        primary database
+	 * @param shardMoving whether the collection data is being moved
+	 * @return the updated tenant
+	 * @throws com.easybase.common.exception.ResourceNotFoundException if tenant not found
+	 */
+	public Tenant updateTenantShard(
+		UUID id, String shardKey, boolean shardMoving);
+
 }
\ No newline at end of file
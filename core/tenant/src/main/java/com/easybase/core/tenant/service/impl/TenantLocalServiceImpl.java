@@ -8,6 +8,7 @@ package com.easybase.core.tenant.service.impl;
 import com.easybase.common.exception.ConflictException;
 import com.easybase.common.exception.ResourceNotFoundException;
 import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.tenant.event.TenantChangedEvent;
 import com.easybase.core.tenant.repository.TenantRepository;
 import com.easybase.core.tenant.service.TenantLocalService;
 
@@ -19,6 +20,9 @@ import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +53,7 @@ public class TenantLocalServiceImpl implements TenantLocalService {
 		return _tenantRepository.save(tenant);
 	}
 
+	@CacheEvict(allEntries = true, value = "defaultTenant")
 	@Transactional
 	public void deleteTenant(UUID tenantId) {
 		Optional<Tenant> tenantOptional = _tenantRepository.findById(tenantId);
@@ -63,6 +68,9 @@ public class TenantLocalServiceImpl implements TenantLocalService {
 
 		_tenantRepository.save(tenant);
 
+		_applicationEventPublisher.publishEvent(
+			new TenantChangedEvent(tenantId));
+
 		log.info("Soft deleted tenant '{}' ({})", tenant.getName(), tenantId);
 	}
 
@@ -70,6 +78,7 @@ public class TenantLocalServiceImpl implements TenantLocalService {
 		return _tenantRepository.findByName(name);
 	}
 
+	@Cacheable(key = "'default'", value = "defaultTenant")
 	@Transactional
 	public Tenant getDefaultTenant() {
 		Optional<Tenant> tenantOptional = fetchTenant("default");
@@ -114,6 +123,7 @@ public class TenantLocalServiceImpl implements TenantLocalService {
 		return _tenantRepository.findAll();
 	}
 
+	@CacheEvict(allEntries = true, value = "defaultTenant")
 	@Transactional
 	public Tenant updateTenant(UUID id, String name) {
 		boolean exists = _tenantRepository.existsByName(name);
@@ -130,11 +140,35 @@ public class TenantLocalServiceImpl implements TenantLocalService {
 
 		tenant = _tenantRepository.save(tenant);
 
+		_applicationEventPublisher.publishEvent(new TenantChangedEvent(id));
+
 		log.info("Updated tenant with ID {} to name '{}'", id, name);
 
 		return tenant;
 	}
 
+	@CacheEvict(allEntries = true, value = "defaultTenant")
+	@Transactional
+	public Tenant updateTenantShard(
+		UUID id, String shardKey, boolean shardMoving) {
+
+		Tenant tenant = getTenant(id);
+
+		tenant.setShardKey(shardKey);
+		tenant.setShardMoving(shardMoving);
+
+		tenant = _tenantRepository.save(tenant);
+
+		_applicationEventPublisher.publishEvent(new TenantChangedEvent(id));
+
+		log.info(
+			"Updated shard of tenant {} to {} (moving: {})", id, shardKey,
+			shardMoving);
+
+		return tenant;
+	}
+
+	private final ApplicationEventPublisher _applicationEventPublisher;
 	private final TenantRepository _tenantRepository;
 
 }
\ No newline at end of file
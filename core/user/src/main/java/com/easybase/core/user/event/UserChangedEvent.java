@@ -0,0 +1,63 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.user.event;
+
+import java.util.UUID;
+
+/**
+ * Immutable event published after data that describes a user changes, such
+ * as its profile, its deleted flag or its role assignments.
+ *
+ * <p>An event without a user ID signals a change that may affect every user,
+ * for example the deletion of a role.</p>
+ *
+ * @author Akhash R
+ */
+public class UserChangedEvent {
+
+	/**
+	 * Creates an event for a change that may affect every user.
+	 *
+	 * @return new user changed event
+	 */
+	public static UserChangedEvent forAllUsers() {
+		return new UserChangedEvent(null);
+	}
+
+	/**
+	 * Creates an event for a change to a single user.
+	 *
+	 * @param userId the user ID
+	 * @return new user changed event
+	 */
+	public static UserChangedEvent forUser(UUID userId) {
+		return new UserChangedEvent(userId);
+	}
+
+	public UserChangedEvent(UUID userId) {
+		_userId = userId;
+	}
+
+	public UUID getUserId() {
+		return _userId;
+	}
+
+	/**
+	 * Checks whether this event may affect every user.
+	 *
+	 * @return true if no single user is targeted
+	 */
+	public boolean isAllUsers() {
+		if (_userId == null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private final UUID _userId;
+
+}
@@ -12,9 +12,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Akhash R
@@ -23,6 +25,13 @@ import org.springframework.stereotype.Repository;
 public interface UserCredentialRepository
 	extends JpaRepository<UserCredential, Long> {
 
+	@Query(
+		"SELECT uc FROM UserCredential uc JOIN FETCH uc.user u WHERE u.email = :email AND u.tenant.id = :tenantId AND u.deleted = false AND uc.passwordType = :type"
+	)
+	public Optional<UserCredential> findActiveByEmailAndTenantIdAndType(
+		@Param("email") String email, @Param("tenantId") UUID tenantId,
+		@Param("type") String type);
+
 	public List<UserCredential> findByUserId(UUID userId);
 
 	@Query(
@@ -31,4 +40,14 @@ public interface UserCredentialRepository
 	public Optional<UserCredential> findByUserIdAndType(
 		@Param("userId") UUID userId, @Param("type") String type);
 
+	@Modifying
+	@Query(
+		"UPDATE UserCredential uc SET uc.passwordHash = :passwordHash WHERE uc.id = :id AND uc.passwordHash = :previousPasswordHash"
+	)
+	@Transactional
+	public int updatePasswordHash(
+		@Param("id") Long id,
+		@Param("previousPasswordHash") String previousPasswordHash,
+		@Param("passwordHash") String passwordHash);
+
 }
\ No newline at end of file
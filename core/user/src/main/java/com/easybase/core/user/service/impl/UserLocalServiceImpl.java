@@ -11,6 +11,7 @@ import com.easybase.core.tenant.entity.Tenant;
 import com.easybase.core.tenant.repository.TenantRepository;
 import com.easybase.core.user.domain.entity.User;
 import com.easybase.core.user.domain.entity.UserCredential;
+import com.easybase.core.user.event.UserChangedEvent;
 import com.easybase.core.user.infrastructure.presistence.repository.UserCredentialRepository;
 import com.easybase.core.user.infrastructure.presistence.repository.UserRepository;
 import com.easybase.core.user.service.UserLocalService;
@@ -27,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -96,25 +98,36 @@ public class UserLocalServiceImpl implements UserLocalService {
 		return userCredential;
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Deliberately not transactional: the user and its password credential
+	 * are loaded with a single query in its own short transaction so no
+	 * database connection is held while the password hash is computed.
+	 */
 	public User authenticateUser(String email, String password, UUID tenantId) {
-		User user;
+		Optional<UserCredential> credentialOptional =
+			_userCredentialRepository.findActiveByEmailAndTenantIdAndType(
+				email, tenantId, "PASSWORD");
 
-		try {
-			user = getUser(email, tenantId);
-		}
-		catch (ResourceNotFoundException resourceNotFoundException) {
+		if (credentialOptional.isEmpty()) {
 			throw new ResourceNotFoundException(
-				"Invalid credentials:" +
-					resourceNotFoundException.getMessage());
+				"Invalid credentials: no active user with password " +
+					"credential for email " + email);
 		}
 
-		UserCredential credential = getUserCredential(user.getId(), "PASSWORD");
+		UserCredential credential = credentialOptional.get();
 
-		if (!_passwordEncoder.matches(password, credential.getPasswordHash())) {
+		User user = credential.getUser();
+
+		String passwordHash = credential.getPasswordHash();
+
+		if (!_passwordEncoder.matches(password, passwordHash)) {
 			throw new ResourceNotFoundException("Invalid credentials");
 		}
 
+		if (_passwordEncoder.upgradeEncoding(passwordHash)) {
+			_upgradePasswordHash(user.getId(), credential, password);
+		}
+
 		log.debug(
 			"Successfully authenticated user: {} for tenant: {}", email,
 			tenantId);
@@ -156,6 +169,9 @@ public class UserLocalServiceImpl implements UserLocalService {
 
 		_userRepository.save(user);
 
+		_applicationEventPublisher.publishEvent(
+			UserChangedEvent.forUser(id));
+
 		log.info("Soft deleted user id={}", id);
 	}
 
@@ -255,6 +271,9 @@ public class UserLocalServiceImpl implements UserLocalService {
 
 		user = _userRepository.save(user);
 
+		_applicationEventPublisher.publishEvent(
+			UserChangedEvent.forUser(id));
+
 		log.info("Updated user id={}", id);
 
 		return user;
@@ -280,6 +299,21 @@ public class UserLocalServiceImpl implements UserLocalService {
 		return userOptional.get();
 	}
 
+	private void _upgradePasswordHash(
+		UUID userId, UserCredential credential, String password) {
+
+		// Only replace the hash that was just verified, so a concurrent
+		// password change always wins over the upgrade
+
+		int count = _userCredentialRepository.updatePasswordHash(
+			credential.getId(), credential.getPasswordHash(),
+			_passwordEncoder.encode(password));
+
+		if (count > 0) {
+			log.info("Upgraded password hash userId={}", userId);
+		}
+	}
+
 	private void _validateUserEmail(String email, UUID tenantId) {
 		boolean exists = _userRepository.existsByEmailAndTenantId(
 			email, tenantId);
@@ -289,6 +323,7 @@ public class UserLocalServiceImpl implements UserLocalService {
 		}
 	}
 
+	private final ApplicationEventPublisher _applicationEventPublisher;
 	private final PasswordEncoder _passwordEncoder;
 	private final TenantRepository _tenantRepository;
 	private final UserCredentialRepository _userCredentialRepository;
@@ -0,0 +1,96 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.core.user.service.query;
+
+import com.easybase.core.search.jooq.AbstractJooqQueryEngine;
+import com.easybase.core.tenant.entity.Tenant;
+import com.easybase.core.user.domain.entity.User;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Projection-only user search. Results are detached {@link User} instances
+ * holding the listed columns, with a {@link Tenant} reference carrying only
+ * its ID.
+ *
+ * @author Akhash R
+ */
+@Component
+public class UserJooqQueryEngine extends AbstractJooqQueryEngine<User> {
+
+	public UserJooqQueryEngine(
+		UserMetadataContributor contributor, DSLContext dslContext) {
+
+		super(contributor, dslContext);
+	}
+
+	@Override
+	protected Condition baseCondition(UUID tenantId) {
+		Field<UUID> tenantIdField = DSL.field(
+			DSL.name("tenant_id"), UUID.class);
+		Field<Boolean> deletedField = DSL.field(
+			DSL.name("is_deleted"), Boolean.class);
+
+		return tenantIdField.eq(
+			tenantId
+		).and(
+			deletedField.isFalse()
+		);
+	}
+
+	@Override
+	protected Map<String, String> getColumnNames() {
+		return _columnNames;
+	}
+
+	@Override
+	protected Table<?> getTable() {
+		return _table;
+	}
+
+	@Override
+	protected User toResult(Record record) {
+		User user = new User();
+
+		user.setCreatedAt(getInstant(record, "created_at"));
+		user.setDisplayName(record.get("display_name", String.class));
+		user.setEmail(record.get("email", String.class));
+		user.setFirstName(record.get("first_name", String.class));
+		user.setId(record.get("id", UUID.class));
+		user.setLastName(record.get("last_name", String.class));
+
+		UUID tenantId = record.get("tenant_id", UUID.class);
+
+		if (tenantId != null) {
+			Tenant tenant = new Tenant();
+
+			tenant.setId(tenantId);
+
+			user.setTenant(tenant);
+		}
+
+		user.setUpdatedAt(getInstant(record, "updated_at"));
+
+		return user;
+	}
+
+	private static final Map<String, String> _columnNames = Map.of(
+		"createdAt", "created_at", "displayName", "display_name", "email",
+		"email", "firstName", "first_name", "id", "id", "lastName",
+		"last_name", "tenantId", "tenant_id", "updatedAt", "updated_at");
+	private static final Table<?> _table = DSL.table(DSL.name("eb_users"));
+
+}
@@ -12,10 +12,16 @@ import com.easybase.infrastructure.search.SearchContext;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
+ * Runs user searches on the JPA engine, or on the projection-only
+ * {@link UserJooqQueryEngine} when
+ * {@code easy-base.search.sql-engine.enabled} is set or the search pages by
+ * cursor.
+ *
  * @author Akhash R
  */
 @Component
@@ -25,6 +31,10 @@ public class UserQueryAdapter implements QueryAdapter<User> {
 	@Override
 	@Transactional(readOnly = true)
 	public QueryResult<User> execute(SearchContext context) {
+		if (_sqlEngineEnabled || (context.getCursor() != null)) {
+			return _userJooqQueryEngine.execute(context);
+		}
+
 		return _userQueryEngine.execute(context);
 	}
 
@@ -33,6 +43,10 @@ public class UserQueryAdapter implements QueryAdapter<User> {
 		return "user";
 	}
 
+	private final UserJooqQueryEngine _userJooqQueryEngine;
 	private final UserQueryEngine _userQueryEngine;
 
+	@Value("${easy-base.search.sql-engine.enabled:false}")
+	private boolean _sqlEngineEnabled;
+
 }
\ No newline at end of file
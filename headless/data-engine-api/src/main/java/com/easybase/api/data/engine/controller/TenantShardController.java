@@ -0,0 +1,80 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.api.data.engine.controller;
+
+import com.easybase.api.data.engine.dto.TenantShardDto;
+import com.easybase.core.data.engine.service.TenantShardService;
+import com.easybase.infrastructure.api.dto.response.ApiResponse;
+
+import jakarta.validation.Valid;
+
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Shows and changes the shard holding the collection data of a tenant.
+ *
+ * <p>Moves run in the background. Poll the shard of the tenant until it
+ * reports the target shard to find out when a move finished; {@code moving}
+ * is only set while writes are paused for the final switch over.</p>
+ *
+ * @author Akhash R
+ */
+@RequestMapping("/tenants")
+@RequiredArgsConstructor
+@RestController
+public class TenantShardController {
+
+	@GetMapping("/{tenantId}/shard")
+	public ResponseEntity<ApiResponse<TenantShardDto>> getShard(
+		@PathVariable("tenantId") UUID tenantId) {
+
+		return ResponseEntity.ok(ApiResponse.success(_toDto(tenantId)));
+	}
+
+	@GetMapping("/shards")
+	public ResponseEntity<ApiResponse<Set<String>>> getShards() {
+		return ResponseEntity.ok(
+			ApiResponse.success(_tenantShardService.getShardKeys()));
+	}
+
+	@PutMapping("/{tenantId}/shard")
+	public ResponseEntity<ApiResponse<TenantShardDto>> moveShard(
+		@PathVariable("tenantId") UUID tenantId,
+		@RequestBody @Valid TenantShardDto request) {
+
+		_tenantShardService.moveTenant(
+			tenantId, request.getShard(), request.isDropSource());
+
+		ResponseEntity.BodyBuilder responseEntity = ResponseEntity.status(
+			HttpStatus.ACCEPTED);
+
+		return responseEntity.body(ApiResponse.success(_toDto(tenantId)));
+	}
+
+	private TenantShardDto _toDto(UUID tenantId) {
+		TenantShardDto tenantShardDto = new TenantShardDto();
+
+		tenantShardDto.setMoving(_tenantShardService.isMoving(tenantId));
+		tenantShardDto.setShard(_tenantShardService.getShardKey(tenantId));
+
+		return tenantShardDto;
+	}
+
+	private final TenantShardService _tenantShardService;
+
+}
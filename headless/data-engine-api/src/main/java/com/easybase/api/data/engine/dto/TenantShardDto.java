@@ -0,0 +1,33 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.api.data.engine.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class TenantShardDto {
+
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+	private boolean dropSource;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private boolean moving;
+
+	@NotBlank(message = "Shard is required")
+	private String shard;
+
+}
@@ -5,28 +5,70 @@
 
 package com.easybase.docmediastore.api.controller;
 
-import com.easybase.store.StoreUtil;
-import com.easybase.store.processor.base.BaseFileProcessor;
-import com.easybase.store.processor.factory.FileProcessorFactory;
+import com.easybase.common.exception.FileValidationException;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ResourceNotFoundException;
+import com.easybase.common.util.PageUtil;
+import com.easybase.context.api.domain.ServiceContext;
+import com.easybase.docmediastore.api.dto.FileEntryDto;
+import com.easybase.docmediastore.api.dto.ProcessingJobDto;
+import com.easybase.docmediastore.api.dto.mapper.FileEntryMapper;
+import com.easybase.docmediastore.api.dto.mapper.ProcessingJobMapper;
+import com.easybase.docmediastore.api.util.FileResponseUtil;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FileMetaData;
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.service.FileEntryService;
+import com.easybase.docmediastore.service.ProcessingJobService;
+import com.easybase.infrastructure.api.dto.response.ApiPageResponse;
+import com.easybase.infrastructure.api.dto.response.ApiResponse;
+import com.easybase.infrastructure.search.QueryResult;
+import com.easybase.store.blob.BlobStore;
+import com.easybase.store.image.ImageDerivative;
+import com.easybase.store.image.ImageDerivativeCache;
+import com.easybase.store.image.ImageTransform;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 
-import lombok.RequiredArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
-import org.apache.tika.exception.TikaException;
+import javax.imageio.ImageIO;
+
+import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import org.xml.sax.SAXException;
-
 /**
+ * REST controller for the files of the document and media store.
+ *
  * @author Saura
  */
 @RequestMapping("/fs")
@@ -34,34 +76,408 @@ import org.xml.sax.SAXException;
 @RestController
 public class DocuMediaController {
 
-	@PostMapping("/{id}")
-	public void uploadFile(
-			@RequestParam("file") MultipartFile file, @PathVariable long id)
-		throws IOException, SAXException, TikaException {
+	@DeleteMapping("/files/{fileEntryId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void deleteFile(@PathVariable UUID fileEntryId) {
+		_fileEntryService.deleteFileEntry(
+			_serviceContext.tenantId(), fileEntryId);
+	}
 
-		_storeUtil.perFormChecks(_allowedExtensions, _maxFileSize, file);
+	/**
+	 * Lists the files of a folder by name. Pass the {@code nextCursor} of a
+	 * previous response as {@code cursor} to page by keyset instead of
+	 * offset.
+	 *
+	 * @param folderId the folder ID, or null for the root folder
+	 * @param cursor the cursor of the page to return, may be null
+	 * @param pageable the page, ignored with a cursor
+	 * @return the page of files
+	 */
+	@GetMapping(params = "!search", value = "/files")
+	public ApiPageResponse<FileEntryDto> getFiles(
+		@RequestParam(required = false) UUID folderId,
+		@RequestParam(required = false) String cursor,
+		@PageableDefault(size = 20) Pageable pageable) {
 
-		long fileId = 12345;
+		QueryResult<FileEntry> queryResult = _fileEntryService.getFileEntries(
+			_serviceContext.tenantId(), folderId, cursor,
+			pageable.getPageNumber(), pageable.getPageSize());
 
-		File destination = _storeUtil.saveOriginalFile(_path, file);
+		List<FileEntry> fileEntries = queryResult.getContent();
 
-		BaseFileProcessor fileProcessor =
-			_fileProcessorFactory.getFileProcessor(file);
+		Stream<FileEntry> fileEntriesStream = fileEntries.stream();
 
-		fileProcessor.process(destination, _path + "/" + fileId);
+		return ApiPageResponse.success(
+			fileEntriesStream.map(
+				_fileEntryMapper::toDto
+			).toList(),
+			PageUtil.from(queryResult), queryResult.getNextCursor());
 	}
 
-	@Value("${easy-base.docmediastore.file.included}")
-	private String _allowedExtensions;
+	/**
+	 * Serves the content of a file from disk with byte range support, see
+	 * {@link FileResponseUtil}. The content never changes, so its entity tag
+	 * is the content hash, but it is revalidated on every use since access to
+	 * it may be revoked.
+	 *
+	 * <p>Uploaded content is never trusted to be passive. It is only displayed
+	 * inline for a fixed set of image, audio, video and plain text types and
+	 * downloaded as an attachment otherwise, and always served with a
+	 * sandboxing content security policy, so a document that carries scripts
+	 * cannot run them on the API origin.</p>
+	 *
+	 * @param fileEntryId the file entry ID
+	 */
+	@GetMapping("/files/{fileEntryId}")
+	public void getFile(
+			@PathVariable UUID fileEntryId,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
 
-	private final FileProcessorFactory _fileProcessorFactory;
+		FileEntry fileEntry = _fileEntryService.getFileEntry(
+			_serviceContext.tenantId(), fileEntryId);
 
-	@Value("${easy-base.docmediastore.file.size}")
-	private String _maxFileSize;
+		String contentHash = _getContentHash(fileEntry);
+
+		ContentDisposition.Builder contentDispositionBuilder =
+			ContentDisposition.attachment();
+
+		if (_INLINE_MIME_TYPES.contains(fileEntry.getMimeType())) {
+			contentDispositionBuilder = ContentDisposition.inline();
+		}
+
+		ContentDisposition contentDisposition =
+			contentDispositionBuilder.filename(
+				fileEntry.getFileName(), StandardCharsets.UTF_8
+			).build();
+
+		httpServletResponse.setHeader(
+			HttpHeaders.CACHE_CONTROL, "private, no-cache");
+		httpServletResponse.setHeader(
+			HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
+		httpServletResponse.setHeader(
+			"Content-Security-Policy", "default-src 'none'; sandbox");
+		httpServletResponse.setHeader("X-Content-Type-Options", "nosniff");
+
+		FileResponseUtil.write(
+			httpServletRequest, httpServletResponse,
+			_blobStore.getBlobPath(contentHash), fileEntry.getMimeType(),
+			"\"" + contentHash + "\"", true);
+	}
+
+	/**
+	 * Returns the background jobs creating the derivatives and metadata of a
+	 * file.
+	 *
+	 * @param fileEntryId the file entry ID
+	 * @return the processing jobs
+	 */
+	@GetMapping("/files/{fileEntryId}/jobs")
+	public ApiResponse<List<ProcessingJobDto>> getFileJobs(
+		@PathVariable UUID fileEntryId) {
+
+		List<ProcessingJob> processingJobs =
+			_processingJobService.getProcessingJobs(
+				_serviceContext.tenantId(), fileEntryId);
+
+		Stream<ProcessingJob> processingJobsStream = processingJobs.stream();
+
+		return ApiResponse.success(
+			processingJobsStream.map(
+				_processingJobMapper::toDto
+			).toList());
+	}
+
+	@GetMapping("/files/{fileEntryId}/metadata")
+	public ApiResponse<Map<String, Object>> getFileMetadata(
+		@PathVariable UUID fileEntryId) {
+
+		FileMetaData fileMetaData = _fileEntryService.getFileMetaData(
+			_serviceContext.tenantId(), fileEntryId);
+
+		return ApiResponse.success(fileMetaData.getMetadata());
+	}
+
+	/**
+	 * Serves the preview of a file. Images without a generated preview are
+	 * rendered on demand, like {@link #getFileTransform}. Derivatives may be
+	 * cached by clients for a year.
+	 *
+	 * @param fileEntryId the file entry ID
+	 */
+	@GetMapping("/files/{fileEntryId}/preview")
+	public void getFilePreview(
+			@PathVariable UUID fileEntryId,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
+
+		_writeDerivative(
+			fileEntryId, "preview", ImageTransform.PREVIEW, httpServletRequest,
+			httpServletResponse);
+	}
+
+	/**
+	 * Serves the thumbnail of a file, see {@link #getFilePreview}.
+	 *
+	 * @param fileEntryId the file entry ID
+	 */
+	@GetMapping("/files/{fileEntryId}/thumbnail")
+	public void getFileThumbnail(
+			@PathVariable UUID fileEntryId,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
+
+		_writeDerivative(
+			fileEntryId, "thumbnail", ImageTransform.THUMBNAIL,
+			httpServletRequest, httpServletResponse);
+	}
+
+	/**
+	 * Renders an image at the given size and format. Renditions are cached on
+	 * disk, see {@link ImageDerivativeCache}. Documents are rendered from
+	 * their preview, up to its size.
+	 *
+	 * @param fileEntryId the file entry ID
+	 * @param w the width of the bounding box, may be null
+	 * @param h the height of the bounding box, may be null
+	 * @param fit {@code contain}, {@code cover} or {@code fill}, may be null
+	 * @param format the format name, may be null for the default format of
+	 *        the image
+	 */
+	@GetMapping("/files/{fileEntryId}/transform")
+	public void getFileTransform(
+			@PathVariable UUID fileEntryId,
+			@RequestParam(required = false) Integer w,
+			@RequestParam(required = false) Integer h,
+			@RequestParam(required = false) String fit,
+			@RequestParam(required = false) String format,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
+
+		ImageTransform imageTransform = ImageTransform.of(w, h, fit, format);
+
+		FileEntry fileEntry = _fileEntryService.getFileEntry(
+			_serviceContext.tenantId(), fileEntryId);
+
+		String contentHash = _getContentHash(fileEntry);
+
+		Path source = _blobStore.getBlobPath(contentHash);
+		String mimeType = fileEntry.getMimeType();
+
+		if (!_isImage(fileEntry)) {
+
+			// Documents are rendered from the preview of their first page
+
+			source = _blobStore.getDerivativePath(contentHash, "preview");
+			mimeType = "image/png";
+
+			if (source == null) {
+				throw new InvalidRequestException(
+					"File " + fileEntryId + " is not a supported image");
+			}
+		}
+
+		try (ImageDerivative imageDerivative =
+				_imageDerivativeCache.getDerivative(
+					contentHash, source,
+					imageTransform.withFormat(
+						ImageTransform.getDefaultFormat(mimeType)))) {
+
+			_writeDerivative(
+				contentHash, imageDerivative.getPath(), false,
+				httpServletRequest, httpServletResponse);
+		}
+	}
+
+	/**
+	 * Searches the text extracted from files.
+	 *
+	 * @param search the full-text query
+	 * @param size the maximum number of files to return
+	 * @return the matching files, best match first
+	 */
+	@GetMapping(params = "search", value = "/files")
+	public ApiResponse<List<FileEntryDto>> searchFiles(
+		@RequestParam String search,
+		@RequestParam(defaultValue = "20") int size) {
+
+		List<FileEntry> fileEntries = _fileEntryService.searchFileEntries(
+			_serviceContext.tenantId(), search, size);
 
-	@Value("${easy-base.docmediastore.root.folder}")
-	private String _path;
+		Stream<FileEntry> fileEntriesStream = fileEntries.stream();
+
+		return ApiResponse.success(
+			fileEntriesStream.map(
+				_fileEntryMapper::toDto
+			).toList());
+	}
+
+	/**
+	 * Uploads a file as multipart form data. Files with identical content
+	 * share one blob, so uploading a file that is already stored only adds a
+	 * file entry.
+	 *
+	 * @param file the file
+	 * @param folderId the folder ID, or null for the root folder
+	 * @return the file entry
+	 */
+	@PostMapping(
+		consumes = MediaType.MULTIPART_FORM_DATA_VALUE, value = "/files"
+	)
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<FileEntryDto> uploadFile(
+			@RequestParam("file") MultipartFile file,
+			@RequestParam(required = false) UUID folderId)
+		throws IOException {
+
+		try (InputStream inputStream = file.getInputStream()) {
+			return _upload(inputStream, file.getOriginalFilename(), folderId);
+		}
+	}
+
+	/**
+	 * Uploads a file as a raw body, which avoids the container buffering a
+	 * multipart body to a temporary file first. The content is written to the
+	 * store in a single pass.
+	 *
+	 * @param fileName the file name
+	 * @param folderId the folder ID, or null for the root folder
+	 * @return the file entry
+	 */
+	@PostMapping(
+		consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, value = "/files"
+	)
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<FileEntryDto> uploadFile(
+			HttpServletRequest httpServletRequest,
+			@RequestParam String fileName,
+			@RequestParam(required = false) UUID folderId)
+		throws IOException {
+
+		if (httpServletRequest.getContentLengthLong() > _maxFileSize) {
+			throw new FileValidationException(
+				"File size exceeded the allowed size");
+		}
+
+		try (InputStream inputStream = httpServletRequest.getInputStream()) {
+			return _upload(inputStream, fileName, folderId);
+		}
+	}
+
+	private String _getContentHash(FileEntry fileEntry) {
+		String contentHash = fileEntry.getContentHash();
+
+		if (contentHash == null) {
+			throw new ResourceNotFoundException(
+				"File content is not available: " + fileEntry.getId());
+		}
+
+		return contentHash;
+	}
+
+	private boolean _isImage(FileEntry fileEntry) {
+		String mimeType = fileEntry.getMimeType();
+
+		if ((mimeType == null) || !mimeType.startsWith("image/")) {
+			return false;
+		}
+
+		return ImageIO.getImageReadersByMIMEType(
+			mimeType
+		).hasNext();
+	}
+
+	private ApiResponse<FileEntryDto> _upload(
+			InputStream inputStream, String fileName, UUID folderId)
+		throws IOException {
+
+		FileEntry fileEntry = _fileEntryService.addFileEntry(
+			_serviceContext.tenantId(), folderId, fileName, inputStream);
+
+		return ApiResponse.success(_fileEntryMapper.toDto(fileEntry));
+	}
+
+	private void _writeDerivative(
+			String contentHash, Path path, boolean sendfile,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
+
+		Path fileName = path.getFileName();
+
+		Optional<MediaType> mediaTypeOptional = MediaTypeFactory.getMediaType(
+			fileName.toString());
+
+		MediaType mediaType = mediaTypeOptional.orElse(
+			MediaType.APPLICATION_OCTET_STREAM);
+
+		httpServletResponse.setHeader(
+			HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+		httpServletResponse.setHeader("X-Content-Type-Options", "nosniff");
+
+		FileResponseUtil.write(
+			httpServletRequest, httpServletResponse, path, mediaType.toString(),
+			"\"" + contentHash + "-" + fileName + "\"", sendfile);
+	}
+
+	private void _writeDerivative(
+			UUID fileEntryId, String name, ImageTransform imageTransform,
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse)
+		throws IOException {
+
+		FileEntry fileEntry = _fileEntryService.getFileEntry(
+			_serviceContext.tenantId(), fileEntryId);
+
+		String contentHash = _getContentHash(fileEntry);
+
+		Path path = _blobStore.getDerivativePath(contentHash, name);
+
+		if (path != null) {
+			_writeDerivative(
+				contentHash, path, true, httpServletRequest,
+				httpServletResponse);
+
+			return;
+		}
+
+		if (!_isImage(fileEntry)) {
+			throw new ResourceNotFoundException(
+				"File " + fileEntryId + " has no " + name);
+		}
+
+		try (ImageDerivative imageDerivative =
+				_imageDerivativeCache.getDerivative(
+					contentHash, _blobStore.getBlobPath(contentHash),
+					imageTransform.withFormat(
+						ImageTransform.getDefaultFormat(
+							fileEntry.getMimeType())))) {
+
+			_writeDerivative(
+				contentHash, imageDerivative.getPath(), false,
+				httpServletRequest, httpServletResponse);
+		}
+	}
+
+	private static final Set<String> _INLINE_MIME_TYPES = Set.of(
+		"audio/mpeg", "audio/ogg", "audio/wav", "audio/webm", "image/bmp",
+		"image/gif", "image/jpeg", "image/png", "image/webp", "text/plain",
+		"video/mp4", "video/ogg", "video/webm");
+
+	private final BlobStore _blobStore;
+	private final FileEntryMapper _fileEntryMapper;
+	private final FileEntryService _fileEntryService;
+	private final ImageDerivativeCache _imageDerivativeCache;
+
+	@Value("${easy-base.docmediastore.file.size}")
+	private long _maxFileSize;
 
-	private final StoreUtil _storeUtil;
+	private final ProcessingJobMapper _processingJobMapper;
+	private final ProcessingJobService _processingJobService;
+	private final ServiceContext _serviceContext;
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.controller;
+
+import com.easybase.common.util.PageUtil;
+import com.easybase.context.api.domain.ServiceContext;
+import com.easybase.docmediastore.api.dto.FolderEntryDto;
+import com.easybase.docmediastore.api.dto.MoveFolderEntriesDto;
+import com.easybase.docmediastore.api.dto.mapper.FolderEntryMapper;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.service.FolderEntryService;
+import com.easybase.infrastructure.api.dto.response.ApiPageResponse;
+import com.easybase.infrastructure.api.dto.response.ApiResponse;
+import com.easybase.infrastructure.search.QueryResult;
+
+import jakarta.validation.Valid;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The folder tree of the current tenant.
+ *
+ * <p>Folders and files are listed by name. Listings take a {@code page} for
+ * random access, or the {@code nextCursor} of a previous response as
+ * {@code cursor} to page by keyset, which stays fast in folders of any
+ * size. Whole subtrees are listed depth first through
+ * {@code /folders/{id}/descendants}.</p>
+ *
+ * <p>Folders are moved with their subtrees in bulk through
+ * {@code /folders/move}. Only empty folders can be deleted.</p>
+ *
+ * @author Akhash R
+ */
+@RequestMapping("/fs/folders")
+@RequiredArgsConstructor
+@RestController
+public class FolderController {
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<FolderEntryDto> createFolder(
+		@RequestBody @Valid FolderEntryDto folderEntryDto) {
+
+		FolderEntry folderEntry = _folderEntryService.addFolderEntry(
+			_serviceContext.tenantId(), folderEntryDto.getParentFolderId(),
+			folderEntryDto.getName(), folderEntryDto.getDescription());
+
+		return ApiResponse.success(_folderEntryMapper.toDto(folderEntry));
+	}
+
+	@DeleteMapping("/{folderId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void deleteFolder(@PathVariable UUID folderId) {
+		_folderEntryService.deleteFolderEntry(
+			_serviceContext.tenantId(), folderId);
+	}
+
+	@GetMapping("/{folderId}")
+	public ApiResponse<FolderEntryDto> getFolder(@PathVariable UUID folderId) {
+		FolderEntry folderEntry = _folderEntryService.getFolderEntry(
+			_serviceContext.tenantId(), folderId);
+
+		return ApiResponse.success(_folderEntryMapper.toDto(folderEntry));
+	}
+
+	@GetMapping("/{folderId}/descendants")
+	public ApiPageResponse<FolderEntryDto> getFolderDescendants(
+		@PathVariable UUID folderId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+
+		return _toApiPageResponse(
+			_folderEntryService.getDescendantFolderEntries(
+				_serviceContext.tenantId(), folderId, cursor, size));
+	}
+
+	@GetMapping
+	public ApiPageResponse<FolderEntryDto> getFolders(
+		@RequestParam(required = false) UUID parentFolderId,
+		@RequestParam(required = false) String cursor,
+		@PageableDefault(size = 20) Pageable pageable) {
+
+		return _toApiPageResponse(
+			_folderEntryService.getFolderEntries(
+				_serviceContext.tenantId(), parentFolderId, cursor,
+				pageable.getPageNumber(), pageable.getPageSize()));
+	}
+
+	@PostMapping("/move")
+	public ApiResponse<List<FolderEntryDto>> moveFolders(
+		@RequestBody @Valid MoveFolderEntriesDto moveFolderEntriesDto) {
+
+		List<FolderEntry> folderEntries =
+			_folderEntryService.moveFolderEntries(
+				_serviceContext.tenantId(),
+				moveFolderEntriesDto.getFolderIds(),
+				moveFolderEntriesDto.getParentFolderId());
+
+		Stream<FolderEntry> folderEntriesStream = folderEntries.stream();
+
+		return ApiResponse.success(
+			folderEntriesStream.map(
+				_folderEntryMapper::toDto
+			).toList());
+	}
+
+	@PutMapping("/{folderId}")
+	public ApiResponse<FolderEntryDto> updateFolder(
+		@PathVariable UUID folderId,
+		@RequestBody @Valid FolderEntryDto folderEntryDto) {
+
+		FolderEntry folderEntry = _folderEntryService.updateFolderEntry(
+			_serviceContext.tenantId(), folderId, folderEntryDto.getName(),
+			folderEntryDto.getDescription());
+
+		return ApiResponse.success(_folderEntryMapper.toDto(folderEntry));
+	}
+
+	private ApiPageResponse<FolderEntryDto> _toApiPageResponse(
+		QueryResult<FolderEntry> queryResult) {
+
+		List<FolderEntry> folderEntries = queryResult.getContent();
+
+		Stream<FolderEntry> folderEntriesStream = folderEntries.stream();
+
+		return ApiPageResponse.success(
+			folderEntriesStream.map(
+				_folderEntryMapper::toDto
+			).toList(),
+			PageUtil.from(queryResult), queryResult.getNextCursor());
+	}
+
+	private final FolderEntryMapper _folderEntryMapper;
+	private final FolderEntryService _folderEntryService;
+	private final ServiceContext _serviceContext;
+
+}
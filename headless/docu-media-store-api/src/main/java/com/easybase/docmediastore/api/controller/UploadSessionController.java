@@ -0,0 +1,143 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.controller;
+
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.context.api.domain.ServiceContext;
+import com.easybase.context.api.domain.UserInfo;
+import com.easybase.docmediastore.api.dto.FileEntryDto;
+import com.easybase.docmediastore.api.dto.UploadSessionDto;
+import com.easybase.docmediastore.api.dto.mapper.FileEntryMapper;
+import com.easybase.docmediastore.api.dto.mapper.UploadSessionMapper;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.docmediastore.service.UploadSessionService;
+import com.easybase.infrastructure.api.dto.response.ApiResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Resumable uploads, for files too large to send reliably in one request.
+ *
+ * <p>A client starts an upload with the name and size of the file, then
+ * {@code PATCH}es chunks as raw {@code application/octet-stream} bodies, each
+ * with its position in the {@code Upload-Offset} header. Chunks may be sent
+ * in any order and in parallel. After an interruption, the upload tells
+ * which offset to resume from. Once every chunk was received, completing the
+ * upload adds the file entry.</p>
+ *
+ * @author Akhash R
+ */
+@RequestMapping("/fs/uploads")
+@RequiredArgsConstructor
+@RestController
+public class UploadSessionController {
+
+	@PostMapping("/{uploadSessionId}/complete")
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<FileEntryDto> completeUpload(
+			@PathVariable UUID uploadSessionId)
+		throws IOException {
+
+		FileEntry fileEntry = _uploadSessionService.completeUploadSession(
+			_serviceContext.tenantId(), _getUserId(), uploadSessionId);
+
+		return ApiResponse.success(_fileEntryMapper.toDto(fileEntry));
+	}
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<UploadSessionDto> createUpload(
+			@RequestBody @Valid UploadSessionDto uploadSessionDto)
+		throws IOException {
+
+		UploadSession uploadSession = _uploadSessionService.addUploadSession(
+			_serviceContext.tenantId(), _getUserId(),
+			uploadSessionDto.getFolderId(), uploadSessionDto.getFileName(),
+			uploadSessionDto.getSize());
+
+		return ApiResponse.success(_uploadSessionMapper.toDto(uploadSession));
+	}
+
+	@DeleteMapping("/{uploadSessionId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void deleteUpload(@PathVariable UUID uploadSessionId) {
+		_uploadSessionService.deleteUploadSession(
+			_serviceContext.tenantId(), _getUserId(), uploadSessionId);
+	}
+
+	@GetMapping("/{uploadSessionId}")
+	public ApiResponse<UploadSessionDto> getUpload(
+		@PathVariable UUID uploadSessionId) {
+
+		UploadSession uploadSession = _uploadSessionService.getUploadSession(
+			_serviceContext.tenantId(), _getUserId(), uploadSessionId);
+
+		return ApiResponse.success(_uploadSessionMapper.toDto(uploadSession));
+	}
+
+	@PatchMapping(
+		consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+		value = "/{uploadSessionId}"
+	)
+	public ApiResponse<UploadSessionDto> uploadChunk(
+			@PathVariable UUID uploadSessionId,
+			@RequestHeader("Upload-Offset") long offset,
+			HttpServletRequest httpServletRequest)
+		throws IOException {
+
+		long contentLength = httpServletRequest.getContentLengthLong();
+
+		if (contentLength < 0) {
+			throw new InvalidRequestException(
+				"Content-Length is required for chunks");
+		}
+
+		UploadSession uploadSession;
+
+		try (InputStream inputStream = httpServletRequest.getInputStream()) {
+			uploadSession = _uploadSessionService.writeChunk(
+				_serviceContext.tenantId(), _getUserId(), uploadSessionId,
+				offset, contentLength, inputStream);
+		}
+
+		return ApiResponse.success(_uploadSessionMapper.toDto(uploadSession));
+	}
+
+	private UUID _getUserId() {
+		UserInfo userInfo = _serviceContext.user();
+
+		return userInfo.id();
+	}
+
+	private final FileEntryMapper _fileEntryMapper;
+	private final ServiceContext _serviceContext;
+	private final UploadSessionMapper _uploadSessionMapper;
+	private final UploadSessionService _uploadSessionService;
+
+}
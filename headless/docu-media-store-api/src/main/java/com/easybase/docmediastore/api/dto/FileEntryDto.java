@@ -0,0 +1,48 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class FileEntryDto {
+
+	@SuppressWarnings("unused")
+	private String contentHash;
+
+	@SuppressWarnings("unused")
+	private LocalDateTime createdAt;
+
+	@SuppressWarnings("unused")
+	private String fileName;
+
+	@SuppressWarnings("unused")
+	private UUID folderId;
+
+	@SuppressWarnings("unused")
+	private UUID id;
+
+	@SuppressWarnings("unused")
+	private String mimeType;
+
+	@SuppressWarnings("unused")
+	private long size;
+
+	@SuppressWarnings("unused")
+	private String title;
+
+}
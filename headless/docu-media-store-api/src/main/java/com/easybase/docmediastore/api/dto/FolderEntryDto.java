@@ -0,0 +1,59 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A folder. Clients send {@code name}, {@code description} and, when
+ * creating a folder below another one, {@code parentFolderId}.
+ * {@code fileCount}, {@code folderCount} and {@code size} cover the whole
+ * subtree below the folder.
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class FolderEntryDto {
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private LocalDateTime createdAt;
+
+	@Size(max = 100, message = "Description must not exceed 100 characters")
+	private String description;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long fileCount;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long folderCount;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private UUID id;
+
+	@NotBlank(message = "Folder name is required")
+	@Size(max = 255, message = "Folder name must not exceed 255 characters")
+	private String name;
+
+	@SuppressWarnings("unused")
+	private UUID parentFolderId;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long size;
+
+}
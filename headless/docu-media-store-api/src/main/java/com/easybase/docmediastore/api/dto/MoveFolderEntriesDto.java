@@ -0,0 +1,34 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Moves {@code folderIds} with their subtrees below {@code parentFolderId},
+ * or to the root when it is omitted.
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class MoveFolderEntriesDto {
+
+	@NotEmpty(message = "Folder IDs are required")
+	private List<UUID> folderIds;
+
+	@SuppressWarnings("unused")
+	private UUID parentFolderId;
+
+}
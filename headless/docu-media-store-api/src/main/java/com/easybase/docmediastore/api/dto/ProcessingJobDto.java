@@ -0,0 +1,46 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The processing status of a file. {@code runAt} is when a pending job is
+ * attempted next.
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class ProcessingJobDto {
+
+	@SuppressWarnings("unused")
+	private int attempts;
+
+	@SuppressWarnings("unused")
+	private LocalDateTime completedAt;
+
+	@SuppressWarnings("unused")
+	private LocalDateTime createdAt;
+
+	@SuppressWarnings("unused")
+	private int maxAttempts;
+
+	@SuppressWarnings("unused")
+	private LocalDateTime runAt;
+
+	@SuppressWarnings("unused")
+	private String status;
+
+	@SuppressWarnings("unused")
+	private String type;
+
+}
@@ -0,0 +1,60 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.time.LocalDateTime;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A resumable upload. Clients send {@code fileName}, {@code size} and
+ * optionally {@code folderId} to start an upload, then upload chunks of
+ * {@code chunkSize} bytes. {@code offset} is where a client uploading
+ * sequentially resumes.
+ *
+ * @author Akhash R
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class UploadSessionDto {
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long chunkSize;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private LocalDateTime expiresAt;
+
+	@NotBlank(message = "File name is required")
+	private String fileName;
+
+	@SuppressWarnings("unused")
+	private UUID folderId;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private UUID id;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long offset;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private long receivedSize;
+
+	@NotNull(message = "File size is required")
+	@PositiveOrZero(message = "File size must not be negative")
+	private Long size;
+
+}
@@ -0,0 +1,69 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto.mapper;
+
+import com.easybase.docmediastore.api.dto.FileEntryDto;
+import com.easybase.docmediastore.entity.FileEntry;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.infrastructure.api.dto.mapper.BaseMapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Akhash R
+ */
+@Component
+public class FileEntryMapper implements BaseMapper<FileEntry, FileEntryDto> {
+
+	@Override
+	public FileEntryDto toDto(FileEntry fileEntry) {
+		if (fileEntry == null) {
+			return null;
+		}
+
+		FileEntryDto fileEntryDto = new FileEntryDto();
+
+		fileEntryDto.setContentHash(fileEntry.getContentHash());
+		fileEntryDto.setCreatedAt(
+			LocalDateTime.ofInstant(
+				fileEntry.getCreatedAt(), ZoneId.systemDefault()));
+		fileEntryDto.setFileName(fileEntry.getFileName());
+
+		FolderEntry folderEntry = fileEntry.getFolderEntry();
+
+		if (folderEntry != null) {
+			fileEntryDto.setFolderId(folderEntry.getId());
+		}
+
+		fileEntryDto.setId(fileEntry.getId());
+		fileEntryDto.setMimeType(fileEntry.getMimeType());
+		fileEntryDto.setSize(fileEntry.getSize());
+		fileEntryDto.setTitle(fileEntry.getTitle());
+
+		return fileEntryDto;
+	}
+
+	@Override
+	public FileEntry toEntity(FileEntryDto fileEntryDto) {
+		if (fileEntryDto == null) {
+			return null;
+		}
+
+		FileEntry fileEntry = new FileEntry();
+
+		fileEntry.setContentHash(fileEntryDto.getContentHash());
+		fileEntry.setFileName(fileEntryDto.getFileName());
+		fileEntry.setMimeType(fileEntryDto.getMimeType());
+		fileEntry.setSize(fileEntryDto.getSize());
+		fileEntry.setTitle(fileEntryDto.getTitle());
+
+		return fileEntry;
+	}
+
+}
@@ -0,0 +1,64 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto.mapper;
+
+import com.easybase.docmediastore.api.dto.FolderEntryDto;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.infrastructure.api.dto.mapper.BaseMapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Akhash R
+ */
+@Component
+public class FolderEntryMapper
+	implements BaseMapper<FolderEntry, FolderEntryDto> {
+
+	@Override
+	public FolderEntryDto toDto(FolderEntry folderEntry) {
+		if (folderEntry == null) {
+			return null;
+		}
+
+		FolderEntryDto folderEntryDto = new FolderEntryDto();
+
+		folderEntryDto.setCreatedAt(
+			LocalDateTime.ofInstant(
+				folderEntry.getCreatedAt(), ZoneId.systemDefault()));
+		folderEntryDto.setDescription(folderEntry.getDescription());
+		folderEntryDto.setFileCount(folderEntry.getFileCount());
+		folderEntryDto.setFolderCount(folderEntry.getFolderCount());
+		folderEntryDto.setId(folderEntry.getId());
+		folderEntryDto.setName(folderEntry.getName());
+		folderEntryDto.setParentFolderId(folderEntry.getParentFolderId());
+		folderEntryDto.setSize(folderEntry.getSize());
+
+		return folderEntryDto;
+	}
+
+	@Override
+	public FolderEntry toEntity(FolderEntryDto folderEntryDto) {
+		if (folderEntryDto == null) {
+			return null;
+		}
+
+		FolderEntry folderEntry = new FolderEntry();
+
+		folderEntry.setDescription(folderEntryDto.getDescription());
+		folderEntry.setFileCount(folderEntryDto.getFileCount());
+		folderEntry.setFolderCount(folderEntryDto.getFolderCount());
+		folderEntry.setName(folderEntryDto.getName());
+		folderEntry.setParentFolderId(folderEntryDto.getParentFolderId());
+		folderEntry.setSize(folderEntryDto.getSize());
+
+		return folderEntry;
+	}
+
+}
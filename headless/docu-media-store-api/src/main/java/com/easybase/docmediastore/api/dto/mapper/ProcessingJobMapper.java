@@ -0,0 +1,105 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto.mapper;
+
+import com.easybase.docmediastore.api.dto.ProcessingJobDto;
+import com.easybase.docmediastore.entity.ProcessingJob;
+import com.easybase.docmediastore.entity.ProcessingJobStatus;
+import com.easybase.docmediastore.entity.ProcessingJobType;
+import com.easybase.infrastructure.api.dto.mapper.BaseMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Akhash R
+ */
+@Component
+public class ProcessingJobMapper
+	implements BaseMapper<ProcessingJob, ProcessingJobDto> {
+
+	@Override
+	public ProcessingJobDto toDto(ProcessingJob processingJob) {
+		if (processingJob == null) {
+			return null;
+		}
+
+		ProcessingJobDto processingJobDto = new ProcessingJobDto();
+
+		processingJobDto.setAttempts(processingJob.getAttempts());
+		processingJobDto.setCompletedAt(
+			_toLocalDateTime(processingJob.getCompletedAt()));
+		processingJobDto.setCreatedAt(
+			_toLocalDateTime(processingJob.getCreatedAt()));
+		processingJobDto.setMaxAttempts(processingJob.getMaxAttempts());
+
+		ProcessingJobStatus status = processingJob.getStatus();
+
+		if (status == ProcessingJobStatus.PENDING) {
+			processingJobDto.setRunAt(
+				_toLocalDateTime(processingJob.getRunAt()));
+		}
+
+		processingJobDto.setStatus(status.name());
+
+		ProcessingJobType type = processingJob.getType();
+
+		processingJobDto.setType(type.name());
+
+		return processingJobDto;
+	}
+
+	@Override
+	public ProcessingJob toEntity(ProcessingJobDto processingJobDto) {
+		if (processingJobDto == null) {
+			return null;
+		}
+
+		ProcessingJob processingJob = new ProcessingJob();
+
+		processingJob.setAttempts(processingJobDto.getAttempts());
+		processingJob.setCompletedAt(
+			_toInstant(processingJobDto.getCompletedAt()));
+		processingJob.setMaxAttempts(processingJobDto.getMaxAttempts());
+		processingJob.setRunAt(_toInstant(processingJobDto.getRunAt()));
+
+		if (processingJobDto.getStatus() != null) {
+			processingJob.setStatus(
+				ProcessingJobStatus.valueOf(processingJobDto.getStatus()));
+		}
+
+		if (processingJobDto.getType() != null) {
+			processingJob.setType(
+				ProcessingJobType.valueOf(processingJobDto.getType()));
+		}
+
+		return processingJob;
+	}
+
+	private Instant _toInstant(LocalDateTime localDateTime) {
+		if (localDateTime == null) {
+			return null;
+		}
+
+		ZonedDateTime zonedDateTime = localDateTime.atZone(
+			ZoneId.systemDefault());
+
+		return zonedDateTime.toInstant();
+	}
+
+	private LocalDateTime _toLocalDateTime(Instant instant) {
+		if (instant == null) {
+			return null;
+		}
+
+		return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+	}
+
+}
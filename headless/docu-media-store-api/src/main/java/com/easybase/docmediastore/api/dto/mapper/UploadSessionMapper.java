@@ -0,0 +1,84 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.dto.mapper;
+
+import com.easybase.docmediastore.api.dto.UploadSessionDto;
+import com.easybase.docmediastore.entity.FolderEntry;
+import com.easybase.docmediastore.entity.UploadSession;
+import com.easybase.infrastructure.api.dto.mapper.BaseMapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * @author Akhash R
+ */
+@Component
+public class UploadSessionMapper
+	implements BaseMapper<UploadSession, UploadSessionDto> {
+
+	@Override
+	public UploadSessionDto toDto(UploadSession uploadSession) {
+		if (uploadSession == null) {
+			return null;
+		}
+
+		UploadSessionDto uploadSessionDto = new UploadSessionDto();
+
+		uploadSessionDto.setChunkSize(uploadSession.getChunkSize());
+		uploadSessionDto.setExpiresAt(
+			LocalDateTime.ofInstant(
+				uploadSession.getExpiresAt(), ZoneId.systemDefault()));
+		uploadSessionDto.setFileName(uploadSession.getFileName());
+
+		FolderEntry folderEntry = uploadSession.getFolderEntry();
+
+		if (folderEntry != null) {
+			uploadSessionDto.setFolderId(folderEntry.getId());
+		}
+
+		uploadSessionDto.setId(uploadSession.getId());
+		uploadSessionDto.setOffset(uploadSession.getOffset());
+		uploadSessionDto.setReceivedSize(uploadSession.getReceivedSize());
+		uploadSessionDto.setSize(uploadSession.getSize());
+
+		return uploadSessionDto;
+	}
+
+	@Override
+	public UploadSession toEntity(UploadSessionDto uploadSessionDto) {
+		if (uploadSessionDto == null) {
+			return null;
+		}
+
+		UploadSession uploadSession = new UploadSession();
+
+		uploadSession.setChunkSize(uploadSessionDto.getChunkSize());
+
+		LocalDateTime expiresAt = uploadSessionDto.getExpiresAt();
+
+		if (expiresAt != null) {
+			ZonedDateTime zonedDateTime = expiresAt.atZone(
+				ZoneId.systemDefault());
+
+			uploadSession.setExpiresAt(zonedDateTime.toInstant());
+		}
+
+		uploadSession.setFileName(uploadSessionDto.getFileName());
+		uploadSession.setOffset(uploadSessionDto.getOffset());
+		uploadSession.setReceivedSize(uploadSessionDto.getReceivedSize());
+
+		if (uploadSessionDto.getSize() != null) {
+			uploadSession.setSize(uploadSessionDto.getSize());
+		}
+
+		return uploadSession;
+	}
+
+}
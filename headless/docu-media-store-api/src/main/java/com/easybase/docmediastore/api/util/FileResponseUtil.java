@@ -0,0 +1,205 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.docmediastore.api.util;
+
+import com.easybase.common.exception.ResourceNotFoundException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes files from disk to HTTP responses.
+ *
+ * <p>Conditional requests are answered from the entity tag alone, so a client
+ * holding a current copy gets a 304 without the file being opened. A single
+ * byte range is honored, which is what players send when seeking; requests
+ * for several ranges get the whole file, as RFC 9110 allows.</p>
+ *
+ * <p>On Tomcat, bodies of 48 KB or more are handed to the connector through
+ * its sendfile request attributes, which lets the kernel copy the file to the
+ * socket without it passing through the heap. Smaller bodies, and bodies on
+ * other containers, are copied with {@link FileChannel#transferTo}. The
+ * connector only opens the file after the request handler returned, so files
+ * that may be deleted by then are always copied.</p>
+ *
+ * @author Akhash R
+ */
+public class FileResponseUtil {
+
+	/**
+	 * Writes a file, or the requested range of it, to the response. Headers
+	 * not specific to the content, such as {@code Cache-Control}, should be
+	 * set before calling this method so they are sent with 304 responses as
+	 * well.
+	 *
+	 * @param httpServletRequest the request
+	 * @param httpServletResponse the response
+	 * @param path the file
+	 * @param contentType the media type of the file
+	 * @param eTag the entity tag of the file, quoted
+	 * @param sendfile whether the file may be sent by the connector after
+	 *        this method returned
+	 * @throws IOException if the file cannot be read or the response cannot be
+	 *         written
+	 */
+	public static void write(
+			HttpServletRequest httpServletRequest,
+			HttpServletResponse httpServletResponse, Path path,
+			String contentType, String eTag, boolean sendfile)
+		throws IOException {
+
+		ServletWebRequest servletWebRequest = new ServletWebRequest(
+			httpServletRequest, httpServletResponse);
+
+		if (servletWebRequest.checkNotModified(eTag)) {
+			return;
+		}
+
+		long length;
+
+		try {
+			length = Files.size(path);
+		}
+		catch (NoSuchFileException noSuchFileException) {
+			throw new ResourceNotFoundException(
+				"File content is not available", noSuchFileException);
+		}
+
+		httpServletResponse.setContentType(contentType);
+		httpServletResponse.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		long start = 0;
+		long end = length - 1;
+
+		HttpRange httpRange = _getHttpRange(httpServletRequest, eTag);
+
+		if (httpRange != null) {
+			start = httpRange.getRangeStart(length);
+			end = httpRange.getRangeEnd(length);
+
+			if (start >= length) {
+				httpServletResponse.setHeader(
+					HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				httpServletResponse.setStatus(
+					HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+
+				return;
+			}
+
+			httpServletResponse.setHeader(
+				HttpHeaders.CONTENT_RANGE,
+				"bytes " + start + "-" + end + "/" + length);
+			httpServletResponse.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+		}
+
+		long count = end - start + 1;
+
+		httpServletResponse.setContentLengthLong(count);
+
+		if (HttpMethod.HEAD.matches(httpServletRequest.getMethod()) ||
+			(count == 0)) {
+
+			return;
+		}
+
+		if (sendfile && (count >= _SENDFILE_MIN_SIZE) &&
+			Boolean.TRUE.equals(
+				httpServletRequest.getAttribute(_SENDFILE_SUPPORTED))) {
+
+			httpServletRequest.setAttribute(
+				_SENDFILE_FILENAME, String.valueOf(path.toAbsolutePath()));
+			httpServletRequest.setAttribute(_SENDFILE_START, start);
+			httpServletRequest.setAttribute(_SENDFILE_END, end + 1);
+
+			return;
+		}
+
+		try (FileChannel fileChannel = FileChannel.open(
+				path, StandardOpenOption.READ)) {
+
+			WritableByteChannel writableByteChannel = Channels.newChannel(
+				httpServletResponse.getOutputStream());
+
+			long position = start;
+
+			while (count > 0) {
+				long transferred = fileChannel.transferTo(
+					position, count, writableByteChannel);
+
+				if (transferred <= 0) {
+					throw new IOException("File was truncated: " + path);
+				}
+
+				count -= transferred;
+				position += transferred;
+			}
+		}
+	}
+
+	private static HttpRange _getHttpRange(
+		HttpServletRequest httpServletRequest, String eTag) {
+
+		String range = httpServletRequest.getHeader(HttpHeaders.RANGE);
+
+		if (range == null) {
+			return null;
+		}
+
+		String ifRange = httpServletRequest.getHeader(HttpHeaders.IF_RANGE);
+
+		if ((ifRange != null) && !ifRange.equals(eTag)) {
+			return null;
+		}
+
+		List<HttpRange> httpRanges;
+
+		try {
+			httpRanges = HttpRange.parseRanges(range);
+		}
+		catch (IllegalArgumentException illegalArgumentException) {
+			return null;
+		}
+
+		if (httpRanges.size() != 1) {
+			return null;
+		}
+
+		return httpRanges.get(0);
+	}
+
+	private static final String _SENDFILE_END =
+		"org.apache.tomcat.sendfile.end";
+
+	private static final String _SENDFILE_FILENAME =
+		"org.apache.tomcat.sendfile.filename";
+
+	private static final long _SENDFILE_MIN_SIZE = 48 * 1024;
+
+	private static final String _SENDFILE_START =
+		"org.apache.tomcat.sendfile.start";
+
+	private static final String _SENDFILE_SUPPORTED =
+		"org.apache.tomcat.sendfile.support";
+
+}
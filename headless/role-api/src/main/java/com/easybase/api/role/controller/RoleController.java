@@ -93,10 +93,14 @@ public class RoleController {
 	 * Query roles for the current tenant with filtering, searching,
 	 * sorting, and pagination.
 	 *
+	 * <p>Pass the {@code nextCursor} of a previous response as
+	 * {@code cursor} to page by keyset instead of offset.</p>
+	 *
 	 * @return paginated list of roles
 	 */
 	@GetMapping
 	public ApiPageResponse<RoleDto> getRoles(
+		@RequestParam(required = false) String cursor,
 		@RequestParam(required = false) String filter,
 		@RequestParam(required = false) String search,
 		@PageableDefault(
@@ -105,6 +109,8 @@ public class RoleController {
 		Pageable pageable) {
 
 		SearchContext context = SearchContext.builder(
+		).cursor(
+			cursor
 		).entityType(
 			"role"
 		).tenantId(
@@ -125,7 +131,8 @@ public class RoleController {
 			context, role -> _roleMapper.toDto(role));
 
 		return ApiPageResponse.success(
-			result.getContent(), PageUtil.from(result));
+			result.getContent(), PageUtil.from(result),
+			result.getNextCursor());
 	}
 
 	/**
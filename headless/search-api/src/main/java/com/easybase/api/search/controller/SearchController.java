@@ -0,0 +1,250 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.api.search.controller;
+
+import com.easybase.api.data.engine.dto.mapper.DataRecordMapper;
+import com.easybase.api.role.dto.mapper.RoleMapper;
+import com.easybase.api.user.dto.mapper.UserMapper;
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.common.exception.ResourceNotFoundException;
+import com.easybase.context.api.domain.ServiceContext;
+import com.easybase.core.data.engine.domain.entity.Collection;
+import com.easybase.core.data.engine.domain.entity.DataRecord;
+import com.easybase.core.data.engine.service.CollectionLocalService;
+import com.easybase.core.role.domain.entity.Role;
+import com.easybase.core.search.federated.FederatedSearchListener;
+import com.easybase.core.search.federated.FederatedSearchQuery;
+import com.easybase.core.search.federated.FederatedSearchResponse;
+import com.easybase.core.search.federated.FederatedSearchResult;
+import com.easybase.core.search.federated.FederatedSearchService;
+import com.easybase.core.user.domain.entity.User;
+import com.easybase.infrastructure.api.dto.response.ApiResponse;
+import com.easybase.infrastructure.search.SearchContext;
+
+import java.io.IOException;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Searches users, roles and the records of several collections in one call.
+ *
+ * <p>Every entity type and collection is searched concurrently with its own
+ * deadline. Sources that fail or time out are reported in the response
+ * instead of failing the whole request, so clients should check
+ * {@code partial}. Clients accepting {@code text/event-stream} receive a
+ * {@code result} event per source as soon as it finishes, followed by a
+ * {@code complete} event carrying the merged response.</p>
+ *
+ * @author Akhash R
+ */
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@RestController
+public class SearchController {
+
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ApiResponse<FederatedSearchResponse>> search(
+		@RequestParam String search,
+		@RequestParam(required = false) List<String> types,
+		@RequestParam(required = false) List<String> collections,
+		@RequestParam(defaultValue = "5") int size,
+		@RequestParam(required = false) Long timeout) {
+
+		CompletableFuture<FederatedSearchResponse> completableFuture =
+			_federatedSearchService.search(
+				_getQueries(search, types, collections, size, timeout));
+
+		return completableFuture.thenApply(ApiResponse::success);
+	}
+
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSearch(
+		@RequestParam String search,
+		@RequestParam(required = false) List<String> types,
+		@RequestParam(required = false) List<String> collections,
+		@RequestParam(defaultValue = "5") int size,
+		@RequestParam(required = false) Long timeout) {
+
+		List<FederatedSearchQuery> queries = _getQueries(
+			search, types, collections, size, timeout);
+
+		SseEmitter sseEmitter = new SseEmitter(
+			_getEmitterTimeout(queries).toMillis());
+
+		_federatedSearchService.search(
+			queries,
+			new FederatedSearchListener() {
+
+				@Override
+				public void onComplete(FederatedSearchResponse response) {
+					_send(sseEmitter, "complete", response);
+
+					sseEmitter.complete();
+				}
+
+				@Override
+				public void onResult(FederatedSearchResult result) {
+					_send(sseEmitter, "result", result);
+				}
+
+			});
+
+		return sseEmitter;
+	}
+
+	private Duration _getEmitterTimeout(List<FederatedSearchQuery> queries) {
+		Duration emitterTimeout = _EMITTER_TIMEOUT;
+
+		for (FederatedSearchQuery query : queries) {
+			Duration timeout = query.getTimeout();
+
+			if ((timeout != null) && (timeout.compareTo(emitterTimeout) > 0)) {
+				emitterTimeout = timeout;
+			}
+		}
+
+		return emitterTimeout.plusSeconds(5);
+	}
+
+	private List<FederatedSearchQuery> _getQueries(
+		String search, List<String> types, List<String> collections, int size,
+		Long timeout) {
+
+		if ((types == null) && (collections == null)) {
+			types = List.of("user", "role");
+		}
+
+		Duration duration = null;
+
+		if (timeout != null) {
+			if ((timeout <= 0) || (timeout > _MAX_TIMEOUT.toMillis())) {
+				throw new InvalidRequestException(
+					"Timeout must be between 1 and " + _MAX_TIMEOUT.toMillis() +
+						" ms");
+			}
+
+			duration = Duration.ofMillis(timeout);
+		}
+
+		UUID tenantId = _serviceContext.tenantId();
+
+		List<FederatedSearchQuery> queries = new ArrayList<>();
+
+		if (types != null) {
+			for (String type : types) {
+				queries.add(
+					FederatedSearchQuery.of(
+						type, _getSearchContext(type, tenantId, search, size),
+						_getMapper(type), duration));
+			}
+		}
+
+		if (collections != null) {
+			for (String collectionName : collections) {
+				Collection collection = _collectionLocalService.fetchCollection(
+					tenantId, collectionName);
+
+				if (collection == null) {
+					throw new ResourceNotFoundException(
+						"Collection", "name", collectionName);
+				}
+
+				SearchContext context = SearchContext.builder(
+				).entityType(
+					"records"
+				).tenantId(
+					tenantId
+				).search(
+					search
+				).size(
+					size
+				).checkPermission(
+					false
+				).build();
+
+				context.setAttribute("collection", collection);
+
+				queries.add(
+					FederatedSearchQuery.of(
+						"records:" + collectionName, context,
+						(DataRecord dataRecord) -> _dataRecordMapper.toDto(
+							dataRecord),
+						duration));
+			}
+		}
+
+		return queries;
+	}
+
+	private Function<?, ?> _getMapper(String type) {
+		if (type.equals("role")) {
+			return (Role role) -> _roleMapper.toDto(role);
+		}
+
+		if (type.equals("user")) {
+			return (User user) -> _userMapper.toDto(user);
+		}
+
+		throw new InvalidRequestException("Unknown search type: " + type);
+	}
+
+	private SearchContext _getSearchContext(
+		String type, UUID tenantId, String search, int size) {
+
+		return SearchContext.builder(
+		).entityType(
+			type
+		).tenantId(
+			tenantId
+		).search(
+			search
+		).size(
+			size
+		).build();
+	}
+
+	private void _send(SseEmitter sseEmitter, String name, Object data) {
+		try {
+			sseEmitter.send(
+				SseEmitter.event(
+				).name(
+					name
+				).data(
+					data, MediaType.APPLICATION_JSON
+				));
+		}
+		catch (IOException ioException) {
+			sseEmitter.completeWithError(ioException);
+		}
+	}
+
+	private static final Duration _EMITTER_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Duration _MAX_TIMEOUT = Duration.ofSeconds(30);
+
+	private final CollectionLocalService _collectionLocalService;
+	private final DataRecordMapper _dataRecordMapper;
+	private final FederatedSearchService _federatedSearchService;
+	private final RoleMapper _roleMapper;
+	private final ServiceContext _serviceContext;
+	private final UserMapper _userMapper;
+
+}
@@ -99,10 +99,14 @@ public class UserController {
 	 * Query users for the current tenant with filtering, searching,
 	 * sorting, and pagination.
 	 *
+	 * <p>Pass the {@code nextCursor} of a previous response as
+	 * {@code cursor} to page by keyset instead of offset.</p>
+	 *
 	 * @return paginated list of users
 	 */
 	@GetMapping
 	public ApiPageResponse<UserDto> getUsers(
+		@RequestParam(required = false) String cursor,
 		@RequestParam(required = false) String filter,
 		@RequestParam(required = false) String search,
 		@PageableDefault(
@@ -116,6 +120,8 @@ public class UserController {
 			pageable.getPageNumber(), pageable.getPageSize());
 
 		SearchContext context = SearchContext.builder(
+		).cursor(
+			cursor
 		).entityType(
 			"user"
 		).tenantId(
@@ -136,7 +142,8 @@ public class UserController {
 			context, _userMapper::toDto);
 
 		return ApiPageResponse.success(
-			result.getContent(), PageUtil.from(result));
+			result.getContent(), PageUtil.from(result),
+			result.getNextCursor());
 	}
 
 	/**
@@ -22,12 +22,19 @@ public class ApiPageResponse<T> extends ApiResponse<List<T>> {
 	public static <T> ApiPageResponse<T> success(
 		List<T> content, Page<?> page) {
 
-		return new ApiPageResponse<>(content, page);
+		return new ApiPageResponse<>(content, page, null);
 	}
 
-	private ApiPageResponse(List<T> data, Page<?> page) {
+	public static <T> ApiPageResponse<T> success(
+		List<T> content, Page<?> page, String nextCursor) {
+
+		return new ApiPageResponse<>(content, page, nextCursor);
+	}
+
+	private ApiPageResponse(List<T> data, Page<?> page, String nextCursor) {
 		super(true, null, data, null, 200, null);
 
+		this.nextCursor = nextCursor;
 		this.page = page.getNumber();
 		size = page.getSize();
 		totalElements = page.getTotalElements();
@@ -38,6 +45,7 @@ public class ApiPageResponse<T> extends ApiResponse<List<T>> {
 
 	private final boolean first;
 	private final boolean last;
+	private final String nextCursor;
 	private final int page;
 	private final int size;
 	private final long totalElements;
@@ -7,41 +7,25 @@ package com.easybase.infrastructure.search;
 
 import java.util.List;
 
-import lombok.Data;
-
 /**
  * A node in a filter expression tree. Leaf nodes hold a {@link FilterCondition};
- * non-leaf nodes combine children with AND or OR logic.
+ * non-leaf nodes combine children with AND or OR logic. Nodes are immutable,
+ * so parsed trees can be shared between threads.
  *
  * @author Akhash R
  */
-@Data
 public class FilterNode {
 
 	public static FilterNode and(List<FilterNode> children) {
-		FilterNode node = new FilterNode();
-
-		node._logic = LogicOperator.AND;
-		node._children = children;
-
-		return node;
+		return new FilterNode(List.copyOf(children), null, LogicOperator.AND);
 	}
 
 	public static FilterNode leaf(FilterCondition condition) {
-		FilterNode node = new FilterNode();
-
-		node._condition = condition;
-
-		return node;
+		return new FilterNode(null, condition, null);
 	}
 
 	public static FilterNode or(List<FilterNode> children) {
-		FilterNode node = new FilterNode();
-
-		node._logic = LogicOperator.OR;
-		node._children = children;
-
-		return node;
+		return new FilterNode(List.copyOf(children), null, LogicOperator.OR);
 	}
 
 	public List<FilterNode> getChildren() {
@@ -70,8 +54,17 @@ public class FilterNode {
 
 	}
 
-	private List<FilterNode> _children;
-	private FilterCondition _condition;
-	private LogicOperator _logic;
+	private FilterNode(
+		List<FilterNode> children, FilterCondition condition,
+		LogicOperator logic) {
+
+		_children = children;
+		_condition = condition;
+		_logic = logic;
+	}
+
+	private final List<FilterNode> _children;
+	private final FilterCondition _condition;
+	private final LogicOperator _logic;
 
 }
\ No newline at end of file
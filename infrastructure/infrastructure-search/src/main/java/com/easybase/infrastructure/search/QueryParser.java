@@ -9,8 +9,8 @@ import com.easybase.common.exception.InvalidRequestException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Parses OData-style filter expressions into a {@link FilterNode} tree and
@@ -27,26 +27,49 @@ import java.util.regex.Pattern;
  * value     := 'string' | null | unquoted
  * </pre>
  *
+ * <p>Filters are lexed and parsed in a single pass over the input, field
+ * names are validated while they are read, and expressions longer than
+ * {@value #MAX_FILTER_LENGTH} characters or nested deeper than
+ * {@value #MAX_FILTER_DEPTH} levels are rejected. The resulting trees are
+ * immutable, so recently parsed filters are cached and shared between the
+ * validation and execution of a search.</p>
+ *
  * @author Akhash R
  */
 public class QueryParser {
 
+	public static final int MAX_FILTER_DEPTH = 32;
+
+	public static final int MAX_FILTER_LENGTH = 4096;
+
 	public static FilterNode parseFilter(String filter) {
 		if ((filter == null) || filter.isBlank()) {
 			return null;
 		}
 
-		ODataFilterParser parser = new ODataFilterParser(filter.trim());
+		if (filter.length() > MAX_FILTER_LENGTH) {
+			throw new InvalidRequestException(
+				"Filter expression exceeds " + MAX_FILTER_LENGTH +
+					" characters");
+		}
 
-		FilterNode result = parser._parseExpr();
+		FilterNode filterNode = _filterNodes.get(filter);
 
-		if (parser._pos < parser._tokens.size()) {
-			throw new InvalidRequestException(
-				"Unexpected token at position " + parser._pos + ": " +
-					parser._tokens.get(parser._pos));
+		if (filterNode != null) {
+			return filterNode;
 		}
 
-		return result;
+		FilterParser filterParser = new FilterParser(filter);
+
+		filterNode = filterParser.parse();
+
+		if (_filterNodes.size() >= _MAX_CACHED_FILTERS) {
+			_filterNodes.clear();
+		}
+
+		_filterNodes.put(filter, filterNode);
+
+		return filterNode;
 	}
 
 	public static List<SortField> parseSort(String sort) {
@@ -54,416 +77,523 @@ public class QueryParser {
 			return List.of();
 		}
 
+		if (sort.length() > MAX_FILTER_LENGTH) {
+			throw new InvalidRequestException(
+				"Sort expression exceeds " + MAX_FILTER_LENGTH + " characters");
+		}
+
 		List<SortField> sortFields = new ArrayList<>();
 
-		String[] parts = sort.split(",");
+		int length = sort.length();
+		int start = 0;
 
-		for (String part : parts) {
-			String trimmed = part.trim();
+		while (start <= length) {
+			int end = sort.indexOf(',', start);
 
-			if (trimmed.isEmpty()) {
-				continue;
+			if (end < 0) {
+				end = length;
 			}
 
-			if (trimmed.startsWith("-")) {
-				String fieldName = trimmed.substring(1);
+			int fieldStart = start;
+			int fieldEnd = end;
 
-				_validateFieldName(fieldName);
+			while ((fieldStart < fieldEnd) &&
+				   Character.isWhitespace(sort.charAt(fieldStart))) {
 
-				sortFields.add(new SortField(true, fieldName));
+				fieldStart++;
 			}
-			else {
-				String fieldName =
-					trimmed.startsWith("+") ? trimmed.substring(1) : trimmed;
 
-				_validateFieldName(fieldName);
+			while ((fieldEnd > fieldStart) &&
+				   Character.isWhitespace(sort.charAt(fieldEnd - 1))) {
 
-				sortFields.add(new SortField(false, fieldName));
+				fieldEnd--;
 			}
+
+			if (fieldStart < fieldEnd) {
+				boolean descending = false;
+
+				char sign = sort.charAt(fieldStart);
+
+				if (sign == '-') {
+					descending = true;
+					fieldStart++;
+				}
+				else if (sign == '+') {
+					fieldStart++;
+				}
+
+				sortFields.add(
+					new SortField(
+						descending,
+						_getFieldName(sort, fieldStart, fieldEnd)));
+			}
+
+			start = end + 1;
 		}
 
 		return sortFields;
 	}
 
-	private static void _validateFieldName(String fieldName) {
-		if ((fieldName == null) || fieldName.isBlank()) {
+	/**
+	 * Returns the field name held by the given region, validating it against
+	 * {@code [a-zA-Z_][a-zA-Z0-9_]*}. Names are interned, so the field names
+	 * of cached filters share their instances.
+	 */
+	private static String _getFieldName(
+		CharSequence input, int start, int end) {
+
+		if (start >= end) {
 			throw new InvalidRequestException("Field name cannot be blank");
 		}
 
-		Matcher matcher = _fieldNamePattern.matcher(fieldName);
+		for (int i = start; i < end; i++) {
+			char c = input.charAt(i);
+
+			if (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) ||
+				(c == '_') || ((i > start) && (c >= '0') && (c <= '9'))) {
+
+				continue;
+			}
 
-		if (!matcher.matches()) {
 			throw new InvalidRequestException(
-				"Invalid field name: " + fieldName);
+				"Invalid field name: " + input.subSequence(start, end));
+		}
+
+		String fieldName = String.valueOf(input.subSequence(start, end));
+
+		String internedFieldName = _fieldNames.get(fieldName);
+
+		if (internedFieldName != null) {
+			return internedFieldName;
+		}
+
+		if (_fieldNames.size() < _MAX_INTERNED_FIELD_NAMES) {
+			internedFieldName = _fieldNames.putIfAbsent(fieldName, fieldName);
+
+			if (internedFieldName != null) {
+				return internedFieldName;
+			}
 		}
+
+		return fieldName;
 	}
 
-	private static final Pattern _fieldNamePattern = Pattern.compile(
-		"^[a-zA-Z_][a-zA-Z0-9_]*$");
+	private static final int _MAX_CACHED_FILTERS = 1024;
+
+	private static final int _MAX_INTERNED_FIELD_NAMES = 4096;
+
+	private static final Map<String, String> _fieldNames =
+		new ConcurrentHashMap<>();
+	private static final Map<String, FilterNode> _filterNodes =
+		new ConcurrentHashMap<>();
+	private static final FilterOperator[] _filterOperators =
+		FilterOperator.values();
 
 	/**
-	 * Recursive-descent parser over a token list.
+	 * Recursive-descent parser that lexes one token ahead directly from the
+	 * input, tracking tokens by their offsets instead of materializing them.
 	 */
-	private static class ODataFilterParser {
+	private static class FilterParser {
 
-		ODataFilterParser(String input) {
-			_tokens = _tokenize(input);
-		}
+		FilterParser(String input) {
+			_input = input;
+
+			_length = input.length();
 
-		/** expr := orExpr */
-		FilterNode _parseExpr() {
-			return _parseOrExpr();
+			_next();
 		}
 
-		/** orExpr := andExpr ('or' andExpr)* */
-		FilterNode _parseOrExpr() {
-			FilterNode left = _parseAndExpr();
+		FilterNode parse() {
+			FilterNode filterNode = _parseOrExpr(0);
 
-			while (_peek("or")) {
-				_consume("or");
+			if (_tokenType != TokenType.END) {
+				throw new InvalidRequestException(
+					"Unexpected token at position " + _tokenStart + ": " +
+						_getTokenText());
+			}
 
-				FilterNode right = _parseAndExpr();
+			return filterNode;
+		}
 
-				left = _mergeBinary(FilterNode.LogicOperator.OR, left, right);
+		/** Consumes the current token, which must be of the given type. */
+		private void _consume(TokenType tokenType) {
+			if (_tokenType != tokenType) {
+				throw new InvalidRequestException(
+					"Expected '" + tokenType._text + "' but got '" +
+						_getTokenText() + "'");
 			}
 
-			return left;
+			_next();
 		}
 
-		/** andExpr := notExpr ('and' notExpr)* */
-		FilterNode _parseAndExpr() {
-			FilterNode left = _parseNotExpr();
+		private String _getTokenText() {
+			if (_tokenType == TokenType.END) {
+				return "end of filter expression";
+			}
 
-			while (_peek("and")) {
-				_consume("and");
+			return _input.substring(_tokenStart, _tokenEnd);
+		}
 
-				FilterNode right = _parseNotExpr();
+		/** Checks whether the current token is the given keyword. */
+		private boolean _isKeyword(String keyword) {
+			if ((_tokenType == TokenType.WORD) &&
+				((_tokenEnd - _tokenStart) == keyword.length()) &&
+				_input.regionMatches(
+					true, _tokenStart, keyword, 0, keyword.length())) {
 
-				left = _mergeBinary(FilterNode.LogicOperator.AND, left, right);
+				return true;
 			}
 
-			return left;
+			return false;
 		}
 
-		/** notExpr := 'not' '(' expr ')' | '(' expr ')' | atom */
-		FilterNode _parseNotExpr() {
-			if (_peek("not")) {
-				_consume("not");
-				_consume("(");
+		/**
+		 * Negates a node, pushing the negation down to the leaves with De
+		 * Morgan's laws and inverting the comparison operators.
+		 * {@code contains} conditions cannot be negated.
+		 */
+		private FilterNode _negate(FilterNode filterNode) {
+			if (filterNode.isLeaf()) {
+				FilterCondition filterCondition = filterNode.getCondition();
 
-				FilterNode inner = _parseExpr();
+				FilterOperator negated;
 
-				_consume(")");
+				switch (filterCondition.getOperator()) {
+					case EQ:
+						negated = FilterOperator.NE;
 
-				return _negate(inner);
-			}
+						break;
+					case NE:
+						negated = FilterOperator.EQ;
+
+						break;
+					case GT:
+						negated = FilterOperator.LE;
 
-			if (_peek("(")) {
-				_consume("(");
+						break;
+					case GE:
+						negated = FilterOperator.LT;
 
-				FilterNode inner = _parseExpr();
+						break;
+					case LT:
+						negated = FilterOperator.GE;
 
-				_consume(")");
+						break;
+					case LE:
+						negated = FilterOperator.GT;
 
-				return inner;
+						break;
+					default:
+						throw new InvalidRequestException(
+							"Cannot negate operator: " +
+								filterCondition.getOperator());
+				}
+
+				return FilterNode.leaf(
+					new FilterCondition(
+						filterCondition.getField(), negated,
+						filterCondition.getValue()));
 			}
 
-			return _parseAtom();
-		}
+			List<FilterNode> negatedChildren = new ArrayList<>();
 
-		/** atom := contains(field,'value') | field op value */
-		FilterNode _parseAtom() {
-			String token = _current();
+			for (FilterNode child : filterNode.getChildren()) {
+				negatedChildren.add(_negate(child));
+			}
 
-			if ("contains".equalsIgnoreCase(token)) {
-				return _parseContains();
+			if (filterNode.getLogic() == FilterNode.LogicOperator.AND) {
+				return FilterNode.or(negatedChildren);
 			}
 
-			return _parseFieldOp();
+			return FilterNode.and(negatedChildren);
 		}
 
-		/** contains(field,'value') → FilterCondition(field, CONTAINS, value) */
-		FilterNode _parseContains() {
-			_consume("contains");
-			_consume("(");
-
-			String field = _current();
+		/** Lexes the next token. */
+		private void _next() {
+			int position = _tokenEnd;
 
-			_advance();
-			_validateFieldName(field);
-			_consume(",");
+			while ((position < _length) &&
+				   Character.isWhitespace(_input.charAt(position))) {
 
-			String value = _parseStringValue();
+				position++;
+			}
 
-			_consume(")");
+			_tokenStart = position;
 
-			return FilterNode.leaf(
-				new FilterCondition(field, FilterOperator.CONTAINS, value));
-		}
+			if (position >= _length) {
+				_tokenEnd = position;
+				_tokenType = TokenType.END;
 
-		/** field op value → FilterCondition */
-		FilterNode _parseFieldOp() {
-			String field = _current();
+				return;
+			}
 
-			_advance();
-			_validateFieldName(field);
+			char c = _input.charAt(position);
 
-			String opToken = _current();
+			if (c == '(') {
+				_tokenEnd = position + 1;
+				_tokenType = TokenType.LEFT_PARENTHESIS;
 
-			_advance();
+				return;
+			}
 
-			FilterOperator operator;
+			if (c == ')') {
+				_tokenEnd = position + 1;
+				_tokenType = TokenType.RIGHT_PARENTHESIS;
 
-			try {
-				operator = FilterOperator.fromKeyword(opToken.toLowerCase());
-			}
-			catch (IllegalArgumentException illegalArgumentException) {
-				throw new InvalidRequestException(
-					"Unknown filter operator: " + opToken,
-					illegalArgumentException);
+				return;
 			}
 
-			String value = _parseValue();
+			if (c == ',') {
+				_tokenEnd = position + 1;
+				_tokenType = TokenType.COMMA;
 
-			return FilterNode.leaf(new FilterCondition(field, operator, value));
-		}
+				return;
+			}
 
-		/** value := 'string' | null | unquoted */
-		String _parseValue() {
-			String token = _current();
+			if (c == '\'') {
+				position++;
 
-			if (token.startsWith("'") && token.endsWith("'") &&
-				(token.length() >= 2)) {
+				while ((position < _length) &&
+					   (_input.charAt(position) != '\'')) {
 
-				_advance();
+					if ((_input.charAt(position) == '\\') &&
+						((position + 1) < _length)) {
 
-				return token.substring(1, token.length() - 1);
-			}
+						position++;
+					}
 
-			if ("null".equalsIgnoreCase(token)) {
-				_advance();
+					position++;
+				}
 
-				return null;
-			}
+				if (position >= _length) {
+					throw new InvalidRequestException(
+						"Unterminated string literal in filter");
+				}
 
-			_advance();
+				_tokenEnd = position + 1;
+				_tokenType = TokenType.STRING;
 
-			return token;
-		}
+				return;
+			}
 
-		/** Parse a single-quoted string and return its content. */
-		String _parseStringValue() {
-			String token = _current();
+			while (position < _length) {
+				c = _input.charAt(position);
 
-			if (token.startsWith("'") && token.endsWith("'") &&
-				(token.length() >= 2)) {
+				if (Character.isWhitespace(c) || (c == '(') || (c == ')') ||
+					(c == ',') || (c == '\'')) {
 
-				_advance();
+					break;
+				}
 
-				return token.substring(1, token.length() - 1);
+				position++;
 			}
 
-			throw new InvalidRequestException(
-				"Expected single-quoted string, got: " + token);
+			_tokenEnd = position;
+			_tokenType = TokenType.WORD;
 		}
 
-		// ── helpers ──────────────────────────────────────────────────────────
+		/** andExpr := notExpr ('and' notExpr)* */
+		private FilterNode _parseAndExpr(int depth) {
+			FilterNode filterNode = _parseNotExpr(depth);
 
-		void _advance() {
-			_pos++;
-		}
+			if (!_isKeyword("and")) {
+				return filterNode;
+			}
 
-		void _consume(String expected) {
-			String token = _current();
+			List<FilterNode> children = _toChildren(
+				filterNode, FilterNode.LogicOperator.AND);
 
-			if (!expected.equalsIgnoreCase(token)) {
-				throw new InvalidRequestException(
-					"Expected '" + expected + "' but got '" + token + "'");
+			while (_isKeyword("and")) {
+				_next();
+
+				children.add(_parseNotExpr(depth));
 			}
 
-			_advance();
+			return FilterNode.and(children);
 		}
 
-		String _current() {
-			if (_pos >= _tokens.size()) {
+		/** contains(field,'value') */
+		private FilterNode _parseContains() {
+			_next();
+
+			_consume(TokenType.LEFT_PARENTHESIS);
+
+			String fieldName = _parseFieldName();
+
+			_consume(TokenType.COMMA);
+
+			if (_tokenType != TokenType.STRING) {
 				throw new InvalidRequestException(
-					"Unexpected end of filter expression");
+					"Expected single-quoted string, got: " + _getTokenText());
 			}
 
-			return _tokens.get(_pos);
-		}
+			String value = _input.substring(_tokenStart + 1, _tokenEnd - 1);
 
-		boolean _peek(String expected) {
-			if (_pos >= _tokens.size()) {
-				return false;
-			}
+			_next();
+
+			_consume(TokenType.RIGHT_PARENTHESIS);
 
-			return expected.equalsIgnoreCase(_tokens.get(_pos));
+			return FilterNode.leaf(
+				new FilterCondition(fieldName, FilterOperator.CONTAINS, value));
 		}
 
-		/**
-		 * Negate a node: wraps with a NOT marker via a single-child OR node
-		 * that signals logical negation to the engine. Since the filter tree
-		 * does not have an explicit NOT node type we represent
-		 * {@code not (expr)} by inverting the leaf condition operator for
-		 * simple cases, and for compound expressions we throw — callers
-		 * should use {@code not (leaf)} patterns.
-		 */
-		FilterNode _negate(FilterNode node) {
-			if (node.isLeaf()) {
-				FilterCondition c = node.getCondition();
-				FilterOperator negated;
+		private String _parseFieldName() {
+			if (_tokenType != TokenType.WORD) {
+				throw new InvalidRequestException(
+					"Expected field name but got '" + _getTokenText() + "'");
+			}
 
-				switch (c.getOperator()) {
-					case EQ:
-						negated = FilterOperator.NE;
+			String fieldName = _getFieldName(_input, _tokenStart, _tokenEnd);
 
-						break;
-					case NE:
-						negated = FilterOperator.EQ;
+			_next();
 
-						break;
-					case GT:
-						negated = FilterOperator.LE;
+			return fieldName;
+		}
 
-						break;
-					case GE:
-						negated = FilterOperator.LT;
+		/** field op value */
+		private FilterNode _parseFieldOp() {
+			String fieldName = _parseFieldName();
 
-						break;
-					case LT:
-						negated = FilterOperator.GE;
+			FilterOperator filterOperator = null;
 
-						break;
-					case LE:
-						negated = FilterOperator.GT;
+			for (FilterOperator curFilterOperator : _filterOperators) {
+				if (_isKeyword(curFilterOperator.getKeyword())) {
+					filterOperator = curFilterOperator;
 
-						break;
-					default:
-						throw new InvalidRequestException(
-							"Cannot negate operator: " + c.getOperator());
+					break;
 				}
+			}
 
-				return FilterNode.leaf(
-					new FilterCondition(c.getField(), negated, c.getValue()));
+			if (filterOperator == null) {
+				throw new InvalidRequestException(
+					"Unknown filter operator: " + _getTokenText());
 			}
 
-			if (node.getLogic() == FilterNode.LogicOperator.AND) {
-				List<FilterNode> negatedChildren = new ArrayList<>();
+			_next();
 
-				for (FilterNode child : node.getChildren()) {
-					negatedChildren.add(_negate(child));
-				}
+			String value;
 
-				return FilterNode.or(negatedChildren);
+			if (_tokenType == TokenType.STRING) {
+				value = _input.substring(_tokenStart + 1, _tokenEnd - 1);
+			}
+			else if (_isKeyword("null")) {
+				value = null;
+			}
+			else if (_tokenType == TokenType.WORD) {
+				value = _input.substring(_tokenStart, _tokenEnd);
+			}
+			else {
+				throw new InvalidRequestException(
+					"Expected value but got '" + _getTokenText() + "'");
 			}
 
-			List<FilterNode> negatedChildren = new ArrayList<>();
+			_next();
 
-			for (FilterNode child : node.getChildren()) {
-				negatedChildren.add(_negate(child));
+			return FilterNode.leaf(
+				new FilterCondition(fieldName, filterOperator, value));
+		}
+
+		/** '(' expr ')' */
+		private FilterNode _parseGroup(int depth) {
+			if (depth >= MAX_FILTER_DEPTH) {
+				throw new InvalidRequestException(
+					"Filter expression is nested deeper than " +
+						MAX_FILTER_DEPTH + " levels");
 			}
 
-			return FilterNode.and(negatedChildren);
-		}
+			_consume(TokenType.LEFT_PARENTHESIS);
 
-		/** Merge two nodes with a logic operator, collapsing same-operator chains. */
-		FilterNode _mergeBinary(
-			FilterNode.LogicOperator op, FilterNode left, FilterNode right) {
+			FilterNode filterNode = _parseOrExpr(depth + 1);
 
-			if (!left.isLeaf() && (left.getLogic() == op)) {
-				List<FilterNode> children = new ArrayList<>(left.getChildren());
+			_consume(TokenType.RIGHT_PARENTHESIS);
 
-				children.add(right);
+			return filterNode;
+		}
 
-				if (op == FilterNode.LogicOperator.AND) {
-					return FilterNode.and(children);
-				}
+		/** notExpr := 'not' '(' expr ')' | '(' expr ')' | atom */
+		private FilterNode _parseNotExpr(int depth) {
+			if (_isKeyword("not")) {
+				_next();
 
-				return FilterNode.or(children);
+				return _negate(_parseGroup(depth));
 			}
 
-			List<FilterNode> children = new ArrayList<>();
+			if (_tokenType == TokenType.LEFT_PARENTHESIS) {
+				return _parseGroup(depth);
+			}
 
-			children.add(left);
-			children.add(right);
+			if (_tokenType == TokenType.END) {
+				throw new InvalidRequestException(
+					"Unexpected end of filter expression");
+			}
 
-			if (op == FilterNode.LogicOperator.AND) {
-				return FilterNode.and(children);
+			if (_isKeyword("contains")) {
+				return _parseContains();
 			}
 
-			return FilterNode.or(children);
+			return _parseFieldOp();
 		}
 
-		/**
-		 * Tokenize the filter string into a list of tokens:
-		 * keywords, identifiers, single-quoted strings, parentheses, commas.
-		 */
-		List<String> _tokenize(String input) {
-			List<String> tokens = new ArrayList<>();
-
-			int i = 0;
-			int len = input.length();
-
-			while (i < len) {
-				char c = input.charAt(i);
-
-				if (Character.isWhitespace(c)) {
-					i++;
+		/** orExpr := andExpr ('or' andExpr)* */
+		private FilterNode _parseOrExpr(int depth) {
+			FilterNode filterNode = _parseAndExpr(depth);
 
-					continue;
-				}
+			if (!_isKeyword("or")) {
+				return filterNode;
+			}
 
-				if ((c == '(') || (c == ')') || (c == ',')) {
-					tokens.add(String.valueOf(c));
-					i++;
+			List<FilterNode> children = _toChildren(
+				filterNode, FilterNode.LogicOperator.OR);
 
-					continue;
-				}
+			while (_isKeyword("or")) {
+				_next();
 
-				if (c == '\'') {
-					int start = i;
-
-					i++;
+				children.add(_parseAndExpr(depth));
+			}
 
-					while ((i < len) && (input.charAt(i) != '\'')) {
-						if ((input.charAt(i) == '\\') && ((i + 1) < len)) {
-							i++;
-						}
+			return FilterNode.or(children);
+		}
 
-						i++;
-					}
+		/**
+		 * Starts the child list of a chain, adopting the children of a
+		 * leading group joined by the same operator.
+		 */
+		private List<FilterNode> _toChildren(
+			FilterNode filterNode, FilterNode.LogicOperator logicOperator) {
 
-					if (i >= len) {
-						throw new InvalidRequestException(
-							"Unterminated string literal in filter");
-					}
+			List<FilterNode> children = new ArrayList<>();
 
-					i++;
+			if (!filterNode.isLeaf() &&
+				(filterNode.getLogic() == logicOperator)) {
 
-					tokens.add(input.substring(start, i));
+				children.addAll(filterNode.getChildren());
+			}
+			else {
+				children.add(filterNode);
+			}
 
-					continue;
-				}
+			return children;
+		}
 
-				int start = i;
+		private final String _input;
+		private final int _length;
+		private int _tokenEnd;
+		private int _tokenStart;
+		private TokenType _tokenType;
 
-				while ((i < len) && !Character.isWhitespace(input.charAt(i)) &&
-					   (input.charAt(i) != '(') && (input.charAt(i) != ')') &&
-					   (input.charAt(i) != ',') && (input.charAt(i) != '\'')) {
+	}
 
-					i++;
-				}
+	private enum TokenType {
 
-				tokens.add(input.substring(start, i));
-			}
+		COMMA(","), END("end"), LEFT_PARENTHESIS("("), RIGHT_PARENTHESIS(")"),
+		STRING("string"), WORD("word");
 
-			return tokens;
+		TokenType(String text) {
+			_text = text;
 		}
 
-		int _pos;
-		final List<String> _tokens;
+		private final String _text;
 
 	}
 
-}
\ No newline at end of file
+}
@@ -18,16 +18,35 @@ public class QueryResult<T> {
 	public QueryResult(
 		List<T> content, int page, int size, long totalElements) {
 
+		this(content, page, size, totalElements, null);
+	}
+
+	public QueryResult(
+		List<T> content, int page, int size, long totalElements,
+		String nextCursor) {
+
 		_content = content;
 		_page = page;
 		_size = size;
 		_totalElements = totalElements;
+		_nextCursor = nextCursor;
 	}
 
 	public List<T> getContent() {
 		return _content;
 	}
 
+	/**
+	 * Returns the opaque keyset cursor of the page following this one, or
+	 * {@code null} if this is the last page or the query engine does not
+	 * support keyset pagination.
+	 *
+	 * @return the next page cursor, or null
+	 */
+	public String getNextCursor() {
+		return _nextCursor;
+	}
+
 	public int getPage() {
 		return _page;
 	}
@@ -41,6 +60,7 @@ public class QueryResult<T> {
 	}
 
 	private final List<T> _content;
+	private final String _nextCursor;
 	private final int _page;
 	private final int _size;
 	private final long _totalElements;
@@ -16,7 +16,7 @@ import lombok.Builder;
  *
  * @author Akhash R
  */
-@Builder
+@Builder(toBuilder = true)
 public class SearchContext {
 
 	public static final int DEFAULT_SIZE = 20;
@@ -27,6 +27,16 @@ public class SearchContext {
 		return (T)attributes.get(key);
 	}
 
+	/**
+	 * Returns the keyset cursor of the page to fetch. When set, it takes
+	 * precedence over the page number.
+	 *
+	 * @return the cursor, or null for offset pagination
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
 	public String getEntityType() {
 		return entityType;
 	}
@@ -77,6 +87,7 @@ public class SearchContext {
 	@Builder.Default
 	private final boolean checkPermission = true;
 
+	private final String cursor;
 	private final String entityType;
 	private final String filter;
 
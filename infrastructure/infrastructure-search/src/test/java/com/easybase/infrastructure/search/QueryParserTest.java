@@ -0,0 +1,290 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.infrastructure.search;
+
+import com.easybase.common.exception.InvalidRequestException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Akhash R
+ */
+class QueryParserTest {
+
+	@Test
+	public void testParseFilterCache() {
+		String filter = "cacheTest eq 1 and cacheTest ne 2";
+
+		FilterNode filterNode = QueryParser.parseFilter(filter);
+
+		Assertions.assertSame(filterNode, QueryParser.parseFilter(filter));
+		Assertions.assertSame(
+			filterNode, QueryParser.parseFilter(new String(filter)));
+
+		FilterNode otherFilterNode = QueryParser.parseFilter(
+			"cacheTest eq 1 and cacheTest ne 3");
+
+		Assertions.assertNotSame(filterNode, otherFilterNode);
+
+		List<FilterNode> children = filterNode.getChildren();
+		List<FilterNode> otherChildren = otherFilterNode.getChildren();
+
+		FilterNode child = children.get(0);
+		FilterNode otherChild = otherChildren.get(0);
+
+		FilterCondition filterCondition = child.getCondition();
+		FilterCondition otherFilterCondition = otherChild.getCondition();
+
+		Assertions.assertSame(
+			filterCondition.getField(), otherFilterCondition.getField());
+	}
+
+	@Test
+	public void testParseFilterContains() {
+		Assertions.assertEquals(
+			"name contains [doc]",
+			_toString(QueryParser.parseFilter("contains(name,'doc')")));
+		Assertions.assertEquals(
+			"name contains [doc]",
+			_toString(QueryParser.parseFilter("contains( name , 'doc' )")));
+		Assertions.assertEquals(
+			"name contains [doc]",
+			_toString(QueryParser.parseFilter("name contains 'doc'")));
+
+		_assertInvalidFilter("contains(name,doc)");
+		_assertInvalidFilter("contains(name 'doc')");
+		_assertInvalidFilter("contains(name,'doc'");
+		_assertInvalidFilter("not (contains(name,'doc'))");
+	}
+
+	@Test
+	public void testParseFilterDepth() {
+		String filter =
+			"(".repeat(QueryParser.MAX_FILTER_DEPTH) + "a eq 1" +
+				")".repeat(QueryParser.MAX_FILTER_DEPTH);
+
+		Assertions.assertEquals(
+			"a eq [1]", _toString(QueryParser.parseFilter(filter)));
+
+		_assertInvalidFilter(
+			"(".repeat(QueryParser.MAX_FILTER_DEPTH + 1) + "a eq 1" +
+				")".repeat(QueryParser.MAX_FILTER_DEPTH + 1));
+		_assertInvalidFilter(
+			"not (".repeat(QueryParser.MAX_FILTER_DEPTH + 1) + "a eq 1" +
+				")".repeat(QueryParser.MAX_FILTER_DEPTH + 1));
+		_assertInvalidFilter("(".repeat(QueryParser.MAX_FILTER_LENGTH));
+	}
+
+	@Test
+	public void testParseFilterLength() {
+		String prefix = "a eq '";
+
+		int length = QueryParser.MAX_FILTER_LENGTH - prefix.length() - 1;
+
+		String filter = prefix + "x".repeat(length) + "'";
+
+		Assertions.assertEquals(QueryParser.MAX_FILTER_LENGTH, filter.length());
+		Assertions.assertNotNull(QueryParser.parseFilter(filter));
+
+		_assertInvalidFilter(filter + " ");
+
+		Assertions.assertNull(QueryParser.parseFilter(null));
+		Assertions.assertNull(QueryParser.parseFilter(" "));
+	}
+
+	@Test
+	public void testParseFilterNot() {
+		Assertions.assertEquals(
+			"or(a ne [1], b le [2], c lt [3])",
+			_toString(
+				QueryParser.parseFilter("not (a eq 1 and b gt 2 and c ge 3)")));
+		Assertions.assertEquals(
+			"and(a eq [1], or(b ge [2], c gt [3]))",
+			_toString(
+				QueryParser.parseFilter(
+					"not (a ne 1 or (b lt 2 and c le 3))")));
+		Assertions.assertEquals(
+			"a eq [1]",
+			_toString(QueryParser.parseFilter("not (not (a eq 1))")));
+
+		_assertInvalidFilter("not a eq 1");
+	}
+
+	@Test
+	public void testParseFilterOperators() {
+		for (FilterOperator filterOperator : FilterOperator.values()) {
+			String keyword = filterOperator.getKeyword();
+
+			Assertions.assertEquals(
+				"a " + keyword + " [1]",
+				_toString(QueryParser.parseFilter("a " + keyword + " 1")));
+			Assertions.assertEquals(
+				"a " + keyword + " [1]",
+				_toString(
+					QueryParser.parseFilter(
+						"a " + keyword.toUpperCase() + " 1")));
+		}
+
+		_assertInvalidFilter("a like 1");
+		_assertInvalidFilter("a eq");
+		_assertInvalidFilter("a eq )");
+		_assertInvalidFilter("a 1");
+	}
+
+	@Test
+	public void testParseFilterPrecedence() {
+		Assertions.assertEquals(
+			"or(a eq [1], and(b eq [2], c eq [3]))",
+			_toString(QueryParser.parseFilter("a eq 1 or b eq 2 and c eq 3")));
+		Assertions.assertEquals(
+			"or(and(a eq [1], b eq [2]), c eq [3])",
+			_toString(QueryParser.parseFilter("a eq 1 and b eq 2 or c eq 3")));
+		Assertions.assertEquals(
+			"and(or(a eq [1], b eq [2]), c eq [3])",
+			_toString(
+				QueryParser.parseFilter("(a eq 1 or b eq 2) and c eq 3")));
+		Assertions.assertEquals(
+			"and(a eq [1], b eq [2], c eq [3], d eq [4])",
+			_toString(
+				QueryParser.parseFilter(
+					"(a eq 1 and b eq 2) and c eq 3 and (d eq 4)")));
+		Assertions.assertEquals(
+			"or(a eq [1], b eq [2], c eq [3])",
+			_toString(
+				QueryParser.parseFilter("a eq 1 OR b eq 2 Or c eq 3")));
+
+		_assertInvalidFilter("a eq 1 and");
+		_assertInvalidFilter("a eq 1 b eq 2");
+		_assertInvalidFilter("(a eq 1");
+		_assertInvalidFilter("a eq 1)");
+		_assertInvalidFilter("()");
+	}
+
+	@Test
+	public void testParseFilterValues() {
+		Assertions.assertEquals(
+			"a eq [hello world]",
+			_toString(QueryParser.parseFilter("a eq 'hello world'")));
+		Assertions.assertEquals(
+			"a eq []", _toString(QueryParser.parseFilter("a eq ''")));
+
+		// Escaped quotes do not end a string and are passed on verbatim
+
+		Assertions.assertEquals(
+			"a eq [a and (b) or \\'c]",
+			_toString(QueryParser.parseFilter("a eq 'a and (b) or \\'c'")));
+		Assertions.assertEquals(
+			"a eq [C:\\\\]",
+			_toString(QueryParser.parseFilter("a eq 'C:\\\\'")));
+		Assertions.assertEquals(
+			"a eq null", _toString(QueryParser.parseFilter("a eq null")));
+		Assertions.assertEquals(
+			"a eq [null]", _toString(QueryParser.parseFilter("a eq 'null'")));
+		Assertions.assertEquals(
+			"a gt [-1.5]", _toString(QueryParser.parseFilter("a gt -1.5")));
+
+		_assertInvalidFilter("a eq 'unterminated");
+		_assertInvalidFilter("a eq 'escaped\\'");
+	}
+
+	@Test
+	public void testParseFilterWithInvalidFieldName() {
+		_assertInvalidFilter("1a eq 1");
+		_assertInvalidFilter("a-b eq 1");
+		_assertInvalidFilter("a.b eq 1");
+		_assertInvalidFilter("'a' eq 1");
+
+		Assertions.assertEquals(
+			"_a1 eq [1]", _toString(QueryParser.parseFilter("_a1 eq 1")));
+	}
+
+	@Test
+	public void testParseSort() {
+		List<SortField> sortFields = QueryParser.parseSort(
+			" name , -createdAt,+size,, ");
+
+		Assertions.assertEquals(3, sortFields.size());
+
+		SortField sortField = sortFields.get(0);
+
+		Assertions.assertEquals("name", sortField.getField());
+		Assertions.assertFalse(sortField.isDescending());
+
+		sortField = sortFields.get(1);
+
+		Assertions.assertEquals("createdAt", sortField.getField());
+		Assertions.assertTrue(sortField.isDescending());
+
+		sortField = sortFields.get(2);
+
+		Assertions.assertEquals("size", sortField.getField());
+		Assertions.assertFalse(sortField.isDescending());
+
+		Assertions.assertEquals(List.of(), QueryParser.parseSort(null));
+		Assertions.assertEquals(List.of(), QueryParser.parseSort(" "));
+
+		Assertions.assertThrows(
+			InvalidRequestException.class, () -> QueryParser.parseSort("-"));
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> QueryParser.parseSort("name desc"));
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> QueryParser.parseSort(
+				"a".repeat(QueryParser.MAX_FILTER_LENGTH + 1)));
+	}
+
+	private void _assertInvalidFilter(String filter) {
+		Assertions.assertThrows(
+			InvalidRequestException.class,
+			() -> QueryParser.parseFilter(filter), filter);
+	}
+
+	private String _toString(FilterNode filterNode) {
+		if (filterNode.isLeaf()) {
+			FilterCondition filterCondition = filterNode.getCondition();
+
+			FilterOperator filterOperator = filterCondition.getOperator();
+
+			String value = "null";
+
+			if (filterCondition.getValue() != null) {
+				value = "[" + filterCondition.getValue() + "]";
+			}
+
+			return filterCondition.getField() + " " +
+				filterOperator.getKeyword() + " " + value;
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		FilterNode.LogicOperator logicOperator = filterNode.getLogic();
+
+		sb.append(
+			logicOperator.name(
+			).toLowerCase());
+
+		sb.append("(");
+
+		List<FilterNode> children = filterNode.getChildren();
+
+		for (int i = 0; i < children.size(); i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+
+			sb.append(_toString(children.get(i)));
+		}
+
+		sb.append(")");
+
+		return sb.toString();
+	}
+
+}
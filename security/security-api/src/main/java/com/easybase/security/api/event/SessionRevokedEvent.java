@@ -0,0 +1,76 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.api.event;
+
+import java.util.UUID;
+
+/**
+ * Immutable event published whenever one or more sessions are revoked.
+ *
+ * <p>A single session revocation carries the session ID. A bulk revocation
+ * for a user carries the user and tenant IDs and no session ID.</p>
+ *
+ * @author Akhash
+ */
+public class SessionRevokedEvent {
+
+	/**
+	 * Creates an event for the revocation of a single session.
+	 *
+	 * @param sessionId the revoked session ID
+	 * @return new session revoked event
+	 */
+	public static SessionRevokedEvent forSession(String sessionId) {
+		return new SessionRevokedEvent(sessionId, null, null);
+	}
+
+	/**
+	 * Creates an event for the revocation of all sessions of a user.
+	 *
+	 * @param userId the user ID
+	 * @param tenantId the tenant ID
+	 * @return new session revoked event
+	 */
+	public static SessionRevokedEvent forUser(UUID userId, UUID tenantId) {
+		return new SessionRevokedEvent(null, userId, tenantId);
+	}
+
+	public SessionRevokedEvent(String sessionId, UUID userId, UUID tenantId) {
+		_sessionId = sessionId;
+		_userId = userId;
+		_tenantId = tenantId;
+	}
+
+	public String getSessionId() {
+		return _sessionId;
+	}
+
+	public UUID getTenantId() {
+		return _tenantId;
+	}
+
+	public UUID getUserId() {
+		return _userId;
+	}
+
+	/**
+	 * Checks whether this event revokes every session of a user.
+	 *
+	 * @return true if this is a bulk revocation for a user
+	 */
+	public boolean isUserWide() {
+		if (_sessionId == null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private final String _sessionId;
+	private final UUID _tenantId;
+	private final UUID _userId;
+
+}
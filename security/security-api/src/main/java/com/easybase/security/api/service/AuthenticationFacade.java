@@ -7,6 +7,9 @@ package com.easybase.security.api.service;
 
 import com.easybase.security.api.dto.AuthenticatedPrincipalData;
 import com.easybase.security.api.dto.LoginRequest;
+import com.easybase.security.api.dto.TokenResponse;
+
+import java.time.Duration;
 
 /**
  * @author Akhash
@@ -18,6 +21,17 @@ public interface AuthenticationFacade {
 	public AuthenticatedPrincipalData authenticateCredentials(
 		LoginRequest loginRequest);
 
+	/**
+	 * Authenticates the credentials and issues an access and refresh token.
+	 * The session and the refresh token are stored in one transaction.
+	 *
+	 * @param loginRequest the login request
+	 * @param accessTokenTtl the access token lifetime
+	 * @return the issued tokens
+	 */
+	public TokenResponse login(
+		LoginRequest loginRequest, Duration accessTokenTtl);
+
 	public void logout(String sessionId);
 
 	public AuthenticatedPrincipalData refreshAuthentication(
@@ -15,6 +15,7 @@ import com.easybase.security.api.dto.CreateSessionRequest;
 import com.easybase.security.api.dto.LoginRequest;
 import com.easybase.security.api.dto.Session;
 import com.easybase.security.api.dto.TokenClaims;
+import com.easybase.security.api.dto.TokenResponse;
 import com.easybase.security.api.dto.TokenValidationResult;
 import com.easybase.security.api.exception.AuthenticationException;
 import com.easybase.security.api.service.AuthenticationFacade;
@@ -24,6 +25,8 @@ import com.easybase.security.session.config.SessionProperties;
 import com.easybase.security.session.entity.RefreshTokenEntity;
 import com.easybase.security.session.service.RefreshTokenService;
 
+import java.time.Duration;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +35,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implementation of {@link AuthenticationFacade} that handles authentication
@@ -107,48 +111,48 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
 	public AuthenticatedPrincipalData authenticateCredentials(
 		LoginRequest loginRequest) {
 
-		UUID tenantId = loginRequest.getTenantId();
-
-		if (tenantId == null) {
-			Tenant defaultTenant = _tenantLocalService.getDefaultTenant();
-
-			tenantId = defaultTenant.getId();
-		}
+		UUID tenantId = _getTenantId(loginRequest);
 
 		User user = _userService.authenticateUser(
 			loginRequest.getUserName(), loginRequest.getPassword(), tenantId);
 
-		CreateSessionRequest sessionRequest = new CreateSessionRequest();
+		List<String> authorities = _roleLocalService.getUserAuthorities(
+			user.getId());
 
-		sessionRequest.setUserId(user.getId());
-		sessionRequest.setTenantId(tenantId);
-		sessionRequest.setTtl(_sessionProperties.getDefaultTtl());
-		sessionRequest.setClientIp(loginRequest.getClientIp());
-		sessionRequest.setUserAgent(loginRequest.getUserAgent());
-		sessionRequest.setDeviceInfo(loginRequest.getDeviceInfo());
-		sessionRequest.setMetadata(loginRequest.getMetadata());
+		return _createSession(
+			loginRequest, user.getId(), tenantId, authorities);
+	}
 
-		Session session = _sessionService.createSession(sessionRequest);
+	@Override
+	public TokenResponse login(
+		LoginRequest loginRequest, Duration accessTokenTtl) {
 
-		AuthenticatedPrincipalData principalData =
-			new AuthenticatedPrincipalData();
+		UUID tenantId = _getTenantId(loginRequest);
 
-		principalData.setUserId(session.getUserId());
-		principalData.setTenantId(session.getTenantId());
-		principalData.setSessionId(session.getSessionId());
+		// Verify the password and load the authorities before opening the
+		// write transaction, so it only spans the two inserts
+
+		User user = _userService.authenticateUser(
+			loginRequest.getUserName(), loginRequest.getPassword(), tenantId);
 
 		List<String> authorities = _roleLocalService.getUserAuthorities(
 			user.getId());
 
-		principalData.setAuthorities(authorities);
+		return _transactionTemplate.execute(
+			transactionStatus -> {
+				AuthenticatedPrincipalData principalData = _createSession(
+					loginRequest, user.getId(), tenantId, authorities);
 
-		principalData.setMetadata(session.getMetadata());
-		principalData.setIssuedAt(session.getCreatedAt());
-		principalData.setExpiresAt(session.getExpiresAt());
-		principalData.setClientIp(session.getClientIp());
-		principalData.setUserAgent(session.getUserAgent());
+				String refreshToken = _tokenService.generateRefreshToken(
+					principalData.getSessionId());
 
-		return principalData;
+				String accessToken = _tokenService.generateAccessToken(
+					principalData, accessTokenTtl);
+
+				return TokenResponse.of(
+					accessToken, refreshToken, accessTokenTtl.toSeconds(),
+					principalData.getSessionId());
+			});
 	}
 
 	@Override
@@ -210,12 +214,57 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
 		_refreshTokenService.revokeRefreshToken(refreshToken);
 	}
 
+	private AuthenticatedPrincipalData _createSession(
+		LoginRequest loginRequest, UUID userId, UUID tenantId,
+		List<String> authorities) {
+
+		CreateSessionRequest sessionRequest = new CreateSessionRequest();
+
+		sessionRequest.setUserId(userId);
+		sessionRequest.setTenantId(tenantId);
+		sessionRequest.setTtl(_sessionProperties.getDefaultTtl());
+		sessionRequest.setClientIp(loginRequest.getClientIp());
+		sessionRequest.setUserAgent(loginRequest.getUserAgent());
+		sessionRequest.setDeviceInfo(loginRequest.getDeviceInfo());
+		sessionRequest.setMetadata(loginRequest.getMetadata());
+
+		Session session = _sessionService.createSession(sessionRequest);
+
+		AuthenticatedPrincipalData principalData =
+			new AuthenticatedPrincipalData();
+
+		principalData.setUserId(session.getUserId());
+		principalData.setTenantId(session.getTenantId());
+		principalData.setSessionId(session.getSessionId());
+		principalData.setAuthorities(authorities);
+		principalData.setMetadata(session.getMetadata());
+		principalData.setIssuedAt(session.getCreatedAt());
+		principalData.setExpiresAt(session.getExpiresAt());
+		principalData.setClientIp(session.getClientIp());
+		principalData.setUserAgent(session.getUserAgent());
+
+		return principalData;
+	}
+
+	private UUID _getTenantId(LoginRequest loginRequest) {
+		UUID tenantId = loginRequest.getTenantId();
+
+		if (tenantId != null) {
+			return tenantId;
+		}
+
+		Tenant defaultTenant = _tenantLocalService.getDefaultTenant();
+
+		return defaultTenant.getId();
+	}
+
 	private final RefreshTokenService _refreshTokenService;
 	private final RoleLocalService _roleLocalService;
 	private final SessionProperties _sessionProperties;
 	private final SessionService _sessionService;
 	private final TenantLocalService _tenantLocalService;
 	private final TokenService _tokenService;
+	private final TransactionTemplate _transactionTemplate;
 	private final UserService _userService;
 
 }
\ No newline at end of file
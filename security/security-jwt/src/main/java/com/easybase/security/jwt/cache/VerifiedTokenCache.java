@@ -0,0 +1,299 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.jwt.cache;
+
+import com.easybase.security.api.dto.TokenClaims;
+import com.easybase.security.api.event.SessionRevokedEvent;
+import com.easybase.security.jwt.config.JwtProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.time.Instant;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of access tokens whose signature has already been verified,
+ * holding the parsed {@link TokenClaims} until the token expires.
+ *
+ * <p>Entries are keyed by the leading bits of the token's SHA-256 digest. On a
+ * hit the full digest is compared in constant time, so a key collision is
+ * treated as a miss and never returns another token's claims. The cache only
+ * replaces signature verification; session state is still checked by the
+ * caller, and entries are purged as soon as a {@link SessionRevokedEvent} is
+ * observed.</p>
+ *
+ * @author Akhash
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+	public VerifiedTokenCache(JwtProperties jwtProperties) {
+		_enabled = jwtProperties.isVerifiedTokenCacheEnabled();
+		_maxSize = jwtProperties.getVerifiedTokenCacheMaxSize();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		Gauge.builder(
+			"easybase.security.token.cache.size", _entries, Map::size
+		).description(
+			"Number of verified access tokens held in the cache"
+		).register(
+			meterRegistry
+		);
+
+		FunctionCounter.builder(
+			"easybase.security.token.cache.requests", _hitCount, LongAdder::sum
+		).tag(
+			"result", "hit"
+		).register(
+			meterRegistry
+		);
+
+		FunctionCounter.builder(
+			"easybase.security.token.cache.requests", _missCount,
+			LongAdder::sum
+		).tag(
+			"result", "miss"
+		).register(
+			meterRegistry
+		);
+	}
+
+	/**
+	 * Returns the cached claims for the given token, or null if the token has
+	 * not been verified yet or its cached entry has expired.
+	 *
+	 * @param token the raw access token
+	 * @return the cached claims, or null on a miss
+	 */
+	public TokenClaims get(String token) {
+		if (!_enabled) {
+			return null;
+		}
+
+		byte[] digest = _digest(token);
+
+		Long key = _toKey(digest);
+
+		CacheEntry cacheEntry = _entries.get(key);
+
+		if ((cacheEntry == null) ||
+			!MessageDigest.isEqual(cacheEntry._digest, digest)) {
+
+			_missCount.increment();
+
+			return null;
+		}
+
+		if (cacheEntry.isExpired(Instant.now())) {
+			_entries.remove(key, cacheEntry);
+
+			_missCount.increment();
+
+			return null;
+		}
+
+		_hitCount.increment();
+
+		return cacheEntry._tokenClaims;
+	}
+
+	public long getHitCount() {
+		return _hitCount.sum();
+	}
+
+	/**
+	 * Gets the ratio of hits to total lookups since startup.
+	 *
+	 * @return the hit rate between 0 and 1
+	 */
+	public double getHitRate() {
+		long hits = _hitCount.sum();
+
+		long total = hits + _missCount.sum();
+
+		if (total == 0) {
+			return 0;
+		}
+
+		return (double)hits / total;
+	}
+
+	public long getMissCount() {
+		return _missCount.sum();
+	}
+
+	/**
+	 * Removes every cached entry.
+	 */
+	public void invalidateAll() {
+		_entries.clear();
+	}
+
+	/**
+	 * Removes all entries bound to the given session.
+	 *
+	 * @param sessionId the session ID
+	 */
+	public void invalidateSession(String sessionId) {
+		Collection<CacheEntry> cacheEntries = _entries.values();
+
+		cacheEntries.removeIf(
+			cacheEntry -> Objects.equals(
+				sessionId, cacheEntry._tokenClaims.getSessionId()));
+	}
+
+	/**
+	 * Removes all entries issued to the given user within the given tenant.
+	 *
+	 * @param userId the user ID
+	 * @param tenantId the tenant ID
+	 */
+	public void invalidateUser(UUID userId, UUID tenantId) {
+		Collection<CacheEntry> cacheEntries = _entries.values();
+
+		cacheEntries.removeIf(
+			cacheEntry ->
+				Objects.equals(userId, cacheEntry._tokenClaims.getUserId()) &&
+				Objects.equals(
+					tenantId, cacheEntry._tokenClaims.getTenantId()));
+	}
+
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@EventListener
+	public void onSessionRevoked(SessionRevokedEvent sessionRevokedEvent) {
+		if (sessionRevokedEvent.isUserWide()) {
+			invalidateUser(
+				sessionRevokedEvent.getUserId(),
+				sessionRevokedEvent.getTenantId());
+		}
+		else {
+			invalidateSession(sessionRevokedEvent.getSessionId());
+		}
+	}
+
+	/**
+	 * Caches the verified claims for the given token until the token expires.
+	 * Tokens without an expiration are never cached.
+	 *
+	 * @param token the raw access token
+	 * @param tokenClaims the verified claims
+	 */
+	public void put(String token, TokenClaims tokenClaims) {
+		if (!_enabled) {
+			return;
+		}
+
+		Instant expiresAt = tokenClaims.getExpiresAt();
+		Instant now = Instant.now();
+
+		if ((expiresAt == null) || !expiresAt.isAfter(now)) {
+			return;
+		}
+
+		if (_entries.size() >= _maxSize) {
+			_purgeExpired(now);
+
+			if (_entries.size() >= _maxSize) {
+				return;
+			}
+		}
+
+		byte[] digest = _digest(token);
+
+		_entries.put(_toKey(digest), new CacheEntry(digest, tokenClaims));
+	}
+
+	public int size() {
+		return _entries.size();
+	}
+
+	private byte[] _digest(String token) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			return messageDigest.digest(
+				token.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IllegalStateException(
+				"SHA-256 algorithm not available", noSuchAlgorithmException);
+		}
+	}
+
+	private void _purgeExpired(Instant now) {
+		long nowMillis = now.toEpochMilli();
+
+		long lastPurgeMillis = _lastPurgeMillis.get();
+
+		if (((nowMillis - lastPurgeMillis) < _PURGE_INTERVAL_MILLIS) ||
+			!_lastPurgeMillis.compareAndSet(lastPurgeMillis, nowMillis)) {
+
+			return;
+		}
+
+		Collection<CacheEntry> cacheEntries = _entries.values();
+
+		cacheEntries.removeIf(cacheEntry -> cacheEntry.isExpired(now));
+	}
+
+	private Long _toKey(byte[] digest) {
+		ByteBuffer byteBuffer = ByteBuffer.wrap(digest);
+
+		return byteBuffer.getLong();
+	}
+
+	private static final long _PURGE_INTERVAL_MILLIS = 1000;
+
+	private final boolean _enabled;
+	private final Map<Long, CacheEntry> _entries = new ConcurrentHashMap<>();
+	private final LongAdder _hitCount = new LongAdder();
+	private final AtomicLong _lastPurgeMillis = new AtomicLong();
+	private final int _maxSize;
+	private final LongAdder _missCount = new LongAdder();
+
+	private static final class CacheEntry {
+
+		private CacheEntry(byte[] digest, TokenClaims tokenClaims) {
+			_digest = digest;
+			_tokenClaims = tokenClaims;
+		}
+
+		public boolean isExpired(Instant now) {
+			Instant expiresAt = _tokenClaims.getExpiresAt();
+
+			return !expiresAt.isAfter(now);
+		}
+
+		private final byte[] _digest;
+		private final TokenClaims _tokenClaims;
+
+	}
+
+}
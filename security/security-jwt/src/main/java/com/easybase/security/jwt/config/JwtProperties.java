@@ -57,4 +57,10 @@ public class JwtProperties {
 	@SuppressWarnings("unused")
 	private String secretKey;
 
+	@SuppressWarnings("unused")
+	private boolean verifiedTokenCacheEnabled = true;
+
+	@SuppressWarnings("unused")
+	private int verifiedTokenCacheMaxSize = 10000;
+
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import com.easybase.security.api.dto.TokenClaims;
 import com.easybase.security.api.dto.TokenValidationResult;
 import com.easybase.security.api.exception.InvalidTokenException;
 import com.easybase.security.api.service.TokenService;
+import com.easybase.security.jwt.cache.VerifiedTokenCache;
 import com.easybase.security.jwt.config.JwtProperties;
 import com.easybase.security.jwt.service.KeyManager;
 import com.easybase.security.session.service.RefreshTokenService;
@@ -172,6 +173,12 @@ public class JwtTokenServiceImpl implements TokenService {
 
 	@Override
 	public TokenValidationResult validateAccessToken(String token) {
+		TokenClaims cachedTokenClaims = _verifiedTokenCache.get(token);
+
+		if (cachedTokenClaims != null) {
+			return TokenValidationResult.valid(cachedTokenClaims);
+		}
+
 		try {
 			JwtParser jwtParser = _createJwtParser();
 
@@ -181,6 +188,8 @@ public class JwtTokenServiceImpl implements TokenService {
 
 			TokenClaims tokenClaims = _mapToTokenClaims(claims);
 
+			_verifiedTokenCache.put(token, tokenClaims);
+
 			return TokenValidationResult.valid(tokenClaims);
 		}
 		catch (ExpiredJwtException expiredJwtException) {
@@ -306,5 +315,6 @@ public class JwtTokenServiceImpl implements TokenService {
 	private final JwtProperties _jwtProperties;
 	private final KeyManager _keyManager;
 	private final RefreshTokenService _refreshTokenService;
+	private final VerifiedTokenCache _verifiedTokenCache;
 
 }
\ No newline at end of file
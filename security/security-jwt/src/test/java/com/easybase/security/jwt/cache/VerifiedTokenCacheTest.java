@@ -0,0 +1,127 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.jwt.cache;
+
+import com.easybase.security.api.dto.TokenClaims;
+import com.easybase.security.api.event.SessionRevokedEvent;
+import com.easybase.security.jwt.config.JwtProperties;
+
+import java.time.Instant;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Akhash
+ */
+class VerifiedTokenCacheTest {
+
+	@Test
+	public void testExpiredClaimsAreNotCached() {
+		VerifiedTokenCache verifiedTokenCache = _createVerifiedTokenCache(10);
+
+		verifiedTokenCache.put(
+			"token", _createTokenClaims("s1", Instant.now(), UUID.randomUUID()));
+
+		Assertions.assertNull(verifiedTokenCache.get("token"));
+		Assertions.assertEquals(0, verifiedTokenCache.size());
+	}
+
+	@Test
+	public void testHitAndMissCounters() {
+		VerifiedTokenCache verifiedTokenCache = _createVerifiedTokenCache(10);
+
+		TokenClaims tokenClaims = _createTokenClaims(
+			"s1", Instant.now(
+			).plusSeconds(
+				60
+			),
+			UUID.randomUUID());
+
+		Assertions.assertNull(verifiedTokenCache.get("token"));
+
+		verifiedTokenCache.put("token", tokenClaims);
+
+		Assertions.assertSame(tokenClaims, verifiedTokenCache.get("token"));
+		Assertions.assertNull(verifiedTokenCache.get("other-token"));
+		Assertions.assertEquals(1, verifiedTokenCache.getHitCount());
+		Assertions.assertEquals(2, verifiedTokenCache.getMissCount());
+	}
+
+	@Test
+	public void testMaxSizeIsEnforced() {
+		VerifiedTokenCache verifiedTokenCache = _createVerifiedTokenCache(2);
+
+		Instant expiresAt = Instant.now(
+		).plusSeconds(
+			60
+		);
+
+		for (int i = 0; i < 5; i++) {
+			verifiedTokenCache.put(
+				"token-" + i,
+				_createTokenClaims("s" + i, expiresAt, UUID.randomUUID()));
+		}
+
+		Assertions.assertEquals(2, verifiedTokenCache.size());
+	}
+
+	@Test
+	public void testSessionRevocationPurgesEntries() {
+		VerifiedTokenCache verifiedTokenCache = _createVerifiedTokenCache(10);
+
+		Instant expiresAt = Instant.now(
+		).plusSeconds(
+			60
+		);
+		UUID userId = UUID.randomUUID();
+
+		verifiedTokenCache.put(
+			"token-1", _createTokenClaims("s1", expiresAt, userId));
+		verifiedTokenCache.put(
+			"token-2", _createTokenClaims("s2", expiresAt, userId));
+		verifiedTokenCache.put(
+			"token-3", _createTokenClaims("s3", expiresAt, UUID.randomUUID()));
+
+		verifiedTokenCache.onSessionRevoked(
+			SessionRevokedEvent.forSession("s1"));
+
+		Assertions.assertNull(verifiedTokenCache.get("token-1"));
+		Assertions.assertNotNull(verifiedTokenCache.get("token-2"));
+
+		verifiedTokenCache.onSessionRevoked(
+			SessionRevokedEvent.forUser(userId, _TENANT_ID));
+
+		Assertions.assertNull(verifiedTokenCache.get("token-2"));
+		Assertions.assertNotNull(verifiedTokenCache.get("token-3"));
+	}
+
+	private TokenClaims _createTokenClaims(
+		String sessionId, Instant expiresAt, UUID userId) {
+
+		TokenClaims tokenClaims = new TokenClaims();
+
+		tokenClaims.setExpiresAt(expiresAt);
+		tokenClaims.setSessionId(sessionId);
+		tokenClaims.setTenantId(_TENANT_ID);
+		tokenClaims.setUserId(userId);
+
+		return tokenClaims;
+	}
+
+	private VerifiedTokenCache _createVerifiedTokenCache(int maxSize) {
+		JwtProperties jwtProperties = new JwtProperties();
+
+		jwtProperties.setVerifiedTokenCacheMaxSize(maxSize);
+
+		return new VerifiedTokenCache(jwtProperties);
+	}
+
+	private static final UUID _TENANT_ID = UUID.randomUUID();
+
+}
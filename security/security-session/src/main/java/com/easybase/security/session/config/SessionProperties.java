@@ -18,6 +18,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @Data
 public class SessionProperties {
 
+	@SuppressWarnings("unused")
+	private Duration cleanupBatchPause = Duration.ofMillis(100);
+
+	@SuppressWarnings("unused")
+	private int cleanupBatchSize = 5000;
+
 	@SuppressWarnings("unused")
 	private Duration cleanupGracePeriod = Duration.ofDays(7);
 
@@ -30,7 +36,19 @@ public class SessionProperties {
 	@SuppressWarnings("unused")
 	private int maxSessionsPerUser = 5;
 
+	@SuppressWarnings("unused")
+	private int revocationExpectedSize = 100000;
+
+	@SuppressWarnings("unused")
+	private Duration revocationRefreshInterval = Duration.ofSeconds(30);
+
+	@SuppressWarnings("unused")
+	private Duration revocationRetention = Duration.ofHours(1);
+
 	@SuppressWarnings("unused")
 	private boolean slidingExpiration = true;
 
+	@SuppressWarnings("unused")
+	private boolean statelessValidation;
+
 }
\ No newline at end of file
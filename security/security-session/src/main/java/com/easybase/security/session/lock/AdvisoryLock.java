@@ -0,0 +1,106 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.lock;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide mutual exclusion based on PostgreSQL session-level advisory
+ * locks.
+ *
+ * <p>The lock is held on a dedicated connection for the duration of the
+ * guarded work and released when the work completes. If the connection is
+ * lost, PostgreSQL releases the lock on its own, so a crashed node never
+ * blocks the others. On databases without advisory locks the work simply
+ * runs unguarded.</p>
+ *
+ * @author Akhash
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdvisoryLock {
+
+	/**
+	 * Runs the given work only if no other node currently holds the lock with
+	 * the given key. Never waits for the lock.
+	 *
+	 * @param key the advisory lock key
+	 * @param runnable the work to run while holding the lock
+	 * @return true if the work ran, false if another node held the lock
+	 */
+	public boolean runIfAvailable(long key, Runnable runnable) {
+		try (Connection connection = _dataSource.getConnection()) {
+			if (!_isPostgreSQL(connection)) {
+				runnable.run();
+
+				return true;
+			}
+
+			if (!_execute(connection, _TRY_LOCK_SQL, key)) {
+				log.debug("Advisory lock {} is held by another node", key);
+
+				return false;
+			}
+
+			try {
+				runnable.run();
+			}
+			finally {
+				_execute(connection, _UNLOCK_SQL, key);
+			}
+
+			return true;
+		}
+		catch (SQLException sqlException) {
+			throw new IllegalStateException(
+				"Unable to manage advisory lock " + key, sqlException);
+		}
+	}
+
+	private boolean _execute(Connection connection, String sql, long key)
+		throws SQLException {
+
+		try (PreparedStatement preparedStatement = connection.prepareStatement(
+				sql)) {
+
+			preparedStatement.setLong(1, key);
+
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				if (resultSet.next()) {
+					return resultSet.getBoolean(1);
+				}
+
+				return false;
+			}
+		}
+	}
+
+	private boolean _isPostgreSQL(Connection connection) throws SQLException {
+		DatabaseMetaData databaseMetaData = connection.getMetaData();
+
+		return "PostgreSQL".equals(databaseMetaData.getDatabaseProductName());
+	}
+
+	private static final String _TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+
+	private static final String _UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+	private final DataSource _dataSource;
+
+}
@@ -16,6 +16,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Akhash
@@ -26,11 +27,14 @@ public interface RefreshTokenRepository
 
 	@Modifying
 	@Query(
-		"DELETE FROM RefreshTokenEntity rt WHERE rt.expiresAt < :expiredBefore OR (rt.revoked = true AND rt.revokedAt < :revokedBefore)"
+		nativeQuery = true,
+		value = "DELETE FROM refresh_tokens WHERE ctid = ANY(ARRAY(SELECT ctid FROM refresh_tokens WHERE expires_at < :expiredBefore OR (revoked = true AND revoked_at < :revokedBefore) LIMIT :batchSize))"
 	)
-	public void deleteExpiredAndOldRevokedTokens(
+	@Transactional
+	public int deleteExpiredAndOldRevokedTokens(
 		@Param("expiredBefore") Instant expiredBefore,
-		@Param("revokedBefore") Instant revokedBefore);
+		@Param("revokedBefore") Instant revokedBefore,
+		@Param("batchSize") int batchSize);
 
 	public Optional<RefreshTokenEntity> findByTokenHashAndRevokedFalse(
 		String tokenHash);
@@ -18,6 +18,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Akhash
@@ -34,11 +35,14 @@ public interface SessionRepository extends JpaRepository<SessionEntity, Long> {
 
 	@Modifying
 	@Query(
-		"DELETE FROM SessionEntity s WHERE s.expiresAt < :expiredBefore OR (s.revoked = true AND s.revokedAt < :revokedBefore)"
+		nativeQuery = true,
+		value = "DELETE FROM auth_sessions WHERE ctid = ANY(ARRAY(SELECT ctid FROM auth_sessions WHERE expires_at < :expiredBefore OR (revoked = true AND revoked_at < :revokedBefore) LIMIT :batchSize))"
 	)
-	public void deleteExpiredAndOldRevokedSessions(
+	@Transactional
+	public int deleteExpiredAndOldRevokedSessions(
 		@Param("expiredBefore") Instant expiredBefore,
-		@Param("revokedBefore") Instant revokedBefore);
+		@Param("revokedBefore") Instant revokedBefore,
+		@Param("batchSize") int batchSize);
 
 	public Optional<SessionEntity> findBySessionIdAndRevokedFalse(
 		String sessionId);
@@ -47,6 +51,32 @@ public interface SessionRepository extends JpaRepository<SessionEntity, Long> {
 		findByUserIdAndTenantIdAndRevokedFalseOrderByCreatedAtDesc(
 			UUID userId, UUID tenantId);
 
+	@Query(
+		"SELECT s.sessionId FROM SessionEntity s WHERE s.revoked = true AND s.revokedAt > :revokedAfter"
+	)
+	public List<String> findSessionIdsRevokedAfter(
+		@Param("revokedAfter") Instant revokedAfter);
+
+	/**
+	 * Revokes every active session of the user except the newest ones, in a
+	 * single statement. Not marked {@code @Modifying} because the statement
+	 * returns the revoked session IDs as a result set.
+	 *
+	 * @param userId the user ID
+	 * @param tenantId the tenant ID
+	 * @param keep the number of newest active sessions to keep
+	 * @param revokedAt the revocation time, also used as the expiry cutoff
+	 * @return the IDs of the revoked sessions
+	 */
+	@Query(
+		nativeQuery = true,
+		value = "UPDATE auth_sessions SET revoked = true, revoked_at = :revokedAt WHERE id IN (SELECT id FROM auth_sessions WHERE user_id = :userId AND tenant_id = :tenantId AND revoked = false AND expires_at > :revokedAt ORDER BY created_at DESC OFFSET :keep) RETURNING session_id"
+	)
+	@Transactional
+	public List<String> revokeActiveSessionsBeyondLimit(
+		@Param("userId") UUID userId, @Param("tenantId") UUID tenantId,
+		@Param("keep") int keep, @Param("revokedAt") Instant revokedAt);
+
 	@Modifying
 	@Query(
 		"UPDATE SessionEntity s SET s.revoked = true, s.revokedAt = :revokedAt WHERE s.userId = :userId AND s.tenantId = :tenantId AND s.revoked = false"
@@ -0,0 +1,233 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.revocation;
+
+import com.easybase.security.api.event.SessionRevokedEvent;
+import com.easybase.security.session.config.SessionProperties;
+import com.easybase.security.session.repository.SessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * In-memory registry of recently revoked sessions used by the stateless
+ * validation mode, where requests are authenticated from token claims alone
+ * instead of a per-request session lookup.
+ *
+ * <p>Revoked session IDs are kept in an exact set behind a Bloom filter, so
+ * the common case of a live session costs a few bit probes. Revoking every
+ * session of a user records a revocation instant; tokens for that user issued
+ * at or before it are rejected. The registry is fed locally by
+ * {@link SessionRevokedEvent}s and from the database by {@link #refresh()},
+ * which lets revocations made on other nodes arrive within one refresh
+ * interval. Entries are retained for
+ * {@link SessionProperties#getRevocationRetention()}, which must exceed the
+ * access token TTL.</p>
+ *
+ * @author Akhash
+ */
+@Component
+@Slf4j
+public class SessionRevocationRegistry {
+
+	public SessionRevocationRegistry(
+		SessionProperties sessionProperties,
+		SessionRepository sessionRepository) {
+
+		_sessionProperties = sessionProperties;
+		_sessionRepository = sessionRepository;
+
+		_bloomFilter = new StringBloomFilter(
+			sessionProperties.getRevocationExpectedSize());
+		_refreshedUntil = Instant.now(
+		).minus(
+			sessionProperties.getRevocationRetention()
+		);
+	}
+
+	/**
+	 * Checks whether a token bound to the given session and user has been
+	 * revoked.
+	 *
+	 * @param sessionId the session ID from the token
+	 * @param userId the user ID from the token
+	 * @param tenantId the tenant ID from the token
+	 * @param issuedAt when the token was issued
+	 * @return true if the token must be rejected
+	 */
+	public boolean isRevoked(
+		String sessionId, UUID userId, UUID tenantId, Instant issuedAt) {
+
+		if (_bloomFilter.mightContain(sessionId) &&
+			_revokedSessions.containsKey(sessionId)) {
+
+			return true;
+		}
+
+		if (_revokedUsers.isEmpty()) {
+			return false;
+		}
+
+		Instant revokedAt = _revokedUsers.get(_getUserKey(userId, tenantId));
+
+		if (revokedAt == null) {
+			return false;
+		}
+
+		if (issuedAt == null) {
+			return true;
+		}
+
+		return !issuedAt.isAfter(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+	}
+
+	@EventListener
+	public void onSessionRevoked(SessionRevokedEvent sessionRevokedEvent) {
+		Instant now = Instant.now();
+
+		if (sessionRevokedEvent.isUserWide()) {
+			_revokedUsers.put(
+				_getUserKey(
+					sessionRevokedEvent.getUserId(),
+					sessionRevokedEvent.getTenantId()),
+				now);
+		}
+		else {
+			_addRevokedSession(sessionRevokedEvent.getSessionId(), now);
+		}
+	}
+
+	/**
+	 * Drops entries older than the retention window and rebuilds the Bloom
+	 * filter from the remaining revoked sessions.
+	 *
+	 * <p>The new filter is built aside and published once complete, so readers
+	 * keep using the old filter, which covers every revoked session, until
+	 * then. Sessions revoked while it is built are tracked and added to it
+	 * before it is published.</p>
+	 */
+	public synchronized void prune() {
+		Instant cutoff = Instant.now(
+		).minus(
+			_sessionProperties.getRevocationRetention()
+		);
+
+		Collection<Instant> revokedSessionInstants = _revokedSessions.values();
+
+		revokedSessionInstants.removeIf(
+			revokedAt -> revokedAt.isBefore(cutoff));
+
+		Collection<Instant> revokedUserInstants = _revokedUsers.values();
+
+		revokedUserInstants.removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+
+		synchronized (_lock) {
+			_pendingSessionIds = new ArrayList<>();
+		}
+
+		StringBloomFilter bloomFilter = new StringBloomFilter(
+			Math.max(
+				_sessionProperties.getRevocationExpectedSize(),
+				_revokedSessions.size() * 2));
+
+		Set<String> sessionIds = _revokedSessions.keySet();
+
+		for (String sessionId : sessionIds) {
+			bloomFilter.add(sessionId);
+		}
+
+		synchronized (_lock) {
+			for (String sessionId : _pendingSessionIds) {
+				bloomFilter.add(sessionId);
+			}
+
+			_bloomFilter = bloomFilter;
+			_pendingSessionIds = null;
+		}
+	}
+
+	/**
+	 * Loads sessions revoked since the previous refresh from the database,
+	 * picking up revocations made on other nodes.
+	 */
+	@Transactional(readOnly = true)
+	public void refresh() {
+		Instant now = Instant.now();
+
+		Instant since = _refreshedUntil.minus(_REFRESH_OVERLAP);
+
+		List<String> sessionIds = _sessionRepository.findSessionIdsRevokedAfter(
+			since);
+
+		for (String sessionId : sessionIds) {
+			_addRevokedSession(sessionId, now);
+		}
+
+		_refreshedUntil = now;
+
+		if (log.isDebugEnabled() && !sessionIds.isEmpty()) {
+			log.debug(
+				"Loaded {} revoked sessions into the revocation registry",
+				sessionIds.size());
+		}
+	}
+
+	public int size() {
+		return _revokedSessions.size() + _revokedUsers.size();
+	}
+
+	private void _addRevokedSession(String sessionId, Instant revokedAt) {
+		if (sessionId == null) {
+			return;
+		}
+
+		// Record in the exact set first; readers only consult it after a
+		// positive Bloom filter probe
+
+		synchronized (_lock) {
+			_revokedSessions.put(sessionId, revokedAt);
+
+			_bloomFilter.add(sessionId);
+
+			if (_pendingSessionIds != null) {
+				_pendingSessionIds.add(sessionId);
+			}
+		}
+	}
+
+	private String _getUserKey(UUID userId, UUID tenantId) {
+		return userId + ":" + tenantId;
+	}
+
+	private static final Duration _REFRESH_OVERLAP = Duration.ofSeconds(5);
+
+	private volatile StringBloomFilter _bloomFilter;
+	private final Object _lock = new Object();
+	private List<String> _pendingSessionIds;
+	private volatile Instant _refreshedUntil;
+	private final Map<String, Instant> _revokedSessions =
+		new ConcurrentHashMap<>();
+	private final Map<String, Instant> _revokedUsers =
+		new ConcurrentHashMap<>();
+	private final SessionProperties _sessionProperties;
+	private final SessionRepository _sessionRepository;
+
+}
@@ -0,0 +1,119 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.revocation;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, fixed-size Bloom filter over strings.
+ *
+ * <p>Used as a compact first-level check in front of an exact set: a negative
+ * answer is always correct, a positive answer must be confirmed against the
+ * exact set.</p>
+ *
+ * @author Akhash
+ */
+public final class StringBloomFilter {
+
+	/**
+	 * Creates a Bloom filter sized for the expected number of insertions at a
+	 * false positive rate of roughly one percent.
+	 *
+	 * @param expectedInsertions the expected number of distinct values
+	 */
+	public StringBloomFilter(int expectedInsertions) {
+		int insertions = Math.max(expectedInsertions, 64);
+
+		long bitCount = (long)Math.ceil(insertions * _BITS_PER_ELEMENT);
+
+		_words = new AtomicLongArray((int)((bitCount + 63) / 64));
+
+		_bitCount = (long)_words.length() * 64;
+	}
+
+	public void add(String value) {
+		long hash = _hash(value);
+
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= _HASH_FUNCTIONS; i++) {
+			_setBit(_toIndex(hash1 + (i * hash2)));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = _hash(value);
+
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= _HASH_FUNCTIONS; i++) {
+			if (!_isBitSet(_toIndex(hash1 + (i * hash2)))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private long _hash(String value) {
+
+		// 64-bit FNV-1a followed by a final avalanche step
+
+		long hash = 0xcbf29ce484222325L;
+
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	private boolean _isBitSet(long bitIndex) {
+		long word = _words.get((int)(bitIndex >>> 6));
+
+		return (word & (1L << bitIndex)) != 0;
+	}
+
+	private void _setBit(long bitIndex) {
+		int wordIndex = (int)(bitIndex >>> 6);
+		long mask = 1L << bitIndex;
+
+		long word = _words.get(wordIndex);
+
+		while ((word & mask) == 0) {
+			if (_words.compareAndSet(wordIndex, word, word | mask)) {
+				return;
+			}
+
+			word = _words.get(wordIndex);
+		}
+	}
+
+	private long _toIndex(int combinedHash) {
+		if (combinedHash < 0) {
+			combinedHash = ~combinedHash;
+		}
+
+		return combinedHash % _bitCount;
+	}
+
+	private static final double _BITS_PER_ELEMENT = 9.6;
+
+	private static final int _HASH_FUNCTIONS = 7;
+
+	private final long _bitCount;
+	private final AtomicLongArray _words;
+
+}
@@ -8,6 +8,7 @@ package com.easybase.security.session.service;
 import com.easybase.security.session.config.SessionProperties;
 import com.easybase.security.session.entity.RefreshTokenEntity;
 import com.easybase.security.session.repository.RefreshTokenRepository;
+import com.easybase.security.session.util.BatchDeleteUtil;
 
 import java.nio.charset.StandardCharsets;
 
@@ -21,6 +22,8 @@ import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 
+import lombok.extern.slf4j.Slf4j;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,17 +38,29 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @RequiredArgsConstructor
 @Service
+@Slf4j
 public class RefreshTokenService {
 
-	@Transactional
+	/**
+	 * Deletes expired and old revoked refresh tokens in bounded batches. Each
+	 * batch commits on its own, so this method deliberately runs outside a
+	 * transaction.
+	 */
 	public void cleanupExpiredTokens() {
 		Instant now = Instant.now();
 
 		Instant revokedBefore = now.minus(
 			_sessionProperties.getCleanupGracePeriod());
+		int batchSize = _sessionProperties.getCleanupBatchSize();
 
-		_refreshTokenRepository.deleteExpiredAndOldRevokedTokens(
-			now, revokedBefore);
+		long deleted = BatchDeleteUtil.deleteInBatches(
+			() -> _refreshTokenRepository.deleteExpiredAndOldRevokedTokens(
+				now, revokedBefore, batchSize),
+			batchSize, _sessionProperties.getCleanupBatchPause());
+
+		if (deleted > 0) {
+			log.info("Deleted {} expired or revoked refresh tokens", deleted);
+		}
 	}
 
 	@Transactional
@@ -7,10 +7,12 @@ package com.easybase.security.session.service;
 
 import com.easybase.security.api.dto.CreateSessionRequest;
 import com.easybase.security.api.dto.Session;
+import com.easybase.security.api.event.SessionRevokedEvent;
 import com.easybase.security.api.service.SessionService;
 import com.easybase.security.session.config.SessionProperties;
 import com.easybase.security.session.entity.SessionEntity;
 import com.easybase.security.session.repository.SessionRepository;
+import com.easybase.security.session.util.BatchDeleteUtil;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,16 +48,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class SessionServiceImpl implements SessionService {
 
+	/**
+	 * Deletes expired and old revoked sessions in bounded batches. Each batch
+	 * commits on its own, so this method deliberately runs outside a
+	 * transaction.
+	 */
 	@Override
-	@Transactional
 	public void cleanupExpiredSessions() {
 		Instant now = Instant.now();
 
 		Instant revokedBefore = now.minus(
 			_sessionProperties.getCleanupGracePeriod());
+		int batchSize = _sessionProperties.getCleanupBatchSize();
+
+		long deleted = BatchDeleteUtil.deleteInBatches(
+			() -> _sessionRepository.deleteExpiredAndOldRevokedSessions(
+				now, revokedBefore, batchSize),
+			batchSize, _sessionProperties.getCleanupBatchPause());
 
-		_sessionRepository.deleteExpiredAndOldRevokedSessions(
-			now, revokedBefore);
+		if (deleted > 0) {
+			log.info("Deleted {} expired or revoked sessions", deleted);
+		}
 	}
 
 	@Override
@@ -136,6 +150,9 @@ public class SessionServiceImpl implements SessionService {
 	@Transactional
 	public void revokeSession(String sessionId) {
 		_sessionRepository.revokeBySessionId(sessionId, Instant.now());
+
+		_applicationEventPublisher.publishEvent(
+			SessionRevokedEvent.forSession(sessionId));
 	}
 
 	@Override
@@ -143,6 +160,9 @@ public class SessionServiceImpl implements SessionService {
 	public void revokeSessionsForUser(UUID userId, UUID tenantId) {
 		_sessionRepository.revokeAllByUserIdAndTenantId(
 			userId, tenantId, Instant.now());
+
+		_applicationEventPublisher.publishEvent(
+			SessionRevokedEvent.forUser(userId, tenantId));
 	}
 
 	@Override
@@ -166,31 +186,16 @@ public class SessionServiceImpl implements SessionService {
 			return;
 		}
 
-		List<SessionEntity> activeSessions =
-			_sessionRepository.
-				findByUserIdAndTenantIdAndRevokedFalseOrderByCreatedAtDesc(
-					userId, tenantId);
+		// Keep the newest maxSessions - 1 sessions so the one being created
+		// stays within the limit
 
-		Stream<SessionEntity> activeSessionsStream = activeSessions.stream();
+		List<String> revokedSessionIds =
+			_sessionRepository.revokeActiveSessionsBeyondLimit(
+				userId, tenantId, maxSessions - 1, Instant.now());
 
-		List<SessionEntity> nonexpiredSessions = activeSessionsStream.filter(
-			this::_isNotExpired
-		).toList();
-
-		if (nonexpiredSessions.size() >= maxSessions) {
-			int sessionsToRevoke = nonexpiredSessions.size() - maxSessions + 1;
-
-			Stream<SessionEntity> nonexpiredSessionsStream =
-				nonexpiredSessions.stream();
-
-			List<SessionEntity> oldestSessions = nonexpiredSessionsStream.skip(
-				nonexpiredSessions.size() - sessionsToRevoke
-			).toList();
-
-			for (SessionEntity sessionEntity : oldestSessions) {
-				_sessionRepository.revokeBySessionId(
-					sessionEntity.getSessionId(), Instant.now());
-			}
+		for (String revokedSessionId : revokedSessionIds) {
+			_applicationEventPublisher.publishEvent(
+				SessionRevokedEvent.forSession(revokedSessionId));
 		}
 	}
 
@@ -237,6 +242,7 @@ public class SessionServiceImpl implements SessionService {
 		return session;
 	}
 
+	private final ApplicationEventPublisher _applicationEventPublisher;
 	private final ObjectMapper _objectMapper;
 	private final SessionProperties _sessionProperties;
 	private final SessionRepository _sessionRepository;
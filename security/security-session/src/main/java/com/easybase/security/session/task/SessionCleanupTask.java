@@ -6,6 +6,9 @@
 package com.easybase.security.session.task;
 
 import com.easybase.security.api.service.SessionService;
+import com.easybase.security.session.config.SessionProperties;
+import com.easybase.security.session.lock.AdvisoryLock;
+import com.easybase.security.session.revocation.SessionRevocationRegistry;
 import com.easybase.security.session.service.RefreshTokenService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,7 +20,10 @@ import org.springframework.stereotype.Component;
  * Scheduled task responsible for cleaning up expired sessions and refresh tokens.
  *
  * <p>This task runs periodically to maintain database hygiene by removing
- * expired session data and old revoked tokens.</p>
+ * expired session data and old revoked tokens. The database cleanup runs under
+ * an {@link AdvisoryLock}, so only one node works on it at a time. When
+ * stateless validation is enabled it also keeps the
+ * {@link SessionRevocationRegistry} in sync with the database.</p>
  *
  * @author Akhash
  */
@@ -29,11 +35,35 @@ public class SessionCleanupTask {
 		fixedRateString = "${easy.base.security.session.cleanup-interval:PT1H}"
 	)
 	public void cleanupExpiredSessions() {
-		_sessionService.cleanupExpiredSessions();
-		_refreshTokenService.cleanupExpiredTokens();
+		_advisoryLock.runIfAvailable(
+			_CLEANUP_LOCK_KEY,
+			() -> {
+				_sessionService.cleanupExpiredSessions();
+				_refreshTokenService.cleanupExpiredTokens();
+			});
+
+		// The registry is held in memory, so every node prunes its own copy
+
+		if (_sessionProperties.isStatelessValidation()) {
+			_sessionRevocationRegistry.prune();
+		}
 	}
 
+	@Scheduled(
+		fixedDelayString = "${easy.base.security.session.revocation-refresh-interval:PT30S}"
+	)
+	public void refreshRevocations() {
+		if (_sessionProperties.isStatelessValidation()) {
+			_sessionRevocationRegistry.refresh();
+		}
+	}
+
+	private static final long _CLEANUP_LOCK_KEY = 0x4542534553534E31L;
+
+	private final AdvisoryLock _advisoryLock;
 	private final RefreshTokenService _refreshTokenService;
+	private final SessionProperties _sessionProperties;
+	private final SessionRevocationRegistry _sessionRevocationRegistry;
 	private final SessionService _sessionService;
 
-}
\ No newline at end of file
+}
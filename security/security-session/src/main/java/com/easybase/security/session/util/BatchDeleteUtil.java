@@ -0,0 +1,70 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.util;
+
+import java.time.Duration;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Utility for deleting large amounts of rows as a sequence of small,
+ * independently committed batches.
+ *
+ * @author Akhash
+ */
+public class BatchDeleteUtil {
+
+	/**
+	 * Runs the given batch delete until it removes fewer rows than the batch
+	 * size, pausing between batches so that concurrent writes and replication
+	 * can keep up. Stops early if the current thread is interrupted.
+	 *
+	 * @param batchDelete deletes one batch and returns the number of rows
+	 *        removed
+	 * @param batchSize the maximum number of rows removed per batch
+	 * @param pause the pause between two consecutive batches
+	 * @return the total number of rows removed
+	 */
+	public static long deleteInBatches(
+		IntSupplier batchDelete, int batchSize, Duration pause) {
+
+		long total = 0;
+
+		while (true) {
+			int deleted = batchDelete.getAsInt();
+
+			total += deleted;
+
+			if (deleted < batchSize) {
+				return total;
+			}
+
+			if (!_pause(pause)) {
+				return total;
+			}
+		}
+	}
+
+	private static boolean _pause(Duration pause) {
+		Thread currentThread = Thread.currentThread();
+
+		if (pause.isZero() || pause.isNegative()) {
+			return !currentThread.isInterrupted();
+		}
+
+		try {
+			Thread.sleep(pause.toMillis());
+
+			return true;
+		}
+		catch (InterruptedException interruptedException) {
+			currentThread.interrupt();
+
+			return false;
+		}
+	}
+
+}
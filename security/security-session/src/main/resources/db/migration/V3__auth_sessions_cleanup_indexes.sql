@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS auth_sessions_revoked_at_idx
+  ON auth_sessions (revoked_at) WHERE revoked = true;
+
+CREATE INDEX IF NOT EXISTS refresh_tokens_revoked_at_idx
+  ON refresh_tokens (revoked_at) WHERE revoked = true;
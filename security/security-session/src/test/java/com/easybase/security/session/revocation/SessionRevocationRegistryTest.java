@@ -0,0 +1,186 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.revocation;
+
+import com.easybase.security.api.event.SessionRevokedEvent;
+import com.easybase.security.session.config.SessionProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Akhash R
+ */
+class SessionRevocationRegistryTest {
+
+	@Test
+	public void testPruneDropsExpiredEntries() throws InterruptedException {
+		SessionRevocationRegistry sessionRevocationRegistry =
+			_createSessionRevocationRegistry(Duration.ofMillis(50));
+
+		sessionRevocationRegistry.onSessionRevoked(
+			SessionRevokedEvent.forSession("s1"));
+
+		Thread.sleep(100);
+
+		sessionRevocationRegistry.prune();
+
+		Assertions.assertEquals(0, sessionRevocationRegistry.size());
+		Assertions.assertFalse(
+			sessionRevocationRegistry.isRevoked(
+				"s1", UUID.randomUUID(), UUID.randomUUID(), Instant.now()));
+	}
+
+	@Test
+	public void testPruneKeepsRetainedSessions() {
+		SessionRevocationRegistry sessionRevocationRegistry =
+			_createSessionRevocationRegistry(Duration.ofHours(1));
+
+		for (int i = 0; i < 100; i++) {
+			sessionRevocationRegistry.onSessionRevoked(
+				SessionRevokedEvent.forSession("s" + i));
+		}
+
+		sessionRevocationRegistry.prune();
+
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertTrue(
+				sessionRevocationRegistry.isRevoked(
+					"s" + i, UUID.randomUUID(), UUID.randomUUID(),
+					Instant.now()));
+		}
+	}
+
+	@Test
+	public void testRevokeDuringPrune() throws InterruptedException {
+		SessionRevocationRegistry sessionRevocationRegistry =
+			_createSessionRevocationRegistry(Duration.ofHours(1));
+
+		for (int i = 0; i < 10000; i++) {
+			sessionRevocationRegistry.onSessionRevoked(
+				SessionRevokedEvent.forSession("existing-" + i));
+		}
+
+		AtomicReference<String> failure = new AtomicReference<>();
+		AtomicBoolean running = new AtomicBoolean(true);
+
+		Thread pruneThread = new Thread(
+			() -> {
+				while (running.get()) {
+					sessionRevocationRegistry.prune();
+				}
+			});
+
+		pruneThread.start();
+
+		try {
+			for (int i = 0; (i < 20000) && (failure.get() == null); i++) {
+				String sessionId = "revoked-" + i;
+
+				sessionRevocationRegistry.onSessionRevoked(
+					SessionRevokedEvent.forSession(sessionId));
+
+				if (!sessionRevocationRegistry.isRevoked(
+						sessionId, null, null, Instant.now())) {
+
+					failure.set(sessionId);
+				}
+
+				if (!sessionRevocationRegistry.isRevoked(
+						"existing-" + (i % 10000), null, null,
+						Instant.now())) {
+
+					failure.set("existing-" + (i % 10000));
+				}
+			}
+		}
+		finally {
+			running.set(false);
+
+			pruneThread.join();
+		}
+
+		Assertions.assertNull(
+			failure.get(), "Revoked session was accepted: " + failure.get());
+
+		sessionRevocationRegistry.prune();
+
+		for (int i = 0; i < 20000; i++) {
+			Assertions.assertTrue(
+				sessionRevocationRegistry.isRevoked(
+					"revoked-" + i, null, null, Instant.now()));
+		}
+	}
+
+	@Test
+	public void testSessionRevocation() {
+		SessionRevocationRegistry sessionRevocationRegistry =
+			_createSessionRevocationRegistry(Duration.ofHours(1));
+
+		UUID tenantId = UUID.randomUUID();
+		UUID userId = UUID.randomUUID();
+
+		sessionRevocationRegistry.onSessionRevoked(
+			SessionRevokedEvent.forSession("s1"));
+
+		Assertions.assertTrue(
+			sessionRevocationRegistry.isRevoked(
+				"s1", userId, tenantId, Instant.now()));
+		Assertions.assertFalse(
+			sessionRevocationRegistry.isRevoked(
+				"s2", userId, tenantId, Instant.now()));
+	}
+
+	@Test
+	public void testUserRevocation() {
+		SessionRevocationRegistry sessionRevocationRegistry =
+			_createSessionRevocationRegistry(Duration.ofHours(1));
+
+		UUID tenantId = UUID.randomUUID();
+		UUID userId = UUID.randomUUID();
+
+		Instant issuedAt = Instant.now(
+		).minusSeconds(
+			10
+		);
+
+		sessionRevocationRegistry.onSessionRevoked(
+			SessionRevokedEvent.forUser(userId, tenantId));
+
+		Assertions.assertTrue(
+			sessionRevocationRegistry.isRevoked(
+				"s1", userId, tenantId, issuedAt));
+		Assertions.assertFalse(
+			sessionRevocationRegistry.isRevoked(
+				"s1", userId, tenantId,
+				Instant.now(
+				).plusSeconds(
+					10
+				)));
+		Assertions.assertFalse(
+			sessionRevocationRegistry.isRevoked(
+				"s1", UUID.randomUUID(), tenantId, issuedAt));
+	}
+
+	private SessionRevocationRegistry _createSessionRevocationRegistry(
+		Duration revocationRetention) {
+
+		SessionProperties sessionProperties = new SessionProperties();
+
+		sessionProperties.setRevocationExpectedSize(1000);
+		sessionProperties.setRevocationRetention(revocationRetention);
+
+		return new SessionRevocationRegistry(sessionProperties, null);
+	}
+
+}
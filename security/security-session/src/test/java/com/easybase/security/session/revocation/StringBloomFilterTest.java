@@ -0,0 +1,65 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.session.revocation;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Akhash R
+ */
+class StringBloomFilterTest {
+
+	@Test
+	public void testAddedValuesAreContained() {
+		StringBloomFilter stringBloomFilter = new StringBloomFilter(1000);
+
+		String[] values = new String[1000];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = String.valueOf(UUID.randomUUID());
+
+			stringBloomFilter.add(values[i]);
+		}
+
+		for (String value : values) {
+			Assertions.assertTrue(stringBloomFilter.mightContain(value));
+		}
+	}
+
+	@Test
+	public void testEmptyFilterContainsNothing() {
+		StringBloomFilter stringBloomFilter = new StringBloomFilter(0);
+
+		Assertions.assertFalse(stringBloomFilter.mightContain(""));
+		Assertions.assertFalse(stringBloomFilter.mightContain("session"));
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		StringBloomFilter stringBloomFilter = new StringBloomFilter(10000);
+
+		for (int i = 0; i < 10000; i++) {
+			stringBloomFilter.add("added-" + i);
+		}
+
+		int falsePositives = 0;
+
+		for (int i = 0; i < 10000; i++) {
+			if (stringBloomFilter.mightContain("absent-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		// Sized for roughly one percent, allow for variance
+
+		Assertions.assertTrue(
+			falsePositives < 300, "False positives: " + falsePositives);
+	}
+
+}
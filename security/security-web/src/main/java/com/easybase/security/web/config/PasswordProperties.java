@@ -0,0 +1,37 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.web.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @author Akhash
+ */
+@ConfigurationProperties(prefix = "easy.base.security.password")
+@Data
+public class PasswordProperties {
+
+	@SuppressWarnings("unused")
+	private int bcryptStrength = 12;
+
+	@SuppressWarnings("unused")
+	private Duration hashTimeBudget;
+
+	@SuppressWarnings("unused")
+	private int hashingQueueCapacity = 64;
+
+	@SuppressWarnings("unused")
+	private int hashingThreads = Runtime.getRuntime(
+	).availableProcessors();
+
+	@SuppressWarnings("unused")
+	private boolean upgradeOnLogin = true;
+
+}
@@ -6,11 +6,16 @@
 package com.easybase.security.web.config;
 
 import com.easybase.security.web.filter.JwtSessionAuthenticationFilter;
+import com.easybase.security.web.password.BoundedPasswordEncoder;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import lombok.RequiredArgsConstructor;
 
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -33,9 +38,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * @author Akhash
  */
 @Configuration
+@EnableConfigurationProperties(PasswordProperties.class)
 @EnableMethodSecurity
 @EnableWebSecurity
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfiguration {
 
 	/**
@@ -107,16 +114,61 @@ public class SecurityConfiguration {
 	}
 
 	/**
-	 * Provides a BCrypt password encoder for secure password hashing.
+	 * Provides a BCrypt password encoder for secure password hashing. Hashes
+	 * are computed on a bounded pool so login bursts cannot exhaust the
+	 * servlet threads. When a hash time budget is configured, the strength is
+	 * raised to the highest cost that still fits the budget on this host.
 	 *
-	 * @return a BCrypt password encoder with strength 12
+	 * @return a bounded BCrypt password encoder
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder(12);
+	public BoundedPasswordEncoder passwordEncoder() {
+		int strength = _getBcryptStrength();
+
+		return new BoundedPasswordEncoder(
+			new BCryptPasswordEncoder(strength), strength,
+			_passwordProperties.getHashingThreads(),
+			_passwordProperties.getHashingQueueCapacity(),
+			_passwordProperties.isUpgradeOnLogin());
 	}
 
+	private int _getBcryptStrength() {
+		int strength = _passwordProperties.getBcryptStrength();
+
+		Duration hashTimeBudget = _passwordProperties.getHashTimeBudget();
+
+		if (hashTimeBudget == null) {
+			return strength;
+		}
+
+		PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(strength);
+
+		long start = System.nanoTime();
+
+		passwordEncoder.encode("calibration");
+
+		long duration = System.nanoTime() - start;
+
+		// Each additional round doubles the hashing time
+
+		while ((strength < _MAX_BCRYPT_STRENGTH) &&
+			((duration * 2) <= hashTimeBudget.toNanos())) {
+
+			strength++;
+			duration *= 2;
+		}
+
+		log.info(
+			"Using BCrypt strength {} for a hash time budget of {} ms",
+			strength, hashTimeBudget.toMillis());
+
+		return strength;
+	}
+
+	private static final int _MAX_BCRYPT_STRENGTH = 31;
+
 	private final JwtSessionAuthenticationFilter
 		_jwtSessionAuthenticationFilter;
+	private final PasswordProperties _passwordProperties;
 
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.web.context;
+
+import com.easybase.security.api.dto.AuthenticatedPrincipalData;
+import com.easybase.security.core.service.PermissionContextBinding;
+import com.easybase.security.core.service.ServiceContextBinding;
+
+import java.util.concurrent.Executor;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link TaskDecorator} that carries the caller's request context over to the
+ * thread running the task.
+ *
+ * <p>The authenticated principal bound to {@link ServiceContextBinding} and
+ * {@link PermissionContextBinding}, the Spring Security context and the
+ * request attributes are captured when the task is submitted and bound while
+ * it runs. The worker's previous state is restored afterwards, so the
+ * decorator is also safe when the task ends up running on the submitting
+ * thread.</p>
+ *
+ * <p>Request-scoped beans such as {@code ServiceContext} and
+ * {@code PermissionContext} remain resolvable on the worker only while the
+ * originating request is still active, which holds for work fanned out and
+ * joined within a request. Fire-and-forget tasks should rely on the
+ * bindings instead.</p>
+ *
+ * @author Akhash
+ */
+@Component
+@RequiredArgsConstructor
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		AuthenticatedPrincipalData permissionPrincipal =
+			_permissionContextBinding.fromCurrentContext();
+		RequestAttributes requestAttributes =
+			RequestContextHolder.getRequestAttributes();
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		AuthenticatedPrincipalData servicePrincipal =
+			_serviceContextBinding.fromCurrentContext();
+
+		return () -> {
+			AuthenticatedPrincipalData previousPermissionPrincipal =
+				_permissionContextBinding.fromCurrentContext();
+			RequestAttributes previousRequestAttributes =
+				RequestContextHolder.getRequestAttributes();
+			SecurityContext previousSecurityContext =
+				SecurityContextHolder.getContext();
+			AuthenticatedPrincipalData previousServicePrincipal =
+				_serviceContextBinding.fromCurrentContext();
+
+			_bind(
+				permissionPrincipal, requestAttributes, securityContext,
+				servicePrincipal);
+
+			try {
+				runnable.run();
+			}
+			finally {
+				_bind(
+					previousPermissionPrincipal, previousRequestAttributes,
+					previousSecurityContext, previousServicePrincipal);
+			}
+		};
+	}
+
+	/**
+	 * Wraps the given executor so that every task submitted to it runs with
+	 * the submitting thread's request context. Useful for
+	 * {@code CompletableFuture} stages running on executors that are not
+	 * configured with this decorator.
+	 *
+	 * @param executor the executor to wrap
+	 * @return the context-propagating executor
+	 */
+	public Executor wrap(Executor executor) {
+		return runnable -> executor.execute(decorate(runnable));
+	}
+
+	private void _bind(
+		AuthenticatedPrincipalData permissionPrincipal,
+		RequestAttributes requestAttributes, SecurityContext securityContext,
+		AuthenticatedPrincipalData servicePrincipal) {
+
+		if (permissionPrincipal == null) {
+			_permissionContextBinding.clear();
+		}
+		else {
+			_permissionContextBinding.bind(permissionPrincipal);
+		}
+
+		if (requestAttributes == null) {
+			RequestContextHolder.resetRequestAttributes();
+		}
+		else {
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+		}
+
+		if (securityContext.getAuthentication() == null) {
+			SecurityContextHolder.clearContext();
+		}
+		else {
+			SecurityContextHolder.setContext(securityContext);
+		}
+
+		if (servicePrincipal == null) {
+			_serviceContextBinding.clear();
+		}
+		else {
+			_serviceContextBinding.bind(servicePrincipal);
+		}
+	}
+
+	private final PermissionContextBinding _permissionContextBinding;
+	private final ServiceContextBinding _serviceContextBinding;
+
+}
@@ -85,19 +85,8 @@ public class AuthController {
 		loginRequest.setClientIp(_getClientIp(request));
 		loginRequest.setUserAgent(request.getHeader("User-Agent"));
 
-		AuthenticatedPrincipalData principal =
-			_authenticationFacade.authenticateCredentials(loginRequest);
-
-		Duration ttlSeconds = _jwtProperties.getAccessTokenTtl();
-
-		String accessToken = _tokenService.generateAccessToken(
-			principal, _jwtProperties.getAccessTokenTtl());
-		String refreshToken = _tokenService.generateRefreshToken(
-			principal.getSessionId());
-
-		TokenResponse response = TokenResponse.of(
-			accessToken, refreshToken, ttlSeconds.toSeconds(),
-			principal.getSessionId());
+		TokenResponse response = _authenticationFacade.login(
+			loginRequest, _jwtProperties.getAccessTokenTtl());
 
 		return ResponseEntity.ok(response);
 	}
@@ -14,6 +14,8 @@ import com.easybase.security.api.service.SessionService;
 import com.easybase.security.api.service.TokenService;
 import com.easybase.security.core.service.PermissionContextBinding;
 import com.easybase.security.core.service.ServiceContextBinding;
+import com.easybase.security.session.config.SessionProperties;
+import com.easybase.security.session.revocation.SessionRevocationRegistry;
 import com.easybase.security.web.authentication.JwtAuthenticationToken;
 
 import jakarta.servlet.FilterChain;
@@ -45,7 +47,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * context for each request.
  *
  * <p>This filter handles token extraction, validation, session verification,
- * and principal binding for secure endpoints.</p>
+ * and principal binding for secure endpoints. In stateless validation mode the
+ * per-request session lookup is replaced by a check against the in-memory
+ * {@link SessionRevocationRegistry}, so revocations take effect within the
+ * registry refresh interval and are bounded by the access token TTL.</p>
  *
  * @author Akhash R
  */
@@ -85,33 +90,47 @@ public class JwtSessionAuthenticationFilter extends OncePerRequestFilter {
 
 			TokenClaims claims = claimsOptional.orElseThrow();
 
-			Optional<Session> session = _sessionService.getSession(
-				claims.getSessionId());
+			Session activeSession = null;
 
-			if (session.isEmpty()) {
-				_sendUnauthorizedResponse(response, "Session expired");
+			if (_sessionProperties.isStatelessValidation()) {
+				if (_sessionRevocationRegistry.isRevoked(
+						claims.getSessionId(), claims.getUserId(),
+						claims.getTenantId(), claims.getIssuedAt())) {
 
-				return;
+					_sendUnauthorizedResponse(response, "Session revoked");
+
+					return;
+				}
 			}
+			else {
+				Optional<Session> session = _sessionService.getSession(
+					claims.getSessionId());
 
-			Session activeSession = session.get();
+				if (session.isEmpty()) {
+					_sendUnauthorizedResponse(response, "Session expired");
 
-			if (activeSession.isRevoked()) {
-				_sendUnauthorizedResponse(response, "Session revoked");
+					return;
+				}
 
-				return;
-			}
+				activeSession = session.get();
 
-			UUID tokenTenantId = claims.getTenantId();
-			UUID sessionTenantId = activeSession.getTenantId();
+				if (activeSession.isRevoked()) {
+					_sendUnauthorizedResponse(response, "Session revoked");
 
-			if (!tokenTenantId.equals(sessionTenantId)) {
-				_sendUnauthorizedResponse(response, "Tenant mismatch");
+					return;
+				}
 
-				return;
-			}
+				UUID tokenTenantId = claims.getTenantId();
+				UUID sessionTenantId = activeSession.getTenantId();
 
-			_sessionService.touchSession(claims.getSessionId());
+				if (!tokenTenantId.equals(sessionTenantId)) {
+					_sendUnauthorizedResponse(response, "Tenant mismatch");
+
+					return;
+				}
+
+				_sessionService.touchSession(claims.getSessionId());
+			}
 
 			AuthenticatedPrincipalData principal = _createPrincipalData(
 				claims, activeSession, request);
@@ -175,7 +194,11 @@ public class JwtSessionAuthenticationFilter extends OncePerRequestFilter {
 		principalData.setAuthorities(
 			(claims.getRoles() != null) ? claims.getRoles() :
 				Collections.emptyList());
-		principalData.setMetadata(session.getMetadata());
+
+		if (session != null) {
+			principalData.setMetadata(session.getMetadata());
+		}
+
 		principalData.setIssuedAt(claims.getIssuedAt());
 		principalData.setExpiresAt(claims.getExpiresAt());
 		principalData.setClientIp(_getClientIp(request));
@@ -237,6 +260,8 @@ public class JwtSessionAuthenticationFilter extends OncePerRequestFilter {
 
 	private final PermissionContextBinding _permissionContextBinding;
 	private final ServiceContextBinding _serviceContextBinding;
+	private final SessionProperties _sessionProperties;
+	private final SessionRevocationRegistry _sessionRevocationRegistry;
 	private final SessionService _sessionService;
 	private final TokenService _tokenService;
 
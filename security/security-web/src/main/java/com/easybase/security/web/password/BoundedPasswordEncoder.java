@@ -0,0 +1,213 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.security.web.password;
+
+import com.easybase.common.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} decorator that runs every hash computation on a
+ * dedicated, bounded thread pool.
+ *
+ * <p>Password hashing is deliberately expensive. Running it on a fixed number
+ * of threads caps the CPU spent on logins, and the bounded queue caps the
+ * number of request threads that can be parked waiting for a hash. Once the
+ * queue is full further calls fail fast with a
+ * {@link TooManyRequestsException} instead of stalling the servlet pool for
+ * every other endpoint. Hash durations are recorded per operation and cost
+ * factor.</p>
+ *
+ * @author Akhash
+ */
+public class BoundedPasswordEncoder
+	implements DisposableBean, MeterBinder, PasswordEncoder {
+
+	public BoundedPasswordEncoder(
+		PasswordEncoder passwordEncoder, int strength, int threads,
+		int queueCapacity, boolean upgradeEnabled) {
+
+		_passwordEncoder = passwordEncoder;
+		_strength = String.valueOf(strength);
+		_upgradeEnabled = upgradeEnabled;
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			new CustomizableThreadFactory("password-hashing-"),
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		Gauge.builder(
+			"easybase.security.password.hashing.queue",
+			_threadPoolExecutor.getQueue(), Collection::size
+		).description(
+			"Number of password hash computations waiting for a thread"
+		).register(
+			meterRegistry
+		);
+
+		_rejectedCounter = Counter.builder(
+			"easybase.security.password.hashing.rejected"
+		).description(
+			"Number of password hash computations rejected because the " +
+				"queue was full"
+		).register(
+			meterRegistry
+		);
+
+		_meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void destroy() {
+		_threadPoolExecutor.shutdown();
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return _submit(
+			"encode", _strength,
+			() -> _passwordEncoder.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return _submit(
+			"matches", _getCost(encodedPassword),
+			() -> _passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (!_upgradeEnabled) {
+			return false;
+		}
+
+		return _passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	private String _getCost(String encodedPassword) {
+
+		// BCrypt hashes look like $2a$12$..., the cost is the second field
+
+		if ((encodedPassword == null) || (encodedPassword.length() < 7) ||
+			(encodedPassword.charAt(0) != '$')) {
+
+			return "unknown";
+		}
+
+		int index = encodedPassword.indexOf('$', 1);
+
+		if ((index < 0) || (encodedPassword.length() < (index + 3))) {
+			return "unknown";
+		}
+
+		return encodedPassword.substring(index + 1, index + 3);
+	}
+
+	private void _record(String operation, String cost, long durationNanos) {
+		MeterRegistry meterRegistry = _meterRegistry;
+
+		if (meterRegistry == null) {
+			return;
+		}
+
+		Timer timer = Timer.builder(
+			"easybase.security.password.hashing"
+		).description(
+			"Time spent computing password hashes"
+		).tag(
+			"cost", cost
+		).tag(
+			"operation", operation
+		).register(
+			meterRegistry
+		);
+
+		timer.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private <T> T _submit(String operation, String cost, Callable<T> callable) {
+		Future<T> future;
+
+		try {
+			future = _threadPoolExecutor.submit(
+				() -> {
+					long start = System.nanoTime();
+
+					try {
+						return callable.call();
+					}
+					finally {
+						_record(operation, cost, System.nanoTime() - start);
+					}
+				});
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			Counter rejectedCounter = _rejectedCounter;
+
+			if (rejectedCounter != null) {
+				rejectedCounter.increment();
+			}
+
+			throw new TooManyRequestsException(
+				"Too many concurrent authentication requests, retry later",
+				rejectedExecutionException);
+		}
+
+		try {
+			return future.get();
+		}
+		catch (ExecutionException executionException) {
+			Throwable cause = executionException.getCause();
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+		catch (InterruptedException interruptedException) {
+			future.cancel(true);
+
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new IllegalStateException(
+				"Interrupted while waiting for password hashing",
+				interruptedException);
+		}
+	}
+
+	private volatile MeterRegistry _meterRegistry;
+	private final PasswordEncoder _passwordEncoder;
+	private volatile Counter _rejectedCounter;
+	private final String _strength;
+	private final ThreadPoolExecutor _threadPoolExecutor;
+	private final boolean _upgradeEnabled;
+
+}
@@ -7,20 +7,12 @@ package com.easybase.store;
 
 import com.easybase.common.exception.FileValidationException;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import java.util.Locale;
 
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author Saura
@@ -28,45 +20,50 @@ import org.springframework.web.multipart.MultipartFile;
 @Component
 public class StoreUtil {
 
-	public String extractExtension(String fileName) {
-		fileName = fileName.substring(fileName.lastIndexOf('.') + 1);
+	public void checkExtension(String allowedExtensions, String fileName) {
+		String fileExtension = extractExtension(fileName);
 
-		return fileName.toLowerCase(Locale.ROOT);
-	}
-
-	public void perFormChecks(
-		String allowedExtensions, String maxFileSize, MultipartFile file) {
+		for (String allowedExtension : allowedExtensions.split(",")) {
+			String trimmedAllowedExtension = allowedExtension.trim();
 
-		String fileExtension = extractExtension(file.getOriginalFilename());
-		long size = file.getSize();
+			if (trimmedAllowedExtension.equalsIgnoreCase(fileExtension)) {
+				return;
+			}
+		}
 
-		if (!allowedExtensions.contains(fileExtension))
+		throw new FileValidationException("File type is not allowed");
+	}
 
-			throw new FileValidationException("File type is not allowed");
-			else if (size > Long.parseLong(maxFileSize))
+	public String extractExtension(String fileName) {
+		fileName = fileName.substring(fileName.lastIndexOf('.') + 1);
 
-				throw new FileValidationException(
-					"File size exceeded the allowed size");
+		return fileName.toLowerCase(Locale.ROOT);
 	}
 
-	public File saveOriginalFile(String path, MultipartFile file)
-		throws IOException {
-
-		Path baseDir = Paths.get(System.getProperty("user.home"), path);
+	/**
+	 * Strips any directory components from a client supplied file name, so it
+	 * cannot be used to write outside the store.
+	 */
+	public String getSafeFileName(String fileName) {
+		if ((fileName == null) || fileName.isBlank()) {
+			throw new FileValidationException("File name is required");
+		}
 
-		Files.createDirectories(baseDir);
+		Path path = Paths.get(fileName.replace('\\', '/'));
 
-		Path resolved = baseDir.resolve(file.getOriginalFilename());
+		Path fileNamePath = path.getFileName();
 
-		File destination = resolved.toFile();
+		if (fileNamePath == null) {
+			throw new FileValidationException("File name is required");
+		}
 
-		try (OutputStream os = new FileOutputStream(destination);
-			InputStream is = file.getInputStream()) {
+		String safeFileName = fileNamePath.toString();
 
-			is.transferTo(os);
+		if (safeFileName.equals("..") || safeFileName.equals(".")) {
+			throw new FileValidationException("File name is not allowed");
 		}
 
-		return destination;
+		return safeFileName;
 	}
 
-}
\ No newline at end of file
+}
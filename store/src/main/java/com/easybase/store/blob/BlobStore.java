@@ -0,0 +1,420 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.blob;
+
+import com.easybase.common.exception.InvalidRequestException;
+import com.easybase.store.ingest.FileIngester;
+import com.easybase.store.ingest.IngestedFile;
+
+import jakarta.annotation.PostConstruct;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import java.time.Instant;
+
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressable storage for uploaded files.
+ *
+ * <p>Every blob is stored once under the SHA-256 digest of its content, fanned
+ * out over two directory levels ({@code blobs/ab/cd/abcd...}) to keep
+ * directories small. Derivatives such as thumbnails are stored next to it
+ * under {@code derivatives/ab/cd/abcd.../}, so they are shared by every file
+ * with the same content.</p>
+ *
+ * <p>Storing is split in two steps. {@link #ingest} streams the content to a
+ * temporary file to learn its digest, {@link #store} then moves it into
+ * place, or discards it if the blob already exists. Callers tracking
+ * references to blobs run {@link #store} and {@link #delete} while holding a
+ * lock on the digest, so a blob is never deleted while it is being
+ * referenced again. A blob stored by a transaction that was rolled back has
+ * no row referencing it; {@link #getContentHashes} lists the stored blobs so
+ * such blobs can be found and deleted.</p>
+ *
+ * <p>Resumable uploads are assembled in a temporary file allocated to the full
+ * size up front. Chunks are written at their position, so they may arrive in
+ * any order and in parallel, and {@link #ingestUpload} copies the complete
+ * file to a temporary file for {@link #store} while hashing it. It is not
+ * linked, as a blob sharing its data with the upload would be changed by
+ * chunks written after a failed completion.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlobStore {
+
+	/**
+	 * Creates the file a resumable upload is assembled in.
+	 *
+	 * @param uploadId the ID of the upload
+	 * @param size the size of the upload in bytes
+	 * @throws IOException if the file cannot be created
+	 */
+	public void createUpload(UUID uploadId, long size) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(
+				_getUploadPath(uploadId), StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.WRITE)) {
+
+			if (size > 0) {
+				fileChannel.write(ByteBuffer.allocate(1), size - 1);
+			}
+		}
+	}
+
+	/**
+	 * Deletes a blob together with its derivatives.
+	 *
+	 * @param contentHash the SHA-256 digest of the blob
+	 * @throws IOException if the blob cannot be deleted
+	 */
+	public void delete(String contentHash) throws IOException {
+		Files.deleteIfExists(getBlobPath(contentHash));
+
+		Path derivativeDirectory = getDerivativeDirectory(contentHash);
+
+		if (!Files.exists(derivativeDirectory)) {
+			return;
+		}
+
+		try (Stream<Path> stream = Files.walk(derivativeDirectory)) {
+			for (Path path :
+					(Iterable<Path>)stream.sorted(
+						Comparator.reverseOrder())::iterator) {
+
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+	public void deleteUpload(UUID uploadId) throws IOException {
+		Files.deleteIfExists(_getUploadPath(uploadId));
+	}
+
+	/**
+	 * Deletes a temporary file returned by {@link #ingest} that was not
+	 * stored.
+	 *
+	 * @param ingestedFile the temporary file
+	 */
+	public void discard(IngestedFile ingestedFile) {
+		Path path = ingestedFile.getPath();
+
+		if (!path.startsWith(_temporaryDirectory)) {
+			return;
+		}
+
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException ioException) {
+			log.warn("Unable to delete temporary file {}", path, ioException);
+		}
+	}
+
+	public Path getBlobPath(String contentHash) {
+		return _resolve(_blobDirectory, contentHash);
+	}
+
+	/**
+	 * Returns the digests of the stored blobs that were last modified before
+	 * the given time. The directories are read lazily, so the stream must be
+	 * closed.
+	 *
+	 * @param modifiedBefore the time blobs must have been modified before
+	 * @return the digests of the blobs
+	 * @throws IOException if the blob directory cannot be read
+	 */
+	public Stream<String> getContentHashes(Instant modifiedBefore)
+		throws IOException {
+
+		Stream<Path> stream = Files.find(
+			_blobDirectory, 3,
+			(path, basicFileAttributes) -> {
+				if (!basicFileAttributes.isRegularFile()) {
+					return false;
+				}
+
+				FileTime fileTime = basicFileAttributes.lastModifiedTime();
+
+				return fileTime.toInstant(
+				).isBefore(
+					modifiedBefore
+				);
+			});
+
+		return stream.map(
+			path -> String.valueOf(path.getFileName())
+		).filter(
+			contentHash -> _CONTENT_HASH_PATTERN.matcher(
+				contentHash
+			).matches()
+		);
+	}
+
+	public Path getDerivativeDirectory(String contentHash) {
+		return _resolve(_derivativeDirectory, contentHash);
+	}
+
+	/**
+	 * Returns a derivative of a blob. Derivatives are named after their kind
+	 * with the extension of the format they were written in, for example
+	 * {@code thumbnail.jpeg}.
+	 *
+	 * @param contentHash the SHA-256 digest of the blob
+	 * @param name the kind of derivative, for example {@code thumbnail}
+	 * @return the derivative, or {@code null} if it was not generated
+	 * @throws IOException if the derivative directory cannot be read
+	 */
+	public Path getDerivativePath(String contentHash, String name)
+		throws IOException {
+
+		Path derivativeDirectory = getDerivativeDirectory(contentHash);
+
+		if (!Files.isDirectory(derivativeDirectory)) {
+			return null;
+		}
+
+		String prefix = name + ".";
+
+		try (Stream<Path> stream = Files.list(derivativeDirectory)) {
+			return stream.filter(
+				path -> {
+					Path fileName = path.getFileName();
+
+					return fileName.toString(
+					).startsWith(
+						prefix
+					);
+				}
+			).findFirst(
+			).orElse(
+				null
+			);
+		}
+	}
+
+	public boolean hasDerivatives(String contentHash) throws IOException {
+		Path derivativeDirectory = getDerivativeDirectory(contentHash);
+
+		if (!Files.isDirectory(derivativeDirectory)) {
+			return false;
+		}
+
+		try (Stream<Path> stream = Files.list(derivativeDirectory)) {
+			return stream.findAny(
+			).isPresent();
+		}
+	}
+
+	/**
+	 * Streams content to a temporary file.
+	 *
+	 * @param inputStream the content
+	 * @param fileName the client file name
+	 * @param maxSize the maximum content size in bytes
+	 * @return the temporary file, to be passed to {@link #store} or
+	 *         {@link #discard}
+	 * @throws IOException if the content cannot be read or written
+	 */
+	public IngestedFile ingest(
+			InputStream inputStream, String fileName, long maxSize)
+		throws IOException {
+
+		return _fileIngester.ingest(
+			inputStream, fileName,
+			_temporaryDirectory.resolve(UUID.randomUUID() + ".tmp"), maxSize);
+	}
+
+	/**
+	 * Copies a complete resumable upload to a temporary file while hashing it.
+	 * The upload itself is kept until {@link #deleteUpload}, so completing it
+	 * can be retried.
+	 *
+	 * @param uploadId the ID of the upload
+	 * @param fileName the client file name
+	 * @return the temporary file, to be passed to {@link #store} or
+	 *         {@link #discard}
+	 * @throws IOException if the upload cannot be read
+	 */
+	public IngestedFile ingestUpload(UUID uploadId, String fileName)
+		throws IOException {
+
+		try (InputStream inputStream = Files.newInputStream(
+				_getUploadPath(uploadId))) {
+
+			return _fileIngester.ingest(
+				inputStream, fileName,
+				_temporaryDirectory.resolve(UUID.randomUUID() + ".tmp"),
+				Long.MAX_VALUE);
+		}
+	}
+
+	@PostConstruct
+	public void initialize() throws IOException {
+		Path rootDirectory = Paths.get(System.getProperty("user.home"), _path);
+
+		_blobDirectory = rootDirectory.resolve("blobs");
+		_derivativeDirectory = rootDirectory.resolve("derivatives");
+		_temporaryDirectory = rootDirectory.resolve("tmp");
+
+		Files.createDirectories(_blobDirectory);
+		Files.createDirectories(_derivativeDirectory);
+		Files.createDirectories(_temporaryDirectory);
+	}
+
+	/**
+	 * Moves a temporary file into the store under its digest. If a blob with
+	 * the same digest already exists, the temporary file is discarded.
+	 *
+	 * @param ingestedFile the temporary file returned by {@link #ingest}
+	 * @return the stored blob
+	 * @throws IOException if the file cannot be moved
+	 */
+	public IngestedFile store(IngestedFile ingestedFile) throws IOException {
+		Path blobPath = getBlobPath(ingestedFile.getContentHash());
+
+		if (Files.exists(blobPath)) {
+			discard(ingestedFile);
+		}
+		else {
+			Files.createDirectories(blobPath.getParent());
+
+			try {
+				Files.move(
+					ingestedFile.getPath(), blobPath,
+					StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (FileAlreadyExistsException fileAlreadyExistsException) {
+				discard(ingestedFile);
+			}
+		}
+
+		return new IngestedFile(
+			blobPath, ingestedFile.getFileName(), ingestedFile.getMimeType(),
+			ingestedFile.getSize(), ingestedFile.getContentHash());
+	}
+
+	/**
+	 * Writes a chunk of a resumable upload at its position. Chunks covering
+	 * different ranges may be written concurrently.
+	 *
+	 * @param uploadId the ID of the upload
+	 * @param position the position of the chunk in the upload
+	 * @param length the length of the chunk in bytes
+	 * @param inputStream the chunk, which must contain exactly {@code length}
+	 *        bytes
+	 * @param deadline the time after which nothing more is written
+	 * @throws InvalidRequestException if the chunk is shorter or longer than
+	 *         {@code length}
+	 * @throws IOException if the chunk cannot be read or written, or was not
+	 *         written before the deadline
+	 */
+	public void writeUpload(
+			UUID uploadId, long position, long length, InputStream inputStream,
+			Instant deadline)
+		throws IOException {
+
+		byte[] buffer = new byte[(int)Math.min(length, _BUFFER_SIZE)];
+
+		try (FileChannel fileChannel = FileChannel.open(
+				_getUploadPath(uploadId), StandardOpenOption.WRITE)) {
+
+			long remaining = length;
+
+			while (remaining > 0) {
+				int read = inputStream.read(
+					buffer, 0, (int)Math.min(remaining, buffer.length));
+
+				if (read == -1) {
+					throw new InvalidRequestException(
+						"Chunk is shorter than " + length + " bytes");
+				}
+
+				Instant now = Instant.now();
+
+				if (now.isAfter(deadline)) {
+					throw new IOException(
+						"Chunk was not written before " + deadline);
+				}
+
+				ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+
+				while (byteBuffer.hasRemaining()) {
+					position += fileChannel.write(byteBuffer, position);
+				}
+
+				remaining -= read;
+			}
+		}
+
+		if (inputStream.read() != -1) {
+			throw new InvalidRequestException(
+				"Chunk is longer than " + length + " bytes");
+		}
+	}
+
+	private Path _getUploadPath(UUID uploadId) {
+		return _temporaryDirectory.resolve(uploadId + ".upload");
+	}
+
+	private Path _resolve(Path directory, String contentHash) {
+		if ((contentHash == null) ||
+			!_CONTENT_HASH_PATTERN.matcher(
+				contentHash
+			).matches()) {
+
+			throw new InvalidRequestException(
+				"Invalid content hash: " + contentHash);
+		}
+
+		return directory.resolve(
+			contentHash.substring(0, 2)
+		).resolve(
+			contentHash.substring(2, 4)
+		).resolve(
+			contentHash
+		);
+	}
+
+	private static final int _BUFFER_SIZE = 64 * 1024;
+
+	private static final Pattern _CONTENT_HASH_PATTERN = Pattern.compile(
+		"[0-9a-f]{64}");
+
+	private Path _blobDirectory;
+	private Path _derivativeDirectory;
+	private final FileIngester _fileIngester;
+
+	@Value("${easy-base.docmediastore.root.folder}")
+	private String _path;
+
+	private Path _temporaryDirectory;
+
+}
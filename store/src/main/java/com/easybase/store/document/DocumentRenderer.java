@@ -0,0 +1,642 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.document;
+
+import com.easybase.store.image.ImageScaler;
+import com.easybase.store.image.ImageTransform;
+
+import jakarta.annotation.PostConstruct;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.rtf.RTFEditorKit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.poi.extractor.ExtractorFactory;
+import org.apache.poi.extractor.POITextExtractor;
+import org.apache.poi.sl.usermodel.Slide;
+import org.apache.poi.sl.usermodel.SlideShow;
+import org.apache.poi.sl.usermodel.SlideShowFactory;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Renders the first page of documents to images, with bounded cost.
+ *
+ * <p>Pages are rendered at the width of {@link ImageTransform#PREVIEW}, so
+ * PDF pages are rasterized at the resolution that yields that width rather
+ * than at a fixed one. PDFs are parsed with at most
+ * {@code easy-base.docmediastore.document.max-memory} of buffers in memory,
+ * spilling the rest to a scratch file, and only the first page is read.
+ * Office documents are parsed by POI entirely in memory, so they are skipped
+ * above {@code easy-base.docmediastore.document.max-file-size}.</p>
+ *
+ * <p>Renders run on a separate pool of
+ * {@code easy-base.docmediastore.document.render-threads} daemon threads, one
+ * per CPU by default, and are abandoned after
+ * {@code easy-base.docmediastore.document.timeout}. A render stuck in a
+ * malformed document keeps its thread taken until it gives up, and when
+ * every thread is taken, rendering fails right away instead of starting more
+ * threads. Documents that time out, are encrypted or cannot be parsed get no
+ * preview instead of failing their job, since retrying them would only take
+ * up the processing pool again.</p>
+ *
+ * <p>Rendered pages are counted against the bound on decoded pixels of
+ * {@link ImageScaler} while they are drawn, so documents and images share
+ * one memory budget.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@Slf4j
+public class DocumentRenderer implements DisposableBean {
+
+	public DocumentRenderer(ImageScaler imageScaler) {
+		_imageScaler = imageScaler;
+	}
+
+	@Override
+	public void destroy() {
+		_threadPoolExecutor.shutdownNow();
+	}
+
+	@PostConstruct
+	public void initialize() {
+		int renderThreads = _renderThreads;
+
+		if (renderThreads <= 0) {
+			Runtime runtime = Runtime.getRuntime();
+
+			renderThreads = runtime.availableProcessors();
+		}
+
+		CustomizableThreadFactory customizableThreadFactory =
+			new CustomizableThreadFactory("document-renderer-");
+
+		customizableThreadFactory.setDaemon(true);
+
+		_semaphore = new Semaphore(renderThreads);
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(), customizableThreadFactory);
+	}
+
+	/**
+	 * Renders the first page of a PDF.
+	 *
+	 * @param path the PDF file
+	 * @return the page, or {@code null} if it cannot be rendered
+	 * @throws IOException if the file cannot be read or every render thread
+	 *         is taken
+	 */
+	public BufferedImage renderPdf(Path path) throws IOException {
+		return _render(path, false, () -> _renderPdf(path));
+	}
+
+	/**
+	 * Renders the first sheet of a workbook as a grid of its top left cells.
+	 *
+	 * @param path the workbook file
+	 * @return the sheet, or {@code null} if it cannot be rendered
+	 * @throws IOException if the file cannot be read or every render thread
+	 *         is taken
+	 */
+	public BufferedImage renderSheet(Path path) throws IOException {
+		return _render(path, true, () -> _renderSheet(path));
+	}
+
+	/**
+	 * Renders the first slide of a presentation.
+	 *
+	 * @param path the presentation file
+	 * @return the slide, or {@code null} if it cannot be rendered
+	 * @throws IOException if the file cannot be read or every render thread
+	 *         is taken
+	 */
+	public BufferedImage renderSlide(Path path) throws IOException {
+		return _render(path, true, () -> _renderSlide(path));
+	}
+
+	/**
+	 * Renders the beginning of the text of a document onto a page. POI does not
+	 * lay out word processing documents, so the text is wrapped without its
+	 * formatting.
+	 *
+	 * @param path the document file
+	 * @param mimeType the MIME type of the document
+	 * @return the page, or {@code null} if it cannot be rendered
+	 * @throws IOException if the file cannot be read or every render thread
+	 *         is taken
+	 */
+	public BufferedImage renderText(Path path, String mimeType)
+		throws IOException {
+
+		if (mimeType.equals("text/plain")) {
+			return _render(path, false, () -> _renderText(_readText(path)));
+		}
+
+		if (mimeType.equals("text/rtf")) {
+			return _render(path, true, () -> _renderText(_readRtfText(path)));
+		}
+
+		return _render(
+			path, true,
+			() -> {
+				try (POITextExtractor poiTextExtractor =
+						ExtractorFactory.createExtractor(path.toFile())) {
+
+					return _renderText(poiTextExtractor.getText());
+				}
+			});
+	}
+
+	/**
+	 * Writes the preview and thumbnail of a rendered page as PNG.
+	 *
+	 * @param page the page
+	 * @param derivativeDirectory the directory to write to
+	 * @throws IOException if the derivatives cannot be written
+	 */
+	public void writeDerivatives(BufferedImage page, Path derivativeDirectory)
+		throws IOException {
+
+		Files.createDirectories(derivativeDirectory);
+
+		page = _writeDerivative(
+			page, ImageTransform.PREVIEW, derivativeDirectory, "preview");
+
+		_writeDerivative(
+			page, ImageTransform.THUMBNAIL, derivativeDirectory, "thumbnail");
+	}
+
+	private static Graphics2D _createGraphics(BufferedImage image) {
+		Graphics2D g2d = image.createGraphics();
+
+		g2d.setRenderingHint(
+			RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g2d.setRenderingHint(
+			RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g2d.setRenderingHint(
+			RenderingHints.KEY_TEXT_ANTIALIASING,
+			RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+		g2d.setColor(Color.WHITE);
+		g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+
+		return g2d;
+	}
+
+	private static long _getPixels(float width, float height) {
+		return (long)Math.max(1, Math.round(width)) *
+			Math.max(1, Math.round(height));
+	}
+
+	private static float _getScale(float width, float height) {
+		return Math.min(
+			_WIDTH / width, ImageTransform.MAX_DIMENSION / height);
+	}
+
+	private static String _readRtfText(Path path)
+		throws BadLocationException, IOException {
+
+		RTFEditorKit rtfEditorKit = new RTFEditorKit();
+
+		Document document = rtfEditorKit.createDefaultDocument();
+
+		try (InputStream inputStream = Files.newInputStream(path)) {
+			rtfEditorKit.read(inputStream, document, 0);
+		}
+
+		return document.getText(
+			0, Math.min(document.getLength(), _MAX_TEXT_LENGTH));
+	}
+
+	private static String _readText(Path path) throws IOException {
+		char[] chars = new char[_MAX_TEXT_LENGTH];
+
+		int length = 0;
+
+		try (Reader reader = new InputStreamReader(
+				Files.newInputStream(path), StandardCharsets.UTF_8)) {
+
+			while (length < chars.length) {
+				int read = reader.read(chars, length, chars.length - length);
+
+				if (read == -1) {
+					break;
+				}
+
+				length += read;
+			}
+		}
+
+		return new String(chars, 0, length);
+	}
+
+	private BufferedImage _render(
+			Path path, boolean inMemory, Callable<BufferedImage> callable)
+		throws IOException {
+
+		long size = Files.size(path);
+
+		if (inMemory && (size > _maxFileSize.toBytes())) {
+			log.info(
+				"Skipping preview of {}, {} bytes exceed {}", path, size,
+				_maxFileSize);
+
+			return null;
+		}
+
+		// A permit is held until the render returns, not until the caller
+		// gives up on it, so stuck renders keep their threads taken
+
+		if (!_semaphore.tryAcquire()) {
+			throw new IOException(
+				"All " + _threadPoolExecutor.getMaximumPoolSize() +
+					" render threads are busy, unable to render " + path);
+		}
+
+		Future<BufferedImage> future;
+
+		try {
+			future = _threadPoolExecutor.submit(
+				() -> {
+					try {
+						return callable.call();
+					}
+					finally {
+						_semaphore.release();
+					}
+				});
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			_semaphore.release();
+
+			throw rejectedExecutionException;
+		}
+
+		try {
+			return future.get(_timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException executionException) {
+			Throwable cause = executionException.getCause();
+
+			if (cause instanceof InvalidPasswordException) {
+				log.info("Skipping preview of encrypted document {}", path);
+
+				return null;
+			}
+
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			log.warn("Unable to render preview of {}", path, cause);
+
+			return null;
+		}
+		catch (InterruptedException interruptedException) {
+			future.cancel(true);
+
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new InterruptedIOException(
+				"Interrupted while rendering " + path);
+		}
+		catch (TimeoutException timeoutException) {
+			future.cancel(true);
+
+			log.warn(
+				"Skipping preview of {}, rendering timed out after {}", path,
+				_timeout);
+
+			return null;
+		}
+	}
+
+	private BufferedImage _renderPdf(Path path) throws IOException {
+		try (PDDocument pdDocument = PDDocument.load(
+				path.toFile(),
+				MemoryUsageSetting.setupMixed(_maxMemory.toBytes()))) {
+
+			if (pdDocument.getNumberOfPages() == 0) {
+				return null;
+			}
+
+			PDPage pdPage = pdDocument.getPage(0);
+
+			PDRectangle pdRectangle = pdPage.getCropBox();
+
+			float width = pdRectangle.getWidth();
+			float height = pdRectangle.getHeight();
+
+			if ((pdPage.getRotation() % 180) != 0) {
+				width = pdRectangle.getHeight();
+				height = pdRectangle.getWidth();
+			}
+
+			// PDF units are points, 1/72 inch
+
+			float scale = _getScale(width, height);
+
+			float dpi = 72 * scale;
+
+			log.debug("Rendering first page of {} at {} DPI", path, dpi);
+
+			PDFRenderer pdfRenderer = new PDFRenderer(pdDocument);
+
+			pdfRenderer.setSubsamplingAllowed(true);
+
+			int pixels = _imageScaler.reservePixels(
+				_getPixels(width * scale, height * scale));
+
+			try {
+				return pdfRenderer.renderImageWithDPI(0, dpi, ImageType.RGB);
+			}
+			finally {
+				_imageScaler.releasePixels(pixels);
+			}
+		}
+	}
+
+	private BufferedImage _renderSheet(Path path) throws IOException {
+		try (Workbook workbook = WorkbookFactory.create(
+				path.toFile(), null, true)) {
+
+			if (workbook.getNumberOfSheets() == 0) {
+				return null;
+			}
+
+			Sheet sheet = workbook.getSheetAt(0);
+
+			int pixels = _imageScaler.reservePixels(
+				_getPixels(_WIDTH, _WIDTH / _PAGE_RATIO));
+
+			BufferedImage image = new BufferedImage(
+				_WIDTH, Math.round(_WIDTH / _PAGE_RATIO),
+				BufferedImage.TYPE_INT_RGB);
+
+			Graphics2D g2d = _createGraphics(image);
+
+			try {
+				g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 13));
+
+				FontMetrics fontMetrics = g2d.getFontMetrics();
+
+				int rowHeight = fontMetrics.getHeight() + 8;
+
+				DataFormatter dataFormatter = new DataFormatter();
+
+				int x = 0;
+
+				for (int column = 0; x < image.getWidth(); column++) {
+					int columnWidth = Math.max(
+						Math.min(
+							Math.round(sheet.getColumnWidthInPixels(column)),
+							_WIDTH / 2),
+						16);
+
+					int y = 0;
+
+					for (int row = 0; y < image.getHeight(); row++) {
+						g2d.setColor(Color.LIGHT_GRAY);
+						g2d.drawRect(x, y, columnWidth, rowHeight);
+
+						Row sheetRow = sheet.getRow(row);
+
+						if (sheetRow != null) {
+							Cell cell = sheetRow.getCell(column);
+
+							if (cell != null) {
+								g2d.setColor(Color.BLACK);
+								g2d.setClip(x, y, columnWidth, rowHeight);
+								g2d.drawString(
+									dataFormatter.formatCellValue(cell), x + 4,
+									y + 4 + fontMetrics.getAscent());
+								g2d.setClip(null);
+							}
+						}
+
+						y += rowHeight;
+					}
+
+					x += columnWidth;
+				}
+			}
+			finally {
+				g2d.dispose();
+
+				_imageScaler.releasePixels(pixels);
+			}
+
+			return image;
+		}
+	}
+
+	private BufferedImage _renderSlide(Path path) throws IOException {
+		try (SlideShow<?, ?> slideShow = SlideShowFactory.create(
+				path.toFile(), null, true)) {
+
+			List<? extends Slide<?, ?>> slides = slideShow.getSlides();
+
+			if (slides.isEmpty()) {
+				return null;
+			}
+
+			Dimension pageSize = slideShow.getPageSize();
+
+			float scale = _getScale(pageSize.width, pageSize.height);
+
+			int pixels = _imageScaler.reservePixels(
+				_getPixels(pageSize.width * scale, pageSize.height * scale));
+
+			BufferedImage image = new BufferedImage(
+				Math.max(1, Math.round(pageSize.width * scale)),
+				Math.max(1, Math.round(pageSize.height * scale)),
+				BufferedImage.TYPE_INT_RGB);
+
+			Graphics2D g2d = _createGraphics(image);
+
+			try {
+				g2d.scale(scale, scale);
+
+				Slide<?, ?> slide = slides.get(0);
+
+				slide.draw(g2d);
+			}
+			finally {
+				g2d.dispose();
+
+				_imageScaler.releasePixels(pixels);
+			}
+
+			return image;
+		}
+	}
+
+	private BufferedImage _renderText(String text) throws IOException {
+		int pixels = _imageScaler.reservePixels(
+			_getPixels(_WIDTH, _WIDTH * _PAGE_RATIO));
+
+		BufferedImage image = new BufferedImage(
+			_WIDTH, Math.round(_WIDTH * _PAGE_RATIO),
+			BufferedImage.TYPE_INT_RGB);
+
+		Graphics2D g2d = _createGraphics(image);
+
+		try {
+			g2d.setColor(Color.BLACK);
+			g2d.setFont(new Font(Font.SERIF, Font.PLAIN, 16));
+
+			FontMetrics fontMetrics = g2d.getFontMetrics();
+
+			int maxWidth = image.getWidth() - (2 * _MARGIN);
+			int maxY = image.getHeight() - _MARGIN;
+
+			int y = _MARGIN + fontMetrics.getAscent();
+
+			if (text.length() > _MAX_TEXT_LENGTH) {
+				text = text.substring(0, _MAX_TEXT_LENGTH);
+			}
+
+			for (String paragraph : text.split("\\R")) {
+				StringBuilder sb = new StringBuilder();
+
+				for (String word : paragraph.split("\\s+")) {
+					if ((sb.length() > 0) &&
+						(fontMetrics.stringWidth(sb + " " + word) > maxWidth)) {
+
+						g2d.drawString(sb.toString(), _MARGIN, y);
+
+						y += fontMetrics.getHeight();
+
+						if (y > maxY) {
+							return image;
+						}
+
+						sb.setLength(0);
+					}
+
+					if (sb.length() > 0) {
+						sb.append(' ');
+					}
+
+					sb.append(word);
+				}
+
+				g2d.drawString(sb.toString(), _MARGIN, y);
+
+				y += fontMetrics.getHeight();
+
+				if (y > maxY) {
+					return image;
+				}
+			}
+
+			return image;
+		}
+		finally {
+			g2d.dispose();
+
+			_imageScaler.releasePixels(pixels);
+		}
+	}
+
+	private BufferedImage _writeDerivative(
+			BufferedImage page, ImageTransform imageTransform,
+			Path derivativeDirectory, String name)
+		throws IOException {
+
+		Dimension size = imageTransform.getScaledSize(
+			page.getWidth(), page.getHeight());
+
+		page = ImageScaler.resize(page, size.width, size.height);
+
+		ImageScaler.write(
+			page, "png", derivativeDirectory.resolve(name + ".png"));
+
+		return page;
+	}
+
+	private static final int _MARGIN = 64;
+
+	private static final int _MAX_TEXT_LENGTH = 5000;
+
+	// Height to width ratio of ISO 216 paper
+
+	private static final float _PAGE_RATIO = 1.4142f;
+
+	private static final int _WIDTH = ImageTransform.PREVIEW.getWidth();
+
+	private final ImageScaler _imageScaler;
+
+	@Value("${easy-base.docmediastore.document.max-file-size:50MB}")
+	private DataSize _maxFileSize;
+
+	@Value("${easy-base.docmediastore.document.max-memory:64MB}")
+	private DataSize _maxMemory;
+
+	@Value("${easy-base.docmediastore.document.render-threads:0}")
+	private int _renderThreads;
+
+	private Semaphore _semaphore;
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	@Value("${easy-base.docmediastore.document.timeout:PT30S}")
+	private Duration _timeout;
+
+}
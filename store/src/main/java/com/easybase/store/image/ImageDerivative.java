@@ -0,0 +1,42 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.image;
+
+import java.io.Closeable;
+
+import java.nio.file.Path;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A rendition served from the {@link ImageDerivativeCache}. Its file is not
+ * evicted until the rendition is closed.
+ *
+ * @author Akhash R
+ */
+public class ImageDerivative implements Closeable {
+
+	@Override
+	public void close() {
+		if (_closed.compareAndSet(false, true)) {
+			_release.run();
+		}
+	}
+
+	public Path getPath() {
+		return _path;
+	}
+
+	ImageDerivative(Path path, Runnable release) {
+		_path = path;
+		_release = release;
+	}
+
+	private final AtomicBoolean _closed = new AtomicBoolean();
+	private final Path _path;
+	private final Runnable _release;
+
+}
@@ -0,0 +1,334 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.image;
+
+import jakarta.annotation.PostConstruct;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Disk cache of image renditions generated on demand.
+ *
+ * <p>Renditions are stored under {@code cache/ab/cd/<content hash>/} in the
+ * store root, named after their transform. The cache is bounded by
+ * {@code easy-base.docmediastore.image.cache-size} and evicts the least
+ * recently used renditions first. Recency is tracked in memory; on startup
+ * the index is rebuilt from the files on disk, ordered by the time they were
+ * written.</p>
+ *
+ * <p>Concurrent requests for the same missing rendition are deduplicated: the
+ * first request renders it while the others wait for its result. Renditions
+ * are pinned while they are being served and are not evicted until they are
+ * closed. Evicted files are renamed out of the way under the index lock and
+ * deleted after it was released.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageDerivativeCache {
+
+	/**
+	 * Returns a rendition of an image, rendering it if it is not cached. The
+	 * rendition must be closed once its file was served.
+	 *
+	 * @param contentHash the SHA-256 digest of the image
+	 * @param source the image file
+	 * @param imageTransform the transform, with a format
+	 * @return the rendition
+	 * @throws IOException if the rendition cannot be rendered
+	 */
+	public ImageDerivative getDerivative(
+			String contentHash, Path source, ImageTransform imageTransform)
+		throws IOException {
+
+		String key = contentHash + "/" + imageTransform.getFileName();
+
+		Path path = _getPath(key);
+
+		while (!_pin(key)) {
+			CompletableFuture<Path> completableFuture =
+				new CompletableFuture<>();
+
+			CompletableFuture<Path> inFlightCompletableFuture =
+				_inFlightCompletableFutures.putIfAbsent(key, completableFuture);
+
+			if (inFlightCompletableFuture != null) {
+
+				// Pinned on the next pass, unless it was evicted in between
+
+				_join(inFlightCompletableFuture);
+
+				continue;
+			}
+
+			try {
+				if (!_pin(key)) {
+					_imageTransformer.transform(source, imageTransform, path);
+
+					_add(key, Files.size(path), true);
+				}
+
+				completableFuture.complete(path);
+
+				break;
+			}
+			catch (IOException | RuntimeException exception) {
+				completableFuture.completeExceptionally(exception);
+
+				throw exception;
+			}
+			finally {
+				_inFlightCompletableFutures.remove(key, completableFuture);
+			}
+		}
+
+		return new ImageDerivative(path, () -> _unpin(key));
+	}
+
+	@PostConstruct
+	public void initialize() throws IOException {
+		_cacheDirectory = Paths.get(
+			System.getProperty("user.home"), _path, "cache");
+
+		Files.createDirectories(_cacheDirectory);
+
+		List<Path> paths = new ArrayList<>();
+
+		try (Stream<Path> stream = Files.find(
+				_cacheDirectory, 4,
+				(path, basicFileAttributes) ->
+					basicFileAttributes.isRegularFile())) {
+
+			stream.forEach(paths::add);
+		}
+
+		Map<Path, BasicFileAttributes> basicFileAttributesMap =
+			new LinkedHashMap<>();
+
+		for (Path path : paths) {
+			Path fileName = path.getFileName();
+
+			if (fileName.toString(
+				).startsWith(
+					"."
+				)) {
+
+				Files.deleteIfExists(path);
+
+				continue;
+			}
+
+			basicFileAttributesMap.put(
+				path, Files.readAttributes(path, BasicFileAttributes.class));
+		}
+
+		List<Map.Entry<Path, BasicFileAttributes>> entries = new ArrayList<>(
+			basicFileAttributesMap.entrySet());
+
+		entries.sort(
+			Comparator.comparing(
+				entry -> entry.getValue(
+				).lastModifiedTime()));
+
+		for (Map.Entry<Path, BasicFileAttributes> entry : entries) {
+			Path path = entry.getKey();
+
+			Path parentPath = path.getParent();
+
+			_add(
+				parentPath.getFileName() + "/" + path.getFileName(),
+				entry.getValue(
+				).size(),
+				false);
+		}
+
+		log.info(
+			"Image derivative cache holds {} files, {} bytes", _sizes.size(),
+			_size);
+	}
+
+	private void _add(String key, long size, boolean pin) {
+		for (Path evictedPath : _index(key, size, pin)) {
+			try {
+				Files.deleteIfExists(evictedPath);
+			}
+			catch (IOException ioException) {
+				log.warn(
+					"Unable to delete evicted image derivative {}",
+					evictedPath, ioException);
+			}
+		}
+	}
+
+	private Path _getPath(String key) {
+		return _cacheDirectory.resolve(
+			key.substring(0, 2)
+		).resolve(
+			key.substring(2, 4)
+		).resolve(
+			key
+		);
+	}
+
+	/**
+	 * Adds a rendition to the index and evicts the least recently used
+	 * renditions that are not pinned until the cache fits its size again.
+	 * Evicted files are only renamed, so a rendition rendered again in the
+	 * meantime cannot be deleted with them.
+	 *
+	 * @return the renamed files of the evicted renditions, to be deleted
+	 */
+	private synchronized List<Path> _index(String key, long size, boolean pin) {
+		Long previousSize = _sizes.put(key, size);
+
+		if (previousSize != null) {
+			_size -= previousSize;
+		}
+
+		_size += size;
+
+		if (pin) {
+			_pinCounts.merge(key, 1, Integer::sum);
+		}
+
+		List<Path> evictedPaths = new ArrayList<>();
+
+		long maxSize = _maxSize.toBytes();
+
+		Iterator<Map.Entry<String, Long>> iterator = _sizes.entrySet(
+		).iterator();
+
+		while ((_size > maxSize) && iterator.hasNext()) {
+			Map.Entry<String, Long> entry = iterator.next();
+
+			if (key.equals(entry.getKey()) ||
+				_pinCounts.containsKey(entry.getKey())) {
+
+				continue;
+			}
+
+			Path path = _getPath(entry.getKey());
+
+			Path evictedPath = path.resolveSibling(
+				"." + UUID.randomUUID() + ".evicted");
+
+			try {
+				Files.move(path, evictedPath, StandardCopyOption.ATOMIC_MOVE);
+
+				evictedPaths.add(evictedPath);
+			}
+			catch (NoSuchFileException noSuchFileException) {
+				log.debug(
+					"Image derivative {} was already deleted", entry.getKey(),
+					noSuchFileException);
+			}
+			catch (IOException ioException) {
+				log.warn(
+					"Unable to evict image derivative {}", entry.getKey(),
+					ioException);
+
+				continue;
+			}
+
+			iterator.remove();
+
+			_size -= entry.getValue();
+		}
+
+		return evictedPaths;
+	}
+
+	private Path _join(CompletableFuture<Path> completableFuture)
+		throws IOException {
+
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException completionException) {
+			Throwable throwable = completionException.getCause();
+
+			if (throwable instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			if (throwable instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new IOException(
+				"Unable to render image derivative", throwable);
+		}
+	}
+
+	private synchronized boolean _pin(String key) {
+		if (_sizes.get(key) == null) {
+			return false;
+		}
+
+		_pinCounts.merge(key, 1, Integer::sum);
+
+		return true;
+	}
+
+	private synchronized void _unpin(String key) {
+		_pinCounts.computeIfPresent(
+			key,
+			(pinnedKey, pinCount) -> {
+				if (pinCount == 1) {
+					return null;
+				}
+
+				return pinCount - 1;
+			});
+	}
+
+	private Path _cacheDirectory;
+	private final ImageTransformer _imageTransformer;
+	private final Map<String, CompletableFuture<Path>>
+		_inFlightCompletableFutures = new ConcurrentHashMap<>();
+
+	@Value("${easy-base.docmediastore.image.cache-size:1GB}")
+	private DataSize _maxSize;
+
+	@Value("${easy-base.docmediastore.root.folder}")
+	private String _path;
+
+	private final Map<String, Integer> _pinCounts = new HashMap<>();
+	private long _size;
+	private final Map<String, Long> _sizes = new LinkedHashMap<>(
+		16, 0.75F, true);
+
+}
@@ -0,0 +1,335 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.image;
+
+import jakarta.annotation.PostConstruct;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import java.nio.file.Path;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decodes and scales images with bounded memory.
+ *
+ * <p>Images are never decoded at full resolution unless they are needed at
+ * it. The decoder skips pixels so the decoded image is just large enough for
+ * the requested size, and the result is scaled down in halving steps before
+ * it is returned.</p>
+ *
+ * <p>Decoded images are the dominant memory cost, so the pixels decoded
+ * across all threads are bounded by
+ * {@code easy-base.docmediastore.image.max-decoded-pixels}. An image that
+ * would exceed the bound on its own is decoded at a coarser subsampling
+ * instead. Images created by other means, such as rendered document pages,
+ * are counted against the same bound through {@link #reservePixels(long)}.
+ * </p>
+ *
+ * @author Akhash R
+ */
+@Component
+public class ImageScaler {
+
+	/**
+	 * Scales an image to the given size, halving it in steps first. Halving
+	 * with bilinear interpolation samples every source pixel, which avoids
+	 * the aliasing of a single large step at a fraction of the cost of
+	 * bicubic interpolation.
+	 *
+	 * @param image the image
+	 * @param width the target width
+	 * @param height the target height
+	 * @return the scaled image, or the image itself if it has the target size
+	 */
+	public static BufferedImage resize(
+		BufferedImage image, int width, int height) {
+
+		image = _halve(image, width, height);
+
+		if ((image.getWidth() == width) && (image.getHeight() == height)) {
+			return image;
+		}
+
+		return _draw(image, width, height);
+	}
+
+	/**
+	 * Writes an image, flattening transparency onto white for formats that
+	 * cannot store it.
+	 *
+	 * @param image the image
+	 * @param format the informal format name, for example {@code jpeg}
+	 * @param path the file to write
+	 * @return {@code false} if no writer supports the format
+	 * @throws IOException if the file cannot be written
+	 */
+	public static boolean write(BufferedImage image, String format, Path path)
+		throws IOException {
+
+		ColorModel colorModel = image.getColorModel();
+
+		if (colorModel.hasAlpha() &&
+			_OPAQUE_FORMATS.contains(format.toLowerCase(Locale.ROOT))) {
+
+			BufferedImage opaqueImage = new BufferedImage(
+				image.getWidth(), image.getHeight(),
+				BufferedImage.TYPE_INT_RGB);
+
+			Graphics2D g2d = opaqueImage.createGraphics();
+
+			g2d.drawImage(image, 0, 0, Color.WHITE, null);
+			g2d.dispose();
+
+			image = opaqueImage;
+		}
+
+		return ImageIO.write(image, format, path.toFile());
+	}
+
+	/**
+	 * Decodes an image at the smallest resolution that still covers the
+	 * given size. Pass 0 for a dimension that does not matter.
+	 *
+	 * @param path the image file
+	 * @param minWidth the minimum width of the result
+	 * @param minHeight the minimum height of the result
+	 * @return the decoded image, at most twice the given size unless the
+	 *         source is smaller
+	 * @throws IOException if the image cannot be read
+	 */
+	public BufferedImage decode(Path path, int minWidth, int minHeight)
+		throws IOException {
+
+		try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(
+				path.toFile())) {
+
+			ImageReader imageReader = _getImageReader(imageInputStream, path);
+
+			try {
+				int width = imageReader.getWidth(0);
+				int height = imageReader.getHeight(0);
+
+				int subsampling = _getSubsampling(
+					width, height, minWidth, minHeight, _maxDecodedPixels);
+
+				ImageReadParam imageReadParam =
+					imageReader.getDefaultReadParam();
+
+				imageReadParam.setSourceSubsampling(
+					subsampling, subsampling, 0, 0);
+
+				int pixels = reservePixels(
+					_getSubsampledPixels(width, height, subsampling));
+
+				try {
+					return _halve(
+						imageReader.read(0, imageReadParam), minWidth,
+						minHeight);
+				}
+				finally {
+					releasePixels(pixels);
+				}
+			}
+			finally {
+				imageReader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Reads the dimensions of an image from its header.
+	 *
+	 * @param path the image file
+	 * @return the dimensions of the first image in the file
+	 * @throws IOException if the image cannot be read
+	 */
+	public Dimension getSize(Path path) throws IOException {
+		try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(
+				path.toFile())) {
+
+			ImageReader imageReader = _getImageReader(imageInputStream, path);
+
+			try {
+				return new Dimension(
+					imageReader.getWidth(0), imageReader.getHeight(0));
+			}
+			finally {
+				imageReader.dispose();
+			}
+		}
+	}
+
+	@PostConstruct
+	public void initialize() {
+		_decodedPixelsSemaphore = new Semaphore(_maxDecodedPixels, true);
+	}
+
+	/**
+	 * Returns pixels reserved through {@link #reservePixels(long)}.
+	 *
+	 * @param pixels the number of reserved pixels
+	 */
+	public void releasePixels(int pixels) {
+		_decodedPixelsSemaphore.release(pixels);
+	}
+
+	/**
+	 * Reserves pixels of the bound on decoded pixels, waiting until they are
+	 * available. More pixels than the bound reserve all of it.
+	 *
+	 * @param pixels the number of pixels of the image to create
+	 * @return the number of reserved pixels, to pass to
+	 *         {@link #releasePixels(int)} once the image was created and used
+	 * @throws InterruptedIOException if interrupted while waiting
+	 */
+	public int reservePixels(long pixels) throws InterruptedIOException {
+		int permits = (int)Math.min(pixels, _maxDecodedPixels);
+
+		try {
+			_decodedPixelsSemaphore.acquire(permits);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			throw new InterruptedIOException(
+				"Interrupted while waiting for memory to hold " + pixels +
+					" pixels");
+		}
+
+		return permits;
+	}
+
+	private static BufferedImage _draw(
+		BufferedImage image, int width, int height) {
+
+		ColorModel colorModel = image.getColorModel();
+
+		int imageType = BufferedImage.TYPE_INT_RGB;
+
+		if (colorModel.hasAlpha()) {
+			imageType = BufferedImage.TYPE_INT_ARGB;
+		}
+
+		BufferedImage scaledImage = new BufferedImage(width, height, imageType);
+
+		Graphics2D g2d = scaledImage.createGraphics();
+
+		g2d.setRenderingHint(
+			RenderingHints.KEY_INTERPOLATION,
+			RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g2d.setRenderingHint(
+			RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g2d.drawImage(image, 0, 0, width, height, null);
+		g2d.dispose();
+
+		return scaledImage;
+	}
+
+	private static ImageReader _getImageReader(
+			ImageInputStream imageInputStream, Path path)
+		throws IOException {
+
+		if (imageInputStream == null) {
+			throw new IOException("Unable to read image file: " + path);
+		}
+
+		Iterator<ImageReader> iterator = ImageIO.getImageReaders(
+			imageInputStream);
+
+		if (!iterator.hasNext()) {
+			throw new IOException(
+				"Unsupported or corrupted image format for file: " + path);
+		}
+
+		ImageReader imageReader = iterator.next();
+
+		imageReader.setInput(imageInputStream, true, true);
+
+		return imageReader;
+	}
+
+	private static long _getSubsampledPixels(
+		int width, int height, int subsampling) {
+
+		long subsampledWidth = (width + subsampling - 1) / subsampling;
+		long subsampledHeight = (height + subsampling - 1) / subsampling;
+
+		return subsampledWidth * subsampledHeight;
+	}
+
+	private static int _getSubsampling(
+		int width, int height, int minWidth, int minHeight, long maxPixels) {
+
+		int subsampling = Integer.MAX_VALUE;
+
+		if (minWidth > 0) {
+			subsampling = Math.min(subsampling, width / minWidth);
+		}
+
+		if (minHeight > 0) {
+			subsampling = Math.min(subsampling, height / minHeight);
+		}
+
+		if (subsampling == Integer.MAX_VALUE) {
+			subsampling = 1;
+		}
+
+		double pixels = (double)width * height;
+
+		subsampling = Math.max(
+			Math.max(1, subsampling), (int)Math.sqrt(pixels / maxPixels));
+
+		while (_getSubsampledPixels(width, height, subsampling) > maxPixels) {
+			subsampling++;
+		}
+
+		return subsampling;
+	}
+
+	private static BufferedImage _halve(
+		BufferedImage image, int minWidth, int minHeight) {
+
+		while (((image.getWidth() / 2) >= Math.max(minWidth, 1)) &&
+			   ((image.getHeight() / 2) >= Math.max(minHeight, 1)) &&
+			   ((minWidth > 0) || (minHeight > 0))) {
+
+			image = _draw(image, image.getWidth() / 2, image.getHeight() / 2);
+		}
+
+		return image;
+	}
+
+	private static final Set<String> _OPAQUE_FORMATS = Set.of(
+		"bmp", "jpeg", "jpg", "wbmp");
+
+	private Semaphore _decodedPixelsSemaphore;
+
+	@Value("${easy-base.docmediastore.image.max-decoded-pixels:50000000}")
+	private int _maxDecodedPixels;
+
+}
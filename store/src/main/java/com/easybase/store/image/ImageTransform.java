@@ -0,0 +1,278 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.image;
+
+import com.easybase.common.exception.InvalidRequestException;
+
+import java.awt.Dimension;
+
+import java.util.Locale;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A requested rendition of an image: a bounding box, how the image is fit
+ * into it and the format to encode it in. A dimension of 0 is unbounded.
+ *
+ * @author Akhash R
+ */
+public class ImageTransform {
+
+	public static final int MAX_DIMENSION = 4096;
+
+	public static final ImageTransform PREVIEW = new ImageTransform(
+		800, 0, Fit.CONTAIN, null);
+
+	public static final ImageTransform THUMBNAIL = new ImageTransform(
+		150, 0, Fit.CONTAIN, null);
+
+	/**
+	 * Returns the format derivatives of an image are encoded in when no
+	 * format is requested: JPEG for JPEG images, PNG for everything else.
+	 *
+	 * @param mimeType the MIME type of the image
+	 * @return the format name
+	 */
+	public static String getDefaultFormat(String mimeType) {
+		if ("image/jpeg".equals(mimeType)) {
+			return "jpeg";
+		}
+
+		return "png";
+	}
+
+	/**
+	 * Parses the parameters of a transform request.
+	 *
+	 * @param width the width of the bounding box, may be null
+	 * @param height the height of the bounding box, may be null
+	 * @param fit {@code contain}, {@code cover} or {@code fill}, may be null
+	 *        for {@code contain}
+	 * @param format the format name, may be null to defer to
+	 *        {@link #withFormat(String)}
+	 * @return the transform
+	 * @throws InvalidRequestException if a parameter is invalid
+	 */
+	public static ImageTransform of(
+		Integer width, Integer height, String fit, String format) {
+
+		if ((width == null) && (height == null)) {
+			throw new InvalidRequestException("Width or height is required");
+		}
+
+		return new ImageTransform(
+			_getDimension(width, "Width"), _getDimension(height, "Height"),
+			_getFit(fit), _getFormat(format));
+	}
+
+	/**
+	 * Returns the name a rendition with this transform is stored under.
+	 *
+	 * @return the file name, for example {@code w800-h0-contain.jpeg}
+	 */
+	public String getFileName() {
+		String fitName = _fit.name();
+
+		return "w" + _width + "-h" + _height + "-" +
+			fitName.toLowerCase(Locale.ROOT) + "." + _format;
+	}
+
+	public Fit getFit() {
+		return _fit;
+	}
+
+	public String getFormat() {
+		return _format;
+	}
+
+	public int getHeight() {
+		return _height;
+	}
+
+	/**
+	 * Returns the size to scale an image to, before cropping it to
+	 * {@link #getSize(int, int)}. Images are only scaled up to fill the box,
+	 * and neither side exceeds {@link #MAX_DIMENSION}.
+	 *
+	 * @param sourceWidth the width of the image
+	 * @param sourceHeight the height of the image
+	 * @return the scaled size
+	 */
+	public Dimension getScaledSize(int sourceWidth, int sourceHeight) {
+		double widthScale = _getScale(_width, sourceWidth);
+		double heightScale = _getScale(_height, sourceHeight);
+
+		if (_fit == Fit.FILL) {
+			if (_width == 0) {
+				widthScale = heightScale;
+			}
+			else if (_height == 0) {
+				heightScale = widthScale;
+			}
+
+			return _scale(sourceWidth, sourceHeight, widthScale, heightScale);
+		}
+
+		double scale;
+
+		if ((_fit == Fit.COVER) && (_width > 0) && (_height > 0)) {
+			scale = Math.max(widthScale, heightScale);
+		}
+		else {
+			scale = Math.min(widthScale, heightScale);
+		}
+
+		scale = Math.min(
+			Math.min(scale, 1),
+			Math.min(
+				_getScale(MAX_DIMENSION, sourceWidth),
+				_getScale(MAX_DIMENSION, sourceHeight)));
+
+		return _scale(sourceWidth, sourceHeight, scale, scale);
+	}
+
+	/**
+	 * Returns the size of the rendition of an image.
+	 *
+	 * @param sourceWidth the width of the image
+	 * @param sourceHeight the height of the image
+	 * @return the size of the rendition
+	 */
+	public Dimension getSize(int sourceWidth, int sourceHeight) {
+		Dimension scaledSize = getScaledSize(sourceWidth, sourceHeight);
+
+		if (_fit != Fit.COVER) {
+			return scaledSize;
+		}
+
+		int width = scaledSize.width;
+
+		if (_width > 0) {
+			width = Math.min(width, _width);
+		}
+
+		int height = scaledSize.height;
+
+		if (_height > 0) {
+			height = Math.min(height, _height);
+		}
+
+		return new Dimension(width, height);
+	}
+
+	public int getWidth() {
+		return _width;
+	}
+
+	/**
+	 * Returns this transform with the given format, unless it already has
+	 * one.
+	 *
+	 * @param format the format name
+	 * @return the transform with a format
+	 */
+	public ImageTransform withFormat(String format) {
+		if (_format != null) {
+			return this;
+		}
+
+		return new ImageTransform(_width, _height, _fit, _getFormat(format));
+	}
+
+	public enum Fit {
+
+		CONTAIN, COVER, FILL
+
+	}
+
+	private static int _getDimension(Integer dimension, String name) {
+		if (dimension == null) {
+			return 0;
+		}
+
+		if ((dimension < 1) || (dimension > MAX_DIMENSION)) {
+			throw new InvalidRequestException(
+				name + " must be between 1 and " + MAX_DIMENSION);
+		}
+
+		return dimension;
+	}
+
+	private static Fit _getFit(String fit) {
+		if (fit == null) {
+			return Fit.CONTAIN;
+		}
+
+		try {
+			return Fit.valueOf(fit.toUpperCase(Locale.ROOT));
+		}
+		catch (IllegalArgumentException illegalArgumentException) {
+			throw new InvalidRequestException(
+				"Fit must be contain, cover or fill");
+		}
+	}
+
+	private static String _getFormat(String format) {
+		if (format == null) {
+			return null;
+		}
+
+		format = format.toLowerCase(Locale.ROOT);
+
+		if (format.equals("jpg")) {
+			format = "jpeg";
+		}
+
+		if (!_FORMATS.contains(format) ||
+			!ImageIO.getImageWritersByFormatName(
+				format
+			).hasNext()) {
+
+			throw new InvalidRequestException(
+				"Unsupported image format: " + format);
+		}
+
+		return format;
+	}
+
+	private static double _getScale(int dimension, int sourceDimension) {
+		if (dimension == 0) {
+			return Double.MAX_VALUE;
+		}
+
+		return (double)dimension / sourceDimension;
+	}
+
+	private static Dimension _scale(
+		int width, int height, double widthScale, double heightScale) {
+
+		return new Dimension(
+			_scale(width, widthScale), _scale(height, heightScale));
+	}
+
+	private static int _scale(int dimension, double scale) {
+		long scaledDimension = Math.round(dimension * scale);
+
+		return (int)Math.max(1, Math.min(scaledDimension, MAX_DIMENSION));
+	}
+
+	private ImageTransform(int width, int height, Fit fit, String format) {
+		_width = width;
+		_height = height;
+		_fit = fit;
+		_format = format;
+	}
+
+	private static final Set<String> _FORMATS = Set.of(
+		"bmp", "gif", "jpeg", "png", "tiff", "webp");
+
+	private final Fit _fit;
+	private final String _format;
+	private final int _height;
+	private final int _width;
+
+}
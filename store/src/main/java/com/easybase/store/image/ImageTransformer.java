@@ -0,0 +1,88 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.image;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders an {@link ImageTransform} of an image to a file.
+ *
+ * @author Akhash R
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageTransformer {
+
+	/**
+	 * Renders a transform of an image. The file is written under a temporary
+	 * name and moved into place, so readers never see a partial file.
+	 *
+	 * @param source the image file
+	 * @param imageTransform the transform, with a format
+	 * @param target the file to write
+	 * @throws IOException if the image cannot be read or the file cannot be
+	 *         written
+	 */
+	public void transform(
+			Path source, ImageTransform imageTransform, Path target)
+		throws IOException {
+
+		Dimension sourceSize = _imageScaler.getSize(source);
+
+		Dimension scaledSize = imageTransform.getScaledSize(
+			sourceSize.width, sourceSize.height);
+
+		BufferedImage image = ImageScaler.resize(
+			_imageScaler.decode(source, scaledSize.width, scaledSize.height),
+			scaledSize.width, scaledSize.height);
+
+		Dimension size = imageTransform.getSize(
+			sourceSize.width, sourceSize.height);
+
+		if (!size.equals(scaledSize)) {
+			image = image.getSubimage(
+				(scaledSize.width - size.width) / 2,
+				(scaledSize.height - size.height) / 2, size.width, size.height);
+		}
+
+		Files.createDirectories(target.getParent());
+
+		Path temporaryPath = target.resolveSibling(
+			"." + UUID.randomUUID() + ".part");
+
+		try {
+			if (!ImageScaler.write(
+					image, imageTransform.getFormat(), temporaryPath)) {
+
+				throw new IOException(
+					"No image writer for " + imageTransform.getFormat());
+			}
+
+			Files.move(
+				temporaryPath, target, StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	private final ImageScaler _imageScaler;
+
+}
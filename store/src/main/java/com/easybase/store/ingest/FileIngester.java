@@ -0,0 +1,199 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.ingest;
+
+import com.easybase.common.exception.FileValidationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MediaTypeRegistry;
+import org.apache.tika.mime.MimeType;
+import org.apache.tika.mime.MimeTypes;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes uploaded content to disk in a single pass over the request body.
+ *
+ * <p>While the content is copied to its destination through a
+ * {@link FileChannel}, it is hashed with SHA-256, its leading bytes are kept
+ * for MIME type detection and its size is checked against the limit, so an
+ * oversized upload is rejected as soon as it crosses the limit instead of
+ * after it was fully buffered. The content is written to a temporary file
+ * next to the destination and moved into place once complete, so readers
+ * never see a partial file.</p>
+ *
+ * <p>Files whose content is detected as a different type than their name
+ * declares are rejected, so for example an HTML document cannot be stored
+ * as {@code image.png} and later be served as HTML. Content of a more
+ * specific type than declared, such as HTML in {@code notes.txt}, is stored
+ * as the declared type.</p>
+ *
+ * @author Akhash R
+ */
+@Component
+public class FileIngester {
+
+	public FileIngester() {
+		TikaConfig tikaConfig = TikaConfig.getDefaultConfig();
+
+		_mimeTypes = tikaConfig.getMimeRepository();
+	}
+
+	/**
+	 * Streams content to the given destination, replacing any existing file.
+	 *
+	 * @param inputStream the content, read to its end but not closed
+	 * @param fileName the client file name, used to refine the MIME type
+	 * @param destination the file to write
+	 * @param maxSize the maximum content size in bytes
+	 * @return the ingested file
+	 * @throws FileValidationException if the content exceeds the maximum size
+	 *         or does not match the file name
+	 * @throws IOException if the content cannot be read or written
+	 */
+	public IngestedFile ingest(
+			InputStream inputStream, String fileName, Path destination,
+			long maxSize)
+		throws IOException {
+
+		Files.createDirectories(destination.getParent());
+
+		Path temporaryPath = destination.resolveSibling(
+			"." + UUID.randomUUID() + ".part");
+
+		try {
+			MessageDigest messageDigest = _getMessageDigest();
+
+			byte[] buffer = new byte[_BUFFER_SIZE];
+			byte[] head = new byte[_HEAD_SIZE];
+			int headLength = 0;
+			long size = 0;
+
+			try (FileChannel fileChannel = FileChannel.open(
+					temporaryPath, StandardOpenOption.CREATE_NEW,
+					StandardOpenOption.WRITE)) {
+
+				int length;
+
+				while ((length = inputStream.read(buffer)) != -1) {
+					size += length;
+
+					if (size > maxSize) {
+						throw new FileValidationException(
+							"File size exceeded the allowed size");
+					}
+
+					messageDigest.update(buffer, 0, length);
+
+					if (headLength < _HEAD_SIZE) {
+						int headCopyLength = Math.min(
+							length, _HEAD_SIZE - headLength);
+
+						System.arraycopy(
+							buffer, 0, head, headLength, headCopyLength);
+
+						headLength += headCopyLength;
+					}
+
+					ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+
+					while (byteBuffer.hasRemaining()) {
+						fileChannel.write(byteBuffer);
+					}
+				}
+			}
+
+			String mimeType = _detectMimeType(
+				Arrays.copyOf(head, headLength), fileName);
+
+			Files.move(
+				temporaryPath, destination, StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+
+			HexFormat hexFormat = HexFormat.of();
+
+			return new IngestedFile(
+				destination, fileName, mimeType, size,
+				hexFormat.formatHex(messageDigest.digest()));
+		}
+		finally {
+			Files.deleteIfExists(temporaryPath);
+		}
+	}
+
+	private String _detectMimeType(byte[] head, String fileName)
+		throws IOException {
+
+		Metadata metadata = new Metadata();
+
+		metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+
+		MediaType mediaType = _mimeTypes.detect(
+			new ByteArrayInputStream(head), metadata);
+
+		MimeType mimeType = _mimeTypes.getMimeType(fileName);
+
+		MediaType declaredMediaType = mimeType.getType();
+
+		MediaTypeRegistry mediaTypeRegistry =
+			_mimeTypes.getMediaTypeRegistry();
+
+		if (declaredMediaType.equals(MediaType.OCTET_STREAM) ||
+			declaredMediaType.equals(mediaType)) {
+
+			return mediaType.toString();
+		}
+
+		// Content of a more specific type, such as HTML in a text file, is
+		// kept as the declared type so it is never served as the former
+
+		if (!mediaTypeRegistry.isSpecializationOf(
+				mediaType, declaredMediaType)) {
+
+			throw new FileValidationException(
+				"File content does not match its extension");
+		}
+
+		return declaredMediaType.toString();
+	}
+
+	private MessageDigest _getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IllegalStateException(noSuchAlgorithmException);
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 64 * 1024;
+
+	private static final int _HEAD_SIZE = 8 * 1024;
+
+	private final MimeTypes _mimeTypes;
+
+}
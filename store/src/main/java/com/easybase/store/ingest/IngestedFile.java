@@ -0,0 +1,166 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file written by {@link FileIngester}, together with what was learned
+ * about it while it was streamed.
+ *
+ * <p>Processors read the file through {@link #newInputStream()}. Files up to
+ * 2 GB are memory-mapped once and shared by every reader, so the file is not
+ * reopened for each processor and reads are served from the page cache the
+ * write just populated.</p>
+ *
+ * @author Akhash R
+ */
+public class IngestedFile {
+
+	public IngestedFile(
+		Path path, String fileName, String mimeType, long size,
+		String contentHash) {
+
+		_path = path;
+		_fileName = fileName;
+		_mimeType = mimeType;
+		_size = size;
+		_contentHash = contentHash;
+	}
+
+	/**
+	 * Returns the SHA-256 digest of the file content.
+	 *
+	 * @return the digest, hex encoded
+	 */
+	public String getContentHash() {
+		return _contentHash;
+	}
+
+	public String getFileName() {
+		return _fileName;
+	}
+
+	/**
+	 * Returns the MIME type sniffed from the leading bytes of the file, using
+	 * the file name only to refine container formats.
+	 *
+	 * @return the MIME type
+	 */
+	public String getMimeType() {
+		return _mimeType;
+	}
+
+	public Path getPath() {
+		return _path;
+	}
+
+	public long getSize() {
+		return _size;
+	}
+
+	/**
+	 * Opens a stream over the file content. Every stream has its own
+	 * position, so several processors can read the file concurrently.
+	 *
+	 * @return the stream
+	 * @throws IOException if the file cannot be read
+	 */
+	public InputStream newInputStream() throws IOException {
+		if (_size > Integer.MAX_VALUE) {
+			return Files.newInputStream(_path);
+		}
+
+		ByteBuffer byteBuffer = _getMappedByteBuffer();
+
+		return new ByteBufferInputStream(byteBuffer.duplicate());
+	}
+
+	private synchronized MappedByteBuffer _getMappedByteBuffer()
+		throws IOException {
+
+		if (_mappedByteBuffer == null) {
+			try (FileChannel fileChannel = FileChannel.open(
+					_path, StandardOpenOption.READ)) {
+
+				_mappedByteBuffer = fileChannel.map(
+					FileChannel.MapMode.READ_ONLY, 0, _size);
+			}
+		}
+
+		return _mappedByteBuffer;
+	}
+
+	private final String _contentHash;
+	private final String _fileName;
+	private MappedByteBuffer _mappedByteBuffer;
+	private final String _mimeType;
+	private final Path _path;
+	private final long _size;
+
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private ByteBufferInputStream(ByteBuffer byteBuffer) {
+			_byteBuffer = byteBuffer;
+		}
+
+		@Override
+		public int available() {
+			return _byteBuffer.remaining();
+		}
+
+		@Override
+		public int read() {
+			if (!_byteBuffer.hasRemaining()) {
+				return -1;
+			}
+
+			return _byteBuffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+
+			if (!_byteBuffer.hasRemaining()) {
+				return -1;
+			}
+
+			length = Math.min(length, _byteBuffer.remaining());
+
+			_byteBuffer.get(bytes, offset, length);
+
+			return length;
+		}
+
+		@Override
+		public long skip(long count) {
+			if (count <= 0) {
+				return 0;
+			}
+
+			int skipped = (int)Math.min(count, _byteBuffer.remaining());
+
+			_byteBuffer.position(_byteBuffer.position() + skipped);
+
+			return skipped;
+		}
+
+		private final ByteBuffer _byteBuffer;
+
+	}
+
+}
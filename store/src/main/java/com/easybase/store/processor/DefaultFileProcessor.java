@@ -5,13 +5,14 @@
 
 package com.easybase.store.processor;
 
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseDataExtractor;
 import com.easybase.store.processor.base.BaseFileProcessor;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 
+import java.nio.file.Path;
+
 import org.apache.tika.exception.TikaException;
 
 import org.xml.sax.SAXException;
@@ -26,10 +27,10 @@ public class DefaultFileProcessor implements BaseFileProcessor {
 	}
 
 	@Override
-	public void process(File file, String path)
+	public void process(IngestedFile ingestedFile, Path derivativeDirectory)
 		throws IOException, SAXException, TikaException {
 
-		dataExtractor.extract(new FileInputStream(file));
+		dataExtractor.extract(ingestedFile.newInputStream());
 	}
 
 	private BaseDataExtractor dataExtractor;
@@ -5,14 +5,15 @@
 
 package com.easybase.store.processor;
 
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 import com.easybase.store.processor.base.BaseDataExtractor;
 import com.easybase.store.processor.base.BaseFileProcessor;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 
+import java.nio.file.Path;
+
 import org.apache.tika.exception.TikaException;
 
 import org.xml.sax.SAXException;
@@ -30,11 +31,11 @@ public class RegularFileProcessor implements BaseFileProcessor {
 	}
 
 	@Override
-	public void process(File file, String path)
+	public void process(IngestedFile ingestedFile, Path derivativeDirectory)
 		throws IOException, SAXException, TikaException {
 
-		dataExtractor.extract(new FileInputStream(file));
-		assetCreator.createAsset(file, path);
+		dataExtractor.extract(ingestedFile.newInputStream());
+		assetCreator.createAsset(ingestedFile, derivativeDirectory);
 	}
 
 	private final BaseAssetCreator assetCreator;
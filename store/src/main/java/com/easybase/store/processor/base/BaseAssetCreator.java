@@ -5,14 +5,18 @@
 
 package com.easybase.store.processor.base;
 
-import java.io.File;
+import com.easybase.store.ingest.IngestedFile;
+
 import java.io.IOException;
 
+import java.nio.file.Path;
+
 /**
  * @author Saura
  */
 public interface BaseAssetCreator {
 
-	public void createAsset(File file, String path) throws IOException;
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException;
 
 }
\ No newline at end of file
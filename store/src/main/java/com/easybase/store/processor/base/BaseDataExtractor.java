@@ -5,6 +5,8 @@
 
 package com.easybase.store.processor.base;
 
+import com.easybase.store.processor.stategy.data.ExtractedData;
+
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -17,7 +19,7 @@ import org.xml.sax.SAXException;
  */
 public interface BaseDataExtractor {
 
-	public void extract(InputStream io)
+	public ExtractedData extract(InputStream io)
 		throws IOException, SAXException, TikaException;
 
 }
\ No newline at end of file
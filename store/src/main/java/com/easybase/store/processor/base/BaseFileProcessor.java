@@ -5,9 +5,12 @@
 
 package com.easybase.store.processor.base;
 
-import java.io.File;
+import com.easybase.store.ingest.IngestedFile;
+
 import java.io.IOException;
 
+import java.nio.file.Path;
+
 import org.apache.tika.exception.TikaException;
 
 import org.xml.sax.SAXException;
@@ -17,7 +20,7 @@ import org.xml.sax.SAXException;
  */
 public interface BaseFileProcessor {
 
-	public void process(File file, String path)
+	public void process(IngestedFile ingestedFile, Path derivativeDirectory)
 		throws IOException, SAXException, TikaException;
 
 }
\ No newline at end of file
@@ -15,12 +15,12 @@ import com.easybase.store.processor.stategy.asset.DocumentThumbnailCreator;
 import com.easybase.store.processor.stategy.asset.ExcelThumbnailCreator;
 import com.easybase.store.processor.stategy.asset.ImageThumbnailCreator;
 import com.easybase.store.processor.stategy.asset.PdfThumbnailCreator;
+import com.easybase.store.processor.stategy.asset.PresentationThumbnailCreator;
 import com.easybase.store.processor.stategy.asset.VideoThumbnailCreator;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author Saura
@@ -29,23 +29,14 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class FileProcessorFactory {
 
-	public BaseFileProcessor getFileProcessor(MultipartFile file) {
-		String mimeType = file.getContentType();
-
-		return _createFileProcessor(_getAssetCreator(mimeType));
-	}
-
-	private BaseFileProcessor _createFileProcessor(
-		BaseAssetCreator assetCreator) {
-
-		if (assetCreator == null) {
-			return new DefaultFileProcessor(dataExtractor);
-		}
-
-		return new RegularFileProcessor(dataExtractor, assetCreator);
-	}
-
-	private BaseAssetCreator _getAssetCreator(String mimeType) {
+	/**
+	 * Returns the creator of the derivatives of a file type.
+	 *
+	 * @param mimeType the MIME type of the file
+	 * @return the asset creator, or {@code null} if the type has no
+	 *         derivatives
+	 */
+	public BaseAssetCreator getAssetCreator(String mimeType) {
 		FileCategory category = FileCategory.fromMimeType(mimeType);
 
 		switch (category) {
@@ -57,6 +48,8 @@ public class FileProcessorFactory {
 				return pdfThumbnailCreator;
 			case DOCUMENT:
 				return documentThumbnailCreator;
+			case PRESENTATION:
+				return presentationThumbnailCreator;
 			case SPREADSHEET:
 				return excelThumbnailCreator;
 			default:
@@ -64,11 +57,30 @@ public class FileProcessorFactory {
 		}
 	}
 
+	public BaseDataExtractor getDataExtractor() {
+		return dataExtractor;
+	}
+
+	public BaseFileProcessor getFileProcessor(String mimeType) {
+		return _createFileProcessor(getAssetCreator(mimeType));
+	}
+
+	private BaseFileProcessor _createFileProcessor(
+		BaseAssetCreator assetCreator) {
+
+		if (assetCreator == null) {
+			return new DefaultFileProcessor(dataExtractor);
+		}
+
+		return new RegularFileProcessor(dataExtractor, assetCreator);
+	}
+
 	private final BaseDataExtractor dataExtractor;
 	private final DocumentThumbnailCreator documentThumbnailCreator;
 	private final ExcelThumbnailCreator excelThumbnailCreator;
 	private final ImageThumbnailCreator imageThumbnailCreator;
 	private final PdfThumbnailCreator pdfThumbnailCreator;
+	private final PresentationThumbnailCreator presentationThumbnailCreator;
 	private final VideoThumbnailCreator videoThumbnailCreator;
 
 }
\ No newline at end of file
@@ -5,20 +5,46 @@
 
 package com.easybase.store.processor.stategy.asset;
 
+import com.easybase.store.document.DocumentRenderer;
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 
-import java.io.File;
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import java.util.Locale;
+
+import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
 /**
+ * Generates the preview and thumbnail of a Word, RTF or plain text document
+ * from the beginning of its text, see {@link DocumentRenderer}.
+ *
  * @author Saura
  */
+@RequiredArgsConstructor
 @Service
 public class DocumentThumbnailCreator implements BaseAssetCreator {
 
 	@Override
-	public void createAsset(File file, String path) {
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException {
+
+		String mimeType = ingestedFile.getMimeType();
+
+		BufferedImage page = _documentRenderer.renderText(
+			ingestedFile.getPath(), mimeType.toLowerCase(Locale.ROOT));
+
+		if (page != null) {
+			_documentRenderer.writeDerivatives(page, derivativeDirectory);
+		}
 	}
 
-}
\ No newline at end of file
+	private final DocumentRenderer _documentRenderer;
+
+}
@@ -5,20 +5,57 @@
 
 package com.easybase.store.processor.stategy.asset;
 
+import com.easybase.store.document.DocumentRenderer;
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 
-import java.io.File;
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
 
 /**
+ * Generates the preview and thumbnail of an Excel workbook from the top left
+ * cells of its first sheet, see {@link DocumentRenderer}. OpenDocument
+ * spreadsheets are not supported by POI and get no preview.
+ *
  * @author Saura
  */
+@RequiredArgsConstructor
 @Service
+@Slf4j
 public class ExcelThumbnailCreator implements BaseAssetCreator {
 
 	@Override
-	public void createAsset(File file, String path) {
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException {
+
+		if (_OPEN_DOCUMENT_MIME_TYPE.equals(ingestedFile.getMimeType())) {
+			log.debug(
+				"Skipping preview of OpenDocument spreadsheet {}",
+				ingestedFile.getFileName());
+
+			return;
+		}
+
+		BufferedImage page = _documentRenderer.renderSheet(
+			ingestedFile.getPath());
+
+		if (page != null) {
+			_documentRenderer.writeDerivatives(page, derivativeDirectory);
+		}
 	}
 
-}
\ No newline at end of file
+	private static final String _OPEN_DOCUMENT_MIME_TYPE =
+		"application/vnd.oasis.opendocument.spreadsheet";
+
+	private final DocumentRenderer _documentRenderer;
+
+}
@@ -6,97 +6,120 @@
 package com.easybase.store.processor.stategy.asset;
 
 import com.easybase.store.StoreUtil;
+import com.easybase.store.image.ImageScaler;
+import com.easybase.store.image.ImageTransform;
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import jakarta.annotation.PostConstruct;
+
+import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
-import javax.imageio.ImageIO;
-
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
+ * Pre-generates the derivatives of an image configured under
+ * {@code easy-base.docmediastore.image.pregenerate}, {@code thumbnail} by
+ * default. Other renditions, including the preview when it is not
+ * pre-generated, are rendered on demand by
+ * {@link com.easybase.store.image.ImageDerivativeCache}.
+ *
+ * <p>The image is decoded once, just large enough for the largest derivative,
+ * and each smaller derivative is scaled from the previous one.</p>
+ *
  * @author Saura
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Service
 @Slf4j
 public class ImageThumbnailCreator implements BaseAssetCreator {
 
-	@Async("globalExecutor")
 	@Override
-	public void createAsset(File file, String path) throws IOException {
-		try {
-			String fileOriginalName = Objects.requireNonNull(file.getName());
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException {
 
-			String extension = _storeUtil.extractExtension(fileOriginalName);
-			String fileBaseName = fileOriginalName.substring(
-				0, fileOriginalName.lastIndexOf('.'));
+		if (_imageTransforms.isEmpty()) {
+			return;
+		}
 
-			BufferedImage originalImage;
+		try {
+			String fileOriginalName = Objects.requireNonNull(
+				ingestedFile.getFileName());
 
-			try (InputStream io = new FileInputStream(file)) {
-				originalImage = ImageIO.read(io);
-			}
+			String format = _normalizeFormat(
+				_storeUtil.extractExtension(fileOriginalName));
 
-			if (originalImage == null) {
-				throw new IOException(
-					"Unsupported or corrupted image format for file: " +
-						fileOriginalName);
-			}
+			Path path = ingestedFile.getPath();
+
+			Dimension size = _imageScaler.getSize(path);
 
-			Path baseDir = Paths.get(System.getProperty("user.home"), path);
+			Files.createDirectories(derivativeDirectory);
 
-			Files.createDirectories(baseDir);
+			BufferedImage image = null;
 
-			BufferedImage preview = _resizeImage(originalImage, _PREVIEW_WIDTH);
+			for (Map.Entry<String, ImageTransform> entry :
+					_imageTransforms.entrySet()) {
 
-			Path resolvedPreview = baseDir.resolve(
-				fileBaseName + "_preview." + extension);
+				ImageTransform imageTransform = entry.getValue();
 
-			_writeImage(preview, extension, resolvedPreview.toFile());
+				Dimension scaledSize = imageTransform.getScaledSize(
+					size.width, size.height);
 
-			BufferedImage thumbnail = _resizeImage(
-				originalImage, _THUMBNAIL_WIDTH);
+				if (image == null) {
+					image = _imageScaler.decode(
+						path, scaledSize.width, scaledSize.height);
+				}
 
-			Path resolvedThumbnail = baseDir.resolve(
-				fileBaseName + "_thumbnail." + extension);
+				image = ImageScaler.resize(
+					image, scaledSize.width, scaledSize.height);
 
-			_writeImage(thumbnail, extension, resolvedThumbnail.toFile());
+				_writeImage(image, format, derivativeDirectory, entry.getKey());
+			}
 
 			log.info("Assets created successfully for {}", fileOriginalName);
 		}
 		catch (IOException ioException) {
 			log.error(
-				"Failed to process image file: {}", file.getName(),
+				"Failed to process image file: {}", ingestedFile.getFileName(),
 				ioException);
 
 			throw ioException;
 		}
-		finally {
-			if (!file.delete()) {
-				log.warn(
-					"Failed to delete temp file: {}", file.getAbsolutePath());
+	}
+
+	@PostConstruct
+	public void initialize() {
+		List<String> names = List.of(_pregenerate);
 
-				file.deleteOnExit();
+		for (String name : names) {
+			if (!_IMAGE_TRANSFORMS.containsKey(name)) {
+				throw new IllegalStateException(
+					"Unknown image derivative: " + name);
+			}
+		}
+
+		for (Map.Entry<String, ImageTransform> entry :
+				_IMAGE_TRANSFORMS.entrySet()) {
+
+			if (names.contains(entry.getKey())) {
+				_imageTransforms.put(entry.getKey(), entry.getValue());
 			}
 		}
 	}
@@ -120,65 +143,41 @@ public class ImageThumbnailCreator implements BaseAssetCreator {
 		}
 	}
 
-	private BufferedImage _resizeImage(
-		BufferedImage original, int targetWidth) {
-
-		if (original == null) {
-			throw new IllegalArgumentException("Original image is null");
-		}
-
-		double aspectRatio = (double)original.getHeight() / original.getWidth();
-
-		int targetHeight = (int)(targetWidth * aspectRatio);
-
-		int imageType = original.getType();
-
-		if (imageType == 0) {
-			imageType = BufferedImage.TYPE_INT_RGB;
-		}
-
-		BufferedImage resized = new BufferedImage(
-			targetWidth, targetHeight, imageType);
-
-		Graphics2D g2d = resized.createGraphics();
-
-		g2d.setRenderingHint(
-			RenderingHints.KEY_INTERPOLATION,
-			RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-		g2d.setRenderingHint(
-			RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-		g2d.setRenderingHint(
-			RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-		g2d.drawImage(original, 0, 0, targetWidth, targetHeight, null);
-		g2d.dispose();
-
-		return resized;
-	}
-
 	private void _writeImage(
-			BufferedImage image, String extension, File outFile)
+			BufferedImage image, String format, Path directory, String name)
 		throws IOException {
 
-		File parentFile = outFile.getParentFile();
-
-		parentFile.mkdirs();
+		Path path = directory.resolve(name + "." + format);
 
-		String format = _normalizeFormat(extension);
-
-		boolean written = ImageIO.write(image, format, outFile);
+		boolean written = ImageScaler.write(image, format, path);
 
 		if (!written) {
 			log.warn(
 				"No ImageWriter found for {} — writing as PNG instead", format);
 
-			ImageIO.write(image, "png", outFile);
+			Files.deleteIfExists(path);
+
+			path = directory.resolve(name + ".png");
+
+			ImageScaler.write(image, "png", path);
 		}
 	}
 
-	private static final int _PREVIEW_WIDTH = 800;
+	private static final Map<String, ImageTransform> _IMAGE_TRANSFORMS =
+		new LinkedHashMap<>();
+
+	static {
+		_IMAGE_TRANSFORMS.put("preview", ImageTransform.PREVIEW);
+		_IMAGE_TRANSFORMS.put("thumbnail", ImageTransform.THUMBNAIL);
+	}
+
+	private final ImageScaler _imageScaler;
+	private final Map<String, ImageTransform> _imageTransforms =
+		new LinkedHashMap<>();
 
-	private static final int _THUMBNAIL_WIDTH = 150;
+	@Value("${easy-base.docmediastore.image.pregenerate:thumbnail}")
+	private String[] _pregenerate;
 
 	private final StoreUtil _storeUtil;
 
-}
\ No newline at end of file
+}
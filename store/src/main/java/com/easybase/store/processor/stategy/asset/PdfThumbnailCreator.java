@@ -5,20 +5,42 @@
 
 package com.easybase.store.processor.stategy.asset;
 
+import com.easybase.store.document.DocumentRenderer;
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 
-import java.io.File;
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
 /**
+ * Generates the preview and thumbnail of a PDF from its first page, see
+ * {@link DocumentRenderer}.
+ *
  * @author Saura
  */
+@RequiredArgsConstructor
 @Service
 public class PdfThumbnailCreator implements BaseAssetCreator {
 
 	@Override
-	public void createAsset(File file, String path) {
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException {
+
+		BufferedImage page = _documentRenderer.renderPdf(
+			ingestedFile.getPath());
+
+		if (page != null) {
+			_documentRenderer.writeDerivatives(page, derivativeDirectory);
+		}
 	}
 
-}
\ No newline at end of file
+	private final DocumentRenderer _documentRenderer;
+
+}
@@ -0,0 +1,61 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.processor.stategy.asset;
+
+import com.easybase.store.document.DocumentRenderer;
+import com.easybase.store.ingest.IngestedFile;
+import com.easybase.store.processor.base.BaseAssetCreator;
+
+import java.awt.image.BufferedImage;
+
+import java.io.IOException;
+
+import java.nio.file.Path;
+
+import lombok.RequiredArgsConstructor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Generates the preview and thumbnail of a PowerPoint presentation from its
+ * first slide, see {@link DocumentRenderer}. OpenDocument presentations are
+ * not supported by POI and get no preview.
+ *
+ * @author Akhash R
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PresentationThumbnailCreator implements BaseAssetCreator {
+
+	@Override
+	public void createAsset(IngestedFile ingestedFile, Path derivativeDirectory)
+		throws IOException {
+
+		if (_OPEN_DOCUMENT_MIME_TYPE.equals(ingestedFile.getMimeType())) {
+			log.debug(
+				"Skipping preview of OpenDocument presentation {}",
+				ingestedFile.getFileName());
+
+			return;
+		}
+
+		BufferedImage page = _documentRenderer.renderSlide(
+			ingestedFile.getPath());
+
+		if (page != null) {
+			_documentRenderer.writeDerivatives(page, derivativeDirectory);
+		}
+	}
+
+	private static final String _OPEN_DOCUMENT_MIME_TYPE =
+		"application/vnd.oasis.opendocument.presentation";
+
+	private final DocumentRenderer _documentRenderer;
+
+}
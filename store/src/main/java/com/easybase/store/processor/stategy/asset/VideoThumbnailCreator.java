@@ -5,9 +5,10 @@
 
 package com.easybase.store.processor.stategy.asset;
 
+import com.easybase.store.ingest.IngestedFile;
 import com.easybase.store.processor.base.BaseAssetCreator;
 
-import java.io.File;
+import java.nio.file.Path;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,7 +22,8 @@ import org.springframework.stereotype.Service;
 public class VideoThumbnailCreator implements BaseAssetCreator {
 
 	@Override
-	public void createAsset(File file, String path) {
+	public void createAsset(
+		IngestedFile ingestedFile, Path derivativeDirectory) {
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.processor.stategy.data;
+
+import org.apache.tika.exception.TikaException;
+
+/**
+ * Thrown when parsing a document took longer than allowed. Parsing the same
+ * document again would time out again, so it should not be retried.
+ *
+ * @author Akhash R
+ */
+public class DataExtractionTimeoutException extends TikaException {
+
+	public DataExtractionTimeoutException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
@@ -7,52 +7,256 @@ package com.easybase.store.processor.stategy.data;
 
 import com.easybase.store.processor.base.BaseDataExtractor;
 
+import jakarta.annotation.PostConstruct;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+import java.time.Duration;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.apache.tika.config.TikaConfig;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
 import org.apache.tika.sax.BodyContentHandler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import org.xml.sax.SAXException;
 
 /**
+ * Extracts the metadata and text content of files with Tika.
+ *
+ * <p>The parser is built once and shared, Tika parsers are thread-safe. Text
+ * is collected up to
+ * {@code easy-base.docmediastore.metadata.max-content-length} characters,
+ * the rest of the document is not parsed.</p>
+ *
+ * <p>Uploaded documents are untrusted, so parsing runs on a separate pool of
+ * {@code easy-base.docmediastore.metadata.parser-threads} daemon threads,
+ * twice the number of CPUs by default, and is abandoned after
+ * {@code easy-base.docmediastore.metadata.timeout}. A parser stuck in a
+ * malformed document cannot hold up the caller, only its own thread, and
+ * the thread stays counted against the pool until the parser gives up. When
+ * every thread is taken, extraction fails right away instead of starting
+ * more threads. A timeout is reported as a
+ * {@link DataExtractionTimeoutException}, which is not worth retrying.</p>
+ *
  * @author Saura
  */
 @Component
-public class DataExtractor implements BaseDataExtractor {
+public class DataExtractor implements BaseDataExtractor, DisposableBean {
+
+	public DataExtractor() throws IOException, TikaException {
+		_parser = new AutoDetectParser(TikaConfig.getDefaultConfig());
+	}
 
-	@Async("globalExecutor")
 	@Override
-	public void extract(InputStream io)
+	public void destroy() {
+		_threadPoolExecutor.shutdownNow();
+	}
+
+	@Override
+	public ExtractedData extract(InputStream io)
 		throws IOException, SAXException, TikaException {
 
-		AutoDetectParser parser = new AutoDetectParser();
+		// A permit is held until the parser returns, not until the caller
+		// gives up on it, so stuck parsers keep their threads taken
+
+		if (!_semaphore.tryAcquire()) {
+			throw new TikaException(
+				"All " + _threadPoolExecutor.getMaximumPoolSize() +
+					" parser threads are busy");
+		}
+
+		Future<ExtractedData> future;
+
+		try {
+			future = _threadPoolExecutor.submit(
+				() -> {
+					try {
+						return _parse(io);
+					}
+					finally {
+						_semaphore.release();
+					}
+				});
+		}
+		catch (RejectedExecutionException rejectedExecutionException) {
+			_semaphore.release();
+
+			throw rejectedExecutionException;
+		}
+
+		try {
+			return future.get(_timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException executionException) {
+			Throwable cause = executionException.getCause();
+
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+
+			if (cause instanceof SAXException saxException) {
+				throw saxException;
+			}
+
+			if (cause instanceof TikaException tikaException) {
+				throw tikaException;
+			}
+
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new TikaException("Unable to extract data", cause);
+		}
+		catch (InterruptedException interruptedException) {
+			future.cancel(true);
+
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
 
+			throw new InterruptedIOException(
+				"Interrupted while extracting data");
+		}
+		catch (TimeoutException timeoutException) {
+			future.cancel(true);
+
+			throw new DataExtractionTimeoutException(
+				"Data extraction timed out after " + _timeout,
+				timeoutException);
+		}
+	}
+
+	@PostConstruct
+	public void initialize() {
+		int parserThreads = _parserThreads;
+
+		if (parserThreads <= 0) {
+			Runtime runtime = Runtime.getRuntime();
+
+			parserThreads = runtime.availableProcessors() * 2;
+		}
+
+		CustomizableThreadFactory customizableThreadFactory =
+			new CustomizableThreadFactory("tika-parser-");
+
+		customizableThreadFactory.setDaemon(true);
+
+		_semaphore = new Semaphore(parserThreads);
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			parserThreads, parserThreads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(), customizableThreadFactory);
+	}
+
+	private static String _sanitize(String value, int maxLength) {
+
+		// PostgreSQL text and jsonb cannot hold NUL characters
+
+		if (value.length() > maxLength) {
+			value = value.substring(0, maxLength);
+		}
+
+		return value.replace("\u0000", "");
+	}
+
+	private ExtractedData _parse(InputStream inputStream)
+		throws IOException, SAXException, TikaException {
+
+		BodyContentHandler bodyContentHandler = new BodyContentHandler(
+			_maxContentLength);
 		Metadata metadata = new Metadata();
+		ParseContext parseContext = new ParseContext();
+
+		boolean contentTruncated = false;
 
-		parser.parse(io, new BodyContentHandler(), metadata);
+		try {
+			_parser.parse(
+				inputStream, bodyContentHandler, metadata, parseContext);
+		}
+		catch (SAXException saxException) {
+			if (!WriteLimitReachedException.isWriteLimitReached(
+					saxException)) {
 
-		Map<String, String> data = new HashMap<>(
-			(int)(metadata.size() / 0.75) + 1);
+				throw saxException;
+			}
+
+			contentTruncated = true;
+		}
+
+		Map<String, Object> data = new LinkedHashMap<>();
 
 		for (String name : metadata.names()) {
-			_log.info("data is " + name + " : " + metadata.get(name));
-			data.put(name, metadata.get(name));
+			String[] values = metadata.getValues(name);
+
+			if (values.length == 1) {
+				data.put(name, _sanitize(values[0], _MAX_VALUE_LENGTH));
+
+				continue;
+			}
+
+			List<String> sanitizedValues = Arrays.stream(
+				values
+			).map(
+				value -> _sanitize(value, _MAX_VALUE_LENGTH)
+			).toList();
+
+			data.put(name, sanitizedValues);
 		}
+
+		String content = _sanitize(
+			bodyContentHandler.toString(), _maxContentLength);
+
+		_log.debug(
+			"Extracted {} metadata properties and {} characters of content",
+			data.size(), content.length());
+
+		return new ExtractedData(data, content, contentTruncated);
 	}
 
+	private static final int _MAX_VALUE_LENGTH = 1000;
+
 	private static final Logger _log = LoggerFactory.getLogger(
 		DataExtractor.class.getName());
 
-}
\ No newline at end of file
+	@Value("${easy-base.docmediastore.metadata.max-content-length:100000}")
+	private int _maxContentLength;
+
+	private final Parser _parser;
+
+	@Value("${easy-base.docmediastore.metadata.parser-threads:0}")
+	private int _parserThreads;
+
+	private Semaphore _semaphore;
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	@Value("${easy-base.docmediastore.metadata.timeout:PT1M}")
+	private Duration _timeout;
+
+}
@@ -0,0 +1,54 @@
+/**
+ * SPDX-FileCopyrightText: (c) 2026 EasyBase
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ */
+
+package com.easybase.store.processor.stategy.data;
+
+import java.util.Map;
+
+/**
+ * The metadata and text content extracted from a file.
+ *
+ * @author Akhash R
+ */
+public class ExtractedData {
+
+	public ExtractedData(
+		Map<String, Object> metadata, String content,
+		boolean contentTruncated) {
+
+		_metadata = metadata;
+		_content = content;
+		_contentTruncated = contentTruncated;
+	}
+
+	public String getContent() {
+		return _content;
+	}
+
+	/**
+	 * Returns the metadata of the file. Values are strings, or lists of
+	 * strings for properties with several values.
+	 *
+	 * @return the metadata by property name
+	 */
+	public Map<String, Object> getMetadata() {
+		return _metadata;
+	}
+
+	/**
+	 * Returns whether the content was cut off at the configured maximum
+	 * length.
+	 *
+	 * @return {@code true} if the content is incomplete
+	 */
+	public boolean isContentTruncated() {
+		return _contentTruncated;
+	}
+
+	private final String _content;
+	private final boolean _contentTruncated;
+	private final Map<String, Object> _metadata;
+
+}